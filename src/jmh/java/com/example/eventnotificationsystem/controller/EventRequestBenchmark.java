@@ -0,0 +1,99 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.Event;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request work of {@code POST /api/events} before anything is queued: polymorphic
+ * {@code EventPayload} deserialization of the body and
+ * {@link EventController#validateAndConvertEvent}.
+ *
+ * <p>{@code bindAndValidate*} is the whole of that work for a JSON request on the general
+ * path, Bean Validation included; {@code read*} is the same request through
+ * {@link EventRequestReader}. The {@code jmh} profile's gc profiler reports the allocation per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventRequestBenchmark {
+    private static final byte[] EMAIL_BODY = ("{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\","
+            + "\"recipient\":\"user@example.com\",\"message\":\"Your order has shipped\"},"
+            + "\"callbackUrl\":\"http://localhost/callback\"}").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PUSH_BODY = ("{\"eventType\":\"PUSH\",\"payload\":{\"type\":\"PUSH\","
+            + "\"deviceId\":\"device-123\",\"message\":\"Ping\"},"
+            + "\"callbackUrl\":\"http://localhost/callback\",\"priority\":\"HIGH\"}").getBytes(StandardCharsets.UTF_8);
+
+    private ObjectReader reader;
+    private EventController controller;
+    private EventRequest request;
+    private Validator validator;
+    private EventRequestReader eventRequestReader;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        reader = mapper.readerFor(EventRequest.class);
+        controller = new EventController();
+        request = reader.readValue(EMAIL_BODY);
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        eventRequestReader = new EventRequestReader(mapper.getFactory(), validator, null, false);
+    }
+
+    @Benchmark
+    public EventRequest deserializeEmailRequest() throws Exception {
+        return reader.readValue(EMAIL_BODY);
+    }
+
+    @Benchmark
+    public EventRequest deserializePushRequest() throws Exception {
+        return reader.readValue(PUSH_BODY);
+    }
+
+    @Benchmark
+    public Event validateAndConvertEvent() {
+        return controller.validateAndConvertEvent(request);
+    }
+
+    @Benchmark
+    public Event bindAndValidateEmailRequest() throws Exception {
+        return bindAndValidate(EMAIL_BODY);
+    }
+
+    @Benchmark
+    public Event bindAndValidatePushRequest() throws Exception {
+        return bindAndValidate(PUSH_BODY);
+    }
+
+    @Benchmark
+    public Event readEmailRequest() throws Exception {
+        return eventRequestReader.read(EMAIL_BODY);
+    }
+
+    @Benchmark
+    public Event readPushRequest() throws Exception {
+        return eventRequestReader.read(PUSH_BODY);
+    }
+
+    private Event bindAndValidate(byte[] body) throws Exception {
+        EventRequest eventRequest = reader.readValue(body);
+        Set<ConstraintViolation<EventRequest>> violations = validator.validate(eventRequest);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException(violations.toString());
+        }
+        return controller.validateAndConvertEvent(eventRequest);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserializing event requests, including the polymorphic {@code EventPayload}, from
+ * each wire format the API accepts: single requests as sent to {@code POST /api/events},
+ * and a {@value #BATCH_SIZE}-item array streamed item by item like
+ * {@code POST /api/events/batch}, scored per event. The encoded size of each body is
+ * printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventRequestFormatBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final String EMAIL_JSON = "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\","
+            + "\"recipient\":\"user@example.com\",\"message\":\"Your order has shipped\"},"
+            + "\"callbackUrl\":\"http://localhost/callback\"}";
+    private static final String TEMPLATED_JSON = "{\"eventType\":\"SMS\",\"payload\":{\"type\":\"SMS\","
+            + "\"phoneNumber\":\"+15550001234\"},\"templateId\":\"order-shipped\",\"templateParams\":"
+            + "{\"name\":\"Ada\",\"order\":\"A-1017\",\"carrier\":\"UPS\",\"eta\":\"Friday\"},"
+            + "\"callbackUrl\":\"http://localhost/callback\",\"priority\":\"HIGH\"}";
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private byte[] emailBody;
+    private byte[] templatedBody;
+    private byte[] batchBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper json = new ObjectMapper();
+        switch (format) {
+            case "smile": mapper = new ObjectMapper(new SmileFactory()); break;
+            case "cbor": mapper = new ObjectMapper(new CBORFactory()); break;
+            default: mapper = json;
+        }
+        reader = mapper.readerFor(EventRequest.class);
+        emailBody = mapper.writeValueAsBytes(json.readTree(EMAIL_JSON.getBytes(StandardCharsets.UTF_8)));
+        templatedBody = mapper.writeValueAsBytes(json.readTree(TEMPLATED_JSON.getBytes(StandardCharsets.UTF_8)));
+        StringBuilder batch = new StringBuilder("[");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.append(i == 0 ? "" : ",").append(i % 2 == 0 ? EMAIL_JSON : TEMPLATED_JSON);
+        }
+        batchBody = mapper.writeValueAsBytes(json.readTree(batch.append("]").toString()));
+        System.out.printf("%n%s: email request %d bytes, templated request %d bytes, batch %d bytes per event%n",
+                format, emailBody.length, templatedBody.length, batchBody.length / BATCH_SIZE);
+    }
+
+    @Benchmark
+    public EventRequest deserializeEmailRequest() throws Exception {
+        return reader.readValue(emailBody);
+    }
+
+    @Benchmark
+    public EventRequest deserializeTemplatedRequest() throws Exception {
+        return reader.readValue(templatedBody);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void deserializeBatch(Blackhole blackhole) throws Exception {
+        try (JsonParser parser = mapper.createParser(batchBody)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                blackhole.consume(reader.readValue(parser, EventRequest.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.service.callback.CallbackDelivery;
+import com.example.eventnotificationsystem.service.callback.CallbackSerializer;
+import com.example.eventnotificationsystem.service.timer.CachedClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing a callback body the way {@code EventProcessor} and
+ * {@link CallbackService} do for every processed event: the original
+ * {@code ZonedDateTime} plus {@code ObjectMapper} path against {@link CachedClock} plus
+ * {@link CallbackSerializer}. The gc profiler in the {@code jmh} profile reports
+ * {@code gc.alloc.rate.norm}, the bytes allocated per callback.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CallbackSerializationBenchmark {
+    private static final String EVENT_ID = "01JA8Z5K3M0007XQ4V9R2T6B1C";
+    private static final String CALLBACK_URL = "http://localhost/callback";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CallbackSerializer serializer = new CallbackSerializer();
+
+    @Benchmark
+    public byte[] objectMapper() throws Exception {
+        CallbackRequest callbackRequest = new CallbackRequest(EVENT_ID, "COMPLETED", "EMAIL", null,
+                ZonedDateTime.now().toString());
+        return objectMapper.writeValueAsBytes(new CallbackDelivery(CALLBACK_URL, callbackRequest).getBody());
+    }
+
+    @Benchmark
+    public byte[] streamingSerializer() throws Exception {
+        CallbackRequest callbackRequest = new CallbackRequest(EVENT_ID, "COMPLETED", "EMAIL", null,
+                CachedClock.isoNow());
+        return serializer.serialize(new CallbackDelivery(CALLBACK_URL, callbackRequest));
+    }
+}
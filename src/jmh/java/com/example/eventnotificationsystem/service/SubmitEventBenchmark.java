@@ -0,0 +1,96 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventResponse;
+import com.example.eventnotificationsystem.model.EventType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventService#submitEvent} with one and with eight producer threads. One drainer
+ * thread per channel takes and acknowledges events so the bounded queues never fill up,
+ * which also keeps producers contending with a live consumer as they would in production.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubmitEventBenchmark {
+    private EventService eventService;
+    private final List<Thread> drainers = new ArrayList<>();
+    private volatile boolean draining;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventService = ServiceFixtures.eventService(ServiceFixtures.queueConfig(1_000_000),
+                ServiceFixtures.eventStatusService(1_000_000), ServiceFixtures.eventMetrics());
+        draining = true;
+        for (EventType eventType : EventType.values()) {
+            BlockingQueue<? extends Event> queue = eventService.getQueue(eventType);
+            Thread drainer = new Thread(() -> {
+                while (draining) {
+                    try {
+                        Event event = queue.poll(10, TimeUnit.MILLISECONDS);
+                        if (event != null) {
+                            eventService.acknowledge(event);
+                        }
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "drainer-" + eventType);
+            drainer.setDaemon(true);
+            drainer.start();
+            drainers.add(drainer);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        draining = false;
+        for (Thread drainer : drainers) {
+            drainer.join();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private long sequence;
+
+        EmailEvent next() {
+            EmailEvent event = new EmailEvent();
+            event.setRecipient("user" + (sequence++ & 1023) + "@example.com");
+            event.setMessage("Benchmark message");
+            event.setCallbackUrl("http://localhost/callback");
+            return event;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public EventResponse submitSingleProducer(Producer producer) {
+        return submit(producer);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public EventResponse submitEightProducers(Producer producer) {
+        return submit(producer);
+    }
+
+    private EventResponse submit(Producer producer) {
+        try {
+            return eventService.submitEvent(producer.next());
+        } catch (QueueFullException e) {
+            // The drainer fell behind; count the attempt rather than failing the run
+            return null;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.eventnotificationsystem.service.id;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of assigning an event ID with one and with eight request threads: random UUIDs,
+ * which all draw from one {@code SecureRandom}, against {@link UlidGenerator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventIdGeneratorBenchmark {
+    @Param({"uuid", "ulid"})
+    public String generator;
+
+    private EventIdGenerator eventIdGenerator;
+
+    @Setup
+    public void setUp() {
+        eventIdGenerator = EventIdGenerator.forName(generator, 1);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String nextIdSingleThread() {
+        return eventIdGenerator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String nextIdEightThreads() {
+        return eventIdGenerator.nextId();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.eventnotificationsystem.service.priority;
+
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.EventPriority;
+import com.example.eventnotificationsystem.service.ring.RingBufferQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Four producers against one consumer on the channel queue ({@link PriorityLaneQueue}, with
+ * linked or ring lanes) and, as a baseline, on the single {@link LinkedBlockingQueue} it replaced. Offers fail
+ * fast once a queue is full, so the consumer's poll rate is the number to compare.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class QueueBenchmark {
+    private static final int CAPACITY = 100_000;
+
+    @Param({"lanes", "ring-lanes", "fifo"})
+    public String queue;
+
+    private BlockingQueue<EmailEvent> target;
+    private final EmailEvent[] events = new EmailEvent[EventPriority.values().length];
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        if (queue.endsWith("lanes")) {
+            Map<EventPriority, BlockingQueue<EmailEvent>> lanes = new EnumMap<>(EventPriority.class);
+            Map<EventPriority, Integer> weights = new EnumMap<>(EventPriority.class);
+            for (EventPriority priority : EventPriority.values()) {
+                lanes.put(priority, "ring-lanes".equals(queue) ? new RingBufferQueue<>(CAPACITY) : new LinkedBlockingQueue<>(CAPACITY));
+                weights.put(priority, 1 << (2 * (EventPriority.values().length - 1 - priority.ordinal())));
+            }
+            target = new PriorityLaneQueue<>(lanes, weights);
+        } else {
+            target = new LinkedBlockingQueue<>(CAPACITY);
+        }
+        for (EventPriority priority : EventPriority.values()) {
+            events[priority.ordinal()] = new EmailEvent();
+            events[priority.ordinal()].setPriority(priority);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ProducerState {
+        private int next;
+    }
+
+    @Benchmark
+    @Group("producersConsumer")
+    @GroupThreads(4)
+    public boolean offer(ProducerState state) {
+        return target.offer(events[state.next++ % events.length]);
+    }
+
+    @Benchmark
+    @Group("producersConsumer")
+    @GroupThreads(1)
+    public EmailEvent poll() {
+        return target.poll();
+    }
+}
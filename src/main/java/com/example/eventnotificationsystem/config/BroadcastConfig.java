@@ -0,0 +1,31 @@
+package com.example.eventnotificationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BroadcastConfig {
+    // Recipient events of one broadcast queued or being processed at once; refilled at half
+    @Value("${events.broadcast.window:1000}")
+    private int window = 1_000;
+
+    @Value("${events.broadcast.max-active:100}")
+    private int maxActive = 100;
+
+    // Per broadcast or segment
+    @Value("${events.broadcast.max-recipients:10000000}")
+    private int maxRecipients = 10_000_000;
+
+    @Value("${events.broadcast.max-segments:1000}")
+    private int maxSegments = 1_000;
+
+    // Finished broadcasts kept for GET /api/broadcasts/{id}; the oldest are forgotten first
+    @Value("${events.broadcast.max-retained:1000}")
+    private int maxRetained = 1_000;
+
+    public int getWindow() { return window; }
+    public int getMaxActive() { return maxActive; }
+    public int getMaxRecipients() { return maxRecipients; }
+    public int getMaxSegments() { return maxSegments; }
+    public int getMaxRetained() { return maxRetained; }
+}
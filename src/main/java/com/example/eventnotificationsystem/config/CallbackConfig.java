@@ -0,0 +1,108 @@
+package com.example.eventnotificationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class CallbackConfig {
+    // Limits for the asynchronous callback delivery stage
+    @Value("${events.callback.max-in-flight:256}")
+    private int maxInFlight;
+
+    @Value("${events.callback.max-in-flight-per-host:32}")
+    private int maxInFlightPerHost;
+
+    @Value("${events.callback.max-pending:100000}")
+    private int maxPending;
+
+    @Value("${events.callback.connect-timeout-ms:2000}")
+    private long connectTimeoutMillis;
+
+    @Value("${events.callback.request-timeout-ms:5000}")
+    private long requestTimeoutMillis;
+
+    // Retries of failed callbacks and the dead-letter store they end up in
+    @Value("${events.callback.retry.max-attempts:5}")
+    private int retryMaxAttempts;
+
+    @Value("${events.callback.retry.initial-backoff-ms:1000}")
+    private long retryInitialBackoffMillis;
+
+    @Value("${events.callback.retry.max-backoff-ms:60000}")
+    private long retryMaxBackoffMillis;
+
+    @Value("${events.callback.retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${events.callback.dead-letter.max-size:10000}")
+    private int deadLetterMaxSize;
+
+    // Opt-in batching: callbacks to URLs starting with one of these prefixes are coalesced
+    // and posted as a JSON array
+    @Value("${events.callback.batch.url-prefixes:}")
+    private String batchUrlPrefixes = "";
+
+    @Value("${events.callback.batch.max-size:100}")
+    private int batchMaxSize;
+
+    @Value("${events.callback.batch.window-ms:1000}")
+    private long batchWindowMillis;
+
+    // Per-host circuit breaker: opens when the failure rate over the last window-size
+    // callbacks reaches the threshold (percent), refuses callbacks for open-ms, then lets
+    // half-open-trials through to decide whether to close again
+    @Value("${events.callback.circuit.enabled:true}")
+    private boolean circuitEnabled = true;
+
+    @Value("${events.callback.circuit.failure-rate-threshold:50}")
+    private double circuitFailureRateThreshold = 50;
+
+    @Value("${events.callback.circuit.window-size:100}")
+    private int circuitWindowSize = 100;
+
+    @Value("${events.callback.circuit.minimum-calls:20}")
+    private int circuitMinimumCalls = 20;
+
+    @Value("${events.callback.circuit.open-ms:30000}")
+    private long circuitOpenMillis = 30_000;
+
+    @Value("${events.callback.circuit.half-open-trials:3}")
+    private int circuitHalfOpenTrials = 3;
+
+    // Hosts with a breaker at once; idle closed ones are dropped to make room
+    @Value("${events.callback.circuit.max-hosts:10000}")
+    private int circuitMaxHosts = 10_000;
+
+    public int getMaxInFlight() { return maxInFlight; }
+    public int getMaxInFlightPerHost() { return maxInFlightPerHost; }
+    public int getMaxPending() { return maxPending; }
+    public long getConnectTimeoutMillis() { return connectTimeoutMillis; }
+    public long getRequestTimeoutMillis() { return requestTimeoutMillis; }
+    public int getRetryMaxAttempts() { return retryMaxAttempts; }
+    public long getRetryInitialBackoffMillis() { return retryInitialBackoffMillis; }
+    public long getRetryMaxBackoffMillis() { return retryMaxBackoffMillis; }
+    public double getRetryMultiplier() { return retryMultiplier; }
+    public int getDeadLetterMaxSize() { return deadLetterMaxSize; }
+    public int getBatchMaxSize() { return batchMaxSize; }
+    public long getBatchWindowMillis() { return batchWindowMillis; }
+    public boolean isCircuitEnabled() { return circuitEnabled; }
+    public double getCircuitFailureRateThreshold() { return circuitFailureRateThreshold; }
+    public int getCircuitWindowSize() { return circuitWindowSize; }
+    public int getCircuitMinimumCalls() { return circuitMinimumCalls; }
+    public long getCircuitOpenMillis() { return circuitOpenMillis; }
+    public int getCircuitHalfOpenTrials() { return circuitHalfOpenTrials; }
+    public int getCircuitMaxHosts() { return circuitMaxHosts; }
+
+    public List<String> getBatchUrlPrefixes() {
+        List<String> prefixes = new ArrayList<>();
+        for (String prefix : batchUrlPrefixes.split(",")) {
+            if (!prefix.isBlank()) {
+                prefixes.add(prefix.trim());
+            }
+        }
+        return prefixes;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.eventnotificationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+public class ClusterConfig {
+    // Partitioned multi-instance mode; when disabled every node keeps its events to itself
+    @Value("${events.cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${events.cluster.node-id:node-0}")
+    private String nodeId = "node-0";
+
+    // Comma-separated id=base-url pairs; a node not listed owns nothing until it is added
+    @Value("${events.cluster.members:}")
+    private String members = "";
+
+    // Fixed for the life of the cluster: changing it remaps every destination
+    @Value("${events.cluster.partitions:271}")
+    private int partitions = 271;
+
+    @Value("${events.cluster.virtual-nodes:128}")
+    private int virtualNodes = 128;
+
+    // How long a new partition owner waits for the previous owner to drain before going ahead
+    @Value("${events.cluster.handoff-timeout-ms:30000}")
+    private long handoffTimeoutMillis = 30_000;
+
+    // Sent by peers on internal calls and by operators on membership changes; required in cluster mode
+    @Value("${events.cluster.secret:}")
+    private String secret = "";
+
+    // Each request waiting on a handoff holds a servlet thread, so at most a quarter of them may wait
+    @Value("${events.cluster.max-parked:50}")
+    private int maxParked = 50;
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int serverThreads = 200;
+
+    @Value("${events.cluster.request-timeout-ms:5000}")
+    private long requestTimeoutMillis = 5_000;
+
+    public boolean isEnabled() { return enabled; }
+    public String getNodeId() { return nodeId; }
+    public int getPartitions() { return partitions; }
+    public int getVirtualNodes() { return virtualNodes; }
+    public long getHandoffTimeoutMillis() { return handoffTimeoutMillis; }
+    public int getMaxParked() { return Math.min(maxParked, serverThreads / 4); }
+    public String getSecret() { return secret; }
+    public long getRequestTimeoutMillis() { return requestTimeoutMillis; }
+
+    /**
+     * @return node IDs in configuration order, mapped to their base URLs; a member given
+     * without a URL maps to {@code null}
+     */
+    public Map<String, String> getMembers() {
+        Map<String, String> parsed = new LinkedHashMap<>();
+        for (String member : members.split(",")) {
+            if (member.isBlank()) {
+                continue;
+            }
+            int separator = member.indexOf('=');
+            if (separator < 0) {
+                parsed.put(member.trim(), null);
+            } else {
+                parsed.put(member.substring(0, separator).trim(), member.substring(separator + 1).trim());
+            }
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.eventnotificationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdConfig {
+    // Event ID scheme: "ulid" (time-ordered, lock-free) or "uuid" (random version 4)
+    @Value("${events.id.generator:ulid}")
+    private String generator = "ulid";
+
+    // 0-65535; give every instance sharing a status index or callback receiver its own
+    @Value("${events.id.node-id:0}")
+    private int nodeId;
+
+    public String getGenerator() { return generator; }
+    public int getNodeId() { return nodeId; }
+}
@@ -0,0 +1,21 @@
+package com.example.eventnotificationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdempotencyConfig {
+    // Bounds for the Idempotency-Key dedup cache; keys older than the TTL may be reused
+    @Value("${events.idempotency.max-entries:1000000}")
+    private int maxEntries;
+
+    @Value("${events.idempotency.ttl-ms:86400000}")
+    private long ttlMillis;
+
+    @Value("${events.idempotency.shards:64}")
+    private int shards;
+
+    public int getMaxEntries() { return maxEntries; }
+    public long getTtlMillis() { return ttlMillis; }
+    public int getShards() { return shards; }
+}
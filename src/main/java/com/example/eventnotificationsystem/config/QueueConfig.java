@@ -1,8 +1,177 @@
 package com.example.eventnotificationsystem.config;
 
+import com.example.eventnotificationsystem.model.EventPriority;
+import com.example.eventnotificationsystem.model.EventType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class QueueConfig {
-    // Placeholder for queue configuration if needed
-}
\ No newline at end of file
+    // Write-ahead journal; when disabled events are kept in memory only
+    @Value("${events.journal.enabled:false}")
+    private boolean journalEnabled;
+
+    @Value("${events.journal.directory:data/journal}")
+    private String journalDirectory;
+
+    @Value("${events.journal.segment-size-bytes:67108864}")
+    private int journalSegmentSizeBytes;
+
+    @Value("${events.journal.commit-interval-ms:10}")
+    private long journalCommitIntervalMillis;
+
+    @Value("${events.journal.await-commit:true}")
+    private boolean journalAwaitCommit;
+
+    // Admission control: per-channel capacity, split across the priority lanes, and how long
+    // a submit may wait for room
+    @Value("${events.queue.email.capacity:100000}")
+    private int emailCapacity;
+
+    @Value("${events.queue.sms.capacity:100000}")
+    private int smsCapacity;
+
+    @Value("${events.queue.push.capacity:100000}")
+    private int pushCapacity;
+
+    @Value("${events.queue.offer-timeout-ms:0}")
+    private long offerTimeoutMillis;
+
+    @Value("${events.queue.max-retry-after-seconds:60}")
+    private long maxRetryAfterSeconds;
+
+    // In-memory lane implementation: "linked" (LinkedBlockingQueue) or "ring" (preallocated
+    // lock-free ring buffer, slots rounded up to a power of two); unused when journaling
+    @Value("${events.queue.implementation:linked}")
+    private String queueImplementation = "linked";
+
+    // How idle workers wait for events: blocking, sleeping, yielding or busy-spin
+    @Value("${events.queue.wait-strategy:blocking}")
+    private String waitStrategy = "blocking";
+
+    // Share of takes each priority lane gets while backlogged
+    @Value("${events.queue.priority.high.weight:16}")
+    private int highPriorityWeight;
+
+    @Value("${events.queue.priority.normal.weight:4}")
+    private int normalPriorityWeight;
+
+    @Value("${events.queue.priority.low.weight:1}")
+    private int lowPriorityWeight;
+
+    // Event processing: "dedicated" runs a worker pool per channel, "work-stealing" runs
+    // one shared pool that drains whichever channels are backed up
+    @Value("${events.processor.mode:dedicated}")
+    private String processorMode;
+
+    @Value("${events.processor.shared.workers:0}")
+    private int sharedWorkers;
+
+    @Value("${events.processor.email.workers:1}")
+    private int emailWorkers;
+
+    @Value("${events.processor.sms.workers:1}")
+    private int smsWorkers;
+
+    @Value("${events.processor.push.workers:1}")
+    private int pushWorkers;
+
+    @Value("${events.processor.email.delay-ms:5000}")
+    private long emailDelayMillis;
+
+    @Value("${events.processor.sms.delay-ms:3000}")
+    private long smsDelayMillis;
+
+    @Value("${events.processor.push.delay-ms:2000}")
+    private long pushDelayMillis;
+
+    // Adaptive concurrency (dedicated mode): each channel's active workers are tuned between
+    // min and max from the latency of its work; the configured workers are the starting point
+    @Value("${events.processor.adaptive.enabled:false}")
+    private boolean adaptiveEnabled;
+
+    @Value("${events.processor.adaptive.min-workers:1}")
+    private int adaptiveMinWorkers = 1;
+
+    @Value("${events.processor.adaptive.max-workers:64}")
+    private int adaptiveMaxWorkers = 64;
+
+    @Value("${events.processor.adaptive.interval-ms:1000}")
+    private long adaptiveIntervalMillis = 1000;
+
+    @Value("${events.processor.adaptive.latency-tolerance:1.5}")
+    private double adaptiveLatencyTolerance = 1.5;
+
+    public boolean isJournalEnabled() { return journalEnabled; }
+    public String getJournalDirectory() { return journalDirectory; }
+    public int getJournalSegmentSizeBytes() { return journalSegmentSizeBytes; }
+    public long getJournalCommitIntervalMillis() { return journalCommitIntervalMillis; }
+    public boolean isJournalAwaitCommit() { return journalAwaitCommit; }
+
+    public long getOfferTimeoutMillis() { return offerTimeoutMillis; }
+    public long getMaxRetryAfterSeconds() { return maxRetryAfterSeconds; }
+    public boolean isRingBufferQueue() { return "ring".equalsIgnoreCase(queueImplementation); }
+    public String getWaitStrategy() { return waitStrategy; }
+
+    public int getCapacity(EventType eventType) {
+        switch (eventType) {
+            case EMAIL: return emailCapacity;
+            case SMS: return smsCapacity;
+            case PUSH: return pushCapacity;
+            default: throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+    }
+
+    /**
+     * Share of the channel capacity held by one priority lane. The capacity is split evenly
+     * and NORMAL takes the remainder, so the lanes together hold exactly the channel capacity.
+     */
+    public int getLaneCapacity(EventType eventType, EventPriority priority) {
+        int lanes = EventPriority.values().length;
+        int capacity = getCapacity(eventType);
+        int laneCapacity = capacity / lanes;
+        if (priority == EventPriority.NORMAL) {
+            laneCapacity += capacity % lanes;
+        }
+        return Math.max(1, laneCapacity);
+    }
+
+    public int getPriorityWeight(EventPriority priority) {
+        switch (priority) {
+            case HIGH: return highPriorityWeight;
+            case NORMAL: return normalPriorityWeight;
+            case LOW: return lowPriorityWeight;
+            default: throw new IllegalArgumentException("Invalid priority: " + priority);
+        }
+    }
+
+    public boolean isWorkStealingMode() { return "work-stealing".equalsIgnoreCase(processorMode); }
+
+    public int getSharedWorkers() {
+        return sharedWorkers > 0 ? sharedWorkers : Runtime.getRuntime().availableProcessors();
+    }
+
+    public boolean isAdaptiveEnabled() { return adaptiveEnabled; }
+    public int getAdaptiveMinWorkers() { return adaptiveMinWorkers; }
+    public int getAdaptiveMaxWorkers() { return adaptiveMaxWorkers; }
+    public long getAdaptiveIntervalMillis() { return adaptiveIntervalMillis; }
+    public double getAdaptiveLatencyTolerance() { return adaptiveLatencyTolerance; }
+
+    public int getWorkers(EventType eventType) {
+        switch (eventType) {
+            case EMAIL: return emailWorkers;
+            case SMS: return smsWorkers;
+            case PUSH: return pushWorkers;
+            default: throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+    }
+
+    public long getProcessingDelayMillis(EventType eventType) {
+        switch (eventType) {
+            case EMAIL: return emailDelayMillis;
+            case SMS: return smsDelayMillis;
+            case PUSH: return pushDelayMillis;
+            default: throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.eventnotificationsystem.config;
+
+import com.example.eventnotificationsystem.model.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+    // Per-recipient limits (email address, phone number or device ID); rate 0 disables
+    @Value("${events.ratelimit.email.recipient-rate:0}")
+    private double emailRecipientRate;
+
+    @Value("${events.ratelimit.email.recipient-burst:10}")
+    private int emailRecipientBurst = 10;
+
+    @Value("${events.ratelimit.sms.recipient-rate:0}")
+    private double smsRecipientRate;
+
+    @Value("${events.ratelimit.sms.recipient-burst:10}")
+    private int smsRecipientBurst = 10;
+
+    @Value("${events.ratelimit.push.recipient-rate:0}")
+    private double pushRecipientRate;
+
+    @Value("${events.ratelimit.push.recipient-burst:10}")
+    private int pushRecipientBurst = 10;
+
+    // Per-channel limits across all recipients; rate 0 disables
+    @Value("${events.ratelimit.email.channel-rate:0}")
+    private double emailChannelRate;
+
+    @Value("${events.ratelimit.email.channel-burst:1000}")
+    private int emailChannelBurst = 1000;
+
+    @Value("${events.ratelimit.sms.channel-rate:0}")
+    private double smsChannelRate;
+
+    @Value("${events.ratelimit.sms.channel-burst:1000}")
+    private int smsChannelBurst = 1000;
+
+    @Value("${events.ratelimit.push.channel-rate:0}")
+    private double pushChannelRate;
+
+    @Value("${events.ratelimit.push.channel-burst:1000}")
+    private int pushChannelBurst = 1000;
+
+    // Recipients tracked at once per channel; idle ones are evicted to make room
+    @Value("${events.ratelimit.max-recipients:1000000}")
+    private int maxRecipients = 1_000_000;
+
+    @Value("${events.ratelimit.shards:64}")
+    private int shards = 64;
+
+    public int getMaxRecipients() { return maxRecipients; }
+    public int getShards() { return shards; }
+
+    public double getRecipientRate(EventType eventType) {
+        switch (eventType) {
+            case EMAIL: return emailRecipientRate;
+            case SMS: return smsRecipientRate;
+            case PUSH: return pushRecipientRate;
+            default: throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+    }
+
+    public int getRecipientBurst(EventType eventType) {
+        switch (eventType) {
+            case EMAIL: return emailRecipientBurst;
+            case SMS: return smsRecipientBurst;
+            case PUSH: return pushRecipientBurst;
+            default: throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+    }
+
+    public double getChannelRate(EventType eventType) {
+        switch (eventType) {
+            case EMAIL: return emailChannelRate;
+            case SMS: return smsChannelRate;
+            case PUSH: return pushChannelRate;
+            default: throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+    }
+
+    public int getChannelBurst(EventType eventType) {
+        switch (eventType) {
+            case EMAIL: return emailChannelBurst;
+            case SMS: return smsChannelBurst;
+            case PUSH: return pushChannelBurst;
+            default: throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.eventnotificationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ScheduleConfig {
+    // Resolution of sendAt; events are released at most one tick late
+    @Value("${events.schedule.tick-ms:10}")
+    private long tickMillis = 10;
+
+    @Value("${events.schedule.max-pending:1000000}")
+    private int maxPending = 1_000_000;
+
+    // Furthest ahead an event may be scheduled, 365 days by default
+    @Value("${events.schedule.max-delay-ms:31536000000}")
+    private long maxDelayMillis = 31_536_000_000L;
+
+    // Wait before retrying a due event whose queue was full
+    @Value("${events.schedule.requeue-delay-ms:1000}")
+    private long requeueDelayMillis = 1_000;
+
+    public long getTickMillis() { return tickMillis; }
+    public int getMaxPending() { return maxPending; }
+    public long getMaxDelayMillis() { return maxDelayMillis; }
+    public long getRequeueDelayMillis() { return requeueDelayMillis; }
+}
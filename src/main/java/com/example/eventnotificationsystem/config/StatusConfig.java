@@ -0,0 +1,21 @@
+package com.example.eventnotificationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StatusConfig {
+    // Bounds for the in-memory event status index behind GET /api/events/{id}
+    @Value("${events.status.max-entries:1000000}")
+    private int maxEntries;
+
+    @Value("${events.status.max-age-ms:86400000}")
+    private long maxAgeMillis;
+
+    @Value("${events.status.shards:64}")
+    private int shards;
+
+    public int getMaxEntries() { return maxEntries; }
+    public long getMaxAgeMillis() { return maxAgeMillis; }
+    public int getShards() { return shards; }
+}
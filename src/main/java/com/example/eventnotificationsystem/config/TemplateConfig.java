@@ -0,0 +1,26 @@
+package com.example.eventnotificationsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TemplateConfig {
+    // Registered templates are kept as source; registering beyond this is refused
+    @Value("${events.template.max-templates:10000}")
+    private int maxTemplates = 10_000;
+
+    @Value("${events.template.max-length:65536}")
+    private int maxLength = 65_536;
+
+    // Compiled forms kept for rendering; the least recently used are recompiled on demand
+    @Value("${events.template.cache-size:1000}")
+    private int cacheSize = 1_000;
+
+    @Value("${events.template.cache-shards:16}")
+    private int cacheShards = 16;
+
+    public int getMaxTemplates() { return maxTemplates; }
+    public int getMaxLength() { return maxLength; }
+    public int getCacheSize() { return cacheSize; }
+    public int getCacheShards() { return cacheShards; }
+}
@@ -0,0 +1,116 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.*;
+import com.example.eventnotificationsystem.service.BroadcastService;
+import com.example.eventnotificationsystem.service.TemplateService;
+import com.example.eventnotificationsystem.service.broadcast.RecipientList;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+public class BroadcastController {
+    @Autowired
+    private BroadcastService broadcastService;
+
+    @Autowired
+    private TemplateService templateService;
+
+    @PostMapping("/api/broadcasts")
+    public ResponseEntity<BroadcastStatus> submitBroadcast(@Valid @RequestBody BroadcastRequest broadcastRequest) {
+        Event prototype = toPrototype(broadcastRequest);
+        RecipientList recipients;
+        if ((broadcastRequest.getRecipients() == null) == (broadcastRequest.getSegmentId() == null)) {
+            throw new IllegalArgumentException("Specify either recipients or segmentId");
+        } else if (broadcastRequest.getRecipients() != null) {
+            recipients = broadcastService.pack(broadcastRequest.getRecipients());
+        } else {
+            recipients = broadcastService.getSegmentRecipients(broadcastRequest.getSegmentId());
+        }
+        return ResponseEntity.accepted().body(broadcastService.submit(prototype, broadcastRequest.getCallbackUrl(), recipients));
+    }
+
+    @GetMapping("/api/broadcasts/{broadcastId}")
+    public ResponseEntity<BroadcastStatus> getBroadcast(@PathVariable String broadcastId) {
+        BroadcastStatus status = broadcastService.getStatus(broadcastId);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * Stops expanding the broadcast; its summary callback follows once the recipient
+     * events already queued are done.
+     */
+    @DeleteMapping("/api/broadcasts/{broadcastId}")
+    public ResponseEntity<Void> cancelBroadcast(@PathVariable String broadcastId) {
+        if (!broadcastService.cancel(broadcastId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Uploads a segment as plain text, one recipient per line. The body is read line by
+     * line into a packed list, so large segments are never held as strings.
+     */
+    @PutMapping(value = "/api/segments/{segmentId}", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<SegmentStatus> putSegment(@PathVariable String segmentId, HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(broadcastService.putSegment(segmentId, request.getReader()));
+    }
+
+    @GetMapping("/api/segments/{segmentId}")
+    public ResponseEntity<SegmentStatus> getSegment(@PathVariable String segmentId) {
+        SegmentStatus segment = broadcastService.getSegment(segmentId);
+        if (segment == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(segment);
+    }
+
+    @DeleteMapping("/api/segments/{segmentId}")
+    public ResponseEntity<Void> removeSegment(@PathVariable String segmentId) {
+        if (!broadcastService.removeSegment(segmentId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private Event toPrototype(BroadcastRequest broadcastRequest) {
+        Event prototype;
+        switch (broadcastRequest.getEventType()) {
+            case EMAIL:
+                prototype = new EmailEvent();
+                break;
+            case SMS:
+                prototype = new SmsEvent();
+                break;
+            case PUSH:
+                prototype = new PushEvent();
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid event type: " + broadcastRequest.getEventType());
+        }
+        boolean hasMessage = broadcastRequest.getMessage() != null && !broadcastRequest.getMessage().isBlank();
+        if (broadcastRequest.getTemplateId() == null) {
+            if (!hasMessage) {
+                throw new IllegalArgumentException("Specify a message or templateId");
+            }
+            prototype.setMessage(broadcastRequest.getMessage());
+        } else if (hasMessage) {
+            throw new IllegalArgumentException("Specify either a message or templateId, not both");
+        } else {
+            templateService.bind(prototype, broadcastRequest.getTemplateId(), broadcastRequest.getTemplateParams());
+        }
+        if (broadcastRequest.getPriority() != null) {
+            prototype.setPriority(broadcastRequest.getPriority());
+        }
+        return prototype;
+    }
+}
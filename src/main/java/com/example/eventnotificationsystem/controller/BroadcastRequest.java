@@ -0,0 +1,97 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.EventPriority;
+import com.example.eventnotificationsystem.model.EventType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+public class BroadcastRequest {
+    @NotNull(message = "Event type is required")
+    private EventType eventType;
+
+    // Either the recipients themselves or a segment uploaded to /api/segments
+    private List<String> recipients;
+
+    private String segmentId;
+
+    // Either a message or a template shared by every recipient
+    private String message;
+
+    private String templateId;
+
+    private Map<String, String> templateParams;
+
+    // Receives one summary callback once every recipient has an outcome
+    @NotBlank(message = "Callback URL is required")
+    private String callbackUrl;
+
+    private EventPriority priority;
+
+    // Getters and setters
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(EventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public List<String> getRecipients() {
+        return recipients;
+    }
+
+    public void setRecipients(List<String> recipients) {
+        this.recipients = recipients;
+    }
+
+    public String getSegmentId() {
+        return segmentId;
+    }
+
+    public void setSegmentId(String segmentId) {
+        this.segmentId = segmentId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public void setTemplateId(String templateId) {
+        this.templateId = templateId;
+    }
+
+    public Map<String, String> getTemplateParams() {
+        return templateParams;
+    }
+
+    public void setTemplateParams(Map<String, String> templateParams) {
+        this.templateParams = templateParams;
+    }
+
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    public void setCallbackUrl(String callbackUrl) {
+        this.callbackUrl = callbackUrl;
+    }
+
+    public EventPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(EventPriority priority) {
+        this.priority = priority;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.CallbackStats;
+import com.example.eventnotificationsystem.model.CircuitStatus;
+import com.example.eventnotificationsystem.model.DeadLetter;
+import com.example.eventnotificationsystem.service.CallbackService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+public class CallbackController {
+    @Autowired
+    private CallbackService callbackService;
+
+    @GetMapping("/api/callbacks/stats")
+    public ResponseEntity<CallbackStats> getStats() {
+        return ResponseEntity.ok(callbackService.getStats());
+    }
+
+    @GetMapping("/api/callbacks/circuits")
+    public ResponseEntity<List<CircuitStatus>> getCircuits() {
+        return ResponseEntity.ok(callbackService.getCircuits());
+    }
+
+    @GetMapping("/api/callbacks/dead-letters")
+    public ResponseEntity<List<DeadLetter>> getDeadLetters(@RequestParam(defaultValue = "100") int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return ResponseEntity.ok(callbackService.getDeadLetters(limit));
+    }
+
+    @PostMapping("/api/callbacks/dead-letters/{eventId}/replay")
+    public ResponseEntity<Map<String, Object>> replayDeadLetter(@PathVariable String eventId) {
+        if (!callbackService.replayDeadLetter(eventId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.accepted().body(Map.of("replayed", 1));
+    }
+
+    @PostMapping("/api/callbacks/dead-letters/replay")
+    public ResponseEntity<Map<String, Object>> replayAllDeadLetters() {
+        return ResponseEntity.accepted().body(Map.of("replayed", callbackService.replayAllDeadLetters()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.*;
+import com.example.eventnotificationsystem.service.ClusterService;
+import com.example.eventnotificationsystem.service.cluster.HttpClusterTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+public class ClusterController {
+    @Autowired
+    private ClusterService clusterService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @GetMapping("/api/cluster")
+    public ResponseEntity<ClusterStatus> getStatus() {
+        return ResponseEntity.ok(clusterService.getStatus());
+    }
+
+    /**
+     * Replaces this node's membership view. Send the same view to every member.
+     */
+    @PutMapping("/api/cluster/members")
+    public ResponseEntity<ClusterStatus> updateMembers(@RequestBody Map<String, String> members,
+                                                       @RequestHeader(value = HttpClusterTransport.SECRET_HEADER, required = false) String secret) {
+        clusterService.authenticate(secret);
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("Members must not be empty");
+        }
+        clusterService.updateMembers(members);
+        return ResponseEntity.ok(clusterService.getStatus());
+    }
+
+    /**
+     * Receives an event forwarded by another node. The body is the event itself, already
+     * validated by the node that took the request.
+     */
+    @PostMapping("/internal/cluster/events")
+    public ResponseEntity<EventResponse> receiveEvent(@RequestBody byte[] body,
+                                                      @RequestHeader(HttpClusterTransport.EVENT_TYPE_HEADER) EventType eventType,
+                                                      @RequestHeader(value = HttpClusterTransport.HOPS_HEADER, defaultValue = "1") int hops,
+                                                      @RequestHeader(value = HttpClusterTransport.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                      @RequestHeader(value = HttpClusterTransport.SECRET_HEADER, required = false) String secret) throws IOException {
+        clusterService.authenticate(secret);
+        Event event = objectMapper.readValue(body, eventClass(eventType));
+        EventResponse response = clusterService.receive(event, idempotencyKey, hops);
+        if (response.isReplayed()) {
+            return ResponseEntity.ok().header(HttpClusterTransport.REPLAYED_HEADER, "true").body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/internal/cluster/handoff/{partition}")
+    public ResponseEntity<Void> handoffComplete(@PathVariable int partition,
+                                                @RequestHeader(value = HttpClusterTransport.SECRET_HEADER, required = false) String secret) {
+        clusterService.authenticate(secret);
+        clusterService.handoffComplete(partition);
+        return ResponseEntity.noContent().build();
+    }
+
+    private static Class<? extends Event> eventClass(EventType eventType) {
+        switch (eventType) {
+            case EMAIL:
+                return EmailEvent.class;
+            case SMS:
+                return SmsEvent.class;
+            case PUSH:
+                return PushEvent.class;
+            default:
+                throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+    }
+}
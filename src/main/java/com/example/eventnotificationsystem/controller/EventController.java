@@ -1,29 +1,289 @@
 package com.example.eventnotificationsystem.controller;
 
 import com.example.eventnotificationsystem.model.*;
+import com.example.eventnotificationsystem.service.ClusterService;
 import com.example.eventnotificationsystem.service.EventService;
+import com.example.eventnotificationsystem.service.EventStatusService;
+import com.example.eventnotificationsystem.service.QueueFullException;
+import com.example.eventnotificationsystem.service.RateLimitedException;
+import com.example.eventnotificationsystem.service.ServiceUnavailableException;
+import com.example.eventnotificationsystem.service.TemplateService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 public class EventController {
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    // Streamed results are flushed in groups so the client sees progress without a write per item
+    private static final int STREAM_FLUSH_INTERVAL = 256;
+
+    @Autowired
+    private ClusterService clusterService;
+
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private EventStatusService eventStatusService;
+
+    @Autowired
+    private TemplateService templateService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    private EventRequestReader eventRequestReader;
+
+    @PostConstruct
+    public void init() {
+        eventRequestReader = new EventRequestReader(objectMapper.getFactory(), validator, templateService,
+                objectMapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+    }
+
     @PostMapping("/api/events")
-    public ResponseEntity<EventResponse> submitEvent(@Valid @RequestBody EventRequest eventRequest) {
+    public ResponseEntity<EventResponse> submitEvent(@Valid @RequestBody EventRequest eventRequest,
+                                                     @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         try {
-            Event event = validateAndConvertEvent(eventRequest);
-            EventResponse response = eventService.submitEvent(event);
-            return ResponseEntity.ok(response);
+            return submit(validateAndConvertEvent(eventRequest), idempotencyKey);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(new EventResponse(null, e.getMessage()));
         }
     }
 
+    /**
+     * JSON requests are read by {@link EventRequestReader} straight into the event, and
+     * only bound to an {@link EventRequest} when it cannot; errors are answered the same
+     * either way.
+     */
+    @PostMapping(value = "/api/events", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EventResponse> submitJsonEvent(HttpServletRequest request,
+                                                         @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey)
+            throws IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        try {
+            Event event = body.length == 0 ? null : eventRequestReader.read(body);
+            if (event == null) {
+                event = validateAndConvertEvent(bindEventRequest(body, request));
+            }
+            return submit(event, idempotencyKey);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new EventResponse(null, e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<EventResponse> submit(Event event, String idempotencyKey) {
+        EventResponse response = clusterService.submitEvent(event, idempotencyKey);
+        if (response.isReplayed()) {
+            return ResponseEntity.ok().header(IDEMPOTENT_REPLAYED_HEADER, "true").body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    // What @Valid @RequestBody does, with the same exceptions
+    private EventRequest bindEventRequest(byte[] body, HttpServletRequest request) throws IOException {
+        EventRequest eventRequest;
+        try {
+            eventRequest = body.length == 0 ? null : objectMapper.readerFor(EventRequest.class).readValue(body);
+        } catch (InvalidDefinitionException e) {
+            throw new HttpMessageConversionException("Type definition error: " + e.getType(), e);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e,
+                    new ServletServerHttpRequest(request));
+        }
+        if (eventRequest == null) {
+            throw new HttpMessageNotReadableException("Required request body is missing", new ServletServerHttpRequest(request));
+        }
+        Set<ConstraintViolation<EventRequest>> violations = validator.validate(eventRequest);
+        if (!violations.isEmpty()) {
+            throw new RequestValidationException(fieldErrors(violations));
+        }
+        return eventRequest;
+    }
+
+    @GetMapping("/api/events/{eventId}")
+    public ResponseEntity<EventStatusResponse> getEventStatus(@PathVariable String eventId) {
+        EventStatusResponse status = eventStatusService.getStatus(eventId);
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * Cancels an event that is still waiting for its {@code sendAt}. In cluster mode the
+     * request must reach the node that owns the event.
+     */
+    @DeleteMapping("/api/events/{eventId}")
+    public ResponseEntity<Void> cancelScheduledEvent(@PathVariable String eventId) {
+        if (!eventService.cancelScheduled(eventId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Accepts an array of event requests in JSON, Smile or CBOR. Items are read off the
+     * request stream one at a time, so the array is never held in memory as a whole; each
+     * item is validated and enqueued independently and gets its own entry in the response.
+     */
+    @PostMapping(value = "/api/events/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<BatchResponse> submitBatch(HttpServletRequest request) throws IOException {
+        BatchResponse response = new BatchResponse();
+        ObjectMapper mapper = mapperFor(request.getContentType());
+        try (JsonParser parser = mapper.createParser(request.getInputStream())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Batch body must be a JSON array");
+            }
+            ObjectReader reader = mapper.readerFor(EventRequest.class);
+            int index = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                try {
+                    response.addResult(submitBatchItem(index, reader.readValue(parser)));
+                } catch (JsonProcessingException e) {
+                    // The parser cannot resynchronise inside a broken item, so the rest is not read
+                    response.addResult(malformedItem(index, e));
+                    break;
+                }
+                index++;
+            }
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Accepts newline-delimited JSON, one event request per line, and streams one result
+     * line back per item as it is enqueued. Neither side of the exchange is buffered, so a
+     * producer can push an unbounded stream through a single request.
+     */
+    @PostMapping(value = "/api/events/batch", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    public void submitStream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        ObjectReader reader = objectMapper.readerFor(EventRequest.class);
+        ObjectWriter writer = objectMapper.writerFor(BatchItemResult.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonParser parser = objectMapper.createParser(request.getInputStream());
+             JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            int index = 0;
+            while (parser.nextToken() != null) {
+                BatchItemResult result;
+                boolean malformed = false;
+                try {
+                    result = submitBatchItem(index, reader.readValue(parser));
+                } catch (JsonProcessingException e) {
+                    result = malformedItem(index, e);
+                    malformed = true;
+                }
+                writer.writeValue(generator, result);
+                generator.writeRaw('\n');
+                if (malformed) {
+                    break;
+                }
+                if (++index % STREAM_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    // The binary formats' mappers share the JSON mapper's configuration; see BinaryFormatConfig
+    private ObjectMapper mapperFor(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+            return cborConverter.getObjectMapper();
+        }
+        if (mediaType.isCompatibleWith(MediaType.parseMediaType(APPLICATION_SMILE_VALUE))) {
+            return smileConverter.getObjectMapper();
+        }
+        return objectMapper;
+    }
+
+    private BatchItemResult submitBatchItem(int index, EventRequest eventRequest) {
+        // A null element or line; rejected on its own so the rest of the batch still goes through
+        if (eventRequest == null) {
+            return new BatchItemResult(index, HttpStatus.BAD_REQUEST.value(), null, "Event must not be null");
+        }
+        Set<ConstraintViolation<EventRequest>> violations = validator.validate(eventRequest);
+        if (!violations.isEmpty()) {
+            BatchItemResult result = new BatchItemResult(index, HttpStatus.BAD_REQUEST.value(), null, "Validation Failed");
+            result.setFieldErrors(fieldErrors(violations));
+            return result;
+        }
+        try {
+            EventResponse response = clusterService.submitEvent(validateAndConvertEvent(eventRequest), null);
+            return new BatchItemResult(index, HttpStatus.OK.value(), response.getEventId(), response.getMessage());
+        } catch (QueueFullException e) {
+            BatchItemResult result = new BatchItemResult(index, HttpStatus.TOO_MANY_REQUESTS.value(), null, e.getMessage());
+            result.setRetryAfterSeconds(e.getRetryAfterSeconds());
+            return result;
+        } catch (RateLimitedException e) {
+            BatchItemResult result = new BatchItemResult(index, HttpStatus.TOO_MANY_REQUESTS.value(), null, e.getMessage());
+            result.setRetryAfterSeconds(e.getRetryAfterSeconds());
+            return result;
+        } catch (IllegalArgumentException e) {
+            return new BatchItemResult(index, HttpStatus.BAD_REQUEST.value(), null, e.getMessage());
+        } catch (ServiceUnavailableException e) {
+            return new BatchItemResult(index, HttpStatus.SERVICE_UNAVAILABLE.value(), null, e.getMessage());
+        }
+    }
+
+    private static Map<String, String> fieldErrors(Set<ConstraintViolation<EventRequest>> violations) {
+        Map<String, String> fieldErrors = new HashMap<>();
+        for (ConstraintViolation<EventRequest> violation : violations) {
+            fieldErrors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return fieldErrors;
+    }
+
+    private static BatchItemResult malformedItem(int index, JsonProcessingException e) {
+        return new BatchItemResult(index, HttpStatus.BAD_REQUEST.value(), null,
+                "Malformed event, remaining items were not read: " + e.getOriginalMessage());
+    }
+
     @PostMapping("/callback")
     public ResponseEntity<String> receiveCallback(@RequestBody CallbackRequest callbackRequest) {
         System.out.println("=== CALLBACK RECEIVED ===");
@@ -39,7 +299,8 @@ public class EventController {
         return ResponseEntity.ok("Callback received successfully");
     }
 
-    private Event validateAndConvertEvent(EventRequest eventRequest) {
+    // Package-private so the JMH benchmarks in src/jmh can measure it directly
+    Event validateAndConvertEvent(EventRequest eventRequest) {
         if (eventRequest.getEventType() == null || eventRequest.getPayload() == null || eventRequest.getCallbackUrl() == null) {
             throw new IllegalArgumentException("Missing required fields");
         }
@@ -47,42 +308,49 @@ public class EventController {
         Event event;
         switch (eventRequest.getEventType()) {
             case EMAIL:
-                EmailPayload emailPayload = (EmailPayload) eventRequest.getPayload();
-                if (emailPayload.getRecipient() == null || emailPayload.getRecipient().isEmpty() ||
-                    emailPayload.getMessage() == null || emailPayload.getMessage().isEmpty()) {
+                EmailPayload emailPayload = payloadAs(eventRequest, EmailPayload.class);
+                if (emailPayload.getRecipient() == null || emailPayload.getRecipient().isEmpty()) {
                     throw new IllegalArgumentException("Missing required fields");
                 }
                 EmailEvent emailEvent = new EmailEvent();
                 emailEvent.setRecipient(emailPayload.getRecipient());
-                emailEvent.setMessage(emailPayload.getMessage());
                 event = emailEvent;
                 break;
             case SMS:
-                SmsPayload smsPayload = (SmsPayload) eventRequest.getPayload();
-                if (smsPayload.getPhoneNumber() == null || smsPayload.getPhoneNumber().isEmpty() ||
-                    smsPayload.getMessage() == null || smsPayload.getMessage().isEmpty()) {
+                SmsPayload smsPayload = payloadAs(eventRequest, SmsPayload.class);
+                if (smsPayload.getPhoneNumber() == null || smsPayload.getPhoneNumber().isEmpty()) {
                     throw new IllegalArgumentException("Missing required fields");
                 }
                 SmsEvent smsEvent = new SmsEvent();
                 smsEvent.setPhoneNumber(smsPayload.getPhoneNumber());
-                smsEvent.setMessage(smsPayload.getMessage());
                 event = smsEvent;
                 break;
             case PUSH:
-                PushPayload pushPayload = (PushPayload) eventRequest.getPayload();
-                if (pushPayload.getDeviceId() == null || pushPayload.getDeviceId().isEmpty() ||
-                    pushPayload.getMessage() == null || pushPayload.getMessage().isEmpty()) {
+                PushPayload pushPayload = payloadAs(eventRequest, PushPayload.class);
+                if (pushPayload.getDeviceId() == null || pushPayload.getDeviceId().isEmpty()) {
                     throw new IllegalArgumentException("Missing required fields");
                 }
                 PushEvent pushEvent = new PushEvent();
                 pushEvent.setDeviceId(pushPayload.getDeviceId());
-                pushEvent.setMessage(pushPayload.getMessage());
                 event = pushEvent;
                 break;
             default:
                 throw new IllegalArgumentException("Invalid event type: " + eventRequest.getEventType());
         }
+        EventRequestReader.setMessage(event, eventRequest.getPayload().getMessage(), eventRequest.getTemplateId(),
+                eventRequest.getTemplateParams(), templateService);
         event.setCallbackUrl(eventRequest.getCallbackUrl());
+        if (eventRequest.getPriority() != null) {
+            event.setPriority(eventRequest.getPriority());
+        }
+        EventRequestReader.setSendAt(event, eventRequest.getSendAt(), eventRequest.getDelaySeconds());
         return event;
     }
-}
\ No newline at end of file
+
+    private static <P extends EventPayload> P payloadAs(EventRequest eventRequest, Class<P> payloadClass) {
+        if (!payloadClass.isInstance(eventRequest.getPayload())) {
+            throw new IllegalArgumentException("Payload does not match event type: " + eventRequest.getEventType());
+        }
+        return payloadClass.cast(eventRequest.getPayload());
+    }
+}
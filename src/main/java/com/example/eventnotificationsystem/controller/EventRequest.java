@@ -1,11 +1,17 @@
 package com.example.eventnotificationsystem.controller;
 
+import com.example.eventnotificationsystem.model.EventPriority;
 import com.example.eventnotificationsystem.model.EventType;
 import com.example.eventnotificationsystem.model.EventPayload;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 
+import java.time.Instant;
+import java.util.Map;
+
+@MessageOrTemplate
 public class EventRequest {
     @NotNull(message = "Event type is required")
     private EventType eventType;
@@ -17,6 +23,20 @@ public class EventRequest {
     @NotBlank(message = "Callback URL is required")
     private String callbackUrl;
 
+    // Optional; the message is rendered from this registered template instead of payload.message
+    private String templateId;
+
+    private Map<String, String> templateParams;
+
+    // Optional; events without a priority are NORMAL
+    private EventPriority priority;
+
+    // Optional, one or the other; the event is held back until then
+    private Instant sendAt;
+
+    @PositiveOrZero(message = "Delay must not be negative")
+    private Long delaySeconds;
+
     // Getters and setters
     public EventType getEventType() {
         return eventType;
@@ -41,4 +61,44 @@ public class EventRequest {
     public void setCallbackUrl(String callbackUrl) {
         this.callbackUrl = callbackUrl;
     }
-}
\ No newline at end of file
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public void setTemplateId(String templateId) {
+        this.templateId = templateId;
+    }
+
+    public Map<String, String> getTemplateParams() {
+        return templateParams;
+    }
+
+    public void setTemplateParams(Map<String, String> templateParams) {
+        this.templateParams = templateParams;
+    }
+
+    public EventPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(EventPriority priority) {
+        this.priority = priority;
+    }
+
+    public Instant getSendAt() {
+        return sendAt;
+    }
+
+    public void setSendAt(Instant sendAt) {
+        this.sendAt = sendAt;
+    }
+
+    public Long getDelaySeconds() {
+        return delaySeconds;
+    }
+
+    public void setDelaySeconds(Long delaySeconds) {
+        this.delaySeconds = delaySeconds;
+    }
+}
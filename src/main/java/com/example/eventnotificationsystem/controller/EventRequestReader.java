@@ -0,0 +1,438 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.*;
+import com.example.eventnotificationsystem.service.TemplateService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a JSON event request straight into its {@link Event} subtype in one pass, with the
+ * same validation messages as binding through {@link EventRequest}. Requests it cannot
+ * bind exactly as Jackson would are left to the general path.
+ */
+public class EventRequestReader {
+    private static final NotBound NOT_BOUND = new NotBound();
+    private static final int MAX_LOCAL_PART = 64;
+    private static final int MAX_DOMAIN = 253;
+    private static final int MAX_LABEL = 63;
+
+    private final JsonFactory jsonFactory;
+    private final Validator validator;
+    private final TemplateService templateService;
+    private final boolean failOnUnknownProperties;
+    private final String messageRequired;
+
+    /**
+     * @param failOnUnknownProperties whether the general path rejects unknown properties;
+     *                                such requests are then left to it
+     */
+    public EventRequestReader(JsonFactory jsonFactory, Validator validator, TemplateService templateService,
+                              boolean failOnUnknownProperties) {
+        this.jsonFactory = jsonFactory;
+        this.validator = validator;
+        this.templateService = templateService;
+        this.failOnUnknownProperties = failOnUnknownProperties;
+        this.messageRequired = EventRequest.class.getAnnotation(MessageOrTemplate.class).message();
+    }
+
+    /**
+     * @return the event, ready to be submitted, or {@code null} if the request must be bound the general way
+     * @throws RequestValidationException if a constraint of {@link EventRequest} is violated
+     * @throws IllegalArgumentException   if the request is valid but inconsistent, such as a
+     *                                    payload of the wrong type
+     */
+    public Event read(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return read(parser);
+        } catch (NotBound | JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private Event read(JsonParser parser) throws IOException, NotBound {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw NOT_BOUND;
+        }
+        EventType eventType = null;
+        String callbackUrl = null;
+        String templateId = null;
+        Map<String, String> templateParams = null;
+        EventPriority priority = null;
+        Instant sendAt = null;
+        Long delaySeconds = null;
+        boolean hasPayload = false;
+        EventType payloadType = null;
+        String message = null;
+        String recipient = null;
+        String phoneNumber = null;
+        String deviceId = null;
+        // Payload fields seen, by the ordinal of the payload type they belong to
+        int typedFields = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "eventType":
+                    eventType = token == JsonToken.VALUE_NULL ? null : enumValue(EventType.class, string(parser, token));
+                    break;
+                case "payload":
+                    // A repeated property replaces the earlier one, as with Jackson
+                    hasPayload = false;
+                    payloadType = null;
+                    message = recipient = phoneNumber = deviceId = null;
+                    typedFields = 0;
+                    if (token == JsonToken.VALUE_NULL) {
+                        break;
+                    }
+                    if (token != JsonToken.START_OBJECT) {
+                        throw NOT_BOUND;
+                    }
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String payloadField = parser.currentName();
+                        JsonToken payloadToken = parser.nextToken();
+                        switch (payloadField) {
+                            case "type":
+                                if (payloadToken != JsonToken.VALUE_STRING) {
+                                    throw NOT_BOUND;
+                                }
+                                payloadType = enumValue(EventType.class, parser.getText());
+                                break;
+                            case "message": message = string(parser, payloadToken); break;
+                            case "recipient":
+                                recipient = string(parser, payloadToken);
+                                typedFields |= 1 << EventType.EMAIL.ordinal();
+                                break;
+                            case "phoneNumber":
+                                phoneNumber = string(parser, payloadToken);
+                                typedFields |= 1 << EventType.SMS.ordinal();
+                                break;
+                            case "deviceId":
+                                deviceId = string(parser, payloadToken);
+                                typedFields |= 1 << EventType.PUSH.ordinal();
+                                break;
+                            default: skip(parser);
+                        }
+                    }
+                    // Another type's field is unknown to this payload's class
+                    if (payloadType == null
+                            || failOnUnknownProperties && (typedFields & ~(1 << payloadType.ordinal())) != 0) {
+                        throw NOT_BOUND;
+                    }
+                    hasPayload = true;
+                    break;
+                case "callbackUrl": callbackUrl = string(parser, token); break;
+                case "templateId": templateId = string(parser, token); break;
+                case "templateParams": templateParams = stringMap(parser, token); break;
+                case "priority":
+                    priority = token == JsonToken.VALUE_NULL ? null : enumValue(EventPriority.class, string(parser, token));
+                    break;
+                case "sendAt": sendAt = instant(parser, token); break;
+                case "delaySeconds": delaySeconds = longValue(parser, token); break;
+                default: skip(parser);
+            }
+        }
+
+        Map<String, String> fieldErrors = new HashMap<>();
+        if (eventType == null) {
+            reject(fieldErrors, EventRequest.class, "eventType", null, "eventType");
+        }
+        if (!hasPayload) {
+            reject(fieldErrors, EventRequest.class, "payload", null, "payload");
+        }
+        if (!isNotBlank(callbackUrl)) {
+            reject(fieldErrors, EventRequest.class, "callbackUrl", callbackUrl, "callbackUrl");
+        }
+        if (delaySeconds != null && delaySeconds < 0) {
+            reject(fieldErrors, EventRequest.class, "delaySeconds", delaySeconds, "delaySeconds");
+        }
+        String destination = null;
+        if (hasPayload) {
+            if (templateId == null && (message == null || message.isBlank())) {
+                fieldErrors.putIfAbsent("payload.message", messageRequired);
+            }
+            switch (payloadType) {
+                case EMAIL:
+                    if (!isEmail(recipient)) {
+                        reject(fieldErrors, EmailPayload.class, "recipient", recipient, "payload.recipient");
+                    }
+                    destination = recipient;
+                    break;
+                case SMS:
+                    if (!isPhoneNumber(phoneNumber)) {
+                        reject(fieldErrors, SmsPayload.class, "phoneNumber", phoneNumber, "payload.phoneNumber");
+                    }
+                    destination = phoneNumber;
+                    break;
+                case PUSH:
+                    if (!isDeviceId(deviceId)) {
+                        reject(fieldErrors, PushPayload.class, "deviceId", deviceId, "payload.deviceId");
+                    }
+                    destination = deviceId;
+                    break;
+                default:
+                    throw NOT_BOUND;
+            }
+        }
+        if (!fieldErrors.isEmpty()) {
+            throw new RequestValidationException(fieldErrors);
+        }
+
+        if (payloadType != eventType) {
+            throw new IllegalArgumentException("Payload does not match event type: " + eventType);
+        }
+        if (destination == null || destination.isEmpty()) {
+            throw new IllegalArgumentException("Missing required fields");
+        }
+        Event event;
+        switch (eventType) {
+            case EMAIL:
+                EmailEvent emailEvent = new EmailEvent();
+                emailEvent.setRecipient(destination);
+                event = emailEvent;
+                break;
+            case SMS:
+                SmsEvent smsEvent = new SmsEvent();
+                smsEvent.setPhoneNumber(destination);
+                event = smsEvent;
+                break;
+            default:
+                PushEvent pushEvent = new PushEvent();
+                pushEvent.setDeviceId(destination);
+                event = pushEvent;
+        }
+        setMessage(event, message, templateId, templateParams, templateService);
+        event.setCallbackUrl(callbackUrl);
+        if (priority != null) {
+            event.setPriority(priority);
+        }
+        setSendAt(event, sendAt, delaySeconds);
+        return event;
+    }
+
+    /**
+     * Gives the event its literal message, or binds it to a registered template.
+     */
+    static void setMessage(Event event, String message, String templateId, Map<String, String> templateParams,
+                           TemplateService templateService) {
+        boolean hasMessage = message != null && !message.isEmpty();
+        if (templateId == null) {
+            if (!hasMessage) {
+                throw new IllegalArgumentException("Missing required fields");
+            }
+            event.setMessage(message);
+        } else if (hasMessage) {
+            throw new IllegalArgumentException("Specify either a message or templateId, not both");
+        } else {
+            templateService.bind(event, templateId, templateParams);
+        }
+    }
+
+    static void setSendAt(Event event, Instant sendAt, Long delaySeconds) {
+        if (sendAt != null && delaySeconds != null) {
+            throw new IllegalArgumentException("Specify either sendAt or delaySeconds, not both");
+        }
+        if (sendAt != null) {
+            event.setSendAt(sendAt.toEpochMilli());
+        } else if (delaySeconds != null && delaySeconds > 0) {
+            event.setSendAt(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(delaySeconds));
+        }
+    }
+
+    // Only reached for values the fast checks did not accept, which are rare
+    private void reject(Map<String, String> fieldErrors, Class<?> beanType, String property, Object value, String path) {
+        Iterator<? extends ConstraintViolation<?>> violations = validator.validateValue(beanType, property, value).iterator();
+        if (violations.hasNext()) {
+            fieldErrors.putIfAbsent(path, violations.next().getMessage());
+        }
+    }
+
+    // Jackson coerces other scalars to strings; those requests are left to it
+    private static String string(JsonParser parser, JsonToken token) throws IOException, NotBound {
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        throw NOT_BOUND;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String name) throws NotBound {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw NOT_BOUND;
+        }
+    }
+
+    private static Map<String, String> stringMap(JsonParser parser, JsonToken token) throws IOException, NotBound {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw NOT_BOUND;
+        }
+        Map<String, String> map = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.currentName();
+            map.put(key, string(parser, parser.nextToken()));
+        }
+        return map;
+    }
+
+    private static Instant instant(JsonParser parser, JsonToken token) throws IOException, NotBound {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        String text = string(parser, token);
+        if (text.isEmpty() || text.charAt(text.length() - 1) != 'Z') {
+            throw NOT_BOUND;
+        }
+        try {
+            return Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            throw NOT_BOUND;
+        }
+    }
+
+    private static Long longValue(JsonParser parser, JsonToken token) throws IOException, NotBound {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+            throw NOT_BOUND;
+        }
+        return parser.getLongValue();
+    }
+
+    private void skip(JsonParser parser) throws IOException, NotBound {
+        if (failOnUnknownProperties) {
+            throw NOT_BOUND;
+        }
+        parser.skipChildren();
+    }
+
+    // @NotBlank
+    private static boolean isNotBlank(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c > ' ' && !Character.isWhitespace(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accepts the common subset of what {@code @NotBlank @Email} accept: a dot-separated
+     * local part of ASCII atoms, and a domain of ASCII letter, digit and hyphen labels.
+     */
+    static boolean isEmail(String value) {
+        if (value == null) {
+            return false;
+        }
+        int at = value.indexOf('@');
+        if (at <= 0 || at > MAX_LOCAL_PART || value.length() - at - 1 > MAX_DOMAIN) {
+            return false;
+        }
+        boolean atomStart = true;
+        for (int i = 0; i < at; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (atomStart) {
+                    return false;
+                }
+                atomStart = true;
+            } else if (isAtomChar(c)) {
+                atomStart = false;
+            } else {
+                return false;
+            }
+        }
+        if (atomStart) {
+            return false;
+        }
+        int labelStart = at + 1;
+        for (int i = labelStart; i <= value.length(); i++) {
+            char c = i == value.length() ? '.' : value.charAt(i);
+            if (c == '.') {
+                int length = i - labelStart;
+                if (length == 0 || length > MAX_LABEL || value.charAt(labelStart) == '-' || value.charAt(i - 1) == '-') {
+                    return false;
+                }
+                labelStart = i + 1;
+            } else if (!isLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ^\+?[0-9]{10,15}$
+    static boolean isPhoneNumber(String value) {
+        if (value == null) {
+            return false;
+        }
+        int start = !value.isEmpty() && value.charAt(0) == '+' ? 1 : 0;
+        int digits = value.length() - start;
+        if (digits < 10 || digits > 15) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ^[a-zA-Z0-9\-]{5,50}$
+    static boolean isDeviceId(String value) {
+        if (value == null || value.length() < 5 || value.length() > 50) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAtomChar(char c) {
+        return isLetterOrDigit(c) || "!#$%&'*+/=?^_`{|}~-".indexOf(c) >= 0;
+    }
+
+    /**
+     * The request needs Jackson's own binding; thrown without a stack trace.
+     */
+    private static final class NotBound extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private NotBound() {
+            super(null, null, false, false);
+        }
+    }
+}
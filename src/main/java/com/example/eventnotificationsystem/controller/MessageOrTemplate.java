@@ -0,0 +1,24 @@
+package com.example.eventnotificationsystem.controller;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An event request needs a message unless it names a template. Reported against
+ * {@code payload.message}, where a plain {@code @NotBlank} would put it.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = MessageOrTemplateValidator.class)
+public @interface MessageOrTemplate {
+    String message() default "Message is required";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
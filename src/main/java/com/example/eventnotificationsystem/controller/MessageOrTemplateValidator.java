@@ -0,0 +1,23 @@
+package com.example.eventnotificationsystem.controller;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class MessageOrTemplateValidator implements ConstraintValidator<MessageOrTemplate, EventRequest> {
+    @Override
+    public boolean isValid(EventRequest eventRequest, ConstraintValidatorContext context) {
+        // A missing payload is reported by its own @NotNull
+        if (eventRequest == null || eventRequest.getPayload() == null || eventRequest.getTemplateId() != null) {
+            return true;
+        }
+        String message = eventRequest.getPayload().getMessage();
+        if (message != null && !message.isBlank()) {
+            return true;
+        }
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("payload").addPropertyNode("message")
+                .addConstraintViolation();
+        return false;
+    }
+}
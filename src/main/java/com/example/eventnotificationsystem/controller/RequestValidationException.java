@@ -0,0 +1,25 @@
+package com.example.eventnotificationsystem.controller;
+
+import java.util.Map;
+
+/**
+ * A request body failed validation outside Spring's {@code @Valid} handling. Answered
+ * like a {@code MethodArgumentNotValidException}, with the same field errors.
+ */
+public class RequestValidationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, String> fieldErrors;
+
+    /**
+     * @param fieldErrors message per property path, such as {@code payload.recipient}
+     */
+    public RequestValidationException(Map<String, String> fieldErrors) {
+        super("Validation Failed");
+        this.fieldErrors = fieldErrors;
+    }
+
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.MessageTemplate;
+import com.example.eventnotificationsystem.service.TemplateService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+public class TemplateController {
+    @Autowired
+    private TemplateService templateService;
+
+    @PutMapping("/api/templates/{templateId}")
+    public ResponseEntity<MessageTemplate> registerTemplate(@PathVariable String templateId,
+                                                            @Valid @RequestBody TemplateRequest templateRequest) {
+        return ResponseEntity.ok(templateService.register(templateId, templateRequest.getContent()));
+    }
+
+    @GetMapping("/api/templates/{templateId}")
+    public ResponseEntity<MessageTemplate> getTemplate(@PathVariable String templateId) {
+        MessageTemplate template = templateService.getTemplate(templateId);
+        if (template == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(template);
+    }
+
+    @DeleteMapping("/api/templates/{templateId}")
+    public ResponseEntity<Void> removeTemplate(@PathVariable String templateId) {
+        if (!templateService.remove(templateId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.eventnotificationsystem.controller;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class TemplateRequest {
+    // Text with {{name}} placeholders
+    @NotBlank(message = "Content is required")
+    private String content;
+
+    // Getters and setters
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
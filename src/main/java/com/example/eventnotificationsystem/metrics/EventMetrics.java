@@ -0,0 +1,194 @@
+package com.example.eventnotificationsystem.metrics;
+
+import com.example.eventnotificationsystem.model.EventPriority;
+import com.example.eventnotificationsystem.model.EventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer instrumentation of the ingest-to-callback path, exported by Actuator at
+ * {@code /actuator/prometheus}.
+ *
+ * <p>Every meter is registered once at startup and kept in arrays indexed by
+ * {@link EventType#ordinal()}, so the recording methods called from
+ * {@code EventService.submitEvent} and the processor loops are a field load and an
+ * increment: no tag lists, meter lookups or boxing. Timers publish p50/p99/p999 and a
+ * percentile histogram backed by Micrometer's HdrHistogram recorder.
+ */
+@Component
+public class EventMetrics {
+    private static final EventType[] EVENT_TYPES = EventType.values();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Counter[] enqueued = new Counter[EVENT_TYPES.length];
+    private final Counter[] rejected = new Counter[EVENT_TYPES.length];
+    private final Counter[] rateLimited = new Counter[EVENT_TYPES.length];
+    private final Counter[] scheduled = new Counter[EVENT_TYPES.length];
+    private final Counter[] dequeued = new Counter[EVENT_TYPES.length];
+    private final Counter[] completed = new Counter[EVENT_TYPES.length];
+    private final Counter[] failed = new Counter[EVENT_TYPES.length];
+    private final Timer[] queueTime = new Timer[EVENT_TYPES.length];
+    private final Timer[] processingTime = new Timer[EVENT_TYPES.length];
+    private final Timer[] endToEnd = new Timer[EVENT_TYPES.length];
+    private Timer callbackLatency;
+    private Counter callbacksDelivered;
+    private Counter callbacksFailed;
+    private Counter callbacksRetried;
+    private Counter callbacksDeadLettered;
+    private Counter callbacksShortCircuited;
+
+    @PostConstruct
+    public void init() {
+        for (EventType eventType : EVENT_TYPES) {
+            int i = eventType.ordinal();
+            String type = eventType.name();
+            enqueued[i] = Counter.builder("events.enqueued").tag("type", type)
+                    .description("Events accepted into a channel queue").register(meterRegistry);
+            rejected[i] = Counter.builder("events.rejected").tag("type", type)
+                    .description("Events rejected because their queue was full").register(meterRegistry);
+            rateLimited[i] = Counter.builder("events.rate_limited").tag("type", type)
+                    .description("Events rejected by a recipient or channel rate limit").register(meterRegistry);
+            scheduled[i] = Counter.builder("events.scheduled").tag("type", type)
+                    .description("Events accepted with a future sendAt").register(meterRegistry);
+            dequeued[i] = Counter.builder("events.dequeued").tag("type", type)
+                    .description("Events taken from a channel queue by a worker").register(meterRegistry);
+            completed[i] = Counter.builder("events.processed").tag("type", type).tag("outcome", "completed")
+                    .register(meterRegistry);
+            failed[i] = Counter.builder("events.processed").tag("type", type).tag("outcome", "failed")
+                    .register(meterRegistry);
+            queueTime[i] = timer("events.queue.time", "Time from acceptance until a worker takes the event", type);
+            processingTime[i] = timer("events.processing.time", "Time a worker spends on an event", type);
+            endToEnd[i] = timer("events.end_to_end.latency", "Time from acceptance until the callback is acknowledged", type);
+        }
+        callbackLatency = Timer.builder("events.callback.latency")
+                .description("Time from callback submission until the response arrives")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(1))
+                .register(meterRegistry);
+        callbacksDelivered = callbackCounter("delivered");
+        callbacksFailed = callbackCounter("failed");
+        callbacksRetried = callbackCounter("retried");
+        callbacksDeadLettered = callbackCounter("dead_lettered");
+        callbacksShortCircuited = callbackCounter("short_circuited");
+    }
+
+    private Timer timer(String name, String description, String type) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("type", type)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry);
+    }
+
+    private Counter callbackCounter(String outcome) {
+        return Counter.builder("events.callbacks").tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /**
+     * Exposes the depth of a queue lane as a gauge. The gauge holds the queue weakly.
+     */
+    public void registerQueue(EventType eventType, EventPriority priority, Collection<?> lane) {
+        Gauge.builder("events.queue.depth", lane, Collection::size)
+                .description("Events waiting in a channel queue lane")
+                .tag("type", eventType.name())
+                .tag("priority", priority.name())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Exposes the number of events waiting for their {@code sendAt} as a gauge.
+     */
+    public void registerScheduledPending(Supplier<Number> pending) {
+        Gauge.builder("events.scheduled.pending", pending)
+                .description("Events waiting for their sendAt")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Exposes a channel's adaptive concurrency limit as a gauge.
+     */
+    public void registerConcurrencyLimit(EventType eventType, Supplier<Number> limit) {
+        Gauge.builder("events.processor.concurrency.limit", limit)
+                .description("Workers allowed to process a channel's events at once")
+                .tag("type", eventType.name())
+                .register(meterRegistry);
+    }
+
+    public void recordScheduled(EventType eventType) {
+        scheduled[eventType.ordinal()].increment();
+    }
+
+    public void recordEnqueued(EventType eventType) {
+        enqueued[eventType.ordinal()].increment();
+    }
+
+    public void recordRejected(EventType eventType) {
+        rejected[eventType.ordinal()].increment();
+    }
+
+    public void recordRateLimited(EventType eventType) {
+        rateLimited[eventType.ordinal()].increment();
+    }
+
+    /**
+     * @param enqueuedAtNanos {@link System#nanoTime()} at acceptance, or 0 if unknown
+     *                        (events replayed from the journal after a restart)
+     */
+    public void recordDequeued(EventType eventType, long enqueuedAtNanos, long nowNanos) {
+        int i = eventType.ordinal();
+        dequeued[i].increment();
+        if (enqueuedAtNanos != 0) {
+            queueTime[i].record(nowNanos - enqueuedAtNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordProcessed(EventType eventType, boolean isFailure, long startNanos, long endNanos) {
+        int i = eventType.ordinal();
+        processingTime[i].record(endNanos - startNanos, TimeUnit.NANOSECONDS);
+        (isFailure ? failed : completed)[i].increment();
+    }
+
+    public void recordCallbackResponse(long latencyNanos) {
+        callbackLatency.record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordCallbackDelivered(EventType eventType, long acceptedAtNanos, long nowNanos) {
+        callbacksDelivered.increment();
+        if (eventType != null && acceptedAtNanos != 0) {
+            endToEnd[eventType.ordinal()].record(nowNanos - acceptedAtNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void recordCallbackFailed() {
+        callbacksFailed.increment();
+    }
+
+    public void recordCallbackRetried() {
+        callbacksRetried.increment();
+    }
+
+    public void recordCallbackDeadLettered() {
+        callbacksDeadLettered.increment();
+    }
+
+    public void recordCallbackShortCircuited() {
+        callbacksShortCircuited.increment();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.eventnotificationsystem.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Events-per-second over a sliding window of whole seconds, kept in a small ring of
+ * per-second counters so marking is a couple of atomic operations and never allocates.
+ */
+public class RateMeter {
+    private static final int WINDOW_SECONDS = 10;
+
+    private final AtomicLongArray counts = new AtomicLongArray(WINDOW_SECONDS);
+    private final AtomicLongArray seconds = new AtomicLongArray(WINDOW_SECONDS);
+    private final long createdAtSecond = currentSecond();
+
+    public void mark() {
+        long now = currentSecond();
+        int index = (int) (now % WINDOW_SECONDS);
+        long seen = seconds.get(index);
+        if (seen != now && seconds.compareAndSet(index, seen, now)) {
+            counts.set(index, 0);
+        }
+        counts.incrementAndGet(index);
+    }
+
+    /**
+     * Average rate over the completed seconds of the window (or since creation, if
+     * that is shorter).
+     */
+    public double getRatePerSecond() {
+        long now = currentSecond();
+        long span = Math.min(WINDOW_SECONDS - 1, now - createdAtSecond);
+        if (span <= 0) {
+            return 0.0;
+        }
+        long total = 0;
+        for (int i = 0; i < WINDOW_SECONDS; i++) {
+            long second = seconds.get(i);
+            if (second < now && second >= now - span) {
+                total += counts.get(i);
+            }
+        }
+        return (double) total / span;
+    }
+
+    private static long currentSecond() {
+        return System.nanoTime() / 1_000_000_000L;
+    }
+}
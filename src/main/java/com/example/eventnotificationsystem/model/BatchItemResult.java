@@ -0,0 +1,36 @@
+package com.example.eventnotificationsystem.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+    private int index;
+    private int status;
+    private String eventId;
+    private String message;
+    private Map<String, String> fieldErrors;
+    private Long retryAfterSeconds;
+
+    public BatchItemResult(int index, int status, String eventId, String message) {
+        this.index = index;
+        this.status = status;
+        this.eventId = eventId;
+        this.message = message;
+    }
+
+    // Getters and setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public int getStatus() { return status; }
+    public void setStatus(int status) { this.status = status; }
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    public Map<String, String> getFieldErrors() { return fieldErrors; }
+    public void setFieldErrors(Map<String, String> fieldErrors) { this.fieldErrors = fieldErrors; }
+    public Long getRetryAfterSeconds() { return retryAfterSeconds; }
+    public void setRetryAfterSeconds(Long retryAfterSeconds) { this.retryAfterSeconds = retryAfterSeconds; }
+}
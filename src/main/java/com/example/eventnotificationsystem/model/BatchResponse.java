@@ -0,0 +1,27 @@
+package com.example.eventnotificationsystem.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchResponse {
+    private int accepted;
+    private int rejected;
+    private List<BatchItemResult> results = new ArrayList<>();
+
+    public void addResult(BatchItemResult result) {
+        if (result.getEventId() != null) {
+            accepted++;
+        } else {
+            rejected++;
+        }
+        results.add(result);
+    }
+
+    // Getters and setters
+    public int getAccepted() { return accepted; }
+    public void setAccepted(int accepted) { this.accepted = accepted; }
+    public int getRejected() { return rejected; }
+    public void setRejected(int rejected) { this.rejected = rejected; }
+    public List<BatchItemResult> getResults() { return results; }
+    public void setResults(List<BatchItemResult> results) { this.results = results; }
+}
@@ -0,0 +1,40 @@
+package com.example.eventnotificationsystem.model;
+
+public class BroadcastStatus {
+    private String broadcastId;
+    private EventType eventType;
+    // PROCESSING until every recipient has an outcome, then COMPLETED or CANCELLED
+    private EventStatus status;
+    private int recipients;
+    private int expanded;
+    private int inFlight;
+    private long delivered;
+    private long failed;
+    private int invalid;
+    private String createdAt;
+    private String completedAt;
+
+    // Getters and setters
+    public String getBroadcastId() { return broadcastId; }
+    public void setBroadcastId(String broadcastId) { this.broadcastId = broadcastId; }
+    public EventType getEventType() { return eventType; }
+    public void setEventType(EventType eventType) { this.eventType = eventType; }
+    public EventStatus getStatus() { return status; }
+    public void setStatus(EventStatus status) { this.status = status; }
+    public int getRecipients() { return recipients; }
+    public void setRecipients(int recipients) { this.recipients = recipients; }
+    public int getExpanded() { return expanded; }
+    public void setExpanded(int expanded) { this.expanded = expanded; }
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+    public long getDelivered() { return delivered; }
+    public void setDelivered(long delivered) { this.delivered = delivered; }
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+    public int getInvalid() { return invalid; }
+    public void setInvalid(int invalid) { this.invalid = invalid; }
+    public String getCreatedAt() { return createdAt; }
+    public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
+    public String getCompletedAt() { return completedAt; }
+    public void setCompletedAt(String completedAt) { this.completedAt = completedAt; }
+}
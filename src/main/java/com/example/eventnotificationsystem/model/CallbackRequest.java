@@ -1,5 +1,7 @@
 package com.example.eventnotificationsystem.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.ZonedDateTime;
 
 public class CallbackRequest {
@@ -8,6 +10,9 @@ public class CallbackRequest {
     private String eventType;
     private String errorMessage;
     private String processedAt;
+    // System.nanoTime() when the event was accepted, for end-to-end latency; never sent
+    @JsonIgnore
+    private long acceptedAtNanos;
 
     public CallbackRequest(String eventId, String status, String eventType, String errorMessage, String processedAt) {
         this.eventId = eventId;
@@ -28,4 +33,6 @@ public class CallbackRequest {
     public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
     public String getProcessedAt() { return processedAt; }
     public void setProcessedAt(String processedAt) { this.processedAt = processedAt; }
+    public long getAcceptedAtNanos() { return acceptedAtNanos; }
+    public void setAcceptedAtNanos(long acceptedAtNanos) { this.acceptedAtNanos = acceptedAtNanos; }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.example.eventnotificationsystem.model;
+
+public class CallbackStats {
+    private int inFlight;
+    private int pending;
+    private int activeHosts;
+    private long completed;
+    private long failed;
+    private long rejected;
+    private long shortCircuited;
+    private int openCircuits;
+    private long retried;
+    private long retryPending;
+    private long deadLettered;
+    private int deadLetterSize;
+    private long batchesSent;
+    private int batchBuffered;
+    private double latencyMeanMillis;
+    private double latencyP50Millis;
+    private double latencyP99Millis;
+    private double latencyMaxMillis;
+
+    // Getters and setters
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+    public int getPending() { return pending; }
+    public void setPending(int pending) { this.pending = pending; }
+    public int getActiveHosts() { return activeHosts; }
+    public void setActiveHosts(int activeHosts) { this.activeHosts = activeHosts; }
+    public long getCompleted() { return completed; }
+    public void setCompleted(long completed) { this.completed = completed; }
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+    public long getShortCircuited() { return shortCircuited; }
+    public void setShortCircuited(long shortCircuited) { this.shortCircuited = shortCircuited; }
+    public int getOpenCircuits() { return openCircuits; }
+    public void setOpenCircuits(int openCircuits) { this.openCircuits = openCircuits; }
+    public long getRetried() { return retried; }
+    public void setRetried(long retried) { this.retried = retried; }
+    public long getRetryPending() { return retryPending; }
+    public void setRetryPending(long retryPending) { this.retryPending = retryPending; }
+    public long getDeadLettered() { return deadLettered; }
+    public void setDeadLettered(long deadLettered) { this.deadLettered = deadLettered; }
+    public int getDeadLetterSize() { return deadLetterSize; }
+    public void setDeadLetterSize(int deadLetterSize) { this.deadLetterSize = deadLetterSize; }
+    public long getBatchesSent() { return batchesSent; }
+    public void setBatchesSent(long batchesSent) { this.batchesSent = batchesSent; }
+    public int getBatchBuffered() { return batchBuffered; }
+    public void setBatchBuffered(int batchBuffered) { this.batchBuffered = batchBuffered; }
+    public double getLatencyMeanMillis() { return latencyMeanMillis; }
+    public void setLatencyMeanMillis(double latencyMeanMillis) { this.latencyMeanMillis = latencyMeanMillis; }
+    public double getLatencyP50Millis() { return latencyP50Millis; }
+    public void setLatencyP50Millis(double latencyP50Millis) { this.latencyP50Millis = latencyP50Millis; }
+    public double getLatencyP99Millis() { return latencyP99Millis; }
+    public void setLatencyP99Millis(double latencyP99Millis) { this.latencyP99Millis = latencyP99Millis; }
+    public double getLatencyMaxMillis() { return latencyMaxMillis; }
+    public void setLatencyMaxMillis(double latencyMaxMillis) { this.latencyMaxMillis = latencyMaxMillis; }
+}
@@ -0,0 +1,5 @@
+package com.example.eventnotificationsystem.model;
+
+public enum CallbackStatus {
+    PENDING, DELIVERED, FAILED
+}
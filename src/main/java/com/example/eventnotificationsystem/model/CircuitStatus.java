@@ -0,0 +1,25 @@
+package com.example.eventnotificationsystem.model;
+
+public class CircuitStatus {
+    private String host;
+    private String state;
+    private double failureRate;
+    private int calls;
+
+    public CircuitStatus(String host, String state, double failureRate, int calls) {
+        this.host = host;
+        this.state = state;
+        this.failureRate = failureRate;
+        this.calls = calls;
+    }
+
+    // Getters and setters
+    public String getHost() { return host; }
+    public void setHost(String host) { this.host = host; }
+    public String getState() { return state; }
+    public void setState(String state) { this.state = state; }
+    public double getFailureRate() { return failureRate; }
+    public void setFailureRate(double failureRate) { this.failureRate = failureRate; }
+    public int getCalls() { return calls; }
+    public void setCalls(int calls) { this.calls = calls; }
+}
@@ -0,0 +1,35 @@
+package com.example.eventnotificationsystem.model;
+
+import java.util.List;
+
+public class ClusterStatus {
+    private boolean enabled;
+    private String nodeId;
+    private List<String> members;
+    private int partitions;
+    private int ownedPartitions;
+    private long outstanding;
+    private int drainingPartitions;
+    private int awaitingHandoffPartitions;
+    private int parked;
+
+    // Getters and setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public String getNodeId() { return nodeId; }
+    public void setNodeId(String nodeId) { this.nodeId = nodeId; }
+    public List<String> getMembers() { return members; }
+    public void setMembers(List<String> members) { this.members = members; }
+    public int getPartitions() { return partitions; }
+    public void setPartitions(int partitions) { this.partitions = partitions; }
+    public int getOwnedPartitions() { return ownedPartitions; }
+    public void setOwnedPartitions(int ownedPartitions) { this.ownedPartitions = ownedPartitions; }
+    public long getOutstanding() { return outstanding; }
+    public void setOutstanding(long outstanding) { this.outstanding = outstanding; }
+    public int getDrainingPartitions() { return drainingPartitions; }
+    public void setDrainingPartitions(int drainingPartitions) { this.drainingPartitions = drainingPartitions; }
+    public int getAwaitingHandoffPartitions() { return awaitingHandoffPartitions; }
+    public void setAwaitingHandoffPartitions(int awaitingHandoffPartitions) { this.awaitingHandoffPartitions = awaitingHandoffPartitions; }
+    public int getParked() { return parked; }
+    public void setParked(int parked) { this.parked = parked; }
+}
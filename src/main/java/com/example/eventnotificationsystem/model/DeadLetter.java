@@ -0,0 +1,34 @@
+package com.example.eventnotificationsystem.model;
+
+public class DeadLetter {
+    private String eventId;
+    private String callbackUrl;
+    private CallbackRequest callbackRequest;
+    private int attempts;
+    private String lastError;
+    private String deadLetteredAt;
+
+    public DeadLetter(String eventId, String callbackUrl, CallbackRequest callbackRequest,
+                      int attempts, String lastError, String deadLetteredAt) {
+        this.eventId = eventId;
+        this.callbackUrl = callbackUrl;
+        this.callbackRequest = callbackRequest;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.deadLetteredAt = deadLetteredAt;
+    }
+
+    // Getters and setters
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+    public String getCallbackUrl() { return callbackUrl; }
+    public void setCallbackUrl(String callbackUrl) { this.callbackUrl = callbackUrl; }
+    public CallbackRequest getCallbackRequest() { return callbackRequest; }
+    public void setCallbackRequest(CallbackRequest callbackRequest) { this.callbackRequest = callbackRequest; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+    public String getDeadLetteredAt() { return deadLetteredAt; }
+    public void setDeadLetteredAt(String deadLetteredAt) { this.deadLetteredAt = deadLetteredAt; }
+}
@@ -13,4 +13,7 @@ public class EmailEvent extends Event {
     public void setRecipient(String recipient) { this.recipient = recipient; }
     public String getMessage() { return message; }
     public void setMessage(String message) { this.message = message; }
+
+    @Override
+    public String getDestination() { return recipient; }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.eventnotificationsystem.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
@@ -7,6 +8,25 @@ public abstract class Event {
     private String eventId;
     private EventType eventType;
     private String callbackUrl;
+    private EventPriority priority = EventPriority.NORMAL;
+    // Epoch millis before which the event is not queued; 0 to queue it at once
+    private long sendAt;
+    // Registered template the message is rendered from at delivery, or null for a literal message
+    private String templateId;
+    // Hash of the template source the values were bound to
+    private long templateVersion;
+    // Parameter values in the order of the template's variables
+    private String[] templateValues;
+    // Broadcast this event delivers to one of its recipients, or null for a single event
+    private String broadcastId;
+    @JsonIgnore
+    private long journalOffset = -1;
+    // System.nanoTime() at acceptance; not journaled since it means nothing after a restart
+    @JsonIgnore
+    private long enqueuedAtNanos;
+    // Cluster partition this node counts the event under until it is acknowledged, or -1
+    @JsonIgnore
+    private int partition = -1;
 
     // Getters and setters
     public String getEventId() { return eventId; }
@@ -15,4 +35,31 @@ public abstract class Event {
     public void setEventType(EventType eventType) { this.eventType = eventType; }
     public String getCallbackUrl() { return callbackUrl; }
     public void setCallbackUrl(String callbackUrl) { this.callbackUrl = callbackUrl; }
+    public EventPriority getPriority() { return priority; }
+    public void setPriority(EventPriority priority) { this.priority = priority; }
+    public long getSendAt() { return sendAt; }
+    public void setSendAt(long sendAt) { this.sendAt = sendAt; }
+    public String getTemplateId() { return templateId; }
+    public void setTemplateId(String templateId) { this.templateId = templateId; }
+    public long getTemplateVersion() { return templateVersion; }
+    public void setTemplateVersion(long templateVersion) { this.templateVersion = templateVersion; }
+    public String[] getTemplateValues() { return templateValues; }
+    public void setTemplateValues(String[] templateValues) { this.templateValues = templateValues; }
+    public String getBroadcastId() { return broadcastId; }
+    public void setBroadcastId(String broadcastId) { this.broadcastId = broadcastId; }
+    public long getEnqueuedAtNanos() { return enqueuedAtNanos; }
+    public void setEnqueuedAtNanos(long enqueuedAtNanos) { this.enqueuedAtNanos = enqueuedAtNanos; }
+    public long getJournalOffset() { return journalOffset; }
+    public void setJournalOffset(long journalOffset) { this.journalOffset = journalOffset; }
+    public int getPartition() { return partition; }
+    public void setPartition(int partition) { this.partition = partition; }
+
+    public abstract String getMessage();
+    public abstract void setMessage(String message);
+
+    /**
+     * @return where the event is delivered: the email recipient, phone number or device ID
+     */
+    @JsonIgnore
+    public abstract String getDestination();
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.example.eventnotificationsystem.model;
 
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
-import jakarta.validation.constraints.NotBlank;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "type")
 @JsonSubTypes({
@@ -11,7 +10,7 @@ import jakarta.validation.constraints.NotBlank;
         @JsonSubTypes.Type(value = PushPayload.class, name = "PUSH")
 })
 public abstract class EventPayload {
-    @NotBlank(message = "Message is required")
+    // Required unless the request names a template
     private String message;
 
     public String getMessage() {
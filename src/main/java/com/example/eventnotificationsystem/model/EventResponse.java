@@ -1,8 +1,13 @@
 package com.example.eventnotificationsystem.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 public class EventResponse {
     private String eventId;
     private String message;
+    // Set when an Idempotency-Key repeat is answered from the dedup cache; sent as a header
+    @JsonIgnore
+    private boolean replayed;
 
     public EventResponse(String eventId, String message) {
         this.eventId = eventId;
@@ -25,4 +30,12 @@ public class EventResponse {
     public void setMessage(String message) {
         this.message = message;
     }
-}
\ No newline at end of file
+
+    public boolean isReplayed() {
+        return replayed;
+    }
+
+    public void setReplayed(boolean replayed) {
+        this.replayed = replayed;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.eventnotificationsystem.model;
+
+public enum EventStatus {
+    QUEUED, PROCESSING, COMPLETED, FAILED, SCHEDULED, CANCELLED
+}
@@ -0,0 +1,33 @@
+package com.example.eventnotificationsystem.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventStatusResponse {
+    private String eventId;
+    private EventType eventType;
+    private EventStatus status;
+    private CallbackStatus callbackStatus;
+    private String queuedAt;
+    private String processingAt;
+    private String finishedAt;
+    private String callbackAt;
+
+    // Getters and setters
+    public String getEventId() { return eventId; }
+    public void setEventId(String eventId) { this.eventId = eventId; }
+    public EventType getEventType() { return eventType; }
+    public void setEventType(EventType eventType) { this.eventType = eventType; }
+    public EventStatus getStatus() { return status; }
+    public void setStatus(EventStatus status) { this.status = status; }
+    public CallbackStatus getCallbackStatus() { return callbackStatus; }
+    public void setCallbackStatus(CallbackStatus callbackStatus) { this.callbackStatus = callbackStatus; }
+    public String getQueuedAt() { return queuedAt; }
+    public void setQueuedAt(String queuedAt) { this.queuedAt = queuedAt; }
+    public String getProcessingAt() { return processingAt; }
+    public void setProcessingAt(String processingAt) { this.processingAt = processingAt; }
+    public String getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(String finishedAt) { this.finishedAt = finishedAt; }
+    public String getCallbackAt() { return callbackAt; }
+    public void setCallbackAt(String callbackAt) { this.callbackAt = callbackAt; }
+}
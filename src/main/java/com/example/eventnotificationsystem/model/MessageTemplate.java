@@ -0,0 +1,28 @@
+package com.example.eventnotificationsystem.model;
+
+import java.util.List;
+
+public class MessageTemplate {
+    private String templateId;
+    private String content;
+    // Placeholder names in order of first appearance
+    private List<String> variables;
+    private long version;
+
+    public MessageTemplate(String templateId, String content, List<String> variables, long version) {
+        this.templateId = templateId;
+        this.content = content;
+        this.variables = variables;
+        this.version = version;
+    }
+
+    // Getters and setters
+    public String getTemplateId() { return templateId; }
+    public void setTemplateId(String templateId) { this.templateId = templateId; }
+    public String getContent() { return content; }
+    public void setContent(String content) { this.content = content; }
+    public List<String> getVariables() { return variables; }
+    public void setVariables(List<String> variables) { this.variables = variables; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+}
@@ -13,4 +13,7 @@ public class PushEvent extends Event {
     public void setDeviceId(String deviceId) { this.deviceId = deviceId; }
     public String getMessage() { return message; }
     public void setMessage(String message) { this.message = message; }
+
+    @Override
+    public String getDestination() { return deviceId; }
 }
\ No newline at end of file
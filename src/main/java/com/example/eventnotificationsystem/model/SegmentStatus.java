@@ -0,0 +1,21 @@
+package com.example.eventnotificationsystem.model;
+
+public class SegmentStatus {
+    private String segmentId;
+    private int recipients;
+    private long sizeBytes;
+
+    public SegmentStatus(String segmentId, int recipients, long sizeBytes) {
+        this.segmentId = segmentId;
+        this.recipients = recipients;
+        this.sizeBytes = sizeBytes;
+    }
+
+    // Getters and setters
+    public String getSegmentId() { return segmentId; }
+    public void setSegmentId(String segmentId) { this.segmentId = segmentId; }
+    public int getRecipients() { return recipients; }
+    public void setRecipients(int recipients) { this.recipients = recipients; }
+    public long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+}
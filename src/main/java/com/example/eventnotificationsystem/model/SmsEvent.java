@@ -24,4 +24,9 @@ public class SmsEvent extends Event {
     public void setMessage(String message) {
         this.message = message;
     }
-}
\ No newline at end of file
+
+    @Override
+    public String getDestination() {
+        return phoneNumber;
+    }
+}
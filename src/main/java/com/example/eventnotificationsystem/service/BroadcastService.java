@@ -0,0 +1,324 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.BroadcastConfig;
+import com.example.eventnotificationsystem.model.BroadcastStatus;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventStatus;
+import com.example.eventnotificationsystem.model.EventType;
+import com.example.eventnotificationsystem.model.SegmentStatus;
+import com.example.eventnotificationsystem.service.broadcast.Broadcast;
+import com.example.eventnotificationsystem.service.broadcast.RecipientList;
+import com.example.eventnotificationsystem.service.timer.CachedClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+
+/**
+ * Delivers one message to many recipients without a request, queue entry or status
+ * record per recipient up front. The recipients are held packed in a
+ * {@link RecipientList}. An expander thread turns them into ordinary channel events a
+ * window at a time: at most {@code events.broadcast.window} of a broadcast's events are
+ * queued or being processed, and the next half window is expanded once workers have
+ * worked the broadcast down to half. Heap use is therefore bounded by the window, not
+ * the recipient count, and a broadcast never fills a channel queue ahead of single
+ * events.
+ *
+ * <p>Recipient events get no status entry or callback of their own. The broadcast counts
+ * their outcomes and sends one summary callback when the last of them is done.
+ * Broadcasts and segments are held in memory only, like scheduled events.
+ */
+@Service
+public class BroadcastService {
+    private static final long EXPANDER_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final Pattern SEGMENT_ID = Pattern.compile("[A-Za-z0-9_.-]{1,64}");
+    // Same rules as the single-event payloads, checked as each recipient is expanded
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+    private static final Pattern PHONE_NUMBER = Pattern.compile("^\\+?[0-9]{10,15}$");
+    private static final Pattern DEVICE_ID = Pattern.compile("^[a-zA-Z0-9\\-]{5,50}$");
+
+    @Autowired
+    private BroadcastConfig broadcastConfig;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventIdService eventIdService;
+
+    @Autowired
+    private CallbackService callbackService;
+
+    private final Map<String, RecipientList> segments = new ConcurrentHashMap<>();
+    private final Map<String, Broadcast> broadcasts = new ConcurrentHashMap<>();
+    private final Collection<Broadcast> active = new CopyOnWriteArrayList<>();
+    private final Queue<String> retained = new ConcurrentLinkedQueue<>();
+    private Thread expander;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        running = true;
+        expander = new Thread(this::run, "broadcast-expander");
+        expander.setDaemon(true);
+        expander.start();
+    }
+
+    /**
+     * Stores a segment read from {@code lines}, one recipient per line, replacing any
+     * segment with the same ID. Blank lines are skipped.
+     *
+     * @throws IllegalArgumentException if the ID is invalid or a limit is exceeded
+     */
+    public SegmentStatus putSegment(String segmentId, BufferedReader lines) throws IOException {
+        if (!SEGMENT_ID.matcher(segmentId).matches()) {
+            throw new IllegalArgumentException("Segment ID must be 1 to 64 letters, digits, '_', '.' or '-'");
+        }
+        if (!segments.containsKey(segmentId) && segments.size() >= broadcastConfig.getMaxSegments()) {
+            throw new IllegalArgumentException("Segment limit of " + broadcastConfig.getMaxSegments() + " reached");
+        }
+        RecipientList recipients = new RecipientList();
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty()) {
+                checkRecipientLimit(recipients.size() + 1);
+                recipients.add(line);
+            }
+        }
+        recipients.trim();
+        segments.put(segmentId, recipients);
+        return new SegmentStatus(segmentId, recipients.size(), recipients.sizeInBytes());
+    }
+
+    /**
+     * @return the segment, or {@code null} if there is none with this ID
+     */
+    public SegmentStatus getSegment(String segmentId) {
+        RecipientList recipients = segments.get(segmentId);
+        return recipients == null ? null : new SegmentStatus(segmentId, recipients.size(), recipients.sizeInBytes());
+    }
+
+    /**
+     * Broadcasts already started from the segment keep their reference to it.
+     */
+    public boolean removeSegment(String segmentId) {
+        return segments.remove(segmentId) != null;
+    }
+
+    /**
+     * @throws IllegalArgumentException if there is no segment with this ID
+     */
+    public RecipientList getSegmentRecipients(String segmentId) {
+        RecipientList recipients = segments.get(segmentId);
+        if (recipients == null) {
+            throw new IllegalArgumentException("Unknown segment: " + segmentId);
+        }
+        return recipients;
+    }
+
+    public RecipientList pack(Collection<String> recipients) {
+        checkRecipientLimit(recipients.size());
+        RecipientList packed = new RecipientList();
+        for (String recipient : recipients) {
+            packed.add(recipient == null ? "" : recipient.trim());
+        }
+        packed.trim();
+        return packed;
+    }
+
+    /**
+     * Starts a broadcast of {@code prototype}'s message, or bound template, to every
+     * recipient.
+     *
+     * @param prototype event of the broadcast's channel carrying its priority and message
+     * @throws QueueFullException          if {@code events.broadcast.max-active} broadcasts are running
+     * @throws ServiceUnavailableException if the system is shutting down
+     */
+    public BroadcastStatus submit(Event prototype, String callbackUrl, RecipientList recipients) {
+        if (!running) {
+            throw new ServiceUnavailableException("System is shutting down, not accepting new events.");
+        }
+        if (recipients.size() == 0) {
+            throw new IllegalArgumentException("Broadcast has no recipients");
+        }
+        if (active.size() >= broadcastConfig.getMaxActive()) {
+            throw new QueueFullException("Too many broadcasts in progress, retry later", prototype.getEventType(), 60);
+        }
+        Broadcast broadcast = new Broadcast(eventIdService.nextId(), prototype, callbackUrl, recipients,
+                System.currentTimeMillis());
+        broadcasts.put(broadcast.getBroadcastId(), broadcast);
+        active.add(broadcast);
+        LockSupport.unpark(expander);
+        return status(broadcast);
+    }
+
+    /**
+     * @return the broadcast's progress, or {@code null} if it is unknown or no longer retained
+     */
+    public BroadcastStatus getStatus(String broadcastId) {
+        Broadcast broadcast = broadcasts.get(broadcastId);
+        return broadcast == null ? null : status(broadcast);
+    }
+
+    /**
+     * Stops expanding a broadcast. Recipient events already queued are still delivered.
+     *
+     * @return {@code false} if the broadcast is unknown or already finished
+     */
+    public boolean cancel(String broadcastId) {
+        Broadcast broadcast = broadcasts.get(broadcastId);
+        if (broadcast == null || broadcast.isFinished()) {
+            return false;
+        }
+        broadcast.setCancelled(true);
+        LockSupport.unpark(expander);
+        return true;
+    }
+
+    /**
+     * Records the outcome of one recipient event, called by the worker that processed it.
+     */
+    public void recipientFinished(Event event, boolean failed) {
+        Broadcast broadcast = broadcasts.get(event.getBroadcastId());
+        if (broadcast == null) {
+            // Replayed from the journal after a restart; the broadcast itself was not kept
+            return;
+        }
+        broadcast.recordOutcome(failed);
+        int inFlight = broadcast.getInFlight().decrementAndGet();
+        if (inFlight == broadcastConfig.getWindow() / 2) {
+            LockSupport.unpark(expander);
+        }
+        if (inFlight == 0 && (broadcast.isExpanded() || broadcast.isCancelled())) {
+            finish(broadcast);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            for (Broadcast broadcast : active) {
+                try {
+                    expand(broadcast);
+                } catch (RuntimeException e) {
+                    System.err.println("Failed to expand broadcast " + broadcast.getBroadcastId() + ": " + e.getMessage());
+                }
+            }
+            LockSupport.parkNanos(this, EXPANDER_IDLE_NANOS);
+        }
+    }
+
+    private void expand(Broadcast broadcast) {
+        int window = broadcastConfig.getWindow();
+        RecipientList recipients = broadcast.getRecipients();
+        int room = window - broadcast.getInFlight().get();
+        // Refill in chunks of at least half a window rather than one event per completion
+        if (!broadcast.isCancelled() && recipients != null && room >= (window + 1) / 2) {
+            EventType eventType = broadcast.getPrototype().getEventType();
+            int next = broadcast.getNextIndex();
+            while (room > 0 && next < broadcast.getTotal()) {
+                String recipient = recipients.get(next);
+                if (!isValidRecipient(eventType, recipient)) {
+                    broadcast.recordInvalid();
+                    next++;
+                    continue;
+                }
+                broadcast.getInFlight().incrementAndGet();
+                if (!eventService.offerBroadcastRecipient(broadcast.recipientEvent(recipient, next))) {
+                    // Channel queue full; try again on the next pass
+                    broadcast.getInFlight().decrementAndGet();
+                    break;
+                }
+                next++;
+                room--;
+            }
+            broadcast.setNextIndex(next);
+        }
+        if (broadcast.getInFlight().get() == 0 && (broadcast.isExpanded() || broadcast.isCancelled())) {
+            finish(broadcast);
+        }
+    }
+
+    private void finish(Broadcast broadcast) {
+        if (!broadcast.markFinished(System.currentTimeMillis())) {
+            return;
+        }
+        active.remove(broadcast);
+        retained.add(broadcast.getBroadcastId());
+        while (retained.size() > broadcastConfig.getMaxRetained()) {
+            String oldest = retained.poll();
+            if (oldest != null) {
+                broadcasts.remove(oldest);
+            }
+        }
+        long unsuccessful = broadcast.getFailed() + broadcast.getInvalid();
+        String summary = unsuccessful == 0 ? null : broadcast.getFailed() + " of " + broadcast.getTotal()
+                + " recipients failed, " + broadcast.getInvalid() + " were invalid";
+        callbackService.sendCallback(broadcast.getCallbackUrl(), new CallbackRequest(broadcast.getBroadcastId(),
+                broadcast.isCancelled() ? EventStatus.CANCELLED.name() : EventStatus.COMPLETED.name(),
+                broadcast.getPrototype().getEventType().toString(), summary, CachedClock.isoNow()));
+    }
+
+    private void checkRecipientLimit(int recipients) {
+        if (recipients > broadcastConfig.getMaxRecipients()) {
+            throw new IllegalArgumentException("At most " + broadcastConfig.getMaxRecipients() + " recipients are allowed");
+        }
+    }
+
+    private static boolean isValidRecipient(EventType eventType, String recipient) {
+        switch (eventType) {
+            case EMAIL:
+                return EMAIL.matcher(recipient).matches();
+            case SMS:
+                return PHONE_NUMBER.matcher(recipient).matches();
+            case PUSH:
+                return DEVICE_ID.matcher(recipient).matches();
+            default:
+                return false;
+        }
+    }
+
+    private static BroadcastStatus status(Broadcast broadcast) {
+        BroadcastStatus status = new BroadcastStatus();
+        status.setBroadcastId(broadcast.getBroadcastId());
+        status.setEventType(broadcast.getPrototype().getEventType());
+        status.setStatus(!broadcast.isFinished() ? EventStatus.PROCESSING
+                : broadcast.isCancelled() ? EventStatus.CANCELLED : EventStatus.COMPLETED);
+        status.setRecipients(broadcast.getTotal());
+        status.setExpanded(broadcast.getNextIndex());
+        status.setInFlight(broadcast.getInFlight().get());
+        status.setDelivered(broadcast.getDelivered());
+        status.setFailed(broadcast.getFailed());
+        status.setInvalid(broadcast.getInvalid());
+        status.setCreatedAt(Instant.ofEpochMilli(broadcast.getCreatedAt()).toString());
+        if (broadcast.isFinished()) {
+            status.setCompletedAt(Instant.ofEpochMilli(broadcast.getCompletedAt()).toString());
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (expander != null) {
+            LockSupport.unpark(expander);
+        }
+        if (!active.isEmpty()) {
+            System.out.println("Shutting down with " + active.size() + " broadcasts in progress; they are not kept");
+        }
+    }
+}
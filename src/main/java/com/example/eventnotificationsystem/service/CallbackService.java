@@ -1,31 +1,359 @@
 package com.example.eventnotificationsystem.service;
 
+import com.example.eventnotificationsystem.config.CallbackConfig;
+import com.example.eventnotificationsystem.metrics.EventMetrics;
+import com.example.eventnotificationsystem.metrics.LatencyHistogram;
 import com.example.eventnotificationsystem.model.CallbackRequest;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.eventnotificationsystem.model.CallbackStats;
+import com.example.eventnotificationsystem.model.CircuitStatus;
+import com.example.eventnotificationsystem.model.DeadLetter;
+import com.example.eventnotificationsystem.model.EventType;
+import com.example.eventnotificationsystem.service.callback.CallbackBatcher;
+import com.example.eventnotificationsystem.service.callback.CallbackDelivery;
+import com.example.eventnotificationsystem.service.callback.CallbackDispatcher;
+import com.example.eventnotificationsystem.service.callback.CallbackSerializer;
+import com.example.eventnotificationsystem.service.callback.CircuitBreaker;
+import com.example.eventnotificationsystem.service.callback.CircuitBreakers;
+import com.example.eventnotificationsystem.service.callback.DeadLetterStore;
+import com.example.eventnotificationsystem.service.callback.RetryPolicy;
+import com.example.eventnotificationsystem.service.timer.CachedClock;
+import com.example.eventnotificationsystem.service.timer.TimingWheel;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Delivers callbacks asynchronously. {@link #sendCallback} only serializes the request
+ * with a {@link CallbackSerializer} and hands it to a {@link CallbackDispatcher}, which bounds in-flight requests globally
+ * and per destination host; the shared {@link HttpClient} keeps connections alive and
+ * reuses them across callbacks to the same host.
+ *
+ * <p>Transient failures (I/O errors, timeouts, 408, 429 and 5xx responses) are retried
+ * with exponential backoff on a {@link TimingWheel}; callbacks that run out of attempts
+ * or fail permanently go to the {@link DeadLetterStore}, from where they can be replayed.
+ *
+ * <p>Each destination host has a {@link CircuitBreaker}. Once a host's recent failure rate
+ * crosses the threshold, its callbacks fail fast without a connection attempt and are
+ * retried no earlier than the breaker's next trial, so a dead endpoint stops tying up
+ * in-flight slots and connect timeouts that healthy hosts could use.
+ *
+ * <p>Callback URLs matching {@code events.callback.batch.url-prefixes} opt in to batching:
+ * their callbacks are coalesced by a {@link CallbackBatcher} and posted as one JSON array,
+ * which is retried as a unit and dead-lettered per event.
+ */
 @Service
 public class CallbackService {
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Autowired
+    private CallbackConfig callbackConfig;
+    @Autowired
+    private EventStatusService eventStatusService;
+    @Autowired
+    private EventMetrics eventMetrics;
+    private HttpClient httpClient;
+    private Duration requestTimeout;
+    private CallbackDispatcher dispatcher;
+    private RetryPolicy retryPolicy;
+    private TimingWheel retryTimer;
+    private DeadLetterStore deadLetterStore;
+    private List<String> batchUrlPrefixes;
+    private TimingWheel batchTimer;
+    private CallbackBatcher batcher;
+    private CircuitBreakers circuitBreakers;
+    private final CallbackSerializer serializer = new CallbackSerializer();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final LongAdder batchesSent = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(callbackConfig.getConnectTimeoutMillis()))
+                .build();
+        requestTimeout = Duration.ofMillis(callbackConfig.getRequestTimeoutMillis());
+        dispatcher = new CallbackDispatcher(callbackConfig.getMaxInFlight(),
+                callbackConfig.getMaxInFlightPerHost(), callbackConfig.getMaxPending());
+        retryPolicy = new RetryPolicy(callbackConfig.getRetryMaxAttempts(), callbackConfig.getRetryInitialBackoffMillis(),
+                callbackConfig.getRetryMaxBackoffMillis(), callbackConfig.getRetryMultiplier());
+        retryTimer = new TimingWheel("callback-retry-timer", 100, TimeUnit.MILLISECONDS, 512);
+        deadLetterStore = new DeadLetterStore(callbackConfig.getDeadLetterMaxSize());
+        if (callbackConfig.isCircuitEnabled()) {
+            circuitBreakers = new CircuitBreakers(callbackConfig.getCircuitWindowSize(), callbackConfig.getCircuitMinimumCalls(),
+                    callbackConfig.getCircuitFailureRateThreshold(),
+                    TimeUnit.MILLISECONDS.toNanos(callbackConfig.getCircuitOpenMillis()), callbackConfig.getCircuitHalfOpenTrials(),
+                    callbackConfig.getCircuitMaxHosts());
+        }
+        batchUrlPrefixes = callbackConfig.getBatchUrlPrefixes();
+        if (!batchUrlPrefixes.isEmpty()) {
+            batchTimer = new TimingWheel("callback-batch-timer", 10, TimeUnit.MILLISECONDS, 512);
+            batcher = new CallbackBatcher(callbackConfig.getBatchMaxSize(), callbackConfig.getBatchWindowMillis(),
+                    batchTimer, (url, callbacks) -> {
+                        batchesSent.increment();
+                        dispatch(new CallbackDelivery(url, callbacks));
+                    });
+        }
+    }
 
     public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+        if (batcher != null && isBatched(callbackUrl)) {
+            batcher.add(callbackUrl, callbackRequest);
+        } else {
+            dispatch(new CallbackDelivery(callbackUrl, callbackRequest));
+        }
+    }
+
+    private boolean isBatched(String callbackUrl) {
+        for (String prefix : batchUrlPrefixes) {
+            if (callbackUrl.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void dispatch(CallbackDelivery delivery) {
+        delivery.recordAttempt();
+        URI uri;
+        byte[] json;
+        String host;
         try {
-            String json = objectMapper.writeValueAsString(callbackRequest);
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(callbackUrl))
+            json = serializer.serialize(delivery);
+            uri = URI.create(delivery.getCallbackUrl());
+            host = hostOf(uri);
+        } catch (Exception e) {
+            failed.increment();
+            eventMetrics.recordCallbackFailed();
+            System.err.println("Callback failed for URL " + delivery.getCallbackUrl() + ": " + e.getMessage());
+            deadLetter(delivery, e.getMessage());
+            return;
+        }
+        long submittedAt = System.nanoTime();
+        if (!dispatcher.submit(host, () -> deliver(delivery, uri, host, json, submittedAt))) {
+            rejected.increment();
+            System.err.println("Callback rejected for URL " + delivery.getCallbackUrl() + ": delivery backlog is full");
+            retryOrDeadLetter(delivery, "Delivery backlog is full");
+        }
+    }
+
+    private CompletableFuture<HttpResponse<Void>> deliver(CallbackDelivery delivery, URI uri, String host, byte[] json,
+                                                          long submittedAt) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder()
+                    .uri(uri)
+                    .timeout(requestTimeout)
                     .header("Content-Type", "application/json")
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(json))
                     .build();
-            httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        } catch (Exception e) {
-            // Log error (in production, use a proper logging framework)
-            System.err.println("Callback failed for URL " + callbackUrl + ": " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            failed.increment();
+            eventMetrics.recordCallbackFailed();
+            System.err.println("Callback failed for URL " + uri + ": " + e.getMessage());
+            deadLetter(delivery, e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+        long startedAt = System.nanoTime();
+        CircuitBreaker breaker = circuitBreakers != null ? circuitBreakers.forHost(host, startedAt) : null;
+        if (breaker != null) {
+            long waitNanos = breaker.tryAcquire(startedAt);
+            if (waitNanos > 0) {
+                shortCircuited.increment();
+                eventMetrics.recordCallbackShortCircuited();
+                retryOrDeadLetter(delivery, "Circuit open for " + host, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    long now = System.nanoTime();
+                    latency.record(now - submittedAt);
+                    eventMetrics.recordCallbackResponse(now - submittedAt);
+                    if (breaker != null) {
+                        // 4xx other than 408 and 429 means the host is up and answering
+                        if (error != null || isRetryable(response.statusCode())) {
+                            breaker.onFailure(now);
+                        } else {
+                            breaker.onSuccess();
+                        }
+                    }
+                    if (error != null) {
+                        failed.increment();
+                        eventMetrics.recordCallbackFailed();
+                        System.err.println("Callback failed for URL " + uri + ": " + error.getMessage());
+                        retryOrDeadLetter(delivery, String.valueOf(error.getMessage()));
+                    } else if (response.statusCode() >= 300) {
+                        failed.increment();
+                        eventMetrics.recordCallbackFailed();
+                        System.err.println("Callback failed for URL " + uri + ": HTTP " + response.statusCode());
+                        if (isRetryable(response.statusCode())) {
+                            retryOrDeadLetter(delivery, "HTTP " + response.statusCode());
+                        } else {
+                            deadLetter(delivery, "HTTP " + response.statusCode());
+                        }
+                    } else {
+                        completed.increment();
+                        for (CallbackRequest callbackRequest : delivery.getCallbackRequests()) {
+                            eventStatusService.callbackSettled(callbackRequest.getEventId(), true);
+                            eventMetrics.recordCallbackDelivered(eventTypeOf(callbackRequest),
+                                    callbackRequest.getAcceptedAtNanos(), now);
+                        }
+                    }
+                });
+    }
+
+    private static boolean isRetryable(int statusCode) {
+        return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    private void retryOrDeadLetter(CallbackDelivery delivery, String error) {
+        retryOrDeadLetter(delivery, error, 0);
+    }
+
+    /**
+     * @param minDelayMillis the retry waits at least this long, whatever the backoff says
+     */
+    private void retryOrDeadLetter(CallbackDelivery delivery, String error, long minDelayMillis) {
+        delivery.recordFailure(error);
+        if (!retryPolicy.canRetry(delivery.getAttempts())) {
+            deadLetter(delivery, error);
+            return;
+        }
+        retried.increment();
+        eventMetrics.recordCallbackRetried();
+        retryTimer.schedule(() -> dispatch(delivery),
+                Math.max(minDelayMillis, retryPolicy.backoffMillis(delivery.getAttempts())), TimeUnit.MILLISECONDS);
+    }
+
+    private void deadLetter(CallbackDelivery delivery, String error) {
+        String failedAt = CachedClock.isoNow();
+        for (CallbackRequest callbackRequest : delivery.getCallbackRequests()) {
+            deadLettered.increment();
+            eventMetrics.recordCallbackDeadLettered();
+            eventStatusService.callbackSettled(callbackRequest.getEventId(), false);
+            deadLetterStore.add(new DeadLetter(
+                    callbackRequest.getEventId(),
+                    delivery.getCallbackUrl(),
+                    callbackRequest,
+                    delivery.getAttempts(),
+                    error,
+                    failedAt
+            ));
+        }
+    }
+
+    private static EventType eventTypeOf(CallbackRequest callbackRequest) {
+        try {
+            return EventType.valueOf(callbackRequest.getEventType());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String hostOf(URI uri) {
+        if (uri.getHost() == null) {
+            throw new IllegalArgumentException("Callback URL must be absolute");
+        }
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        return uri.getHost().toLowerCase() + ":" + port;
+    }
+
+    public List<DeadLetter> getDeadLetters(int limit) {
+        return deadLetterStore.list(limit);
+    }
+
+    /**
+     * Removes the dead letter for {@code eventId} and delivers it again with a fresh
+     * attempt budget.
+     *
+     * @return {@code false} if there is no dead letter for that event
+     */
+    public boolean replayDeadLetter(String eventId) {
+        DeadLetter deadLetter = deadLetterStore.remove(eventId);
+        if (deadLetter == null) {
+            return false;
+        }
+        eventStatusService.callbackPending(eventId);
+        sendCallback(deadLetter.getCallbackUrl(), deadLetter.getCallbackRequest());
+        return true;
+    }
+
+    public int replayAllDeadLetters() {
+        List<DeadLetter> deadLetters = deadLetterStore.removeAll();
+        for (DeadLetter deadLetter : deadLetters) {
+            eventStatusService.callbackPending(deadLetter.getEventId());
+            sendCallback(deadLetter.getCallbackUrl(), deadLetter.getCallbackRequest());
+        }
+        return deadLetters.size();
+    }
+
+    public List<CircuitStatus> getCircuits() {
+        List<CircuitStatus> circuits = new ArrayList<>();
+        if (circuitBreakers != null) {
+            for (CircuitBreaker breaker : circuitBreakers.list()) {
+                circuits.add(new CircuitStatus(breaker.getHost(), breaker.getState().name(),
+                        breaker.getFailureRate(), breaker.getRecorded()));
+            }
+        }
+        return circuits;
+    }
+
+    public CallbackStats getStats() {
+        CallbackStats stats = new CallbackStats();
+        stats.setInFlight(dispatcher.getInFlight());
+        stats.setPending(dispatcher.getPending());
+        stats.setActiveHosts(dispatcher.getActiveHosts());
+        stats.setCompleted(completed.sum());
+        stats.setFailed(failed.sum());
+        stats.setRejected(rejected.sum());
+        stats.setShortCircuited(shortCircuited.sum());
+        stats.setOpenCircuits(circuitBreakers != null ? circuitBreakers.getOpenCount() : 0);
+        stats.setRetried(retried.sum());
+        stats.setRetryPending(retryTimer.getPending());
+        stats.setDeadLettered(deadLettered.sum());
+        stats.setDeadLetterSize(deadLetterStore.size());
+        stats.setBatchesSent(batchesSent.sum());
+        stats.setBatchBuffered(batcher != null ? batcher.getBuffered() : 0);
+        stats.setLatencyMeanMillis(latency.getMean() / 1e6);
+        stats.setLatencyP50Millis(latency.getPercentile(50) / 1e6);
+        stats.setLatencyP99Millis(latency.getPercentile(99) / 1e6);
+        stats.setLatencyMaxMillis(latency.getMax() / 1e6);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (batcher != null) {
+            batcher.flushAll();
+        }
+        // Give callbacks that are already queued or in flight a chance to finish
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((dispatcher.getInFlight() > 0 || dispatcher.getPending() > 0) && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        retryTimer.close();
+        if (batchTimer != null) {
+            batchTimer.close();
         }
     }
-}
\ No newline at end of file
+}
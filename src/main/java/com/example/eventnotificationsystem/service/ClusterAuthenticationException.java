@@ -0,0 +1,12 @@
+package com.example.eventnotificationsystem.service;
+
+/**
+ * Thrown when a call to a cluster endpoint does not carry the cluster's shared secret.
+ */
+public class ClusterAuthenticationException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public ClusterAuthenticationException() {
+        super("Missing or wrong cluster secret");
+    }
+}
@@ -0,0 +1,353 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.ClusterConfig;
+import com.example.eventnotificationsystem.model.ClusterStatus;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventResponse;
+import com.example.eventnotificationsystem.service.cluster.ClusterNode;
+import com.example.eventnotificationsystem.service.cluster.ClusterTransport;
+import com.example.eventnotificationsystem.service.cluster.HttpClusterTransport;
+import com.example.eventnotificationsystem.service.cluster.PartitionTable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Routes submissions to the node that owns the event's partition. Destinations (email
+ * address, phone number, device ID) hash onto a fixed number of partitions, and
+ * partitions map onto members through a {@link PartitionTable}. The owner assigns the
+ * event ID, applies rate limits and idempotency, and runs the event, so per-destination
+ * state never has to be shared between nodes.
+ *
+ * <p>When membership changes, a partition's new owner holds back events for it until the
+ * previous owner reports that every event it accepted for the partition has been
+ * processed, so events for one destination are never processed by two nodes at once.
+ * Held-back requests are released when the previous owner reports in, or after the
+ * handoff timeout if it never does.
+ */
+@Service
+public class ClusterService implements ClusterNode {
+    // Enough for one redirect while two nodes briefly disagree about membership
+    static final int MAX_HOPS = 2;
+
+    @Autowired
+    private ClusterConfig clusterConfig;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private boolean enabled;
+    private byte[] secret;
+    private String nodeId;
+    private volatile Map<String, String> members;
+    private volatile PartitionTable table;
+    private ClusterTransport transport;
+    private long handoffTimeoutNanos;
+    private int maxParked;
+
+    // Per partition: events this node accepted and has not yet acknowledged
+    private AtomicIntegerArray outstanding;
+    // Per partition lost to another node: the node waiting for this one to drain it
+    private AtomicReferenceArray<String> draining;
+    // Per partition gained from another node: held back until that node has drained it
+    private AtomicReferenceArray<HandoffGate> gates;
+    // Per partition: the previous owner reported in before this node saw the membership change
+    private AtomicIntegerArray earlyHandoffs;
+    private final AtomicInteger parked = new AtomicInteger();
+    private final Object membershipLock = new Object();
+
+    @PostConstruct
+    public void init() {
+        enabled = clusterConfig.isEnabled();
+        secret = clusterConfig.getSecret().getBytes(StandardCharsets.UTF_8);
+        if (!enabled) {
+            return;
+        }
+        if (secret.length == 0) {
+            throw new IllegalStateException("events.cluster.secret must be set in cluster mode");
+        }
+        nodeId = clusterConfig.getNodeId();
+        Map<String, String> configured = clusterConfig.getMembers();
+        if (configured.isEmpty()) {
+            throw new IllegalStateException("events.cluster.members must list the cluster's nodes");
+        }
+        members = Collections.unmodifiableMap(configured);
+        table = new PartitionTable(configured.keySet(), clusterConfig.getPartitions(), clusterConfig.getVirtualNodes());
+        handoffTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(clusterConfig.getHandoffTimeoutMillis());
+        maxParked = clusterConfig.getMaxParked();
+        outstanding = new AtomicIntegerArray(table.getPartitionCount());
+        draining = new AtomicReferenceArray<>(table.getPartitionCount());
+        gates = new AtomicReferenceArray<>(table.getPartitionCount());
+        earlyHandoffs = new AtomicIntegerArray(table.getPartitionCount());
+        transport = new HttpClusterTransport(objectMapper, id -> members.get(id),
+                Duration.ofMillis(clusterConfig.getRequestTimeoutMillis()), clusterConfig.getSecret());
+        eventService.setAcknowledgeListener(this::acknowledged);
+        System.out.println("Cluster node " + nodeId + " owns " + table.countOwnedBy(nodeId) + " of "
+                + table.getPartitionCount() + " partitions across " + configured.size() + " members");
+    }
+
+    /**
+     * Replaces the HTTP transport, for running several nodes in one JVM.
+     */
+    public void setTransport(ClusterTransport transport) {
+        this.transport = transport;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Checks the shared secret presented on a cluster endpoint. Nothing passes while no
+     * secret is configured.
+     *
+     * @throws ClusterAuthenticationException if {@code presented} is not the secret
+     */
+    public void authenticate(String presented) {
+        if (secret.length == 0 || presented == null
+                || !MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8))) {
+            throw new ClusterAuthenticationException();
+        }
+    }
+
+    /**
+     * Submits an event on whichever node owns it; a plain local submission when cluster
+     * mode is disabled.
+     */
+    public EventResponse submitEvent(Event event, String idempotencyKey) {
+        if (!enabled) {
+            return eventService.submitEvent(event, idempotencyKey);
+        }
+        return route(event, idempotencyKey, 0);
+    }
+
+    @Override
+    public EventResponse receive(Event event, String idempotencyKey, int hops) {
+        if (!enabled) {
+            throw new ServiceUnavailableException("Cluster mode is disabled on this node");
+        }
+        return route(event, idempotencyKey, hops);
+    }
+
+    private EventResponse route(Event event, String idempotencyKey, int hops) {
+        if (hops > MAX_HOPS) {
+            throw new ServiceUnavailableException("Event was forwarded " + hops + " times without reaching its owner; cluster membership is not settled");
+        }
+        int partition = table.partitionOf(event.getDestination());
+        // Counted before the table is read, so a membership change either sees this
+        // request or is seen by it; see updateMembers
+        outstanding.incrementAndGet(partition);
+        String owner;
+        boolean accepted = false;
+        try {
+            owner = table.ownerOf(partition);
+            if (owner.equals(nodeId)) {
+                awaitHandoff(partition);
+                // Scheduled events are not waited for in a handoff; they fire where they were scheduled
+                boolean scheduled = event.getSendAt() > System.currentTimeMillis();
+                if (!scheduled) {
+                    event.setPartition(partition);
+                }
+                EventResponse response = eventService.submitEvent(event, idempotencyKey);
+                // A replay queued nothing, so there is nothing to acknowledge later
+                accepted = !scheduled && !response.isReplayed();
+                return response;
+            }
+        } finally {
+            if (!accepted) {
+                release(partition);
+            }
+        }
+        return transport.forward(owner, event, idempotencyKey, hops + 1);
+    }
+
+    private void awaitHandoff(int partition) {
+        HandoffGate gate = gates.get(partition);
+        if (gate == null) {
+            return;
+        }
+        if (parked.incrementAndGet() > maxParked) {
+            parked.decrementAndGet();
+            throw new ServiceUnavailableException("Partition " + partition + " is being handed over and too many events are waiting for it");
+        }
+        try {
+            if (!gate.await()) {
+                if (gates.compareAndSet(partition, gate, null)) {
+                    System.err.println("Handoff of partition " + partition + " timed out; accepting its events without the previous owner");
+                }
+                gate.open();
+            }
+        } finally {
+            parked.decrementAndGet();
+        }
+    }
+
+    private void acknowledged(Event event) {
+        if (event.getPartition() >= 0) {
+            release(event.getPartition());
+        }
+    }
+
+    private void release(int partition) {
+        if (outstanding.decrementAndGet(partition) == 0) {
+            completeDrain(partition);
+        }
+    }
+
+    private void completeDrain(int partition) {
+        String newOwner = draining.getAndSet(partition, null);
+        if (newOwner != null) {
+            CompletableFuture.runAsync(() -> transport.handoffComplete(newOwner, partition))
+                    .exceptionally(e -> {
+                        System.err.println("Could not report handoff of partition " + partition + " to " + newOwner + ": " + e.getMessage());
+                        return null;
+                    });
+        }
+    }
+
+    @Override
+    public void handoffComplete(int partition) {
+        if (partition < 0 || partition >= table.getPartitionCount()) {
+            throw new IllegalArgumentException("No such partition: " + partition);
+        }
+        HandoffGate gate = gates.getAndSet(partition, null);
+        if (gate != null) {
+            gate.open();
+        } else {
+            earlyHandoffs.set(partition, 1);
+        }
+    }
+
+    /**
+     * Moves this node to a new membership view. Every node must be given the same view;
+     * until they all have it, events that reach a node with a stale view are forwarded
+     * on by the node they land on.
+     *
+     * <p>A node that is not in its own view owns no partitions and forwards everything.
+     * To add a node, start it with the current members, then give every node the view
+     * that includes it; to remove one, give every node, the leaving one included, the
+     * view without it and stop it once its status shows nothing outstanding.
+     *
+     * @param newMembers node IDs mapped to base URLs
+     */
+    public void updateMembers(Map<String, String> newMembers) {
+        if (!enabled) {
+            throw new ServiceUnavailableException("Cluster mode is disabled on this node");
+        }
+        synchronized (membershipLock) {
+            PartitionTable previous = table;
+            PartitionTable next = new PartitionTable(newMembers.keySet(), previous.getPartitionCount(), clusterConfig.getVirtualNodes());
+            long deadline = System.nanoTime() + handoffTimeoutNanos;
+            int gained = 0;
+            int lost = 0;
+            // Gates go up before the new table is published, so no request can take a gained partition early
+            for (int p = 0; p < next.getPartitionCount(); p++) {
+                String before = previous.ownerOf(p);
+                String after = next.ownerOf(p);
+                if (!before.equals(nodeId) && after.equals(nodeId)) {
+                    gained++;
+                    draining.set(p, null);
+                    // A previous owner that has left the cluster has nothing left to hand over,
+                    // and one that got the new view first may already have reported in
+                    if (newMembers.containsKey(before) && earlyHandoffs.getAndSet(p, 0) == 0) {
+                        gates.compareAndSet(p, null, new HandoffGate(deadline));
+                    }
+                } else {
+                    earlyHandoffs.set(p, 0);
+                }
+            }
+            members = Collections.unmodifiableMap(new LinkedHashMap<>(newMembers));
+            table = next;
+            for (int p = 0; p < next.getPartitionCount(); p++) {
+                String before = previous.ownerOf(p);
+                String after = next.ownerOf(p);
+                if (before.equals(nodeId) && !after.equals(nodeId)) {
+                    lost++;
+                    HandoffGate stale = gates.getAndSet(p, null);
+                    if (stale != null) {
+                        stale.open();
+                    }
+                    draining.set(p, after);
+                    // Requests count themselves before reading the table, so either they see
+                    // the drain marker when they finish or the count here includes them
+                    if (outstanding.get(p) == 0) {
+                        completeDrain(p);
+                    }
+                }
+            }
+            System.out.println("Cluster membership changed to " + newMembers.keySet() + ": gained " + gained
+                    + " and lost " + lost + " partitions");
+        }
+    }
+
+    public ClusterStatus getStatus() {
+        ClusterStatus status = new ClusterStatus();
+        status.setEnabled(enabled);
+        if (!enabled) {
+            return status;
+        }
+        PartitionTable current = table;
+        status.setNodeId(nodeId);
+        status.setMembers(new ArrayList<>(current.getMembers()));
+        status.setPartitions(current.getPartitionCount());
+        status.setOwnedPartitions(current.countOwnedBy(nodeId));
+        long total = 0;
+        int drainingCount = 0;
+        int gatedCount = 0;
+        for (int p = 0; p < current.getPartitionCount(); p++) {
+            total += outstanding.get(p);
+            if (draining.get(p) != null) {
+                drainingCount++;
+            }
+            if (gates.get(p) != null) {
+                gatedCount++;
+            }
+        }
+        status.setOutstanding(total);
+        status.setDrainingPartitions(drainingCount);
+        status.setAwaitingHandoffPartitions(gatedCount);
+        status.setParked(parked.get());
+        return status;
+    }
+
+    private static final class HandoffGate {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final long deadline;
+
+        private HandoffGate(long deadline) {
+            this.deadline = deadline;
+        }
+
+        // False if the deadline passed first
+        boolean await() {
+            try {
+                return latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for partition handoff", e);
+            }
+        }
+
+        void open() {
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.IdConfig;
+import com.example.eventnotificationsystem.service.id.EventIdGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Assigns IDs to accepted events using the {@link EventIdGenerator} selected by
+ * {@code events.id.generator}.
+ */
+@Service
+public class EventIdService {
+    @Autowired
+    private IdConfig idConfig;
+    private EventIdGenerator generator;
+
+    @PostConstruct
+    public void init() {
+        generator = EventIdGenerator.forName(idConfig.getGenerator(), idConfig.getNodeId());
+    }
+
+    public String nextId() {
+        return generator.nextId();
+    }
+}
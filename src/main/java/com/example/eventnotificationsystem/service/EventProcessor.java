@@ -1,49 +1,159 @@
 package com.example.eventnotificationsystem.service;
 
+import com.example.eventnotificationsystem.config.QueueConfig;
+import com.example.eventnotificationsystem.metrics.EventMetrics;
 import com.example.eventnotificationsystem.model.*;
+import com.example.eventnotificationsystem.service.concurrency.AdaptiveLimit;
+import com.example.eventnotificationsystem.service.timer.CachedClock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
-import java.time.ZonedDateTime;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 @Component
 public class EventProcessor {
+    private static final long IDLE_POLL_MILLIS = 10;
+    // How long a worker beyond its channel's limit waits before checking for shutdown
+    private static final long LIMIT_WAIT_MILLIS = 1000;
+
     @Autowired
     private EventService eventService;
     @Autowired
     private CallbackService callbackService;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(3);
+    @Autowired
+    private EventStatusService eventStatusService;
+    @Autowired
+    private EventMetrics eventMetrics;
+    @Autowired
+    private QueueConfig queueConfig;
+    @Autowired
+    private TemplateService templateService;
+    @Autowired
+    private BroadcastService broadcastService;
+    private ExecutorService executorService;
+    private ScheduledExecutorService concurrencyController;
+    // Present per channel only when adaptive concurrency is on
+    private final Map<EventType, AdaptiveLimit> limits = new EnumMap<>(EventType.class);
+    // Per channel, workers started so far; after startup only the controller thread adds to it
+    private final int[] startedWorkers = new int[EventType.values().length];
     private volatile boolean running = true;
 
     @PostConstruct
     public void startProcessing() {
-        executorService.submit(() -> processQueue(eventService.getEmailQueue(), 5000, EventType.EMAIL));
-        executorService.submit(() -> processQueue(eventService.getSmsQueue(), 3000, EventType.SMS));
-        executorService.submit(() -> processQueue(eventService.getPushQueue(), 2000, EventType.PUSH));
+        if (queueConfig.isWorkStealingMode()) {
+            int workers = queueConfig.getSharedWorkers();
+            executorService = Executors.newFixedThreadPool(workers);
+            for (int i = 0; i < workers; i++) {
+                executorService.submit(this::processAllQueues);
+            }
+            return;
+        }
+        if (!queueConfig.isAdaptiveEnabled()) {
+            int totalWorkers = 0;
+            for (EventType eventType : EventType.values()) {
+                totalWorkers += queueConfig.getWorkers(eventType);
+            }
+            executorService = Executors.newFixedThreadPool(totalWorkers);
+            for (EventType eventType : EventType.values()) {
+                startWorkers(eventType, queueConfig.getWorkers(eventType));
+            }
+            return;
+        }
+        // Threads are added as limits rise, and those beyond a lowered limit wait
+        executorService = Executors.newCachedThreadPool();
+        for (EventType eventType : EventType.values()) {
+            AdaptiveLimit limit = new AdaptiveLimit(queueConfig.getWorkers(eventType),
+                    queueConfig.getAdaptiveMinWorkers(), queueConfig.getAdaptiveMaxWorkers(),
+                    queueConfig.getAdaptiveLatencyTolerance());
+            limits.put(eventType, limit);
+            eventMetrics.registerConcurrencyLimit(eventType, limit::getLimit);
+            startWorkers(eventType, limit.getLimit());
+        }
+        startConcurrencyController();
+    }
+
+    private void startWorkers(EventType eventType, int workers) {
+        BlockingQueue<? extends Event> queue = eventService.getQueue(eventType);
+        long delayMillis = queueConfig.getProcessingDelayMillis(eventType);
+        for (int i = startedWorkers[eventType.ordinal()]; i < workers; i++) {
+            int worker = i;
+            executorService.submit(() -> processQueue(queue, delayMillis, eventType, worker));
+        }
+        startedWorkers[eventType.ordinal()] = Math.max(startedWorkers[eventType.ordinal()], workers);
+    }
+
+    /**
+     * Updates every channel's {@link AdaptiveLimit} from a single controller thread once
+     * per interval.
+     */
+    private void startConcurrencyController() {
+        concurrencyController = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "concurrency-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = queueConfig.getAdaptiveIntervalMillis();
+        concurrencyController.scheduleAtFixedRate(this::updateLimits, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void updateLimits() {
+        for (Map.Entry<EventType, AdaptiveLimit> entry : limits.entrySet()) {
+            int updated = entry.getValue().update(eventService.getQueue(entry.getKey()).size());
+            if (running && updated > startedWorkers[entry.getKey().ordinal()]) {
+                startWorkers(entry.getKey(), updated);
+            }
+        }
     }
 
-    private void processQueue(BlockingQueue<? extends Event> queue, long delayMillis, EventType eventType) {
+    private void processQueue(BlockingQueue<? extends Event> queue, long delayMillis, EventType eventType, int worker) {
         Random random = new Random();
+        AdaptiveLimit limit = limits.get(eventType);
         while (running) {
             try {
+                if (limit != null && !limit.awaitActive(worker, LIMIT_WAIT_MILLIS)) {
+                    continue;
+                }
                 Event event = queue.take();
-                Thread.sleep(delayMillis); // Simulate processing time
-                boolean isFailure = random.nextDouble() < 0.1; // 10% failure rate
-                CallbackRequest callbackRequest = new CallbackRequest(
-                        event.getEventId(),
-                        isFailure ? "FAILED" : "COMPLETED",
-                        eventType.toString(),
-                        isFailure ? "Simulated processing failure" : null,
-                        ZonedDateTime.now().toString()
-                );
-                callbackService.sendCallback(event.getCallbackUrl(), callbackRequest);
+                process(event, delayMillis, eventType, random);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    /**
+     * Worker loop for work-stealing mode: every worker serves all channels, picking the
+     * next one with probability proportional to its backlog so that idle capacity flows
+     * to whichever channel is backed up.
+     */
+    private void processAllQueues() {
+        Random random = new Random();
+        EventType[] eventTypes = EventType.values();
+        int idleIndex = 0;
+        while (running) {
+            try {
+                EventType eventType = pickByBacklog(eventTypes, random);
+                Event event = null;
+                if (eventType != null) {
+                    event = eventService.getQueue(eventType).poll();
+                } else {
+                    // Nothing queued anywhere; wait on the channels in turn
+                    eventType = eventTypes[idleIndex++ % eventTypes.length];
+                    event = eventService.getQueue(eventType).poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (event != null) {
+                    process(event, queueConfig.getProcessingDelayMillis(eventType), eventType, random);
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -51,9 +161,104 @@ public class EventProcessor {
         }
     }
 
+    private EventType pickByBacklog(EventType[] eventTypes, Random random) {
+        long total = 0;
+        int[] backlog = new int[eventTypes.length];
+        for (int i = 0; i < eventTypes.length; i++) {
+            backlog[i] = eventService.getQueue(eventTypes[i]).size();
+            total += backlog[i];
+        }
+        if (total == 0) {
+            return null;
+        }
+        long pick = (long) (random.nextDouble() * total);
+        for (int i = 0; i < eventTypes.length; i++) {
+            pick -= backlog[i];
+            if (pick < 0) {
+                return eventTypes[i];
+            }
+        }
+        return eventTypes[eventTypes.length - 1];
+    }
+
+    /**
+     * Processes one event and acknowledges it even if processing throws, so one bad event
+     * neither stops the worker nor holds back the journal and the cluster's outstanding count.
+     * An event interrupted by shutdown is not acknowledged and is replayed from the journal.
+     */
+    private void process(Event event, long delayMillis, EventType eventType, Random random) throws InterruptedException {
+        try {
+            processEvent(event, delayMillis, eventType, random);
+        } catch (RuntimeException e) {
+            System.err.println("Failed to process event " + event.getEventId() + ": " + e);
+            if (event.getBroadcastId() == null) {
+                eventStatusService.finished(event, true);
+            }
+        }
+        eventService.acknowledge(event);
+    }
+
+    private void processEvent(Event event, long delayMillis, EventType eventType, Random random) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        eventMetrics.recordDequeued(eventType, event.getEnqueuedAtNanos(), startNanos);
+        AdaptiveLimit limit = limits.get(eventType);
+        if (limit != null) {
+            limit.started();
+        }
+        boolean broadcast = event.getBroadcastId() != null;
+        String renderError = null;
+        boolean isFailure;
+        long endNanos;
+        try {
+            if (!broadcast) {
+                eventStatusService.processing(event);
+            }
+            if (event.getTemplateId() != null) {
+                try {
+                    // Queued with only its parameter values; the body exists just while it is sent
+                    event.setMessage(templateService.render(event));
+                } catch (RuntimeException e) {
+                    renderError = e.getMessage();
+                }
+            }
+            if (renderError == null) {
+                Thread.sleep(delayMillis); // Simulate processing time
+                isFailure = random.nextDouble() < 0.1; // 10% failure rate
+            } else {
+                isFailure = true;
+            }
+            if (!broadcast) {
+                eventStatusService.finished(event, isFailure);
+            }
+        } finally {
+            endNanos = System.nanoTime();
+            if (limit != null) {
+                limit.finished(endNanos - startNanos);
+            }
+        }
+        eventMetrics.recordProcessed(eventType, isFailure, startNanos, endNanos);
+        if (broadcast) {
+            // Counted towards the broadcast's summary callback instead of getting its own
+            broadcastService.recipientFinished(event, isFailure);
+            return;
+        }
+        CallbackRequest callbackRequest = new CallbackRequest(
+                event.getEventId(),
+                isFailure ? "FAILED" : "COMPLETED",
+                eventType.toString(),
+                renderError != null ? renderError : isFailure ? "Simulated processing failure" : null,
+                CachedClock.isoNow()
+        );
+        callbackRequest.setAcceptedAtNanos(event.getEnqueuedAtNanos());
+        callbackService.sendCallback(event.getCallbackUrl(), callbackRequest);
+    }
+
     @PreDestroy
     public void shutdown() {
         running = false;
+        if (concurrencyController != null) {
+            concurrencyController.shutdownNow();
+        }
         eventService.stopAcceptingEvents();
         executorService.shutdown();
         try {
@@ -64,4 +269,4 @@ public class EventProcessor {
             executorService.shutdownNow();
         }
     }
-}
\ No newline at end of file
+}
@@ -1,39 +1,313 @@
 package com.example.eventnotificationsystem.service;
 
+import com.example.eventnotificationsystem.config.QueueConfig;
+import com.example.eventnotificationsystem.metrics.EventMetrics;
+import com.example.eventnotificationsystem.metrics.RateMeter;
 import com.example.eventnotificationsystem.model.*;
+import com.example.eventnotificationsystem.service.journal.EventJournal;
+import com.example.eventnotificationsystem.service.journal.JournalQueue;
+import com.example.eventnotificationsystem.service.priority.PriorityLaneQueue;
+import com.example.eventnotificationsystem.service.ring.RingBufferQueue;
+import com.example.eventnotificationsystem.service.ring.WaitStrategy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Service
 public class EventService {
-    private final BlockingQueue<EmailEvent> emailQueue = new LinkedBlockingQueue<>();
-    private final BlockingQueue<SmsEvent> smsQueue = new LinkedBlockingQueue<>();
-    private final BlockingQueue<PushEvent> pushQueue = new LinkedBlockingQueue<>();
+    @Autowired
+    private QueueConfig queueConfig;
+    @Autowired
+    private EventStatusService eventStatusService;
+    @Autowired
+    private EventMetrics eventMetrics;
+    @Autowired
+    private EventIdService eventIdService;
+    @Autowired
+    private IdempotencyService idempotencyService;
+    @Autowired
+    private RateLimitService rateLimitService;
+    private PriorityLaneQueue<EmailEvent> emailQueue;
+    private PriorityLaneQueue<SmsEvent> smsQueue;
+    private PriorityLaneQueue<PushEvent> pushQueue;
+    private final Map<EventType, Map<EventPriority, JournalQueue<?>>> journalQueues = new EnumMap<>(EventType.class);
+    private final List<EventJournal> journals = new ArrayList<>();
+    private final Map<EventType, RateMeter> drainRates = new EnumMap<>(EventType.class);
     private volatile boolean acceptingEvents = true;
+    private volatile Consumer<Event> acknowledgeListener;
+    private volatile ScheduledEventService scheduler;
+
+    @PostConstruct
+    public void initQueues() {
+        for (EventType eventType : EventType.values()) {
+            drainRates.put(eventType, new RateMeter());
+        }
+        emailQueue = createQueue(EventType.EMAIL, EmailEvent.class);
+        smsQueue = createQueue(EventType.SMS, SmsEvent.class);
+        pushQueue = createQueue(EventType.PUSH, PushEvent.class);
+    }
+
+    private <E extends Event> PriorityLaneQueue<E> createQueue(EventType eventType, Class<E> eventClass) {
+        Map<EventPriority, BlockingQueue<E>> lanes = new EnumMap<>(EventPriority.class);
+        Map<EventPriority, Integer> weights = new EnumMap<>(EventPriority.class);
+        for (EventPriority priority : EventPriority.values()) {
+            BlockingQueue<E> lane = createLane(eventType, priority, eventClass);
+            eventMetrics.registerQueue(eventType, priority, lane);
+            lanes.put(priority, lane);
+            weights.put(priority, queueConfig.getPriorityWeight(priority));
+        }
+        return new PriorityLaneQueue<>(lanes, weights, WaitStrategy.forName(queueConfig.getWaitStrategy()));
+    }
+
+    private <E extends Event> BlockingQueue<E> createLane(EventType eventType, EventPriority priority, Class<E> eventClass) {
+        int capacity = queueConfig.getLaneCapacity(eventType, priority);
+        if (!queueConfig.isJournalEnabled()) {
+            // Workers wait on the channel queue, never on a lane, so lanes keep the default strategy
+            return queueConfig.isRingBufferQueue() ? new RingBufferQueue<>(capacity) : new LinkedBlockingQueue<>(capacity);
+        }
+        // NORMAL keeps the plain per-type directory so journals written before priorities existed still replay
+        String name = eventType.name().toLowerCase();
+        if (priority != EventPriority.NORMAL) {
+            name += "-" + priority.name().toLowerCase();
+        }
+        try {
+            EventJournal journal = new EventJournal(Path.of(queueConfig.getJournalDirectory(), name),
+                    queueConfig.getJournalSegmentSizeBytes(), queueConfig.getJournalCommitIntervalMillis());
+            journals.add(journal);
+            JournalQueue<E> queue = new JournalQueue<>(journal, eventClass, new ObjectMapper(),
+                    queueConfig.isJournalAwaitCommit(), capacity);
+            journalQueues.computeIfAbsent(eventType, type -> new EnumMap<>(EventPriority.class)).put(priority, queue);
+            return queue;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal for " + name, e);
+        }
+    }
+
+    /**
+     * Submits the event unless {@code idempotencyKey} already created one within the
+     * dedup window, in which case that event's ID is returned and nothing is queued.
+     */
+    public EventResponse submitEvent(Event event, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return submitEvent(event);
+        }
+        String previousEventId = idempotencyService.claim(idempotencyKey);
+        if (previousEventId != null) {
+            EventResponse response = new EventResponse(previousEventId, "Event accepted for processing.");
+            response.setReplayed(true);
+            return response;
+        }
+        EventResponse response;
+        try {
+            response = submitEvent(event);
+        } catch (RuntimeException e) {
+            // Nothing was queued, so a retry with the same key must be able to try again
+            idempotencyService.release(idempotencyKey);
+            throw e;
+        }
+        idempotencyService.complete(idempotencyKey, response.getEventId());
+        return response;
+    }
 
     public EventResponse submitEvent(Event event) {
         if (!acceptingEvents) {
-            throw new IllegalStateException("System is shutting down, not accepting new events.");
+            throw new ServiceUnavailableException("System is shutting down, not accepting new events.");
         }
 
-        event.setEventId(UUID.randomUUID().toString());
+        try {
+            rateLimitService.acquire(event);
+        } catch (RateLimitedException e) {
+            eventMetrics.recordRateLimited(event.getEventType());
+            throw e;
+        }
+        event.setEventId(eventIdService.nextId());
+        if (event.getSendAt() > System.currentTimeMillis()) {
+            return schedule(event);
+        }
+        // Recorded before the enqueue so a worker can never update an event the index has not seen
+        eventStatusService.queued(event);
+        try {
+            enqueue(event);
+        } catch (RuntimeException e) {
+            eventStatusService.rejected(event);
+            rateLimitService.refund(event);
+            throw e;
+        }
+        return new EventResponse(event.getEventId(), "Event accepted for processing.");
+    }
+
+    private EventResponse schedule(Event event) {
+        ScheduledEventService scheduler = this.scheduler;
+        if (scheduler == null) {
+            rateLimitService.refund(event);
+            throw new ServiceUnavailableException("Scheduled delivery is not available");
+        }
+        eventStatusService.scheduled(event);
+        try {
+            scheduler.schedule(event);
+        } catch (RuntimeException e) {
+            eventStatusService.rejected(event);
+            rateLimitService.refund(event);
+            throw e;
+        }
+        eventMetrics.recordScheduled(event.getEventType());
+        return new EventResponse(event.getEventId(), "Event scheduled for " + Instant.ofEpochMilli(event.getSendAt()) + ".");
+    }
+
+    /**
+     * Queues a scheduled event whose {@code sendAt} has come. Rate limits and
+     * idempotency were applied when it was submitted.
+     */
+    public void releaseScheduled(Event event) {
+        if (!acceptingEvents) {
+            throw new ServiceUnavailableException("System is shutting down, not accepting new events.");
+        }
+        eventStatusService.released(event);
+        enqueue(event);
+    }
+
+    /**
+     * Cancels an event that is still waiting for its {@code sendAt}.
+     *
+     * @return {@code false} if no such event is waiting, because the ID is unknown or the
+     * event has already been queued
+     */
+    public boolean cancelScheduled(String eventId) {
+        ScheduledEventService scheduler = this.scheduler;
+        Event event = scheduler == null ? null : scheduler.cancel(eventId);
+        if (event == null) {
+            return false;
+        }
+        eventStatusService.cancelled(event);
+        rateLimitService.refund(event);
+        return true;
+    }
+
+    /**
+     * Queues one recipient's event of a broadcast. It gets no status entry and is not rate
+     * limited or retried here; the broadcast is tracked as a whole and offers again later.
+     *
+     * @return {@code false} if the lane is full or the system is shutting down
+     */
+    public boolean offerBroadcastRecipient(Event event) {
+        if (!acceptingEvents) {
+            return false;
+        }
+        event.setEnqueuedAtNanos(System.nanoTime());
+        boolean accepted;
         switch (event.getEventType()) {
             case EMAIL:
-                emailQueue.offer((EmailEvent) event);
+                accepted = emailQueue.offer((EmailEvent) event);
                 break;
             case SMS:
-                smsQueue.offer((SmsEvent) event);
+                accepted = smsQueue.offer((SmsEvent) event);
                 break;
             case PUSH:
-                pushQueue.offer((PushEvent) event);
+                accepted = pushQueue.offer((PushEvent) event);
                 break;
             default:
                 throw new IllegalArgumentException("Invalid event type: " + event.getEventType());
         }
-        return new EventResponse(event.getEventId(), "Event accepted for processing.");
+        if (accepted) {
+            eventMetrics.recordEnqueued(event.getEventType());
+        }
+        return accepted;
+    }
+
+    private void enqueue(Event event) {
+        event.setEnqueuedAtNanos(System.nanoTime());
+        switch (event.getEventType()) {
+            case EMAIL:
+                enqueue(emailQueue, (EmailEvent) event);
+                break;
+            case SMS:
+                enqueue(smsQueue, (SmsEvent) event);
+                break;
+            case PUSH:
+                enqueue(pushQueue, (PushEvent) event);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid event type: " + event.getEventType());
+        }
+        eventMetrics.recordEnqueued(event.getEventType());
+    }
+
+    private <E extends Event> void enqueue(PriorityLaneQueue<E> queue, E event) {
+        boolean accepted = queue.offer(event);
+        long offerTimeoutMillis = queueConfig.getOfferTimeoutMillis();
+        if (!accepted && offerTimeoutMillis > 0) {
+            try {
+                accepted = queue.offer(event, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!accepted) {
+            eventMetrics.recordRejected(event.getEventType());
+            EventPriority priority = event.getPriority();
+            throw new QueueFullException(event.getEventType(),
+                    retryAfterSeconds(event.getEventType(), priority, queue.getLane(priority)));
+        }
+    }
+
+    /**
+     * Estimates how long the channel needs to work off a tenth of a lane's capacity at the
+     * current drain rate, bounded to [1, max-retry-after-seconds].
+     */
+    private long retryAfterSeconds(EventType eventType, EventPriority priority, BlockingQueue<?> lane) {
+        long maxRetryAfter = queueConfig.getMaxRetryAfterSeconds();
+        double ratePerSecond = drainRates.get(eventType).getRatePerSecond();
+        if (ratePerSecond <= 0) {
+            return maxRetryAfter;
+        }
+        int capacity = queueConfig.getLaneCapacity(eventType, priority);
+        double excess = lane.size() - capacity * 0.9;
+        long seconds = (long) Math.ceil(Math.max(excess, 1) / ratePerSecond);
+        return Math.max(1, Math.min(maxRetryAfter, seconds));
+    }
+
+    /**
+     * Signals that an event taken from its queue has been fully processed. Feeds the
+     * drain rate used for Retry-After and, for journaled queues, releases the record.
+     */
+    public void acknowledge(Event event) {
+        drainRates.get(event.getEventType()).mark();
+        Consumer<Event> listener = acknowledgeListener;
+        if (listener != null) {
+            listener.accept(event);
+        }
+        Map<EventPriority, JournalQueue<?>> lanes = journalQueues.get(event.getEventType());
+        if (lanes != null) {
+            lanes.get(event.getPriority()).acknowledge(event);
+        }
+    }
+
+    public BlockingQueue<? extends Event> getQueue(EventType eventType) {
+        switch (eventType) {
+            case EMAIL:
+                return emailQueue;
+            case SMS:
+                return smsQueue;
+            case PUSH:
+                return pushQueue;
+            default:
+                throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
     }
 
     public BlockingQueue<EmailEvent> getEmailQueue() {
@@ -48,7 +322,32 @@ public class EventService {
         return pushQueue;
     }
 
+    /**
+     * Registers the callback run for every event passed to {@link #acknowledge}.
+     */
+    public void setAcknowledgeListener(Consumer<Event> acknowledgeListener) {
+        this.acknowledgeListener = acknowledgeListener;
+    }
+
+    /**
+     * Registers the service that holds events submitted with a future {@code sendAt}.
+     */
+    public void setScheduler(ScheduledEventService scheduler) {
+        this.scheduler = scheduler;
+    }
+
     public void stopAcceptingEvents() {
         this.acceptingEvents = false;
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void closeJournals() {
+        for (EventJournal journal : journals) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close journal: " + e.getMessage());
+            }
+        }
+    }
+}
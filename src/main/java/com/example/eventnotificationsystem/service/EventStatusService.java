@@ -0,0 +1,89 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.StatusConfig;
+import com.example.eventnotificationsystem.model.CallbackStatus;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventStatus;
+import com.example.eventnotificationsystem.model.EventStatusResponse;
+import com.example.eventnotificationsystem.service.status.EventStatusStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Tracks each accepted event from QUEUED (or SCHEDULED) through PROCESSING to COMPLETED or FAILED, and
+ * whether its callback was delivered, in a bounded {@link EventStatusStore}.
+ */
+@Service
+public class EventStatusService {
+    @Autowired
+    private StatusConfig statusConfig;
+    private EventStatusStore store;
+
+    @PostConstruct
+    public void init() {
+        store = new EventStatusStore(statusConfig.getMaxEntries(), statusConfig.getMaxAgeMillis(), statusConfig.getShards());
+    }
+
+    public void queued(Event event) {
+        store.recordQueued(event.getEventId(), event.getEventType(), System.currentTimeMillis());
+    }
+
+    /**
+     * Records an event held back until its {@code sendAt}; {@link #released} follows once it is queued.
+     */
+    public void scheduled(Event event) {
+        long now = System.currentTimeMillis();
+        store.recordQueued(event.getEventId(), event.getEventType(), now);
+        store.recordStatus(event.getEventId(), EventStatus.SCHEDULED, now);
+    }
+
+    /**
+     * Moves a scheduled event to QUEUED, keeping its entry, so it still ages from when it was accepted.
+     */
+    public void released(Event event) {
+        store.recordStatus(event.getEventId(), EventStatus.QUEUED, System.currentTimeMillis());
+    }
+
+    public void cancelled(Event event) {
+        store.recordStatus(event.getEventId(), EventStatus.CANCELLED, System.currentTimeMillis());
+    }
+
+    /**
+     * Forgets an event that was assigned an ID but never made it into a queue.
+     */
+    public void rejected(Event event) {
+        store.remove(event.getEventId());
+    }
+
+    public void processing(Event event) {
+        store.recordStatus(event.getEventId(), EventStatus.PROCESSING, System.currentTimeMillis());
+    }
+
+    public void finished(Event event, boolean failed) {
+        store.recordStatus(event.getEventId(), failed ? EventStatus.FAILED : EventStatus.COMPLETED, System.currentTimeMillis());
+    }
+
+    public void callbackSettled(String eventId, boolean delivered) {
+        store.recordCallback(eventId, delivered ? CallbackStatus.DELIVERED : CallbackStatus.FAILED, System.currentTimeMillis());
+    }
+
+    public void callbackPending(String eventId) {
+        store.recordCallback(eventId, CallbackStatus.PENDING, System.currentTimeMillis());
+    }
+
+    /**
+     * @return how long an accepted event stays visible
+     */
+    public long getMaxAgeMillis() {
+        return statusConfig.getMaxAgeMillis();
+    }
+
+    /**
+     * @return the event's status, or {@code null} if it is unknown or has been evicted
+     */
+    public EventStatusResponse getStatus(String eventId) {
+        return store.get(eventId, System.currentTimeMillis());
+    }
+}
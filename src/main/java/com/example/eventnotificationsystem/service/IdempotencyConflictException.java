@@ -0,0 +1,13 @@
+package com.example.eventnotificationsystem.service;
+
+/**
+ * Thrown when a request carries an {@code Idempotency-Key} that another request is still
+ * submitting. The client should retry once that request has answered.
+ */
+public class IdempotencyConflictException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public IdempotencyConflictException(String idempotencyKey) {
+        super("A request with Idempotency-Key " + idempotencyKey + " is still being processed");
+    }
+}
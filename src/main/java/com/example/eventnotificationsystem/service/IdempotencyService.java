@@ -0,0 +1,51 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.IdempotencyConfig;
+import com.example.eventnotificationsystem.service.idempotency.IdempotencyStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Remembers which event each {@code Idempotency-Key} created, for as long as
+ * {@code events.idempotency.ttl-ms}, so a retried submission gets the original event ID
+ * back instead of queueing a duplicate.
+ */
+@Service
+public class IdempotencyService {
+    public static final int MAX_KEY_LENGTH = 255;
+
+    @Autowired
+    private IdempotencyConfig idempotencyConfig;
+    private IdempotencyStore store;
+
+    @PostConstruct
+    public void init() {
+        store = new IdempotencyStore(idempotencyConfig.getMaxEntries(), idempotencyConfig.getTtlMillis(), idempotencyConfig.getShards());
+    }
+
+    /**
+     * @return {@code null} if the caller should submit the event and then call
+     * {@link #complete} or {@link #release}, otherwise the ID of the event the key created
+     * @throws IdempotencyConflictException if another request with the key is in flight
+     */
+    public String claim(String idempotencyKey) {
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String eventId = store.claim(idempotencyKey, System.currentTimeMillis());
+        if (eventId == IdempotencyStore.IN_PROGRESS) {
+            throw new IdempotencyConflictException(idempotencyKey);
+        }
+        return eventId;
+    }
+
+    public void complete(String idempotencyKey, String eventId) {
+        store.complete(idempotencyKey, eventId);
+    }
+
+    public void release(String idempotencyKey) {
+        store.release(idempotencyKey);
+    }
+}
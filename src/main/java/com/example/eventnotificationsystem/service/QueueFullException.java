@@ -0,0 +1,32 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.model.EventType;
+
+/**
+ * Thrown when a channel queue has no room for a new event. Carries the number of
+ * seconds after which a retry is likely to be admitted.
+ */
+public class QueueFullException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final EventType eventType;
+    private final long retryAfterSeconds;
+
+    public QueueFullException(EventType eventType, long retryAfterSeconds) {
+        this(eventType + " queue is full, retry after " + retryAfterSeconds + " seconds", eventType, retryAfterSeconds);
+    }
+
+    public QueueFullException(String message, EventType eventType, long retryAfterSeconds) {
+        super(message);
+        this.eventType = eventType;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
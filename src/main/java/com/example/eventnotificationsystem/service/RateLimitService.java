@@ -0,0 +1,88 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.RateLimitConfig;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventType;
+import com.example.eventnotificationsystem.service.ratelimit.RecipientRateLimiter;
+import com.example.eventnotificationsystem.service.ratelimit.TokenBucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces the configured per-recipient and per-channel rate limits at submission, so a
+ * runaway client is turned away before its events take queue space or worker time.
+ * Channels without a configured rate are not limited.
+ */
+@Service
+public class RateLimitService {
+    @Autowired
+    private RateLimitConfig rateLimitConfig;
+    private final Map<EventType, RecipientRateLimiter> recipientLimiters = new EnumMap<>(EventType.class);
+    private final Map<EventType, TokenBucket> channelLimiters = new EnumMap<>(EventType.class);
+
+    @PostConstruct
+    public void init() {
+        long now = System.nanoTime();
+        for (EventType eventType : EventType.values()) {
+            double recipientRate = rateLimitConfig.getRecipientRate(eventType);
+            if (recipientRate > 0) {
+                recipientLimiters.put(eventType, new RecipientRateLimiter(recipientRate, rateLimitConfig.getRecipientBurst(eventType),
+                        rateLimitConfig.getMaxRecipients(), rateLimitConfig.getShards()));
+            }
+            double channelRate = rateLimitConfig.getChannelRate(eventType);
+            if (channelRate > 0) {
+                channelLimiters.put(eventType, new TokenBucket(channelRate, rateLimitConfig.getChannelBurst(eventType), now));
+            }
+        }
+    }
+
+    /**
+     * Takes a token for the event from its recipient's and its channel's buckets.
+     *
+     * @throws RateLimitedException if either limit is exhausted; no token is kept then
+     */
+    public void acquire(Event event) {
+        EventType eventType = event.getEventType();
+        RecipientRateLimiter recipientLimiter = recipientLimiters.get(eventType);
+        TokenBucket channelLimiter = channelLimiters.get(eventType);
+        long now = System.nanoTime();
+        if (recipientLimiter != null) {
+            long waitNanos = recipientLimiter.tryAcquire(event.getDestination(), now);
+            if (waitNanos > 0) {
+                throw new RateLimitedException(eventType, "recipient", retryAfterSeconds(waitNanos));
+            }
+        }
+        if (channelLimiter != null) {
+            long waitNanos = channelLimiter.tryAcquire(now);
+            if (waitNanos > 0) {
+                if (recipientLimiter != null) {
+                    recipientLimiter.refund(event.getDestination());
+                }
+                throw new RateLimitedException(eventType, "channel", retryAfterSeconds(waitNanos));
+            }
+        }
+    }
+
+    /**
+     * Gives back the tokens {@link #acquire} took for an event that was not accepted.
+     */
+    public void refund(Event event) {
+        RecipientRateLimiter recipientLimiter = recipientLimiters.get(event.getEventType());
+        if (recipientLimiter != null) {
+            recipientLimiter.refund(event.getDestination());
+        }
+        TokenBucket channelLimiter = channelLimiters.get(event.getEventType());
+        if (channelLimiter != null) {
+            channelLimiter.refund();
+        }
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.model.EventType;
+
+/**
+ * Thrown when an event exceeds its recipient's or its channel's rate limit. Carries the
+ * number of seconds after which the limit admits another event.
+ */
+public class RateLimitedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final EventType eventType;
+    private final long retryAfterSeconds;
+
+    public RateLimitedException(EventType eventType, String scope, long retryAfterSeconds) {
+        super(eventType + " " + scope + " rate limit exceeded, retry after " + retryAfterSeconds + " seconds");
+        this.eventType = eventType;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
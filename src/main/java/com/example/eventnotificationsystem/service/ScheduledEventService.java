@@ -0,0 +1,142 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.ScheduleConfig;
+import com.example.eventnotificationsystem.metrics.EventMetrics;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventStatus;
+import com.example.eventnotificationsystem.service.timer.CachedClock;
+import com.example.eventnotificationsystem.service.timer.HierarchicalTimingWheel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Holds events submitted with a future {@code sendAt} in a {@link HierarchicalTimingWheel}
+ * and hands each one back to {@link EventService} to be queued when its time comes. A
+ * single timer thread advances the wheel once per tick. An event whose queue is full
+ * when it falls due is retried after {@code events.schedule.requeue-delay-ms}; one that
+ * cannot be queued or held for a retry fails, and its callback says so.
+ *
+ * <p>Scheduled events are held in memory only, journal or not, so a restart loses the
+ * ones still waiting.
+ */
+@Service
+public class ScheduledEventService {
+    @Autowired
+    private ScheduleConfig scheduleConfig;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventMetrics eventMetrics;
+
+    @Autowired
+    private EventStatusService eventStatusService;
+
+    @Autowired
+    private CallbackService callbackService;
+
+    private HierarchicalTimingWheel<Event> wheel;
+    private long maxDelayMillis;
+    private Thread timer;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() {
+        wheel = new HierarchicalTimingWheel<>(scheduleConfig.getTickMillis(), scheduleConfig.getMaxPending(),
+                Event::getEventId, System.currentTimeMillis());
+        if (scheduleConfig.getMaxDelayMillis() > wheel.getHorizonMillis()) {
+            throw new IllegalStateException("events.schedule.max-delay-ms cannot exceed " + wheel.getHorizonMillis()
+                    + " ms at a " + scheduleConfig.getTickMillis() + " ms tick");
+        }
+        // A pending event must stay visible in the status index until it is released
+        maxDelayMillis = Math.min(scheduleConfig.getMaxDelayMillis(), eventStatusService.getMaxAgeMillis());
+        eventMetrics.registerScheduledPending(this::getPending);
+        running = true;
+        timer = new Thread(this::run, "scheduled-event-timer");
+        timer.setDaemon(true);
+        timer.start();
+        eventService.setScheduler(this);
+    }
+
+    /**
+     * Holds an event that already has its ID until its {@code sendAt}.
+     *
+     * @throws IllegalArgumentException if {@code sendAt} is further ahead than allowed
+     * @throws QueueFullException       if {@code events.schedule.max-pending} events are already waiting
+     */
+    public void schedule(Event event) {
+        long delay = event.getSendAt() - System.currentTimeMillis();
+        if (delay > maxDelayMillis) {
+            throw new IllegalArgumentException("sendAt must be at most " + maxDelayMillis + " ms ahead");
+        }
+        if (!wheel.schedule(event, event.getSendAt())) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(Math.min(delay, maxDelayMillis)));
+            throw new QueueFullException("Too many scheduled events, retry later", event.getEventType(),
+                    Math.min(retryAfterSeconds, 60));
+        }
+    }
+
+    /**
+     * @return the event, no longer scheduled, or {@code null} if no event with this ID is waiting
+     */
+    public Event cancel(String eventId) {
+        return wheel.cancel(eventId);
+    }
+
+    public long getPending() {
+        return wheel.size();
+    }
+
+    private void run() {
+        while (running) {
+            List<Event> due = wheel.advance(System.currentTimeMillis());
+            for (Event event : due) {
+                release(event);
+            }
+            long sleepMillis = wheel.nextTickMillis() - System.currentTimeMillis();
+            if (sleepMillis > 0) {
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(sleepMillis));
+            }
+        }
+    }
+
+    private void release(Event event) {
+        try {
+            eventService.releaseScheduled(event);
+        } catch (QueueFullException e) {
+            if (!wheel.schedule(event, System.currentTimeMillis() + scheduleConfig.getRequeueDelayMillis())) {
+                fail(event, "Queue full when due and too many scheduled events to retry later");
+            }
+        } catch (RuntimeException e) {
+            fail(event, e.getMessage());
+        }
+    }
+
+    private void fail(Event event, String reason) {
+        System.err.println("Dropping scheduled event " + event.getEventId() + ": " + reason);
+        eventMetrics.recordRejected(event.getEventType());
+        eventStatusService.finished(event, true);
+        callbackService.sendCallback(event.getCallbackUrl(), new CallbackRequest(event.getEventId(),
+                EventStatus.FAILED.name(), event.getEventType().toString(), reason, CachedClock.isoNow()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (timer != null) {
+            LockSupport.unpark(timer);
+        }
+        long pending = wheel == null ? 0 : wheel.size();
+        if (pending > 0) {
+            System.out.println("Shutting down with " + pending + " scheduled events not yet due; they are not kept");
+        }
+    }
+}
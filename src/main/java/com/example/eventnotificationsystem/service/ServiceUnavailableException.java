@@ -0,0 +1,17 @@
+package com.example.eventnotificationsystem.service;
+
+/**
+ * Thrown when this node cannot take an event right now, e.g. while shutting down or waiting
+ * for the cluster to settle; the request may succeed if retried later.
+ */
+public class ServiceUnavailableException extends IllegalStateException {
+    private static final long serialVersionUID = 1L;
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
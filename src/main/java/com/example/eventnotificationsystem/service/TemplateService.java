@@ -0,0 +1,131 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.TemplateConfig;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.MessageTemplate;
+import com.example.eventnotificationsystem.service.template.CompiledTemplate;
+import com.example.eventnotificationsystem.service.template.CompiledTemplateCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of message templates. An event submitted with a {@code templateId} is bound
+ * to the template when it is accepted, so missing parameters are rejected up front, but
+ * it carries only the parameter values while queued. The message is rendered by
+ * {@link EventProcessor} just before it is sent.
+ *
+ * <p>Template sources are held in memory, like scheduled events, and must be registered
+ * on every node of a cluster. Compiled forms live in a bounded
+ * {@link CompiledTemplateCache} and are recompiled from the source on a miss.
+ */
+@Service
+public class TemplateService {
+    private static final Pattern TEMPLATE_ID = Pattern.compile("[A-Za-z0-9_.-]{1,64}");
+
+    @Autowired
+    private TemplateConfig templateConfig;
+
+    private final Map<String, String> sources = new ConcurrentHashMap<>();
+    private CompiledTemplateCache cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new CompiledTemplateCache(templateConfig.getCacheSize(), templateConfig.getCacheShards());
+    }
+
+    /**
+     * Registers a template, or replaces it. Events already bound to the old content fail
+     * at delivery rather than render against the new one.
+     *
+     * @throws IllegalArgumentException if the ID or content is invalid, or the template
+     *                                  limit is reached
+     */
+    public MessageTemplate register(String templateId, String content) {
+        if (!TEMPLATE_ID.matcher(templateId).matches()) {
+            throw new IllegalArgumentException("Template ID must be 1 to 64 letters, digits, '_', '.' or '-'");
+        }
+        if (content.length() > templateConfig.getMaxLength()) {
+            throw new IllegalArgumentException("Template must be at most " + templateConfig.getMaxLength() + " characters");
+        }
+        CompiledTemplate template = CompiledTemplate.compile(content);
+        if (!sources.containsKey(templateId) && sources.size() >= templateConfig.getMaxTemplates()) {
+            throw new IllegalArgumentException("Template limit of " + templateConfig.getMaxTemplates() + " reached");
+        }
+        sources.put(templateId, content);
+        cache.put(templateId, template);
+        return describe(templateId, content, template);
+    }
+
+    /**
+     * @return the template, or {@code null} if none is registered under this ID
+     */
+    public MessageTemplate getTemplate(String templateId) {
+        String content = sources.get(templateId);
+        CompiledTemplate template = compiled(templateId);
+        return content == null || template == null ? null : describe(templateId, content, template);
+    }
+
+    public boolean remove(String templateId) {
+        boolean removed = sources.remove(templateId) != null;
+        cache.remove(templateId);
+        return removed;
+    }
+
+    /**
+     * Binds {@code params} to a registered template and records the result on the event
+     * in place of a message.
+     *
+     * @throws IllegalArgumentException if the template is unknown or a parameter is missing
+     */
+    public void bind(Event event, String templateId, Map<String, String> params) {
+        CompiledTemplate template = compiled(templateId);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown template: " + templateId);
+        }
+        event.setTemplateValues(template.bind(params));
+        event.setTemplateId(templateId);
+        event.setTemplateVersion(template.getVersion());
+    }
+
+    /**
+     * @return the event's message rendered from its template
+     * @throws IllegalStateException if the template was removed or changed since the event was accepted
+     */
+    public String render(Event event) {
+        CompiledTemplate template = compiled(event.getTemplateId());
+        if (template == null) {
+            throw new IllegalStateException("Template " + event.getTemplateId() + " is no longer registered");
+        }
+        if (template.getVersion() != event.getTemplateVersion()) {
+            throw new IllegalStateException("Template " + event.getTemplateId() + " changed after the event was accepted");
+        }
+        return template.render(event.getTemplateValues());
+    }
+
+    public int getCachedTemplates() {
+        return cache.size();
+    }
+
+    private CompiledTemplate compiled(String templateId) {
+        String content = sources.get(templateId);
+        if (content == null) {
+            return null;
+        }
+        CompiledTemplate template = cache.get(templateId);
+        // A concurrent re-registration may have cached a compiled form of other content
+        if (template == null || !template.getSource().equals(content)) {
+            template = CompiledTemplate.compile(content);
+            cache.put(templateId, template);
+        }
+        return template;
+    }
+
+    private static MessageTemplate describe(String templateId, String content, CompiledTemplate template) {
+        return new MessageTemplate(templateId, content, template.getVariables(), template.getVersion());
+    }
+}
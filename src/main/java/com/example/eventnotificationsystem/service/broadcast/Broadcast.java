@@ -0,0 +1,119 @@
+package com.example.eventnotificationsystem.service.broadcast;
+
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.PushEvent;
+import com.example.eventnotificationsystem.model.SmsEvent;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one broadcast: how far its recipient list has been expanded into events,
+ * how many of those are still in flight and how they ended. A single expander thread
+ * advances {@link #getNextIndex}; workers report outcomes concurrently.
+ */
+public class Broadcast {
+    private final String broadcastId;
+    // Channel, priority and message or bound template shared by every recipient event
+    private final Event prototype;
+    private final String callbackUrl;
+    private final int total;
+    private final long createdAt;
+    private volatile RecipientList recipients;
+    private volatile int nextIndex;
+    private volatile int invalid;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean cancelled;
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private volatile long completedAt;
+
+    public Broadcast(String broadcastId, Event prototype, String callbackUrl, RecipientList recipients, long createdAt) {
+        this.broadcastId = broadcastId;
+        this.prototype = prototype;
+        this.callbackUrl = callbackUrl;
+        this.recipients = recipients;
+        this.total = recipients.size();
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * @return the event delivering the broadcast to one recipient
+     */
+    public Event recipientEvent(String recipient, int index) {
+        Event event;
+        switch (prototype.getEventType()) {
+            case EMAIL:
+                EmailEvent emailEvent = new EmailEvent();
+                emailEvent.setRecipient(recipient);
+                event = emailEvent;
+                break;
+            case SMS:
+                SmsEvent smsEvent = new SmsEvent();
+                smsEvent.setPhoneNumber(recipient);
+                event = smsEvent;
+                break;
+            case PUSH:
+                PushEvent pushEvent = new PushEvent();
+                pushEvent.setDeviceId(recipient);
+                event = pushEvent;
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid event type: " + prototype.getEventType());
+        }
+        event.setEventId(broadcastId + "-" + index);
+        event.setBroadcastId(broadcastId);
+        event.setPriority(prototype.getPriority());
+        event.setMessage(prototype.getMessage());
+        event.setTemplateId(prototype.getTemplateId());
+        event.setTemplateVersion(prototype.getTemplateVersion());
+        event.setTemplateValues(prototype.getTemplateValues());
+        return event;
+    }
+
+    public void recordInvalid() {
+        invalid++;
+    }
+
+    public void recordOutcome(boolean failed) {
+        (failed ? this.failed : delivered).incrementAndGet();
+    }
+
+    /**
+     * @return {@code true} for the one caller that gets to finish the broadcast
+     */
+    public boolean markFinished(long nowMillis) {
+        if (!finished.compareAndSet(false, true)) {
+            return false;
+        }
+        completedAt = nowMillis;
+        // The list is not needed for the summary; drop it so a retained broadcast is small
+        recipients = null;
+        return true;
+    }
+
+    public boolean isExpanded() {
+        return nextIndex == total;
+    }
+
+    // Getters and setters
+    public String getBroadcastId() { return broadcastId; }
+    public Event getPrototype() { return prototype; }
+    public String getCallbackUrl() { return callbackUrl; }
+    public int getTotal() { return total; }
+    public long getCreatedAt() { return createdAt; }
+    public RecipientList getRecipients() { return recipients; }
+    public int getNextIndex() { return nextIndex; }
+    public void setNextIndex(int nextIndex) { this.nextIndex = nextIndex; }
+    public int getInvalid() { return invalid; }
+    public AtomicInteger getInFlight() { return inFlight; }
+    public long getDelivered() { return delivered.get(); }
+    public long getFailed() { return failed.get(); }
+    public boolean isCancelled() { return cancelled; }
+    public void setCancelled(boolean cancelled) { this.cancelled = cancelled; }
+    public boolean isFinished() { return finished.get(); }
+    public long getCompletedAt() { return completedAt; }
+}
@@ -0,0 +1,58 @@
+package com.example.eventnotificationsystem.service.broadcast;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Append-only list of recipient addresses packed as UTF-8 into one byte array, with an
+ * offset per entry. A recipient costs its encoded length plus four bytes, against some
+ * 60 bytes for the same address held as a {@code String}, and the list is two objects
+ * however long it grows. Entries are decoded on demand by {@link #get}.
+ *
+ * <p>Not thread-safe while it is being built; once handed to a broadcast it is only read.
+ */
+public final class RecipientList {
+    private byte[] bytes = new byte[1024];
+    // Start of entry i; offsets[size] is the end of the last entry
+    private int[] offsets = new int[65];
+    private int size;
+
+    public void add(String recipient) {
+        byte[] encoded = recipient.getBytes(StandardCharsets.UTF_8);
+        int end = offsets[size];
+        if (end + encoded.length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(end + encoded.length, bytes.length * 2));
+        }
+        if (size + 2 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        System.arraycopy(encoded, 0, bytes, end, encoded.length);
+        offsets[++size] = end + encoded.length;
+    }
+
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Recipient " + index + " of " + size);
+        }
+        return new String(bytes, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Releases the spare capacity left by growing; call once the last recipient is added.
+     */
+    public void trim() {
+        bytes = Arrays.copyOf(bytes, offsets[size]);
+        offsets = Arrays.copyOf(offsets, size + 1);
+    }
+
+    /**
+     * @return bytes held by the two arrays
+     */
+    public long sizeInBytes() {
+        return bytes.length + 4L * offsets.length;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.service.timer.TimingWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * Coalesces callbacks bound for the same URL. The first callback for a URL opens a batch
+ * that is handed to the sink once it holds {@code maxBatchSize} callbacks or
+ * {@code windowMillis} after it was opened, whichever comes first.
+ */
+public class CallbackBatcher {
+    private final int maxBatchSize;
+    private final long windowMillis;
+    private final TimingWheel timer;
+    private final BiConsumer<String, List<CallbackRequest>> sink;
+    private final Map<String, Batch> openBatches = new ConcurrentHashMap<>();
+    private final AtomicInteger buffered = new AtomicInteger();
+
+    public CallbackBatcher(int maxBatchSize, long windowMillis, TimingWheel timer,
+                           BiConsumer<String, List<CallbackRequest>> sink) {
+        this.maxBatchSize = maxBatchSize;
+        this.windowMillis = windowMillis;
+        this.timer = timer;
+        this.sink = sink;
+    }
+
+    public void add(String callbackUrl, CallbackRequest callbackRequest) {
+        List<CallbackRequest> full = null;
+        while (true) {
+            Batch batch = openBatches.computeIfAbsent(callbackUrl, url -> new Batch());
+            synchronized (batch) {
+                if (batch.closed) {
+                    // Flushed between lookup and lock; start over with a fresh batch
+                    continue;
+                }
+                batch.callbacks.add(callbackRequest);
+                buffered.incrementAndGet();
+                if (batch.callbacks.size() >= maxBatchSize) {
+                    full = close(callbackUrl, batch);
+                } else if (batch.timeout == null) {
+                    batch.timeout = timer.schedule(() -> flush(callbackUrl, batch), windowMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+            break;
+        }
+        if (full != null) {
+            sink.accept(callbackUrl, full);
+        }
+    }
+
+    /**
+     * Hands every open batch to the sink immediately.
+     */
+    public void flushAll() {
+        for (Map.Entry<String, Batch> entry : openBatches.entrySet()) {
+            flush(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public int getBuffered() {
+        return buffered.get();
+    }
+
+    private void flush(String callbackUrl, Batch batch) {
+        List<CallbackRequest> callbacks;
+        synchronized (batch) {
+            if (batch.closed) {
+                return;
+            }
+            callbacks = close(callbackUrl, batch);
+        }
+        sink.accept(callbackUrl, callbacks);
+    }
+
+    // Caller holds the batch monitor
+    private List<CallbackRequest> close(String callbackUrl, Batch batch) {
+        batch.closed = true;
+        openBatches.remove(callbackUrl, batch);
+        if (batch.timeout != null) {
+            batch.timeout.cancel();
+        }
+        buffered.addAndGet(-batch.callbacks.size());
+        return batch.callbacks;
+    }
+
+    private static final class Batch {
+        private final List<CallbackRequest> callbacks = new ArrayList<>();
+        private TimingWheel.Timeout timeout;
+        private boolean closed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import com.example.eventnotificationsystem.model.CallbackRequest;
+
+import java.util.List;
+
+/**
+ * One callback POST together with its delivery history, carried across retries. A
+ * delivery carries either a single callback or a batch of callbacks for the same URL,
+ * which is posted as a JSON array.
+ */
+public class CallbackDelivery {
+    private final String callbackUrl;
+    private final List<CallbackRequest> callbackRequests;
+    private final boolean batch;
+    private int attempts;
+    private String lastError;
+
+    public CallbackDelivery(String callbackUrl, CallbackRequest callbackRequest) {
+        this(callbackUrl, List.of(callbackRequest), false);
+    }
+
+    public CallbackDelivery(String callbackUrl, List<CallbackRequest> callbackRequests) {
+        this(callbackUrl, callbackRequests, true);
+    }
+
+    private CallbackDelivery(String callbackUrl, List<CallbackRequest> callbackRequests, boolean batch) {
+        this.callbackUrl = callbackUrl;
+        this.callbackRequests = callbackRequests;
+        this.batch = batch;
+    }
+
+    public String getCallbackUrl() { return callbackUrl; }
+    public List<CallbackRequest> getCallbackRequests() { return callbackRequests; }
+    public boolean isBatch() { return batch; }
+    public int getAttempts() { return attempts; }
+    public String getLastError() { return lastError; }
+
+    /**
+     * The request body: the callback itself, or the array of callbacks for a batch.
+     */
+    public Object getBody() {
+        return batch ? callbackRequests : callbackRequests.get(0);
+    }
+
+    public void recordAttempt() {
+        attempts++;
+    }
+
+    public void recordFailure(String error) {
+        this.lastError = error;
+    }
+}
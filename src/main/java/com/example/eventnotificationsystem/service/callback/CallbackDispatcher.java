@@ -0,0 +1,164 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Admission stage for asynchronous deliveries. At most {@code maxInFlight} deliveries run
+ * at once overall and at most {@code maxInFlightPerHost} per destination; anything over
+ * those limits waits in a per-host lane, and lanes are served round-robin so one slow
+ * host cannot hold back the others. Submitting never blocks the caller.
+ *
+ * <p>Deliveries are started by whichever thread is draining the startable queue. A
+ * delivery whose future completes at once, or a completion that frees a slot while
+ * another thread is draining, only adds to that queue, so the stack does not grow with
+ * the backlog.
+ */
+public class CallbackDispatcher {
+    private final int maxInFlight;
+    private final int maxInFlightPerHost;
+    private final int maxPending;
+
+    private final Object lock = new Object();
+    private final Map<String, HostLane> lanes = new HashMap<>();
+    private final ArrayDeque<HostLane> readyLanes = new ArrayDeque<>();
+    private final ArrayDeque<Runnable> startable = new ArrayDeque<>();
+    private boolean draining;
+    private int inFlight;
+    private int pending;
+
+    public CallbackDispatcher(int maxInFlight, int maxInFlightPerHost, int maxPending) {
+        if (maxInFlight <= 0 || maxInFlightPerHost <= 0) {
+            throw new IllegalArgumentException("In-flight limits must be positive");
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxInFlightPerHost = maxInFlightPerHost;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Queues a delivery for {@code host}. The supplier is invoked once a slot is free and
+     * must return a future that completes when the delivery has finished.
+     *
+     * @return {@code false} if the pending backlog is full and the delivery was rejected
+     */
+    public boolean submit(String host, Supplier<? extends CompletableFuture<?>> delivery) {
+        synchronized (lock) {
+            if (pending >= maxPending) {
+                return false;
+            }
+            HostLane lane = lanes.computeIfAbsent(host, HostLane::new);
+            lane.pending.add(delivery);
+            pending++;
+            markReady(lane);
+            if (!collectStartable()) {
+                return true;
+            }
+        }
+        drain();
+        return true;
+    }
+
+    private void complete(HostLane lane) {
+        synchronized (lock) {
+            lane.inFlight--;
+            inFlight--;
+            markReady(lane);
+            if (lane.inFlight == 0 && lane.pending.isEmpty()) {
+                lanes.remove(lane.host);
+            }
+            if (!collectStartable()) {
+                return;
+            }
+        }
+        drain();
+    }
+
+    // Runs starts until none are left, including those queued by completions it triggers
+    private void drain() {
+        while (true) {
+            Runnable next;
+            synchronized (lock) {
+                next = startable.poll();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            next.run();
+        }
+    }
+
+    private void markReady(HostLane lane) {
+        if (!lane.ready && !lane.pending.isEmpty() && lane.inFlight < maxInFlightPerHost) {
+            lane.ready = true;
+            readyLanes.add(lane);
+        }
+    }
+
+    /**
+     * Moves deliveries that may start onto the startable queue.
+     *
+     * @return {@code true} if the caller must now drain it, {@code false} if nothing is
+     * startable or another call already is draining
+     */
+    private boolean collectStartable() {
+        while (inFlight < maxInFlight && !readyLanes.isEmpty()) {
+            HostLane lane = readyLanes.poll();
+            lane.ready = false;
+            Supplier<? extends CompletableFuture<?>> delivery = lane.pending.poll();
+            lane.inFlight++;
+            inFlight++;
+            pending--;
+            markReady(lane);
+            startable.add(() -> start(lane, delivery));
+        }
+        if (draining || startable.isEmpty()) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    private void start(HostLane lane, Supplier<? extends CompletableFuture<?>> delivery) {
+        CompletableFuture<?> future;
+        try {
+            future = delivery.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((result, error) -> complete(lane));
+    }
+
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public int getPending() {
+        synchronized (lock) {
+            return pending;
+        }
+    }
+
+    public int getActiveHosts() {
+        synchronized (lock) {
+            return lanes.size();
+        }
+    }
+
+    private static final class HostLane {
+        private final String host;
+        private final ArrayDeque<Supplier<? extends CompletableFuture<?>>> pending = new ArrayDeque<>();
+        private int inFlight;
+        private boolean ready;
+
+        private HostLane(String host) {
+            this.host = host;
+        }
+    }
+}
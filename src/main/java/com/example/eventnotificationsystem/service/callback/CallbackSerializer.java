@@ -0,0 +1,157 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes callback bodies straight to UTF-8 bytes with a streaming {@link JsonGenerator},
+ * producing the same JSON as {@code ObjectMapper} would for {@link CallbackRequest}.
+ *
+ * <p>Field names and the known status and event type values are pre-encoded once, so
+ * for them the generator only copies bytes. Each thread keeps one generator over a
+ * growable buffer and reuses it for every body it writes, so the exact-size array handed
+ * to the HTTP client is the only allocation per callback.
+ */
+public class CallbackSerializer {
+    private static final SerializableString EVENT_ID = new SerializedString("eventId");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString EVENT_TYPE = new SerializedString("eventType");
+    private static final SerializableString ERROR_MESSAGE = new SerializedString("errorMessage");
+    private static final SerializableString PROCESSED_AT = new SerializedString("processedAt");
+    private static final String[] KNOWN_VALUES = {"COMPLETED", "FAILED", "EMAIL", "SMS", "PUSH"};
+    private static final SerializableString[] KNOWN_VALUES_ENCODED = new SerializableString[KNOWN_VALUES.length];
+
+    static {
+        for (int i = 0; i < KNOWN_VALUES.length; i++) {
+            KNOWN_VALUES_ENCODED[i] = new SerializedString(KNOWN_VALUES[i]);
+        }
+    }
+
+    private final JsonFactory jsonFactory = new JsonFactoryBuilder().rootValueSeparator((String) null).build();
+    private final ThreadLocal<Writer> writers = ThreadLocal.withInitial(this::newWriter);
+
+    public byte[] serialize(CallbackDelivery delivery) throws IOException {
+        Writer writer = writers.get();
+        try {
+            if (delivery.isBatch()) {
+                writeArray(writer.generator, delivery.getCallbackRequests());
+            } else {
+                write(writer.generator, delivery.getCallbackRequests().get(0));
+            }
+            writer.generator.flush();
+            return writer.buffer.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            // The generator may be left mid-document; start the next body with a fresh one
+            writers.remove();
+            throw e;
+        } finally {
+            writer.buffer.reset();
+        }
+    }
+
+    private static void writeArray(JsonGenerator generator, List<CallbackRequest> callbackRequests) throws IOException {
+        generator.writeStartArray();
+        for (CallbackRequest callbackRequest : callbackRequests) {
+            write(generator, callbackRequest);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void write(JsonGenerator generator, CallbackRequest callbackRequest) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(EVENT_ID);
+        generator.writeString(callbackRequest.getEventId());
+        generator.writeFieldName(STATUS);
+        writeValue(generator, callbackRequest.getStatus());
+        generator.writeFieldName(EVENT_TYPE);
+        writeValue(generator, callbackRequest.getEventType());
+        generator.writeFieldName(ERROR_MESSAGE);
+        generator.writeString(callbackRequest.getErrorMessage());
+        generator.writeFieldName(PROCESSED_AT);
+        generator.writeString(callbackRequest.getProcessedAt());
+        generator.writeEndObject();
+    }
+
+    private static void writeValue(JsonGenerator generator, String value) throws IOException {
+        if (value != null) {
+            for (int i = 0; i < KNOWN_VALUES.length; i++) {
+                // Values come from the enum constants, so an identity check usually hits
+                if (value == KNOWN_VALUES[i] || value.equals(KNOWN_VALUES[i])) {
+                    generator.writeString(KNOWN_VALUES_ENCODED[i]);
+                    return;
+                }
+            }
+        }
+        generator.writeString(value);
+    }
+
+    private Writer newWriter() {
+        Buffer buffer = new Buffer();
+        try {
+            return new Writer(buffer, jsonFactory.createGenerator(buffer));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot create JSON generator", e);
+        }
+    }
+
+    private static final class Writer {
+        private final Buffer buffer;
+        private final JsonGenerator generator;
+
+        private Writer(Buffer buffer, JsonGenerator generator) {
+            this.buffer = buffer;
+            this.generator = generator;
+        }
+    }
+
+    /**
+     * Unsynchronized growable byte buffer; each instance is confined to one thread.
+     */
+    private static final class Buffer extends OutputStream {
+        private static final int INITIAL_SIZE = 512;
+        // Large batches may grow the buffer; it is not kept beyond this size between bodies
+        private static final int RETAINED_SIZE = 64 * 1024;
+
+        private byte[] bytes = new byte[INITIAL_SIZE];
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] source, int offset, int length) {
+            ensureCapacity(count + length);
+            System.arraycopy(source, offset, bytes, count, length);
+            count += length;
+        }
+
+        private void ensureCapacity(int needed) {
+            if (needed > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(needed, bytes.length * 2));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, count);
+        }
+
+        void reset() {
+            count = 0;
+            if (bytes.length > RETAINED_SIZE) {
+                bytes = new byte[INITIAL_SIZE];
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.eventnotificationsystem.service.callback;
+
+/**
+ * Circuit breaker for one callback host.
+ *
+ * <p>While CLOSED it records the outcome of the last {@code windowSize} deliveries and
+ * opens once at least {@code minimumCalls} are recorded and the failure rate reaches
+ * {@code failureRateThreshold} percent. While OPEN every delivery is refused without a
+ * connection attempt. After {@code openNanos} it goes HALF_OPEN and admits
+ * {@code halfOpenTrials} trial deliveries. If they all succeed it closes with a clean
+ * window; the first failure opens it again.
+ *
+ * <p>Each breaker synchronizes on itself, so breakers for different hosts never contend.
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String host;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenTrials;
+
+    // Ring of the most recent outcomes while closed; true is a failure
+    private final boolean[] outcomes;
+    private int next;
+    private int recorded;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int trialsStarted;
+    private int trialsSucceeded;
+    private long lastUsedAt;
+
+    public CircuitBreaker(String host, int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openNanos, int halfOpenTrials) {
+        validate(windowSize, minimumCalls, halfOpenTrials);
+        this.host = host;
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenTrials = halfOpenTrials;
+    }
+
+    static void validate(int windowSize, int minimumCalls, int halfOpenTrials) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenTrials <= 0) {
+            throw new IllegalArgumentException("Invalid circuit breaker window: size " + windowSize
+                    + ", minimum calls " + minimumCalls + ", half-open trials " + halfOpenTrials);
+        }
+    }
+
+    /**
+     * Asks to start a delivery. A permitted delivery must report back through
+     * {@link #onSuccess} or {@link #onFailure}.
+     *
+     * @return 0 if the delivery may go ahead, otherwise the nanoseconds until the breaker
+     * may admit one again
+     */
+    public synchronized long tryAcquire(long nowNanos) {
+        lastUsedAt = nowNanos;
+        if (state == State.OPEN) {
+            long remaining = openNanos - (nowNanos - openedAt);
+            if (remaining > 0) {
+                return remaining;
+            }
+            state = State.HALF_OPEN;
+            trialsStarted = 0;
+            trialsSucceeded = 0;
+            System.out.println("Circuit half-open for callback host " + host);
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsStarted == halfOpenTrials) {
+                // Trials are in flight; their outcome decides, which takes about a request
+                return 1;
+            }
+            trialsStarted++;
+        }
+        return 0;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++trialsSucceeded == halfOpenTrials) {
+                state = State.CLOSED;
+                next = 0;
+                recorded = 0;
+                failures = 0;
+                System.out.println("Circuit closed for callback host " + host);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+        // Responses to deliveries started before the breaker opened are ignored
+    }
+
+    public synchronized void onFailure(long nowNanos) {
+        if (state == State.HALF_OPEN) {
+            open(nowNanos, "a failed trial");
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100.0 >= failureRateThreshold * recorded) {
+                open(nowNanos, failures + " failures in " + recorded + " calls");
+            }
+        }
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = next + 1 == outcomes.length ? 0 : next + 1;
+    }
+
+    private void open(long nowNanos, String reason) {
+        state = State.OPEN;
+        openedAt = nowNanos;
+        System.err.println("Circuit opened for callback host " + host + " after " + reason);
+    }
+
+    /**
+     * @return whether the breaker is closed and no delivery has asked it for {@code idleNanos}
+     */
+    public synchronized boolean isIdle(long nowNanos, long idleNanos) {
+        return state == State.CLOSED && nowNanos - lastUsedAt >= idleNanos;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * @return failure rate in percent over the current window while closed
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : failures * 100.0 / recorded;
+    }
+
+    public synchronized int getRecorded() {
+        return recorded;
+    }
+}
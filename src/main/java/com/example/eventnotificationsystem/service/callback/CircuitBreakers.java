@@ -0,0 +1,88 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One {@link CircuitBreaker} per callback host, created on first use with shared settings.
+ * At most {@code maxHosts} are kept. When that many exist, breakers that are closed and
+ * have been idle for {@code openNanos} are swept out, at most once per {@code openNanos};
+ * if none can go, new hosts are delivered to without a breaker until the next sweep.
+ */
+public class CircuitBreakers {
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenTrials;
+    private final int maxHosts;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Object sweepLock = new Object();
+    private long lastSweepAt;
+    private boolean swept;
+
+    public CircuitBreakers(int windowSize, int minimumCalls, double failureRateThreshold, long openNanos, int halfOpenTrials,
+                           int maxHosts) {
+        // Checked here so bad settings fail at startup rather than on a delivery thread
+        CircuitBreaker.validate(windowSize, minimumCalls, halfOpenTrials);
+        if (maxHosts <= 0) {
+            throw new IllegalArgumentException("maxHosts must be positive");
+        }
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenTrials = halfOpenTrials;
+        this.maxHosts = maxHosts;
+    }
+
+    /**
+     * @return the host's breaker, or {@code null} if the limit of hosts is reached
+     */
+    public CircuitBreaker forHost(String host, long nowNanos) {
+        CircuitBreaker breaker = breakers.get(host);
+        if (breaker == null) {
+            if (breakers.size() >= maxHosts && !sweep(nowNanos)) {
+                return null;
+            }
+            breaker = breakers.computeIfAbsent(host, h ->
+                    new CircuitBreaker(h, windowSize, minimumCalls, failureRateThreshold, openNanos, halfOpenTrials));
+        }
+        return breaker;
+    }
+
+    /**
+     * @return whether there is room for another breaker afterwards
+     */
+    private boolean sweep(long nowNanos) {
+        synchronized (sweepLock) {
+            if (swept && nowNanos - lastSweepAt < openNanos) {
+                return breakers.size() < maxHosts;
+            }
+            swept = true;
+            lastSweepAt = nowNanos;
+            breakers.values().removeIf(breaker -> breaker.isIdle(nowNanos, openNanos));
+            return breakers.size() < maxHosts;
+        }
+    }
+
+    public int size() {
+        return breakers.size();
+    }
+
+    public List<CircuitBreaker> list() {
+        return new ArrayList<>(breakers.values());
+    }
+
+    public int getOpenCount() {
+        int open = 0;
+        for (CircuitBreaker breaker : breakers.values()) {
+            if (breaker.getState() != CircuitBreaker.State.CLOSED) {
+                open++;
+            }
+        }
+        return open;
+    }
+}
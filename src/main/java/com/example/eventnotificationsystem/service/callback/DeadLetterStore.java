@@ -0,0 +1,63 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import com.example.eventnotificationsystem.model.DeadLetter;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory store of callbacks that exhausted their retries, keyed by event ID. Once
+ * {@code maxSize} is reached the oldest entry is evicted to make room.
+ */
+public class DeadLetterStore {
+    private final int maxSize;
+    private final LinkedHashMap<String, DeadLetter> entries = new LinkedHashMap<>();
+    private long evicted;
+
+    public DeadLetterStore(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public synchronized void add(DeadLetter deadLetter) {
+        entries.remove(deadLetter.getEventId());
+        entries.put(deadLetter.getEventId(), deadLetter);
+        if (entries.size() > maxSize) {
+            Iterator<Map.Entry<String, DeadLetter>> oldest = entries.entrySet().iterator();
+            oldest.next();
+            oldest.remove();
+            evicted++;
+        }
+    }
+
+    public synchronized List<DeadLetter> list(int limit) {
+        List<DeadLetter> result = new ArrayList<>(Math.min(limit, entries.size()));
+        for (DeadLetter deadLetter : entries.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(deadLetter);
+        }
+        return result;
+    }
+
+    public synchronized DeadLetter remove(String eventId) {
+        return entries.remove(eventId);
+    }
+
+    public synchronized List<DeadLetter> removeAll() {
+        List<DeadLetter> result = new ArrayList<>(entries.values());
+        entries.clear();
+        return result;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getEvicted() {
+        return evicted;
+    }
+}
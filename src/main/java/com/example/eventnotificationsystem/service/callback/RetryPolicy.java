@@ -0,0 +1,43 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with "equal jitter": the n-th retry waits between half and all of
+ * {@code min(maxBackoff, initialBackoff * multiplier^(n-1))}, which spreads out retries
+ * that failed together without ever retrying immediately.
+ */
+public class RetryPolicy {
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+
+    public RetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis, double multiplier) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.multiplier = multiplier;
+    }
+
+    /**
+     * @param attempts delivery attempts made so far, including the one that just failed
+     */
+    public boolean canRetry(int attempts) {
+        return attempts < maxAttempts;
+    }
+
+    /**
+     * @param attempts delivery attempts made so far, including the one that just failed
+     */
+    public long backoffMillis(int attempts) {
+        double exponential = initialBackoffMillis * Math.pow(multiplier, Math.max(0, attempts - 1));
+        long capped = (long) Math.min(maxBackoffMillis, exponential);
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(capped - half + 1);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+}
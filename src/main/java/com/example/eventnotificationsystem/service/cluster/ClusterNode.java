@@ -0,0 +1,13 @@
+package com.example.eventnotificationsystem.service.cluster;
+
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventResponse;
+
+/**
+ * The receiving end of a {@link ClusterTransport}.
+ */
+public interface ClusterNode {
+    EventResponse receive(Event event, String idempotencyKey, int hops);
+
+    void handoffComplete(int partition);
+}
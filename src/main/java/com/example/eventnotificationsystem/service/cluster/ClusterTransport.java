@@ -0,0 +1,24 @@
+package com.example.eventnotificationsystem.service.cluster;
+
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventResponse;
+
+/**
+ * Carries cluster traffic between nodes. {@link LocalClusterTransport} connects nodes
+ * in one JVM; {@link HttpClusterTransport} connects separate processes.
+ */
+public interface ClusterTransport {
+    /**
+     * Submits an event on the node that owns its partition.
+     *
+     * @param hops how many times the event has already been forwarded
+     * @return the owner's response; failures are rethrown as the exception the owner raised
+     */
+    EventResponse forward(String nodeId, Event event, String idempotencyKey, int hops);
+
+    /**
+     * Tells the new owner of {@code partition} that this node has finished every event it
+     * accepted for it, so the new owner can start taking events for the partition.
+     */
+    void handoffComplete(String nodeId, int partition);
+}
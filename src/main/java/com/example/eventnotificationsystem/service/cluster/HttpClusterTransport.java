@@ -0,0 +1,136 @@
+package com.example.eventnotificationsystem.service.cluster;
+
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventResponse;
+import com.example.eventnotificationsystem.service.IdempotencyConflictException;
+import com.example.eventnotificationsystem.service.QueueFullException;
+import com.example.eventnotificationsystem.service.ServiceUnavailableException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Connects nodes over the internal HTTP endpoints under {@code /internal/cluster}. Errors
+ * the owner answers with are turned back into the exceptions that produced them, so the
+ * entry node answers its client exactly as the owner would have.
+ */
+public class HttpClusterTransport implements ClusterTransport {
+    public static final String EVENT_TYPE_HEADER = "X-Event-Type";
+    public static final String HOPS_HEADER = "X-Cluster-Hops";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String SECRET_HEADER = "X-Cluster-Secret";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Function<String, String> baseUrlOf;
+    private final Duration requestTimeout;
+    private final String secret;
+
+    /**
+     * @param baseUrlOf resolves a node ID to its base URL, such as {@code http://10.0.0.5:8080}
+     * @param secret    the cluster's shared secret, sent with every call
+     */
+    public HttpClusterTransport(ObjectMapper objectMapper, Function<String, String> baseUrlOf, Duration requestTimeout,
+                                String secret) {
+        this.httpClient = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+        this.objectMapper = objectMapper;
+        this.baseUrlOf = baseUrlOf;
+        this.requestTimeout = requestTimeout;
+        this.secret = secret;
+    }
+
+    @Override
+    public EventResponse forward(String nodeId, Event event, String idempotencyKey, int hops) {
+        HttpRequest.Builder request;
+        try {
+            request = HttpRequest.newBuilder()
+                    .uri(uri(nodeId, "/internal/cluster/events"))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header(SECRET_HEADER, secret)
+                    .header(EVENT_TYPE_HEADER, event.getEventType().name())
+                    .header(HOPS_HEADER, String.valueOf(hops))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(event)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize event for cluster node " + nodeId, e);
+        }
+        if (idempotencyKey != null) {
+            request.header(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        HttpResponse<byte[]> response = send(nodeId, request.build());
+        int status = response.statusCode();
+        if (status == 200) {
+            try {
+                JsonNode body = objectMapper.readTree(response.body());
+                EventResponse eventResponse = new EventResponse(body.path("eventId").asText(null), body.path("message").asText(null));
+                eventResponse.setReplayed(response.headers().firstValue(REPLAYED_HEADER).isPresent());
+                return eventResponse;
+            } catch (IOException e) {
+                throw new IllegalStateException("Unreadable response from cluster node " + nodeId, e);
+            }
+        }
+        String message = errorMessage(response);
+        switch (status) {
+            case 400:
+                throw new IllegalArgumentException(message);
+            case 409:
+                throw new IdempotencyConflictException(idempotencyKey);
+            case 429:
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                throw new QueueFullException(event.getEventType(), retryAfter);
+            case 503:
+                throw new ServiceUnavailableException(message);
+            default:
+                throw new IllegalStateException("Cluster node " + nodeId + " answered HTTP " + status + ": " + message);
+        }
+    }
+
+    @Override
+    public void handoffComplete(String nodeId, int partition) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(uri(nodeId, "/internal/cluster/handoff/" + partition))
+                .timeout(requestTimeout)
+                .header(SECRET_HEADER, secret)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<byte[]> response = send(nodeId, request);
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Cluster node " + nodeId + " answered HTTP " + response.statusCode() + " to a handoff");
+        }
+    }
+
+    private URI uri(String nodeId, String path) {
+        String baseUrl = baseUrlOf.apply(nodeId);
+        if (baseUrl == null) {
+            throw new IllegalStateException("No address for cluster node " + nodeId);
+        }
+        return URI.create(baseUrl + path);
+    }
+
+    private HttpResponse<byte[]> send(String nodeId, HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new ServiceUnavailableException("Cluster node " + nodeId + " is not reachable: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while forwarding to cluster node " + nodeId, e);
+        }
+    }
+
+    private String errorMessage(HttpResponse<byte[]> response) {
+        try {
+            return objectMapper.readTree(response.body()).path("message").asText("HTTP " + response.statusCode());
+        } catch (IOException e) {
+            return "HTTP " + response.statusCode();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.eventnotificationsystem.service.cluster;
+
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventResponse;
+import com.example.eventnotificationsystem.service.ServiceUnavailableException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Connects nodes running in the same JVM by calling them directly. Used to test and
+ * benchmark several nodes in one process.
+ */
+public class LocalClusterTransport implements ClusterTransport {
+    private final Map<String, ClusterNode> nodes = new ConcurrentHashMap<>();
+
+    public void register(String nodeId, ClusterNode node) {
+        nodes.put(nodeId, node);
+    }
+
+    public void unregister(String nodeId) {
+        nodes.remove(nodeId);
+    }
+
+    @Override
+    public EventResponse forward(String nodeId, Event event, String idempotencyKey, int hops) {
+        return node(nodeId).receive(event, idempotencyKey, hops);
+    }
+
+    @Override
+    public void handoffComplete(String nodeId, int partition) {
+        node(nodeId).handoffComplete(partition);
+    }
+
+    private ClusterNode node(String nodeId) {
+        ClusterNode node = nodes.get(nodeId);
+        if (node == null) {
+            throw new ServiceUnavailableException("Cluster node " + nodeId + " is not reachable");
+        }
+        return node;
+    }
+}
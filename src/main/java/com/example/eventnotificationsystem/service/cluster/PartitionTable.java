@@ -0,0 +1,101 @@
+package com.example.eventnotificationsystem.service.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Immutable assignment of a fixed number of partitions to cluster members.
+ *
+ * <p>A destination always hashes to the same partition. Partitions are mapped to members
+ * by consistent hashing: every member places {@code virtualNodes} points on a 64-bit
+ * ring, and a partition belongs to the member owning the first point at or after the
+ * partition's own position. When a member joins or leaves, only the partitions between
+ * its points and their predecessors move, about {@code 1/members} of them, and every
+ * other partition stays where it is. Every node computes the same table from the same
+ * member list, so no coordination is needed to agree on owners.
+ */
+public final class PartitionTable {
+    private final List<String> members;
+    private final String[] owners;
+
+    public PartitionTable(Collection<String> members, int partitionCount, int virtualNodes) {
+        if (members.isEmpty() || partitionCount <= 0 || virtualNodes <= 0) {
+            throw new IllegalArgumentException("A partition table needs members, partitions and virtual nodes");
+        }
+        this.members = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(members)));
+        int pointCount = this.members.size() * virtualNodes;
+        long[] points = new long[pointCount];
+        String[] pointOwners = new String[pointCount];
+        // Sorted by position on the ring; ties are broken by member name so every node agrees
+        Integer[] order = new Integer[pointCount];
+        for (int m = 0; m < this.members.size(); m++) {
+            for (int v = 0; v < virtualNodes; v++) {
+                int i = m * virtualNodes + v;
+                points[i] = hash(this.members.get(m) + "#" + v);
+                pointOwners[i] = this.members.get(m);
+                order[i] = i;
+            }
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byPoint = Long.compare(points[a], points[b]);
+            return byPoint != 0 ? byPoint : pointOwners[a].compareTo(pointOwners[b]);
+        });
+        long[] ring = new long[pointCount];
+        String[] ringOwners = new String[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            ring[i] = points[order[i]];
+            ringOwners[i] = pointOwners[order[i]];
+        }
+        owners = new String[partitionCount];
+        for (int p = 0; p < partitionCount; p++) {
+            int at = Arrays.binarySearch(ring, hash("partition-" + p));
+            if (at < 0) {
+                at = -at - 1;
+            }
+            owners[p] = ringOwners[at == pointCount ? 0 : at];
+        }
+    }
+
+    public int partitionOf(String destination) {
+        return (int) Long.remainderUnsigned(hash(destination), owners.length);
+    }
+
+    public String ownerOf(int partition) {
+        return owners[partition];
+    }
+
+    public int getPartitionCount() {
+        return owners.length;
+    }
+
+    public List<String> getMembers() {
+        return members;
+    }
+
+    public int countOwnedBy(String member) {
+        int count = 0;
+        for (String owner : owners) {
+            if (owner.equals(member)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // FNV-1a over the chars followed by a finalizer, so close keys still spread over the ring
+    static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ h >>> 33;
+    }
+}
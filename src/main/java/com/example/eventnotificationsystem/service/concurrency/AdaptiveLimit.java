@@ -0,0 +1,151 @@
+package com.example.eventnotificationsystem.service.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit for one channel, tuned AIMD style from the latency of the work it
+ * admits. Workers report through {@link #started} and {@link #finished}, and {@link #update}
+ * is called once per interval from a single controller thread.
+ */
+public class AdaptiveLimit {
+    private static final double MAX_CUT = 0.5;
+    // Only cuts to this share of the limit or below are judged; the effect of smaller ones
+    // is lost in the noise
+    private static final double JUDGED_CUT = 0.8;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final LongAdder latencySum = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private volatile int limit;
+
+    private volatile long latencyNanos;
+    private volatile long baselineNanos;
+    // Latency before the last large cut and the latency the cut should bring if the
+    // provider was overloaded; 0 once the cut has been judged
+    private long latencyBeforeCut;
+    private long latencyExpectedAfterCut;
+    private boolean settling;
+
+    /**
+     * @param tolerance how many times the baseline latency may grow before the limit is cut
+     */
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit <= 0 || maxLimit < minLimit || tolerance < 1) {
+            throw new IllegalArgumentException("Require 0 < min <= max and a tolerance of at least 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = clamp(initialLimit);
+    }
+
+    public void started() {
+        int current = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(current, Math::max);
+    }
+
+    public void finished(long latencyNanos) {
+        inFlight.decrementAndGet();
+        latencySum.add(latencyNanos);
+        samples.increment();
+    }
+
+    /**
+     * Adjusts the limit from the latency reported since the previous update.
+     *
+     * @param backlog events waiting for a worker
+     * @return the new limit
+     */
+    public int update(int backlog) {
+        long count = samples.sumThenReset();
+        long sum = latencySum.sumThenReset();
+        boolean idleWorker = peakInFlight.getAndSet(inFlight.get()) < limit;
+        int current = limit;
+        int next = current;
+        if (count == 0) {
+            // With a backlog, work takes longer than an interval; wait until some completes
+            if (backlog == 0) {
+                next = current - 1;
+            }
+        } else if (settling) {
+            latencyNanos = sum / count;
+            settling = false;
+        } else {
+            long latency = sum / count;
+            latencyNanos = latency;
+            boolean slowedDown = latencyBeforeCut > 0
+                    && latency > (latencyBeforeCut + latencyExpectedAfterCut) / 2;
+            latencyBeforeCut = 0;
+            if (slowedDown) {
+                baselineNanos = latency;
+                next = clamp((int) (current * MAX_CUT));
+                settling = next < current;
+            } else {
+                if (baselineNanos == 0 || latency < baselineNanos) {
+                    baselineNanos = latency;
+                }
+                double ratio = latency / (double) baselineNanos;
+                if (ratio > tolerance) {
+                    next = clamp((int) (current * Math.max(MAX_CUT, tolerance / ratio)));
+                    if (next <= current * JUDGED_CUT) {
+                        latencyBeforeCut = latency;
+                        latencyExpectedAfterCut = latency * next / current;
+                        settling = true;
+                    }
+                } else if (backlog > 0) {
+                    next = current + Math.max(1, current / 10);
+                } else if (idleWorker) {
+                    next = current - 1;
+                }
+            }
+        }
+        limit = clamp(next);
+        if (limit > current) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+        return limit;
+    }
+
+    /**
+     * Waits while worker {@code worker}, counting from 0, is beyond the limit.
+     *
+     * @return {@code true} if the worker may take work
+     */
+    public boolean awaitActive(int worker, long timeoutMillis) throws InterruptedException {
+        if (worker < limit) {
+            return true;
+        }
+        synchronized (this) {
+            if (worker >= limit) {
+                wait(timeoutMillis);
+            }
+        }
+        return worker < limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return average latency in the last interval that had any, in nanoseconds
+     */
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public long getBaselineNanos() {
+        return baselineNanos;
+    }
+
+    private int clamp(int value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.eventnotificationsystem.service.id;
+
+/**
+ * Source of event IDs. Called once per accepted event from request threads, so
+ * implementations must be thread-safe and should not block.
+ */
+public interface EventIdGenerator {
+
+    String nextId();
+
+    /**
+     * @param name   ulid or uuid
+     * @param nodeId distinguishes instances; only used by ulid
+     */
+    static EventIdGenerator forName(String name, int nodeId) {
+        switch (name.toLowerCase()) {
+            case "ulid":
+                return new UlidGenerator(nodeId);
+            case "uuid":
+                return new RandomUuidGenerator();
+            default:
+                throw new IllegalArgumentException("Unknown event ID generator: " + name);
+        }
+    }
+}
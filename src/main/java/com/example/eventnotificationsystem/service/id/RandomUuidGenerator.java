@@ -0,0 +1,15 @@
+package com.example.eventnotificationsystem.service.id;
+
+import java.util.UUID;
+
+/**
+ * Random version 4 UUIDs, the original ID scheme. Every call draws from a shared
+ * {@code SecureRandom}, and the IDs carry no ordering.
+ */
+public class RandomUuidGenerator implements EventIdGenerator {
+
+    @Override
+    public String nextId() {
+        return UUID.randomUUID().toString();
+    }
+}
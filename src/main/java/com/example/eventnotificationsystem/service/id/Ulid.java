@@ -0,0 +1,60 @@
+package com.example.eventnotificationsystem.service.id;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Text form of 128-bit IDs as 26 characters of Crockford base32, most significant bits
+ * first, so IDs compare lexicographically in the same order as their numeric value.
+ */
+public final class Ulid {
+    public static final int LENGTH = 26;
+
+    private static final byte[] ENCODE = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < ENCODE.length; i++) {
+            DECODE[ENCODE[i]] = (byte) i;
+            DECODE[Character.toLowerCase(ENCODE[i])] = (byte) i;
+        }
+    }
+
+    private Ulid() {
+    }
+
+    public static String format(long msb, long lsb) {
+        byte[] chars = new byte[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ENCODE[(int) lsb & 31];
+            lsb = (lsb >>> 5) | (msb << 59);
+            msb >>>= 5;
+        }
+        return new String(chars, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @return the ID's bits held in a {@link UUID}, or {@code null} if {@code id} is not a
+     * well-formed ULID
+     */
+    public static UUID parse(String id) {
+        if (id == null || id.length() != LENGTH) {
+            return null;
+        }
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            int value = c < DECODE.length ? DECODE[c] : -1;
+            // The first character only carries 3 bits
+            if (value < 0 || (i == 0 && value > 7)) {
+                return null;
+            }
+            msb = (msb << 5) | (lsb >>> 59);
+            lsb = (lsb << 5) | value;
+        }
+        return new UUID(msb, lsb);
+    }
+}
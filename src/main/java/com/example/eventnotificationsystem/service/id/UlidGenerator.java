@@ -0,0 +1,66 @@
+package com.example.eventnotificationsystem.service.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered 128-bit IDs rendered as {@link Ulid} strings:
+ *
+ * <pre>
+ *  48 bits  milliseconds since the epoch
+ *  16 bits  sequence within the millisecond
+ *  16 bits  node ID
+ *  48 bits  random
+ * </pre>
+ *
+ * <p>The timestamp and sequence share one {@link AtomicLong} advanced by CAS, so IDs from
+ * one node are strictly increasing and unique without a lock. If more than 65536 IDs
+ * are issued in one millisecond, or the clock steps back, the sequence carries into the
+ * timestamp: IDs keep increasing and briefly run ahead of the wall clock. The node ID
+ * keeps instances apart, and the random tail keeps IDs unguessable and still unique if two
+ * instances are given the same node ID. Nothing is allocated apart from the string
+ * itself, and nothing touches {@code SecureRandom}.
+ */
+public class UlidGenerator implements EventIdGenerator {
+    public static final int MAX_NODE_ID = 0xFFFF;
+    private static final long RANDOM_MASK = (1L << 48) - 1;
+
+    private final long nodeBits;
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
+
+    public UlidGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << 48;
+    }
+
+    @Override
+    public String nextId() {
+        long msb = nextTimeAndSequence(System.currentTimeMillis() << 16);
+        long lsb = nodeBits | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return Ulid.format(msb, lsb);
+    }
+
+    private long nextTimeAndSequence(long now) {
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            long next = now > last ? now : last + 1;
+            if (lastTimeAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * @return the millisecond timestamp embedded in an ID this class generated
+     */
+    public static long timestampOf(String id) {
+        UUID bits = Ulid.parse(id);
+        if (bits == null) {
+            throw new IllegalArgumentException("Not a ULID: " + id);
+        }
+        return bits.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.eventnotificationsystem.service.idempotency;
+
+import com.example.eventnotificationsystem.service.id.Ulid;
+
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Bounded, time-expiring map from {@code Idempotency-Key} to the ID of the event it
+ * created, laid out like the event status index.
+ *
+ * <p>Keys are not retained: each is reduced to a 128-bit hash, and the event ID to its
+ * 128 bits, so an entry costs about 50 bytes including the hash index whatever the key
+ * length. A million keys fit in roughly 50 MB. Entries live in per-shard rings in claim
+ * order. With a fixed TTL the oldest entry is always the next to expire, so expiry and
+ * eviction at capacity are both O(1) at the tail of the ring.
+ *
+ * <p>A key is first claimed (pending) and then completed with the event ID once the
+ * event is queued, or released if it was not, so concurrent duplicates can be told
+ * apart from retries of a finished request.
+ */
+public class IdempotencyStore {
+    /**
+     * Returned by {@link #claim} while another request holding the same key is still
+     * being submitted. Compare by identity.
+     */
+    public static final String IN_PROGRESS = new String("in-progress");
+
+    private static final byte REMOVED = 0;
+    private static final byte PENDING = 1;
+    private static final byte ULID = 2;
+    private static final byte UUID_ID = 3;
+
+    private final Shard[] shards;
+    private final long ttlMillis;
+
+    /**
+     * @param maxEntries total capacity across all shards; the oldest keys are evicted
+     *                   early when it is reached
+     * @param ttlMillis  how long a key is remembered after it is claimed
+     * @param shardCount number of independently locked shards, rounded up to a power of two
+     */
+    public IdempotencyStore(int maxEntries, long ttlMillis, int shardCount) {
+        if (maxEntries <= 0 || shardCount <= 0) {
+            throw new IllegalArgumentException("maxEntries and shardCount must be positive");
+        }
+        int count = 1;
+        while (count < shardCount) {
+            count <<= 1;
+        }
+        this.shards = new Shard[count];
+        int perShard = Math.max(1, (maxEntries + count - 1) / count);
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(perShard);
+        }
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Claims {@code key} unless it is already known.
+     *
+     * @return {@code null} if the caller now holds the key and should submit the event,
+     * {@link #IN_PROGRESS} if another request holds it, or the ID of the event the key
+     * already created
+     */
+    public String claim(String key, long nowMillis) {
+        long high = hash(key, 0x9E3779B97F4A7C15L);
+        long low = hash(key, 0xC2B2AE3D27D4EB4FL);
+        return shardFor(high, low).claim(high, low, nowMillis, nowMillis - ttlMillis);
+    }
+
+    /**
+     * Records the event created for a claimed key. Event IDs that are neither ULIDs nor
+     * UUIDs cannot be stored compactly, so the key is released instead.
+     */
+    public void complete(String key, String eventId) {
+        long high = hash(key, 0x9E3779B97F4A7C15L);
+        long low = hash(key, 0xC2B2AE3D27D4EB4FL);
+        UUID bits = null;
+        byte format = REMOVED;
+        if (eventId != null && eventId.length() == Ulid.LENGTH) {
+            bits = Ulid.parse(eventId);
+            format = ULID;
+        } else if (eventId != null && eventId.length() == 36) {
+            try {
+                bits = UUID.fromString(eventId);
+                format = UUID_ID;
+            } catch (IllegalArgumentException e) {
+                bits = null;
+            }
+        }
+        Shard shard = shardFor(high, low);
+        if (bits == null) {
+            shard.remove(high, low);
+        } else {
+            shard.complete(high, low, bits.getMostSignificantBits(), bits.getLeastSignificantBits(), format);
+        }
+    }
+
+    /**
+     * Forgets a claimed key whose event was not accepted, so a retry can submit it again.
+     */
+    public void release(String key) {
+        long high = hash(key, 0x9E3779B97F4A7C15L);
+        long low = hash(key, 0xC2B2AE3D27D4EB4FL);
+        shardFor(high, low).remove(high, low);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private Shard shardFor(long high, long low) {
+        return shards[(int) (mix(high ^ low) >>> 32) & (shards.length - 1)];
+    }
+
+    // Two differently seeded and multiplied passes give independent 64-bit halves
+    private static long hash(String key, long seed) {
+        long h = seed ^ key.length();
+        long multiplier = seed | 1;
+        for (int i = 0; i < key.length(); i++) {
+            h = (h ^ key.charAt(i)) * multiplier;
+            h ^= h >>> 29;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ h >>> 33;
+    }
+
+    private static String eventId(long high, long low, byte format) {
+        return format == ULID ? Ulid.format(high, low) : new UUID(high, low).toString();
+    }
+
+    private static final class Shard {
+        private final StampedLock lock = new StampedLock();
+        private final int capacity;
+
+        // Ring of entries in claim order; a REMOVED state marks a released slot
+        private final long[] keyHigh;
+        private final long[] keyLow;
+        private final long[] claimedAt;
+        private final long[] eventHigh;
+        private final long[] eventLow;
+        private final byte[] state;
+        private long head;
+        private int count;
+
+        // Linear-probing index from key to ring slot + 1; 0 is an empty bucket
+        private final int[] index;
+        private final int indexMask;
+
+        Shard(int capacity) {
+            this.capacity = capacity;
+            keyHigh = new long[capacity];
+            keyLow = new long[capacity];
+            claimedAt = new long[capacity];
+            eventHigh = new long[capacity];
+            eventLow = new long[capacity];
+            state = new byte[capacity];
+            int buckets = Integer.highestOneBit(Math.max(2, capacity + capacity / 3) - 1) << 1;
+            index = new int[buckets];
+            indexMask = buckets - 1;
+        }
+
+        String claim(long high, long low, long nowMillis, long expiredBefore) {
+            long stamp = lock.writeLock();
+            try {
+                while (count > 0 && claimedAt[oldest()] < expiredBefore) {
+                    evictOldest();
+                }
+                int bucket = find(high, low);
+                if (index[bucket] != 0) {
+                    int slot = index[bucket] - 1;
+                    return state[slot] == PENDING ? IN_PROGRESS : eventId(eventHigh[slot], eventLow[slot], state[slot]);
+                }
+                if (count == capacity) {
+                    evictOldest();
+                    // Backward shifts may have moved entries into the bucket found above
+                    bucket = find(high, low);
+                }
+                int slot = (int) (head % capacity);
+                keyHigh[slot] = high;
+                keyLow[slot] = low;
+                claimedAt[slot] = nowMillis;
+                state[slot] = PENDING;
+                index[bucket] = slot + 1;
+                head++;
+                count++;
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void complete(long high, long low, long idHigh, long idLow, byte format) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = index[find(high, low)] - 1;
+                // The claim may have been evicted meanwhile under memory pressure; nothing to complete then
+                if (slot >= 0) {
+                    eventHigh[slot] = idHigh;
+                    eventLow[slot] = idLow;
+                    state[slot] = format;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(long high, long low) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = index[find(high, low)] - 1;
+                if (slot >= 0) {
+                    unindex(high, low);
+                    // The slot stays in the ring until expiry reaches it
+                    state[slot] = REMOVED;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private int oldest() {
+            return (int) ((head - count) % capacity);
+        }
+
+        private void evictOldest() {
+            int slot = oldest();
+            if (state[slot] != REMOVED) {
+                unindex(keyHigh[slot], keyLow[slot]);
+            }
+            count--;
+        }
+
+        /**
+         * @return the bucket holding the key, or the empty bucket where it would be inserted
+         */
+        private int find(long high, long low) {
+            int bucket = (int) mix(high ^ low) & indexMask;
+            while (true) {
+                int entry = index[bucket];
+                if (entry == 0) {
+                    return bucket;
+                }
+                int slot = entry - 1;
+                if (keyHigh[slot] == high && keyLow[slot] == low) {
+                    return bucket;
+                }
+                bucket = (bucket + 1) & indexMask;
+            }
+        }
+
+        // Backward-shift deletion keeps probe sequences intact without tombstones
+        private void unindex(long high, long low) {
+            int hole = find(high, low);
+            if (index[hole] == 0) {
+                return;
+            }
+            int bucket = hole;
+            while (true) {
+                bucket = (bucket + 1) & indexMask;
+                int entry = index[bucket];
+                if (entry == 0) {
+                    break;
+                }
+                int slot = entry - 1;
+                int home = (int) mix(keyHigh[slot] ^ keyLow[slot]) & indexMask;
+                boolean movable = hole <= bucket ? (home <= hole || home > bucket) : (home <= hole && home > bucket);
+                if (movable) {
+                    index[hole] = entry;
+                    hole = bucket;
+                }
+            }
+            index[hole] = 0;
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return count;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
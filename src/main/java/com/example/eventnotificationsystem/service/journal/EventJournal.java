@@ -0,0 +1,341 @@
+package com.example.eventnotificationsystem.service.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, segmented write-ahead log backed by memory-mapped files.
+ *
+ * <p>Records are laid out as {@code [length:int][crc32c:int][payload]}. Appends only copy
+ * into the mapped pages; a background committer forces everything appended since the
+ * previous commit in one go (group commit), persists the consumer offset and deletes
+ * segments that lie entirely below it. A commit interval of zero forces on every
+ * {@link #awaitDurable(long)} call instead, which is only useful as a baseline.
+ */
+public class EventJournal implements Closeable {
+    static final int HEADER_SIZE = 8;
+    private static final int ROLLOVER_MARKER = -1;
+    private static final String CONSUMER_OFFSET_FILE = "consumer.offset";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long commitIntervalMillis;
+    private final ConcurrentSkipListMap<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private final FileChannel consumerOffsetChannel;
+    private final ScheduledExecutorService committer;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition committed = commitLock.newCondition();
+
+    private JournalSegment activeSegment;
+    private volatile long writePosition;
+    private volatile long durablePosition;
+    private volatile long persistedConsumerOffset;
+    private volatile LongSupplier consumerOffsetSupplier;
+    private volatile boolean closed;
+
+    public EventJournal(Path directory, int segmentSize, long commitIntervalMillis) throws IOException {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Journal segment size must exceed " + HEADER_SIZE + " bytes");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.commitIntervalMillis = commitIntervalMillis;
+        this.consumerOffsetChannel = FileChannel.open(directory.resolve(CONSUMER_OFFSET_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+        this.committer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "journal-committer-" + directory.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (commitIntervalMillis > 0) {
+            committer.scheduleWithFixedDelay(this::commitQuietly,
+                    commitIntervalMillis, commitIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) files.filter(p -> p.toString().endsWith(JournalSegment.SUFFIX))::iterator) {
+                long baseOffset = JournalSegment.parseBaseOffset(path);
+                segments.put(baseOffset, JournalSegment.open(directory, baseOffset, segmentSize));
+            }
+        }
+        long storedOffset = readConsumerOffset();
+        if (segments.isEmpty()) {
+            segments.put(storedOffset, JournalSegment.open(directory, storedOffset, segmentSize));
+        }
+        activeSegment = segments.lastEntry().getValue();
+        writePosition = activeSegment.getBaseOffset() + scanForEnd(activeSegment);
+        durablePosition = writePosition;
+        // Never resume below the oldest retained record or beyond the last valid one
+        long consumerOffset = Math.max(storedOffset, segments.firstKey());
+        persistedConsumerOffset = Math.min(consumerOffset, writePosition);
+    }
+
+    /**
+     * Walks the active segment to find the end of the last intact record; a torn or
+     * corrupt tail from a crash is zeroed so it can be overwritten.
+     */
+    private int scanForEnd(JournalSegment segment) {
+        int position = 0;
+        while (position + HEADER_SIZE <= segment.getCapacity()) {
+            int length = segment.getInt(position);
+            if (length == ROLLOVER_MARKER) {
+                return segment.getCapacity();
+            }
+            if (length <= 0 || position + HEADER_SIZE + length > segment.getCapacity()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            segment.get(position + HEADER_SIZE, payload);
+            if (crc(payload) != segment.getInt(position + 4)) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        if (position + 4 <= segment.getCapacity() && segment.getInt(position) != 0) {
+            segment.zero(position);
+        }
+        return position;
+    }
+
+    /**
+     * Appends a record and returns the logical position just past it, which can be
+     * handed to {@link #awaitDurable(long)}.
+     */
+    public long append(byte[] payload) {
+        int recordSize = HEADER_SIZE + payload.length;
+        if (recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds journal segment size");
+        }
+        writeLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            JournalSegment segment = activeSegment;
+            int position = (int) (writePosition - segment.getBaseOffset());
+            if (position + recordSize > segment.getCapacity()) {
+                if (position + 4 <= segment.getCapacity()) {
+                    segment.putInt(position, ROLLOVER_MARKER);
+                }
+                segment = roll(segment);
+                position = 0;
+            }
+            segment.putInt(position + 4, crc(payload));
+            segment.put(position + HEADER_SIZE, payload);
+            segment.putInt(position, payload.length);
+            long end = segment.getBaseOffset() + position + recordSize;
+            writePosition = end;
+            return end;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private JournalSegment roll(JournalSegment current) {
+        try {
+            JournalSegment next = JournalSegment.open(directory, current.getEndOffset(), segmentSize);
+            segments.put(next.getBaseOffset(), next);
+            activeSegment = next;
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll journal segment in " + directory, e);
+        }
+    }
+
+    /**
+     * Reads the record at or after {@code position}, skipping rollover gaps. Returns
+     * {@code null} when nothing has been appended there yet.
+     */
+    public Entry read(long position) {
+        long end = writePosition;
+        while (position < end) {
+            Map.Entry<Long, JournalSegment> floor = segments.floorEntry(position);
+            if (floor == null) {
+                // The segment was cleaned up; resume from the oldest retained one
+                position = segments.firstKey();
+                continue;
+            }
+            JournalSegment segment = floor.getValue();
+            int offset = (int) (position - segment.getBaseOffset());
+            if (offset + HEADER_SIZE > segment.getCapacity() || segment.getInt(offset) == ROLLOVER_MARKER) {
+                position = segment.getEndOffset();
+                continue;
+            }
+            int length = segment.getInt(offset);
+            byte[] payload = new byte[length];
+            segment.get(offset + HEADER_SIZE, payload);
+            if (crc(payload) != segment.getInt(offset + 4)) {
+                throw new IllegalStateException("Corrupt journal record at offset " + position + " in " + directory);
+            }
+            return new Entry(position, position + HEADER_SIZE + length, payload);
+        }
+        return null;
+    }
+
+    /**
+     * Blocks until everything up to {@code position} has been forced to disk.
+     */
+    public void awaitDurable(long position) throws InterruptedException {
+        if (commitIntervalMillis <= 0) {
+            commit();
+            return;
+        }
+        commitLock.lockInterruptibly();
+        try {
+            while (durablePosition < position) {
+                if (closed) {
+                    throw new IllegalStateException("Journal is closed");
+                }
+                committed.await();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Forces pending appends, persists the consumer offset and drops consumed segments.
+     */
+    public void commit() {
+        commitLock.lock();
+        try {
+            long target = writePosition;
+            long from = durablePosition;
+            if (target > from) {
+                Long firstKey = segments.floorKey(from);
+                for (JournalSegment segment : segments.subMap(firstKey != null ? firstKey : from, target).values()) {
+                    int start = (int) Math.max(0, from - segment.getBaseOffset());
+                    int stop = (int) Math.min(segment.getCapacity(), target - segment.getBaseOffset());
+                    segment.force(start, stop);
+                }
+                durablePosition = target;
+                committed.signalAll();
+            }
+            LongSupplier supplier = consumerOffsetSupplier;
+            if (supplier != null) {
+                long consumerOffset = Math.min(supplier.getAsLong(), durablePosition);
+                if (consumerOffset > persistedConsumerOffset) {
+                    writeConsumerOffset(consumerOffset);
+                    persistedConsumerOffset = consumerOffset;
+                    deleteConsumedSegments(consumerOffset);
+                }
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    private void commitQuietly() {
+        try {
+            commit();
+        } catch (RuntimeException e) {
+            System.err.println("Journal commit failed for " + directory + ": " + e.getMessage());
+        }
+    }
+
+    private void deleteConsumedSegments(long consumerOffset) {
+        for (JournalSegment segment : segments.headMap(activeSegment.getBaseOffset()).values()) {
+            if (segment.getEndOffset() > consumerOffset) {
+                break;
+            }
+            segments.remove(segment.getBaseOffset());
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                System.err.println("Failed to delete journal segment " + segment.getBaseOffset() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private long readConsumerOffset() throws IOException {
+        if (consumerOffsetChannel.size() < Long.BYTES) {
+            return 0L;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+        consumerOffsetChannel.read(buffer, 0);
+        return buffer.flip().getLong();
+    }
+
+    private void writeConsumerOffset(long offset) {
+        try {
+            consumerOffsetChannel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, offset), 0);
+            consumerOffsetChannel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist consumer offset in " + directory, e);
+        }
+    }
+
+    /**
+     * Registers the source of the position below which every record has been
+     * processed; it is sampled on each commit.
+     */
+    public void setConsumerOffsetSupplier(LongSupplier consumerOffsetSupplier) {
+        this.consumerOffsetSupplier = consumerOffsetSupplier;
+    }
+
+    public long getConsumerOffset() { return persistedConsumerOffset; }
+    public long getWritePosition() { return writePosition; }
+    public long getDurablePosition() { return durablePosition; }
+    public int getSegmentCount() { return segments.size(); }
+
+    @Override
+    public void close() throws IOException {
+        committer.shutdown();
+        try {
+            committer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeLock.lock();
+        try {
+            closed = true;
+        } finally {
+            writeLock.unlock();
+        }
+        commit();
+        commitLock.lock();
+        try {
+            committed.signalAll();
+        } finally {
+            commitLock.unlock();
+        }
+        for (JournalSegment segment : segments.values()) {
+            segment.close();
+        }
+        consumerOffsetChannel.close();
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * A record read from the journal together with its position and the position of
+     * the record that follows it.
+     */
+    public record Entry(long position, long nextPosition, byte[] payload) {
+    }
+}
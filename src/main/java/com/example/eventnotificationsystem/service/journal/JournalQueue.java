@@ -0,0 +1,295 @@
+package com.example.eventnotificationsystem.service.journal;
+
+import com.example.eventnotificationsystem.model.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BlockingQueue} view over an {@link EventJournal}. Offers append to the log and
+ * takes read from it through a shared cursor. A taken event stays in flight until
+ * {@link #acknowledge(Event)} is called; the consumer offset persisted by the journal
+ * never moves past the oldest in-flight event, so anything not acknowledged before a
+ * crash is handed out again after restart.
+ */
+public class JournalQueue<E extends Event> extends AbstractQueue<E> implements BlockingQueue<E> {
+    private final EventJournal journal;
+    private final Class<E> eventClass;
+    private final ObjectMapper objectMapper;
+    private final boolean awaitCommit;
+    private final int capacity;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final Condition notEmpty = takeLock.newCondition();
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private final AtomicInteger count = new AtomicInteger();
+    private long readPosition;
+
+    public JournalQueue(EventJournal journal, Class<E> eventClass, ObjectMapper objectMapper, boolean awaitCommit) {
+        this(journal, eventClass, objectMapper, awaitCommit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param capacity maximum number of untaken events; records replayed on startup count
+     *                 towards it but are never dropped
+     */
+    public JournalQueue(EventJournal journal, Class<E> eventClass, ObjectMapper objectMapper,
+                        boolean awaitCommit, int capacity) {
+        this.journal = journal;
+        this.eventClass = eventClass;
+        this.objectMapper = objectMapper;
+        this.awaitCommit = awaitCommit;
+        this.capacity = capacity;
+        this.readPosition = journal.getConsumerOffset();
+        for (EventJournal.Entry entry = journal.read(readPosition); entry != null; entry = journal.read(entry.nextPosition())) {
+            count.incrementAndGet();
+        }
+        journal.setConsumerOffsetSupplier(this::committableOffset);
+    }
+
+    /**
+     * @return {@code false} if the queue is full. Once appended the event is queued, so an
+     * interrupt while waiting for the commit still returns {@code true}, with the interrupt
+     * flag set and the event possibly not yet durable
+     */
+    @Override
+    public boolean offer(E event) {
+        // Reserve the slot first, so concurrent producers cannot overshoot the capacity
+        int current;
+        do {
+            current = count.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!count.compareAndSet(current, current + 1));
+        long end;
+        try {
+            end = journal.append(objectMapper.writeValueAsBytes(event));
+        } catch (IOException e) {
+            count.decrementAndGet();
+            throw new IllegalArgumentException("Event cannot be journaled: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            count.decrementAndGet();
+            throw e;
+        }
+        signalNotEmpty();
+        if (awaitCommit) {
+            try {
+                journal.awaitDurable(end);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                System.err.println("Interrupted before event " + event.getEventId() + " was committed; it is queued but may not be durable yet");
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void put(E event) throws InterruptedException {
+        while (!offer(event)) {
+            waitForRoom();
+        }
+    }
+
+    @Override
+    public boolean offer(E event, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(event)) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            waitForRoom();
+        }
+        return true;
+    }
+
+    // Full queues are the exception path, so waiting producers simply back off briefly
+    private static void waitForRoom() throws InterruptedException {
+        Thread.sleep(1);
+    }
+
+    @Override
+    public E poll() {
+        takeLock.lock();
+        try {
+            return dequeue();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        takeLock.lockInterruptibly();
+        try {
+            E event;
+            while ((event = dequeue()) == null) {
+                notEmpty.await();
+            }
+            return event;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        takeLock.lockInterruptibly();
+        try {
+            E event;
+            while ((event = dequeue()) == null) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return event;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() {
+        takeLock.lock();
+        try {
+            EventJournal.Entry entry = journal.read(readPosition);
+            return entry == null ? null : decode(entry);
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * Marks a previously taken event as fully processed.
+     */
+    public void acknowledge(Event event) {
+        inFlight.remove(event.getJournalOffset());
+    }
+
+    /**
+     * Discards everything not yet taken without replaying it on restart.
+     */
+    @Override
+    public void clear() {
+        takeLock.lock();
+        try {
+            readPosition = journal.getWritePosition();
+            inFlight.clear();
+            count.set(0);
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - count.get());
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        int drained = 0;
+        E event;
+        while (drained < maxElements && (event = poll()) != null) {
+            collection.add(event);
+            drained++;
+        }
+        return drained;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        long start;
+        takeLock.lock();
+        try {
+            start = readPosition;
+        } finally {
+            takeLock.unlock();
+        }
+        return new Iterator<>() {
+            private EventJournal.Entry next = journal.read(start);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public E next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                E event = decode(next);
+                next = journal.read(next.nextPosition());
+                return event;
+            }
+        };
+    }
+
+    private E dequeue() {
+        EventJournal.Entry entry;
+        while ((entry = journal.read(readPosition)) != null) {
+            readPosition = entry.nextPosition();
+            count.decrementAndGet();
+            E event = decode(entry);
+            if (event != null) {
+                inFlight.add(entry.position());
+                return event;
+            }
+        }
+        return null;
+    }
+
+    private E decode(EventJournal.Entry entry) {
+        try {
+            E event = objectMapper.readValue(entry.payload(), eventClass);
+            event.setJournalOffset(entry.position());
+            return event;
+        } catch (IOException e) {
+            // An unreadable record can never succeed, so it is skipped rather than retried forever
+            System.err.println("Skipping undecodable journal record at offset " + entry.position() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private long committableOffset() {
+        takeLock.lock();
+        try {
+            Long oldest = inFlight.ceiling(Long.MIN_VALUE);
+            return oldest != null ? oldest : readPosition;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.eventnotificationsystem.service.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A single fixed-size, memory-mapped file of the journal. The file name is the
+ * logical offset of its first byte, so segments can be located without an index.
+ */
+final class JournalSegment implements Closeable {
+    static final String SUFFIX = ".log";
+
+    private final long baseOffset;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private JournalSegment(long baseOffset, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.baseOffset = baseOffset;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+
+    static JournalSegment open(Path directory, long baseOffset, int size) throws IOException {
+        Path path = directory.resolve(fileName(baseOffset));
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Existing segments keep the size they were created with
+        long mappedSize = channel.size() > 0 ? channel.size() : size;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+        return new JournalSegment(baseOffset, path, channel, buffer);
+    }
+
+    static String fileName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, SUFFIX);
+    }
+
+    static long parseBaseOffset(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    long getBaseOffset() { return baseOffset; }
+    long getEndOffset() { return baseOffset + capacity; }
+    int getCapacity() { return capacity; }
+
+    int getInt(int position) {
+        return buffer.getInt(position);
+    }
+
+    void putInt(int position, int value) {
+        buffer.putInt(position, value);
+    }
+
+    void get(int position, byte[] destination) {
+        buffer.get(position, destination);
+    }
+
+    void put(int position, byte[] source) {
+        buffer.put(position, source);
+    }
+
+    void zero(int from) {
+        for (int i = from; i < capacity; i++) {
+            buffer.put(i, (byte) 0);
+        }
+    }
+
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    void delete() throws IOException {
+        close();
+        // The mapping itself is released when the buffer is garbage collected
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.eventnotificationsystem.service.priority;
+
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventPriority;
+import com.example.eventnotificationsystem.service.ring.BlockingWaitStrategy;
+import com.example.eventnotificationsystem.service.ring.WaitStrategy;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link BlockingQueue} made of one lane per {@link EventPriority}. Offers go to the lane
+ * of the event's priority, so each lane is bounded on its own and a flood of low-priority
+ * events cannot crowd high-priority ones out of admission.
+ *
+ * <p>Takes are served by smooth weighted round-robin over the non-empty lanes: with
+ * weights 16/4/1, a backlogged HIGH lane gets 16 of every 21 takes, but NORMAL and LOW
+ * are guaranteed 4 and 1 of them, so no lane starves. An idle lane's share goes to the
+ * others.
+ *
+ * <p>Workers with nothing to take wait according to the {@link WaitStrategy}; producers
+ * only notify it, so offers never touch the take lock.
+ */
+public class PriorityLaneQueue<E extends Event> extends AbstractQueue<E> implements BlockingQueue<E> {
+    private static final EventPriority[] PRIORITIES = EventPriority.values();
+
+    private final BlockingQueue<E>[] lanes;
+    private final int[] weights;
+    private final int[] credits;
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+    private final WaitStrategy waitStrategy;
+    private final BooleanSupplier notEmpty = () -> !isEmpty();
+
+    public PriorityLaneQueue(Map<EventPriority, ? extends BlockingQueue<E>> lanes, Map<EventPriority, Integer> weights) {
+        this(lanes, weights, new BlockingWaitStrategy());
+    }
+
+    /**
+     * @param lanes        one queue per priority
+     * @param weights      share of takes per priority; every weight must be positive
+     * @param waitStrategy how takes wait while every lane is empty
+     */
+    @SuppressWarnings("unchecked")
+    public PriorityLaneQueue(Map<EventPriority, ? extends BlockingQueue<E>> lanes, Map<EventPriority, Integer> weights,
+                             WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+        this.lanes = (BlockingQueue<E>[]) new BlockingQueue<?>[PRIORITIES.length];
+        this.weights = new int[PRIORITIES.length];
+        this.credits = new int[PRIORITIES.length];
+        for (EventPriority priority : PRIORITIES) {
+            BlockingQueue<E> lane = lanes.get(priority);
+            Integer weight = weights.get(priority);
+            if (lane == null || weight == null || weight <= 0) {
+                throw new IllegalArgumentException("Missing lane or non-positive weight for " + priority);
+            }
+            this.lanes[priority.ordinal()] = lane;
+            this.weights[priority.ordinal()] = weight;
+        }
+    }
+
+    public BlockingQueue<E> getLane(EventPriority priority) {
+        return lanes[priority.ordinal()];
+    }
+
+    @Override
+    public boolean offer(E event) {
+        if (!laneOf(event).offer(event)) {
+            return false;
+        }
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    @Override
+    public boolean offer(E event, long timeout, TimeUnit unit) throws InterruptedException {
+        if (!laneOf(event).offer(event, timeout, unit)) {
+            return false;
+        }
+        waitStrategy.signalAll();
+        return true;
+    }
+
+    @Override
+    public void put(E event) throws InterruptedException {
+        laneOf(event).put(event);
+        waitStrategy.signalAll();
+    }
+
+    @Override
+    public E poll() {
+        takeLock.lock();
+        try {
+            return dequeue();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E event;
+        while ((event = poll()) == null) {
+            waitStrategy.await(notEmpty, Long.MAX_VALUE);
+        }
+        return event;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E event;
+        while ((event = poll()) == null) {
+            if (nanos <= 0L) {
+                return null;
+            }
+            nanos = waitStrategy.await(notEmpty, nanos);
+        }
+        return event;
+    }
+
+    @Override
+    public E peek() {
+        for (BlockingQueue<E> lane : lanes) {
+            E event = lane.peek();
+            if (event != null) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (BlockingQueue<E> lane : lanes) {
+            if (!lane.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (BlockingQueue<E> lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        long remaining = 0;
+        for (BlockingQueue<E> lane : lanes) {
+            remaining += lane.remainingCapacity();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, remaining);
+    }
+
+    @Override
+    public void clear() {
+        takeLock.lock();
+        try {
+            for (BlockingQueue<E> lane : lanes) {
+                lane.clear();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        int drained = 0;
+        E event;
+        while (drained < maxElements && (event = poll()) != null) {
+            collection.add(event);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Iterates lane by lane, highest priority first; not the order takes would follow.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> snapshot = new ArrayList<>();
+        for (BlockingQueue<E> lane : lanes) {
+            snapshot.addAll(lane);
+        }
+        return snapshot.iterator();
+    }
+
+    // Caller holds takeLock
+    private E dequeue() {
+        while (true) {
+            int chosen = -1;
+            int totalWeight = 0;
+            for (int i = 0; i < lanes.length; i++) {
+                if (lanes[i].isEmpty()) {
+                    // An idle lane neither banks nor owes credit
+                    credits[i] = 0;
+                    continue;
+                }
+                credits[i] += weights[i];
+                totalWeight += weights[i];
+                if (chosen < 0 || credits[i] > credits[chosen]) {
+                    chosen = i;
+                }
+            }
+            if (chosen < 0) {
+                return null;
+            }
+            credits[chosen] -= totalWeight;
+            E event = lanes[chosen].poll();
+            if (event != null) {
+                return event;
+            }
+        }
+    }
+
+    private BlockingQueue<E> laneOf(E event) {
+        EventPriority priority = event.getPriority() != null ? event.getPriority() : EventPriority.NORMAL;
+        return lanes[priority.ordinal()];
+    }
+}
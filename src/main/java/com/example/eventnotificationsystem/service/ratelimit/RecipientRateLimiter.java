@@ -0,0 +1,215 @@
+package com.example.eventnotificationsystem.service.ratelimit;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * One {@link TokenBucket} per recipient, for millions of recipients.
+ *
+ * <p>Each bucket is the same single "full again at" instant, stored next to a 64-bit hash
+ * of the recipient in open-addressed primitive arrays. That makes a recipient cost about
+ * 20 bytes, with no per-key objects. The arrays are split into independently locked
+ * shards, so there is no global lock. A bucket whose instant has passed is full, which
+ * is the same as having no entry. Such idle entries are swept out of a shard whenever it
+ * fills up. If a shard is still full of recipients that are actively limited, new
+ * recipients are admitted without a bucket until the next sweep. Under
+ * memory pressure the limiter fails open rather than rejecting traffic it cannot track.
+ */
+public class RecipientRateLimiter {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final Shard[] shards;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * @param ratePerSecond sustained events per second allowed for each recipient
+     * @param burst         events a recipient may send back to back after being idle
+     * @param maxRecipients recipients tracked at once across all shards
+     * @param shardCount    number of independently locked shards, rounded up to a power of two
+     */
+    public RecipientRateLimiter(double ratePerSecond, int burst, int maxRecipients, int shardCount) {
+        if (maxRecipients <= 0 || shardCount <= 0) {
+            throw new IllegalArgumentException("maxRecipients and shardCount must be positive");
+        }
+        this.intervalNanos = TokenBucket.intervalNanos(ratePerSecond);
+        this.burstNanos = TokenBucket.burstNanos(intervalNanos, burst);
+        int count = 1;
+        while (count < shardCount) {
+            count <<= 1;
+        }
+        this.shards = new Shard[count];
+        int perShard = Math.max(1, (maxRecipients + count - 1) / count);
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(perShard);
+        }
+    }
+
+    /**
+     * @return 0 if the recipient may send now, otherwise the nanoseconds until it may
+     */
+    public long tryAcquire(String recipient, long nowNanos) {
+        long key = hash(recipient);
+        return shardFor(key).tryAcquire(key, nowNanos);
+    }
+
+    /**
+     * Returns a token taken by {@link #tryAcquire} for an event that was not accepted.
+     */
+    public void refund(String recipient) {
+        long key = hash(recipient);
+        shardFor(key).refund(key);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return new recipients admitted without a bucket because their shard was full
+     */
+    public long getUntracked() {
+        return untracked.sum();
+    }
+
+    private Shard shardFor(long key) {
+        return shards[(int) (key >>> 40) & (shards.length - 1)];
+    }
+
+    private static long hash(String recipient) {
+        long h = 0x9E3779B97F4A7C15L ^ recipient.length();
+        for (int i = 0; i < recipient.length(); i++) {
+            h = (h ^ recipient.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ h >>> 33;
+    }
+
+    private final class Shard {
+        private final StampedLock lock = new StampedLock();
+        private final int maxEntries;
+        // Open-addressed by key hash; EMPTY in fullAt marks a free bucket
+        private long[] keys;
+        private long[] fullAt;
+        private int mask;
+        private int count;
+        // A full shard is not swept again before this instant
+        private boolean swept;
+        private long nextSweepAt;
+
+        Shard(int maxEntries) {
+            this.maxEntries = maxEntries;
+            int buckets = Integer.highestOneBit(Math.max(2, maxEntries + maxEntries / 3) - 1) << 1;
+            allocate(buckets);
+        }
+
+        private void allocate(int buckets) {
+            keys = new long[buckets];
+            fullAt = new long[buckets];
+            Arrays.fill(fullAt, EMPTY);
+            mask = buckets - 1;
+            count = 0;
+        }
+
+        long tryAcquire(long key, long nowNanos) {
+            long stamp = lock.writeLock();
+            try {
+                int bucket = find(key);
+                if (fullAt[bucket] != EMPTY) {
+                    long next = Math.max(fullAt[bucket] - nowNanos, 0) + intervalNanos;
+                    if (next > burstNanos) {
+                        return next - burstNanos;
+                    }
+                    fullAt[bucket] = nowNanos + next;
+                    return 0;
+                }
+                if (count == maxEntries) {
+                    if (swept && nowNanos - nextSweepAt < 0) {
+                        untracked.increment();
+                        return 0;
+                    }
+                    sweep(nowNanos);
+                    if (count == maxEntries) {
+                        untracked.increment();
+                        return 0;
+                    }
+                    bucket = find(key);
+                }
+                // An unseen recipient has a full bucket, and burst is at least one token
+                keys[bucket] = key;
+                fullAt[bucket] = nowNanos + intervalNanos;
+                count++;
+                return 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void refund(long key) {
+            long stamp = lock.writeLock();
+            try {
+                int bucket = find(key);
+                if (fullAt[bucket] != EMPTY) {
+                    fullAt[bucket] -= intervalNanos;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * Rebuilds the table with only the recipients whose buckets are still refilling.
+         * Runs only on a full shard and at most once per eighth of the burst window, which
+         * bounds its cost however few entries each sweep frees.
+         */
+        private void sweep(long nowNanos) {
+            long[] oldKeys = keys;
+            long[] oldFullAt = fullAt;
+            allocate(oldKeys.length);
+            for (int i = 0; i < oldKeys.length; i++) {
+                long at = oldFullAt[i];
+                if (at != EMPTY && at - nowNanos > 0) {
+                    int bucket = find(oldKeys[i]);
+                    keys[bucket] = oldKeys[i];
+                    fullAt[bucket] = at;
+                    count++;
+                }
+            }
+            swept = true;
+            nextSweepAt = nowNanos + burstNanos / 8;
+        }
+
+        /**
+         * @return the bucket holding the key, or the free bucket where it would be inserted
+         */
+        private int find(long key) {
+            int bucket = (int) key & mask;
+            while (fullAt[bucket] != EMPTY && keys[bucket] != key) {
+                bucket = (bucket + 1) & mask;
+            }
+            return bucket;
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return count;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
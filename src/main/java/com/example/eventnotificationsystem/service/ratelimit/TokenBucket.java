@@ -0,0 +1,67 @@
+package com.example.eventnotificationsystem.service.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket for a single key, such as a whole channel.
+ *
+ * <p>The bucket is kept as one {@code long}: the "theoretical arrival time" of the generic
+ * cell rate algorithm, the instant at which the bucket would be full again. Taking a
+ * token moves it one interval later. A request is admitted while that instant stays
+ * within {@code burst} intervals of now. Refilling is implicit in the passing of time,
+ * so there is no refill timer and no second field to keep consistent, and one CAS
+ * updates the whole bucket.
+ */
+public final class TokenBucket {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param ratePerSecond sustained rate at which tokens are earned
+     * @param burst         tokens the bucket holds when full
+     */
+    public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        this.intervalNanos = intervalNanos(ratePerSecond);
+        this.burstNanos = burstNanos(intervalNanos, burst);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current - nowNanos, 0) + intervalNanos;
+            if (next > burstNanos) {
+                return next - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, nowNanos + next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Returns a token taken by {@link #tryAcquire} for a request that was not admitted
+     * after all.
+     */
+    public void refund() {
+        fullAt.addAndGet(-intervalNanos);
+    }
+
+    static long intervalNanos(double ratePerSecond) {
+        if (!(ratePerSecond > 0)) {
+            throw new IllegalArgumentException("Rate must be positive: " + ratePerSecond);
+        }
+        return Math.max(1, Math.round(1_000_000_000 / ratePerSecond));
+    }
+
+    static long burstNanos(long intervalNanos, int burst) {
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1: " + burst);
+        }
+        return intervalNanos * burst;
+    }
+}
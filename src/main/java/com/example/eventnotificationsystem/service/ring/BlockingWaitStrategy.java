@@ -0,0 +1,52 @@
+package com.example.eventnotificationsystem.service.ring;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Parks idle consumers on a condition. Producers only take the lock when a consumer is
+ * actually waiting, so a busy queue pays a single volatile read per publish. Uses no CPU
+ * while idle, at the cost of a wake-up latency of tens of microseconds.
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition signalled = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @Override
+    public long await(BooleanSupplier ready, long nanos) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            // Registered before re-checking, so a publish that the check misses sees the waiter
+            waiters.incrementAndGet();
+            try {
+                while (!ready.getAsBoolean()) {
+                    if (nanos <= 0L) {
+                        return nanos;
+                    }
+                    nanos = signalled.awaitNanos(nanos);
+                }
+                return nanos;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        if (waiters.get() == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            signalled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
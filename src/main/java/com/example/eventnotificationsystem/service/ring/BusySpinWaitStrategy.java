@@ -0,0 +1,13 @@
+package com.example.eventnotificationsystem.service.ring;
+
+/**
+ * Never gives up the CPU. Lowest latency, but each waiting consumer burns a full core, so
+ * only use it with no more workers than spare cores.
+ */
+public class BusySpinWaitStrategy extends PollingWaitStrategy {
+
+    @Override
+    protected void backOff(int attempt, long remaining) {
+        Thread.onSpinWait();
+    }
+}
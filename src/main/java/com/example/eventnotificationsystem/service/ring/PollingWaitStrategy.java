@@ -0,0 +1,39 @@
+package com.example.eventnotificationsystem.service.ring;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Base for strategies that re-check the queue in a loop instead of being signalled;
+ * subclasses only decide how to back off between checks.
+ */
+abstract class PollingWaitStrategy implements WaitStrategy {
+
+    @Override
+    public long await(BooleanSupplier ready, long nanos) throws InterruptedException {
+        // Wraps around for Long.MAX_VALUE, which the subtraction below undoes
+        long deadline = System.nanoTime() + nanos;
+        int attempt = 0;
+        while (!ready.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                return remaining;
+            }
+            backOff(attempt++, remaining);
+        }
+        return deadline - System.nanoTime();
+    }
+
+    @Override
+    public void signalAll() {
+        // Consumers poll, nothing to wake
+    }
+
+    /**
+     * @param attempt   checks made so far in this wait, starting at 0
+     * @param remaining nanoseconds until the wait times out
+     */
+    protected abstract void backOff(int attempt, long remaining);
+}
@@ -0,0 +1,245 @@
+package com.example.eventnotificationsystem.service.ring;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded, lock-free multi-producer multi-consumer {@link BlockingQueue} over a
+ * preallocated ring of slots, sequenced the way the Disruptor does it: a producer claims
+ * the next sequence with a CAS on the tail cursor, writes its slot and then publishes the
+ * slot's own sequence number, so producers never wait on each other's writes and nothing
+ * is allocated per event. Consumers claim from the head cursor the same way and hand the
+ * slot back by advancing its sequence one lap.
+ *
+ * <p>The ring is sized to the next power of two so a sequence maps to its slot with a mask,
+ * but producers are admitted only while fewer than the requested capacity are queued.
+ * Consumers that find the ring empty wait according to the {@link WaitStrategy}; producers
+ * that find it full back off briefly, as full queues are the exception path.
+ */
+public class RingBufferQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+    // Both cursors live in one array, 128 bytes apart, so producers and consumers do not
+    // invalidate each other's cache line
+    private static final int TAIL = 7;
+    private static final int HEAD = 23;
+    private static final int CURSOR_SLOTS = 31;
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray cursors = new AtomicLongArray(CURSOR_SLOTS);
+    private final int mask;
+    private final int capacity;
+    private final WaitStrategy waitStrategy;
+    private final BooleanSupplier hasPublished = () -> !isEmpty();
+
+    public RingBufferQueue(int capacity) {
+        this(capacity, new BlockingWaitStrategy());
+    }
+
+    public RingBufferQueue(int capacity, WaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+    }
+
+    @Override
+    public boolean offer(E event) {
+        Objects.requireNonNull(event);
+        long sequence = cursors.get(TAIL);
+        while (true) {
+            int index = (int) sequence & mask;
+            long lag = sequences.get(index) - sequence;
+            if (lag == 0L) {
+                // The head only moves forward, so a stale read can only understate the room
+                if (sequence - cursors.get(HEAD) >= capacity) {
+                    return false;
+                }
+                if (cursors.compareAndSet(TAIL, sequence, sequence + 1)) {
+                    slots[index] = event;
+                    // Volatile publish; also orders the write before signalAll's waiter check
+                    sequences.set(index, sequence + 1);
+                    waitStrategy.signalAll();
+                    return true;
+                }
+                sequence = cursors.get(TAIL);
+            } else if (lag < 0L) {
+                // The slot from the previous lap has not been consumed yet
+                return false;
+            } else {
+                sequence = cursors.get(TAIL);
+            }
+        }
+    }
+
+    @Override
+    public void put(E event) throws InterruptedException {
+        while (!offer(event)) {
+            waitForRoom();
+        }
+    }
+
+    @Override
+    public boolean offer(E event, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(event)) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            waitForRoom();
+        }
+        return true;
+    }
+
+    private static void waitForRoom() throws InterruptedException {
+        LockSupport.parkNanos(50_000);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long sequence = cursors.get(HEAD);
+        while (true) {
+            int index = (int) sequence & mask;
+            long lag = sequences.get(index) - (sequence + 1);
+            if (lag == 0L) {
+                if (cursors.compareAndSet(HEAD, sequence, sequence + 1)) {
+                    E event = (E) slots[index];
+                    slots[index] = null;
+                    sequences.set(index, sequence + mask + 1);
+                    return event;
+                }
+                sequence = cursors.get(HEAD);
+            } else if (lag < 0L) {
+                // Not published yet
+                return null;
+            } else {
+                sequence = cursors.get(HEAD);
+            }
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E event;
+        while ((event = poll()) == null) {
+            waitStrategy.await(hasPublished, Long.MAX_VALUE);
+        }
+        return event;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E event;
+        while ((event = poll()) == null) {
+            if (nanos <= 0L) {
+                return null;
+            }
+            nanos = waitStrategy.await(hasPublished, nanos);
+        }
+        return event;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        while (true) {
+            long sequence = cursors.get(HEAD);
+            int index = (int) sequence & mask;
+            if (sequences.get(index) != sequence + 1) {
+                return null;
+            }
+            E event = (E) slots[index];
+            // Only valid if no consumer took the slot while it was being read
+            if (event != null && cursors.get(HEAD) == sequence) {
+                return event;
+            }
+        }
+    }
+
+    /**
+     * True when the slot at the head has not been published. A claimed but unpublished
+     * slot counts as empty, since no consumer could take it yet.
+     */
+    @Override
+    public boolean isEmpty() {
+        long sequence = cursors.get(HEAD);
+        return sequences.get((int) sequence & mask) != sequence + 1;
+    }
+
+    @Override
+    public int size() {
+        long head = cursors.get(HEAD);
+        long tail = cursors.get(TAIL);
+        return (int) Math.max(0L, Math.min(tail - head, capacity));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity() - size();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        int drained = 0;
+        E event;
+        while (drained < maxElements && (event = poll()) != null) {
+            collection.add(event);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Weakly consistent snapshot of the published events, oldest first.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        List<E> snapshot = new ArrayList<>();
+        long tail = cursors.get(TAIL);
+        for (long sequence = cursors.get(HEAD); sequence < tail; sequence++) {
+            int index = (int) sequence & mask;
+            if (sequences.get(index) == sequence + 1) {
+                Object event = slots[index];
+                if (event != null) {
+                    snapshot.add((E) event);
+                }
+            }
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+}
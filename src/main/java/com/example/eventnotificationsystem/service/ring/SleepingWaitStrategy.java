@@ -0,0 +1,25 @@
+package com.example.eventnotificationsystem.service.ring;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spins, then yields, then parks for short intervals. Producers never touch a lock or
+ * wake anyone, and an idle consumer costs little CPU, but an event arriving during a
+ * park waits up to {@link #PARK_NANOS}.
+ */
+public class SleepingWaitStrategy extends PollingWaitStrategy {
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 100_000;
+
+    @Override
+    protected void backOff(int attempt, long remaining) {
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (attempt < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(PARK_NANOS, remaining));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.eventnotificationsystem.service.ring;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * How a consumer that found its queue empty waits for the next event. Producers call
+ * {@link #signalAll()} after every publish, so strategies that never block must keep it
+ * close to free.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Waits until {@code ready} returns true, {@code nanos} elapse or the thread is
+     * interrupted. A true {@code ready} is only a hint: another consumer may take the
+     * event first, so callers retry and wait again with the remaining time.
+     *
+     * @return the time left, {@code <= 0} if the wait timed out
+     */
+    long await(BooleanSupplier ready, long nanos) throws InterruptedException;
+
+    /**
+     * Wakes consumers blocked in {@link #await}.
+     */
+    void signalAll();
+
+    /**
+     * @param name blocking, sleeping, yielding or busy-spin
+     */
+    static WaitStrategy forName(String name) {
+        switch (name.toLowerCase()) {
+            case "blocking":
+                return new BlockingWaitStrategy();
+            case "sleeping":
+                return new SleepingWaitStrategy();
+            case "yielding":
+                return new YieldingWaitStrategy();
+            case "busy-spin":
+                return new BusySpinWaitStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown wait strategy: " + name);
+        }
+    }
+}
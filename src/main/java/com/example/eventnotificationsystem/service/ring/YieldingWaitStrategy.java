@@ -0,0 +1,18 @@
+package com.example.eventnotificationsystem.service.ring;
+
+/**
+ * Spins briefly, then yields the CPU on every further check. Low wake-up latency while
+ * leaving the core to other runnable threads; an idle consumer still shows as busy.
+ */
+public class YieldingWaitStrategy extends PollingWaitStrategy {
+    private static final int SPIN_TRIES = 100;
+
+    @Override
+    protected void backOff(int attempt, long remaining) {
+        if (attempt < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+}
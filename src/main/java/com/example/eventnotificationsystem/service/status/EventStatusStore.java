@@ -0,0 +1,398 @@
+package com.example.eventnotificationsystem.service.status;
+
+import com.example.eventnotificationsystem.model.CallbackStatus;
+import com.example.eventnotificationsystem.model.EventStatus;
+import com.example.eventnotificationsystem.model.EventStatusResponse;
+import com.example.eventnotificationsystem.model.EventType;
+import com.example.eventnotificationsystem.service.id.Ulid;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Bounded in-memory index of event status keyed by event ID.
+ *
+ * <p>Entries are kept in flat primitive arrays rather than objects: the 128-bit ID, the
+ * time the event was queued and three millisecond offsets from it (processing started,
+ * finished, callback settled) plus three status bytes, roughly 45 bytes per entry
+ * including the hash index. The store is split into shards, each a ring buffer in
+ * insertion order with an open-addressing index over it, so when a shard is full or its
+ * oldest entry is older than {@code maxAgeMillis} that entry is evicted in O(1).
+ *
+ * <p>Updates take the write lock of a single shard for a hash probe and a few array
+ * writes; lookups use an optimistic read and only fall back to the read lock if a
+ * writer got in the way, so they never block processing threads.
+ */
+public class EventStatusStore {
+    private static final int UNSET = -1;
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    private static final EventStatus[] STATUSES = EventStatus.values();
+    private static final CallbackStatus[] CALLBACK_STATUSES = CallbackStatus.values();
+
+    private final Shard[] shards;
+    private final long maxAgeMillis;
+
+    /**
+     * @param maxEntries   total capacity across all shards
+     * @param maxAgeMillis entries older than this are evicted and no longer returned
+     * @param shardCount   number of independently locked shards, rounded up to a power of two
+     */
+    public EventStatusStore(int maxEntries, long maxAgeMillis, int shardCount) {
+        if (maxEntries <= 0 || shardCount <= 0) {
+            throw new IllegalArgumentException("maxEntries and shardCount must be positive");
+        }
+        int count = 1;
+        while (count < shardCount) {
+            count <<= 1;
+        }
+        this.shards = new Shard[count];
+        int perShard = Math.max(1, (maxEntries + count - 1) / count);
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(perShard);
+        }
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    public void recordQueued(String eventId, EventType eventType, long nowMillis) {
+        UUID key = parse(eventId);
+        if (key != null) {
+            shardFor(key).insert(key.getMostSignificantBits(), key.getLeastSignificantBits(),
+                    eventType, nowMillis, nowMillis - maxAgeMillis);
+        }
+    }
+
+    public void recordStatus(String eventId, EventStatus status, long nowMillis) {
+        UUID key = parse(eventId);
+        if (key != null) {
+            shardFor(key).updateStatus(key.getMostSignificantBits(), key.getLeastSignificantBits(), status, nowMillis);
+        }
+    }
+
+    public void recordCallback(String eventId, CallbackStatus callbackStatus, long nowMillis) {
+        UUID key = parse(eventId);
+        if (key != null) {
+            shardFor(key).updateCallback(key.getMostSignificantBits(), key.getLeastSignificantBits(), callbackStatus, nowMillis);
+        }
+    }
+
+    public void remove(String eventId) {
+        UUID key = parse(eventId);
+        if (key != null) {
+            shardFor(key).remove(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * @return the status of {@code eventId}, or {@code null} if it is unknown or was evicted
+     */
+    public EventStatusResponse get(String eventId, long nowMillis) {
+        UUID key = parse(eventId);
+        if (key == null) {
+            return null;
+        }
+        EventStatusResponse response = shardFor(key).get(key.getMostSignificantBits(), key.getLeastSignificantBits(),
+                nowMillis - maxAgeMillis);
+        if (response != null) {
+            response.setEventId(eventId);
+        }
+        return response;
+    }
+
+    public long size() {
+        long size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    public long getEvicted() {
+        long evicted = 0;
+        for (Shard shard : shards) {
+            evicted += shard.evicted();
+        }
+        return evicted;
+    }
+
+    private Shard shardFor(UUID key) {
+        return shards[(int) (mix(key.getMostSignificantBits(), key.getLeastSignificantBits()) >>> 32) & (shards.length - 1)];
+    }
+
+    // Event IDs are ULIDs, or UUIDs when events.id.generator=uuid; both are 128 bits
+    private static UUID parse(String eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        if (eventId.length() == Ulid.LENGTH) {
+            return Ulid.parse(eventId);
+        }
+        if (eventId.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(eventId);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long mix(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        return h ^ h >>> 29;
+    }
+
+    private static int offset(long queuedAt, long nowMillis) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, nowMillis - queuedAt));
+    }
+
+    private static String timestamp(long queuedAt, int offset) {
+        return offset == UNSET ? null : Instant.ofEpochMilli(queuedAt + offset).toString();
+    }
+
+    private static final class Shard {
+        private final StampedLock lock = new StampedLock();
+        private final int capacity;
+
+        // Ring of entries in insertion order; a zero status byte marks a removed slot
+        private final long[] keyHigh;
+        private final long[] keyLow;
+        private final long[] queuedAt;
+        private final int[] processingOffset;
+        private final int[] finishedOffset;
+        private final int[] callbackOffset;
+        private final byte[] eventType;
+        private final byte[] status;
+        private final byte[] callbackStatus;
+        private long head;
+        private int count;
+        private long evicted;
+
+        // Linear-probing index from key to ring slot + 1; 0 is an empty bucket
+        private final int[] index;
+        private final int indexMask;
+
+        Shard(int capacity) {
+            this.capacity = capacity;
+            keyHigh = new long[capacity];
+            keyLow = new long[capacity];
+            queuedAt = new long[capacity];
+            processingOffset = new int[capacity];
+            finishedOffset = new int[capacity];
+            callbackOffset = new int[capacity];
+            eventType = new byte[capacity];
+            status = new byte[capacity];
+            callbackStatus = new byte[capacity];
+            // Keeps the load factor at or below 0.75 so probe sequences stay short
+            int buckets = Integer.highestOneBit(Math.max(2, capacity + capacity / 3) - 1) << 1;
+            index = new int[buckets];
+            indexMask = buckets - 1;
+        }
+
+        void insert(long high, long low, EventType type, long nowMillis, long expiredBefore) {
+            long stamp = lock.writeLock();
+            try {
+                int oldest = (int) ((head - count) % capacity);
+                while (count > 0 && (count == capacity || queuedAt[oldest] < expiredBefore)) {
+                    if (status[oldest] != 0) {
+                        unindex(keyHigh[oldest], keyLow[oldest]);
+                        evicted++;
+                    }
+                    count--;
+                    oldest = oldest + 1 == capacity ? 0 : oldest + 1;
+                }
+                int bucket = find(high, low);
+                if (index[bucket] != 0) {
+                    // Same ID recorded twice; keep the existing entry's position in the ring
+                    int slot = index[bucket] - 1;
+                    reset(slot, high, low, type, nowMillis);
+                    return;
+                }
+                int slot = (int) (head % capacity);
+                reset(slot, high, low, type, nowMillis);
+                index[bucket] = slot + 1;
+                head++;
+                count++;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void reset(int slot, long high, long low, EventType type, long nowMillis) {
+            keyHigh[slot] = high;
+            keyLow[slot] = low;
+            queuedAt[slot] = nowMillis;
+            processingOffset[slot] = UNSET;
+            finishedOffset[slot] = UNSET;
+            callbackOffset[slot] = UNSET;
+            eventType[slot] = (byte) type.ordinal();
+            status[slot] = (byte) (EventStatus.QUEUED.ordinal() + 1);
+            callbackStatus[slot] = (byte) CallbackStatus.PENDING.ordinal();
+        }
+
+        void updateStatus(long high, long low, EventStatus newStatus, long nowMillis) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = slotOf(high, low);
+                if (slot < 0) {
+                    return;
+                }
+                int offset = offset(queuedAt[slot], nowMillis);
+                if (newStatus == EventStatus.PROCESSING) {
+                    processingOffset[slot] = offset;
+                } else if (newStatus != EventStatus.QUEUED) {
+                    finishedOffset[slot] = offset;
+                }
+                status[slot] = (byte) (newStatus.ordinal() + 1);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void updateCallback(long high, long low, CallbackStatus newStatus, long nowMillis) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = slotOf(high, low);
+                if (slot >= 0) {
+                    callbackOffset[slot] = newStatus == CallbackStatus.PENDING ? UNSET : offset(queuedAt[slot], nowMillis);
+                    callbackStatus[slot] = (byte) newStatus.ordinal();
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(long high, long low) {
+            long stamp = lock.writeLock();
+            try {
+                int slot = slotOf(high, low);
+                if (slot >= 0) {
+                    unindex(high, low);
+                    // The slot stays in the ring until eviction reaches it
+                    status[slot] = 0;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        EventStatusResponse get(long high, long low, long expiredBefore) {
+            long stamp = lock.tryOptimisticRead();
+            EventStatusResponse response = null;
+            if (stamp != 0) {
+                try {
+                    response = read(high, low, expiredBefore);
+                } catch (RuntimeException e) {
+                    // Torn values from a concurrent write; validation below fails and we retry
+                    stamp = 0;
+                }
+            }
+            if (stamp == 0 || !lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    response = read(high, low, expiredBefore);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+            return response;
+        }
+
+        private EventStatusResponse read(long high, long low, long expiredBefore) {
+            int slot = slotOf(high, low);
+            if (slot < 0) {
+                return null;
+            }
+            long queued = queuedAt[slot];
+            int statusCode = status[slot] - 1;
+            int typeCode = eventType[slot];
+            int callbackCode = callbackStatus[slot];
+            int processing = processingOffset[slot];
+            int finished = finishedOffset[slot];
+            int callback = callbackOffset[slot];
+            // Values read during a concurrent write may be torn; the caller then retries under the lock
+            if (queued < expiredBefore || statusCode < 0 || statusCode >= STATUSES.length
+                    || typeCode >= EVENT_TYPES.length || callbackCode >= CALLBACK_STATUSES.length) {
+                return null;
+            }
+            EventStatusResponse response = new EventStatusResponse();
+            response.setEventType(EVENT_TYPES[typeCode]);
+            response.setStatus(STATUSES[statusCode]);
+            response.setCallbackStatus(CALLBACK_STATUSES[callbackCode]);
+            response.setQueuedAt(Instant.ofEpochMilli(queued).toString());
+            response.setProcessingAt(timestamp(queued, processing));
+            response.setFinishedAt(timestamp(queued, finished));
+            response.setCallbackAt(timestamp(queued, callback));
+            return response;
+        }
+
+        private int slotOf(long high, long low) {
+            int entry = index[find(high, low)];
+            return entry - 1;
+        }
+
+        /**
+         * @return the bucket holding the key, or the empty bucket where it would be inserted
+         */
+        private int find(long high, long low) {
+            int bucket = (int) mix(high, low) & indexMask;
+            // Bounded so that a racing optimistic reader can never spin forever
+            for (int probes = 0; probes <= indexMask; probes++) {
+                int entry = index[bucket];
+                if (entry == 0) {
+                    return bucket;
+                }
+                int slot = entry - 1;
+                if (slot < capacity && keyHigh[slot] == high && keyLow[slot] == low) {
+                    return bucket;
+                }
+                bucket = (bucket + 1) & indexMask;
+            }
+            return bucket;
+        }
+
+        // Backward-shift deletion keeps probe sequences intact without tombstones
+        private void unindex(long high, long low) {
+            int hole = find(high, low);
+            if (index[hole] == 0) {
+                return;
+            }
+            int bucket = hole;
+            while (true) {
+                bucket = (bucket + 1) & indexMask;
+                int entry = index[bucket];
+                if (entry == 0) {
+                    break;
+                }
+                int slot = entry - 1;
+                int home = (int) mix(keyHigh[slot], keyLow[slot]) & indexMask;
+                boolean movable = hole <= bucket ? (home <= hole || home > bucket) : (home <= hole && home > bucket);
+                if (movable) {
+                    index[hole] = entry;
+                    hole = bucket;
+                }
+            }
+            index[hole] = 0;
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return count;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        long evicted() {
+            long stamp = lock.readLock();
+            try {
+                return evicted;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
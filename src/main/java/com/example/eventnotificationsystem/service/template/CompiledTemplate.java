@@ -0,0 +1,154 @@
+package com.example.eventnotificationsystem.service.template;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message template parsed once into the literal text between its {@code {{name}}}
+ * placeholders and the variable each placeholder refers to. Rendering is then a single
+ * pass that appends literals and values into a builder sized up front, with no scanning
+ * of the template text.
+ *
+ * <p>Values are bound positionally: {@link #bind} turns a parameter map into an array in
+ * the order of {@link #getVariables}, which is all a queued event needs to carry. The
+ * version is the first 64 bits of the source's SHA-256, the same on every node, so values
+ * can be checked against the template they were bound to.
+ */
+public final class CompiledTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // One more literal than placeholders; literal i comes before placeholder i
+    private final String[] literals;
+    // Variable index of each placeholder; a variable may appear more than once
+    private final int[] slots;
+    private final String[] variables;
+    private final int literalLength;
+    private final String source;
+    private final long version;
+
+    private CompiledTemplate(String source, String[] literals, int[] slots, String[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.variables = variables;
+        this.version = versionOf(source);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a placeholder is unclosed or its name is not
+     *                                  letters, digits, {@code _}, {@code .} or {@code -}
+     */
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        Map<String, Integer> variables = new LinkedHashMap<>();
+        int from = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, from)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (!isValidName(name)) {
+                throw new IllegalArgumentException("Invalid placeholder name at offset " + open + ": '" + name + "'");
+            }
+            literals.add(source.substring(from, open));
+            slots.add(variables.computeIfAbsent(name, key -> variables.size()));
+            from = close + CLOSE.length();
+        }
+        literals.add(source.substring(from));
+        return new CompiledTemplate(source, literals.toArray(new String[0]),
+                slots.stream().mapToInt(Integer::intValue).toArray(), variables.keySet().toArray(new String[0]));
+    }
+
+    private static long versionOf(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the values of {@link #getVariables} in order; parameters the template does
+     * not use are ignored
+     * @throws IllegalArgumentException if a variable has no value
+     */
+    public String[] bind(Map<String, String> params) {
+        String[] values = new String[variables.length];
+        List<String> missing = null;
+        for (int i = 0; i < variables.length; i++) {
+            values[i] = params == null ? null : params.get(variables[i]);
+            if (values[i] == null) {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(variables[i]);
+            }
+        }
+        if (missing != null) {
+            throw new IllegalArgumentException("Missing template parameters: " + String.join(", ", missing));
+        }
+        return values;
+    }
+
+    /**
+     * @param values as returned by {@link #bind} for this version of the template
+     */
+    public String render(String[] values) {
+        if (values == null || values.length != variables.length) {
+            throw new IllegalArgumentException("Expected " + variables.length + " template values");
+        }
+        int length = literalLength;
+        for (int slot : slots) {
+            length += values[slot].length();
+        }
+        StringBuilder message = new StringBuilder(length);
+        message.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            message.append(values[slots[i]]).append(literals[i + 1]);
+        }
+        return message.toString();
+    }
+
+    public List<String> getVariables() {
+        return Arrays.asList(variables.clone());
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private static boolean isValidName(String name) {
+        if (name.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
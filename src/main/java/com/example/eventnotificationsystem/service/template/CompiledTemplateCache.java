@@ -0,0 +1,86 @@
+package com.example.eventnotificationsystem.service.template;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Size-bounded LRU cache of compiled templates. Entries are spread over independently
+ * locked shards, each an access-ordered {@link LinkedHashMap} that drops its least
+ * recently used entry once full, so workers rendering different templates rarely
+ * contend. Recency is tracked per shard, which approximates a global LRU closely enough
+ * for a cache that is only a parse saved.
+ */
+public class CompiledTemplateCache {
+    private final Shard[] shards;
+
+    /**
+     * @param maxEntries total capacity across all shards
+     * @param shardCount number of independently locked shards, rounded up to a power of two
+     */
+    public CompiledTemplateCache(int maxEntries, int shardCount) {
+        if (maxEntries <= 0 || shardCount <= 0) {
+            throw new IllegalArgumentException("maxEntries and shardCount must be positive");
+        }
+        int count = 1;
+        while (count < shardCount && count < maxEntries) {
+            count <<= 1;
+        }
+        this.shards = new Shard[count];
+        int perShard = Math.max(1, (maxEntries + count - 1) / count);
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(perShard);
+        }
+    }
+
+    public CompiledTemplate get(String templateId) {
+        Shard shard = shardFor(templateId);
+        synchronized (shard) {
+            return shard.get(templateId);
+        }
+    }
+
+    public void put(String templateId, CompiledTemplate template) {
+        Shard shard = shardFor(templateId);
+        synchronized (shard) {
+            shard.put(templateId, template);
+        }
+    }
+
+    public void remove(String templateId) {
+        Shard shard = shardFor(templateId);
+        synchronized (shard) {
+            shard.remove(templateId);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                size += shard.size();
+            }
+        }
+        return size;
+    }
+
+    private Shard shardFor(String templateId) {
+        int h = templateId.hashCode() * 0x9E3779B9;
+        return shards[(h ^ (h >>> 16)) & (shards.length - 1)];
+    }
+
+    private static final class Shard extends LinkedHashMap<String, CompiledTemplate> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Shard(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledTemplate> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.eventnotificationsystem.service.timer;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Wall-clock timestamps as ISO-8601 UTC strings ({@code 2024-01-01T12:00:00.123Z}),
+ * formatted at most once per millisecond. Every callback carries one, and at high rates
+ * most callers land in a millisecond that has already been formatted, so they get the
+ * cached string without allocating.
+ */
+public final class CachedClock {
+    private static volatile Tick last = new Tick(Long.MIN_VALUE, null);
+
+    private CachedClock() {
+    }
+
+    public static String isoNow() {
+        return iso(System.currentTimeMillis());
+    }
+
+    static String iso(long epochMillis) {
+        Tick tick = last;
+        if (tick.epochMillis == epochMillis) {
+            return tick.text;
+        }
+        String text = DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(epochMillis));
+        // Racing threads may each format the same millisecond; any of them is correct
+        last = new Tick(epochMillis, text);
+        return text;
+    }
+
+    private static final class Tick {
+        private final long epochMillis;
+        private final String text;
+
+        private Tick(long epochMillis, String text) {
+            this.epochMillis = epochMillis;
+            this.text = text;
+        }
+    }
+}
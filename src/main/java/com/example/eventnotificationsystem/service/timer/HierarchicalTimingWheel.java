@@ -0,0 +1,292 @@
+package com.example.eventnotificationsystem.service.timer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Hierarchical timing wheel for long delays: four levels of 256 slots, each slot of a
+ * level spanning a full turn of the level below. With a 10 ms tick the levels cover 2.5
+ * seconds, 11 minutes, 46 hours and 497 days. A timer goes into the lowest level whose
+ * span covers its delay. When a level's turn comes round, its slot is cascaded: each
+ * timer moves down into a finer level. So inserting and cancelling are O(1), and each
+ * timer is touched at most once per level before it fires. Unlike {@link TimingWheel},
+ * a tick never visits timers that are not yet due.
+ *
+ * <p>Timers are not objects. Each is a slot in flat arrays holding its due tick, the
+ * links of its bucket's list and the item, plus an open-addressing index from the
+ * item's key to the slot for cancellation. That is about 30 bytes per timer on top of
+ * the item. The arrays start small and double up to {@code maxTimers}.
+ *
+ * <p>The wheel is driven by {@link #advance}, which returns the items that have become
+ * due. Timers never fire early. All methods are synchronized; a tick holds the lock only
+ * for the timers it expires or cascades.
+ */
+public class HierarchicalTimingWheel<T> {
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final long HORIZON_TICKS = 1L << (LEVELS * SLOT_BITS);
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NONE = -1;
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int maxTimers;
+    private final Function<T, String> keyOf;
+    // All timers due at or before this tick have fired
+    private long currentTick;
+
+    // Head of each bucket's list, level by level
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private long[] dueTick;
+    private int[] next;
+    private int[] prev;
+    // Bucket a timer is in, or NONE for a free slot
+    private int[] bucketOf;
+    private Object[] items;
+    private int freeHead;
+    private int size;
+
+    // Linear-probing index from key to slot + 1; 0 is an empty bucket
+    private int[] index;
+    private int indexMask;
+
+    /**
+     * @param tickMillis  timer resolution
+     * @param maxTimers   most timers held at once; {@link #schedule} refuses more
+     * @param keyOf       key an item is cancelled by; keys of pending items must be unique
+     * @param startMillis wall-clock time of tick 0
+     */
+    public HierarchicalTimingWheel(long tickMillis, int maxTimers, Function<T, String> keyOf, long startMillis) {
+        if (tickMillis <= 0 || maxTimers <= 0) {
+            throw new IllegalArgumentException("Tick duration and timer limit must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.maxTimers = maxTimers;
+        this.keyOf = keyOf;
+        Arrays.fill(heads, NONE);
+        allocate(Math.min(INITIAL_CAPACITY, maxTimers));
+    }
+
+    /**
+     * @return the longest delay a timer can be scheduled with
+     */
+    public long getHorizonMillis() {
+        return (HORIZON_TICKS - 1) * tickMillis;
+    }
+
+    /**
+     * Schedules {@code item} to be returned by {@link #advance} once {@code dueMillis} has
+     * passed. Items already due come back from the next tick.
+     *
+     * @return {@code false} if the wheel already holds {@code maxTimers} timers
+     * @throws IllegalArgumentException if {@code dueMillis} is beyond the wheel's horizon
+     */
+    public synchronized boolean schedule(T item, long dueMillis) {
+        // Rounded up, so a timer never fires before its time
+        long tick = Math.max(Math.floorDiv(dueMillis - startMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        if (tick - currentTick >= HORIZON_TICKS) {
+            throw new IllegalArgumentException("Delay exceeds the timing wheel's horizon of " + getHorizonMillis() + " ms");
+        }
+        if (size == maxTimers) {
+            return false;
+        }
+        if (freeHead == NONE) {
+            allocate((int) Math.min((long) items.length * 2, maxTimers));
+        }
+        int slot = freeHead;
+        freeHead = next[slot];
+        dueTick[slot] = tick;
+        items[slot] = item;
+        link(slot);
+        indexInsert(slot);
+        size++;
+        return true;
+    }
+
+    /**
+     * @return the cancelled item, or {@code null} if no pending timer has this key
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized T cancel(String key) {
+        int slot = index[find(key)] - 1;
+        if (slot < 0) {
+            return null;
+        }
+        T item = (T) items[slot];
+        unindex(key);
+        unlink(slot);
+        free(slot);
+        return item;
+    }
+
+    /**
+     * Advances the wheel to {@code nowMillis}, tick by tick.
+     *
+     * @return the items that became due, tick by tick in the order their ticks came
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long target = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        List<T> due = new ArrayList<>();
+        while (currentTick < target) {
+            currentTick++;
+            // Coarse levels first: a timer cascaded from level 2 may land in the level-1
+            // slot that is cascaded next
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                    cascade(level * SLOTS + (int) ((currentTick >>> (level * SLOT_BITS)) & SLOT_MASK));
+                }
+            }
+            expire((int) (currentTick & SLOT_MASK), due);
+        }
+        return due;
+    }
+
+    /**
+     * @return wall-clock time at which the next tick is due
+     */
+    public synchronized long nextTickMillis() {
+        return startMillis + (currentTick + 1) * tickMillis;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expire(int bucket, List<T> due) {
+        int slot = heads[bucket];
+        heads[bucket] = NONE;
+        while (slot != NONE) {
+            int following = next[slot];
+            T item = (T) items[slot];
+            unindex(keyOf.apply(item));
+            free(slot);
+            due.add(item);
+            slot = following;
+        }
+    }
+
+    private void cascade(int bucket) {
+        int slot = heads[bucket];
+        heads[bucket] = NONE;
+        while (slot != NONE) {
+            int following = next[slot];
+            link(slot);
+            slot = following;
+        }
+    }
+
+    // Level chosen by how far off the timer is; slot by the due tick's own digits
+    private void link(int slot) {
+        long delay = dueTick[slot] - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << ((level + 1) * SLOT_BITS)) {
+            level++;
+        }
+        int bucket = level * SLOTS + (int) ((dueTick[slot] >>> (level * SLOT_BITS)) & SLOT_MASK);
+        bucketOf[slot] = bucket;
+        prev[slot] = NONE;
+        next[slot] = heads[bucket];
+        if (heads[bucket] != NONE) {
+            prev[heads[bucket]] = slot;
+        }
+        heads[bucket] = slot;
+    }
+
+    private void unlink(int slot) {
+        if (prev[slot] != NONE) {
+            next[prev[slot]] = next[slot];
+        } else {
+            heads[bucketOf[slot]] = next[slot];
+        }
+        if (next[slot] != NONE) {
+            prev[next[slot]] = prev[slot];
+        }
+    }
+
+    private void free(int slot) {
+        bucketOf[slot] = NONE;
+        items[slot] = null;
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+    }
+
+    private void allocate(int capacity) {
+        int from = items == null ? 0 : items.length;
+        dueTick = dueTick == null ? new long[capacity] : Arrays.copyOf(dueTick, capacity);
+        next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+        prev = prev == null ? new int[capacity] : Arrays.copyOf(prev, capacity);
+        bucketOf = bucketOf == null ? new int[capacity] : Arrays.copyOf(bucketOf, capacity);
+        items = items == null ? new Object[capacity] : Arrays.copyOf(items, capacity);
+        // New slots go on the free list in order
+        for (int slot = capacity - 1; slot >= from; slot--) {
+            bucketOf[slot] = NONE;
+            next[slot] = slot == capacity - 1 ? NONE : slot + 1;
+        }
+        freeHead = from < capacity ? from : NONE;
+        // Always more buckets than timers, so a probe for a missing key ends at an empty one
+        int buckets = Integer.highestOneBit(capacity + capacity / 3) << 1;
+        index = new int[buckets];
+        indexMask = buckets - 1;
+        for (int slot = 0; slot < from; slot++) {
+            if (bucketOf[slot] != NONE) {
+                indexInsert(slot);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void indexInsert(int slot) {
+        index[find(keyOf.apply((T) items[slot]))] = slot + 1;
+    }
+
+    /**
+     * @return the bucket holding the key, or the empty bucket where it would be inserted
+     */
+    @SuppressWarnings("unchecked")
+    private int find(String key) {
+        int bucket = home(key);
+        while (true) {
+            int entry = index[bucket];
+            if (entry == 0 || keyOf.apply((T) items[entry - 1]).equals(key)) {
+                return bucket;
+            }
+            bucket = (bucket + 1) & indexMask;
+        }
+    }
+
+    // Backward-shift deletion keeps probe sequences intact without tombstones
+    @SuppressWarnings("unchecked")
+    private void unindex(String key) {
+        int hole = find(key);
+        if (index[hole] == 0) {
+            return;
+        }
+        int bucket = hole;
+        while (true) {
+            bucket = (bucket + 1) & indexMask;
+            int entry = index[bucket];
+            if (entry == 0) {
+                break;
+            }
+            int home = home(keyOf.apply((T) items[entry - 1]));
+            boolean movable = hole <= bucket ? (home <= hole || home > bucket) : (home <= hole && home > bucket);
+            if (movable) {
+                index[hole] = entry;
+                hole = bucket;
+            }
+        }
+        index[hole] = 0;
+    }
+
+    private int home(String key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & indexMask;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.EventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.oneOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class)
+@AutoConfigureMockMvc
+public class BroadcastControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testBroadcastToUploadedSegment() throws Exception {
+        mockMvc.perform(put("/api/segments/beta-testers")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("device-0001\ndevice-0002\n\ndevice-0003\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recipients").value(3));
+
+        BroadcastRequest request = new BroadcastRequest();
+        request.setEventType(EventType.PUSH);
+        request.setSegmentId("beta-testers");
+        request.setMessage("New beta build available");
+        request.setCallbackUrl("http://localhost/callback");
+
+        String response = mockMvc.perform(post("/api/broadcasts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.recipients").value(3))
+                .andReturn().getResponse().getContentAsString();
+        String broadcastId = objectMapper.readTree(response).get("broadcastId").asText();
+
+        mockMvc.perform(get("/api/broadcasts/" + broadcastId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventType").value("PUSH"))
+                .andExpect(jsonPath("$.status").value(oneOf("PROCESSING", "COMPLETED")));
+
+        request.setRecipients(List.of("device-0004"));
+        mockMvc.perform(post("/api/broadcasts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Specify either recipients or segmentId"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.config.ClusterConfig;
+import com.example.eventnotificationsystem.service.cluster.HttpClusterTransport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class,
+        properties = {"events.cluster.secret=s3cret", "events.cluster.max-parked=10000"})
+@AutoConfigureMockMvc
+public class ClusterControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClusterConfig clusterConfig;
+
+    @Test
+    public void testInternalEndpointsRequireTheSecret() throws Exception {
+        mockMvc.perform(post("/internal/cluster/handoff/1"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/internal/cluster/handoff/1")
+                .header(HttpClusterTransport.SECRET_HEADER, "wrong"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/internal/cluster/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpClusterTransport.EVENT_TYPE_HEADER, "SMS")
+                .content("{}"))
+                .andExpect(status().isForbidden());
+
+        // Past the check, a node with cluster mode disabled refuses forwarded events
+        mockMvc.perform(post("/internal/cluster/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpClusterTransport.EVENT_TYPE_HEADER, "SMS")
+                .header(HttpClusterTransport.SECRET_HEADER, "s3cret")
+                .content("{}"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    public void testMembershipChangeRequiresTheSecret() throws Exception {
+        mockMvc.perform(put("/api/cluster/members")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"a\":\"http://attacker:8080\"}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    public void testParkedRequestsAreCappedBelowTheServletThreads() {
+        assertEquals(50, clusterConfig.getMaxParked());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.*;
+import com.example.eventnotificationsystem.service.EventService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class,
+        properties = {"events.queue.sms.capacity=100", "events.processor.sms.delay-ms=2000"})
+// Printing is off because MockMvc would otherwise buffer every exchange for the failure report
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+public class EventControllerBackpressureTest {
+    private static final int CAPACITY = 100;
+    private static final int REQUESTS = 10_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EventService eventService;
+
+    @Test
+    public void testFloodIsRejectedWith429AndQueueStaysBounded() throws Exception {
+        EventRequest request = new EventRequest();
+        request.setEventType(EventType.SMS);
+        SmsPayload payload = new SmsPayload();
+        payload.setPhoneNumber("+1234567890");
+        payload.setMessage("Flood");
+        request.setPayload(payload);
+        request.setCallbackUrl("http://localhost/callback");
+        String body = objectMapper.writeValueAsString(request);
+
+        long heapBefore = usedHeapAfterGc();
+        int accepted = 0;
+        int rejected = 0;
+        int maxQueueSize = 0;
+        for (int i = 0; i < REQUESTS; i++) {
+            MockHttpServletResponse response = mockMvc.perform(post("/api/events")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andReturn().getResponse();
+            if (response.getStatus() == 200) {
+                accepted++;
+            } else {
+                assertEquals(429, response.getStatus());
+                long retryAfter = Long.parseLong(response.getHeader("Retry-After"));
+                assertTrue(retryAfter >= 1 && retryAfter <= 60);
+                rejected++;
+            }
+            maxQueueSize = Math.max(maxQueueSize, eventService.getSmsQueue().size());
+        }
+        long heapGrowth = usedHeapAfterGc() - heapBefore;
+
+        assertTrue(maxQueueSize <= CAPACITY, "Queue grew beyond its capacity: " + maxQueueSize);
+        // Only the queue plus what the single worker drained during the flood can be accepted
+        assertTrue(accepted <= CAPACITY + 20, "Accepted " + accepted + " events");
+        assertEquals(REQUESTS, accepted + rejected);
+        assertTrue(heapGrowth < 32L * 1024 * 1024, "Heap grew by " + heapGrowth + " bytes");
+    }
+
+    @Test
+    public void testFloodAcrossPrioritiesStaysWithinChannelCapacity() throws Exception {
+        EventPriority[] priorities = EventPriority.values();
+        String[] bodies = new String[priorities.length];
+        for (int i = 0; i < priorities.length; i++) {
+            EventRequest request = new EventRequest();
+            request.setEventType(EventType.SMS);
+            request.setPriority(priorities[i]);
+            SmsPayload payload = new SmsPayload();
+            payload.setPhoneNumber("+1234567890");
+            payload.setMessage("Flood");
+            request.setPayload(payload);
+            request.setCallbackUrl("http://localhost/callback");
+            bodies[i] = objectMapper.writeValueAsString(request);
+        }
+
+        int maxQueueSize = 0;
+        for (int i = 0; i < 3 * CAPACITY; i++) {
+            int status = mockMvc.perform(post("/api/events")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(bodies[i % bodies.length]))
+                    .andReturn().getResponse().getStatus();
+            assertTrue(status == 200 || status == 429, "Unexpected status " + status);
+            maxQueueSize = Math.max(maxQueueSize, eventService.getSmsQueue().size());
+        }
+
+        // Every lane is full, yet together they hold no more than the channel capacity
+        assertTrue(maxQueueSize <= CAPACITY, "Queue grew beyond its capacity: " + maxQueueSize);
+    }
+
+    private static long usedHeapAfterGc()throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
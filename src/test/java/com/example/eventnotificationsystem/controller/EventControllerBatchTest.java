@@ -0,0 +1,99 @@
+package com.example.eventnotificationsystem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class)
+@AutoConfigureMockMvc
+public class EventControllerBatchTest {
+    private static final String EMAIL = "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"a@example.com\",\"message\":\"Hi\"},\"callbackUrl\":\"http://localhost/callback\"}";
+    private static final String SMS = "{\"eventType\":\"SMS\",\"payload\":{\"type\":\"SMS\",\"phoneNumber\":\"+1234567890\",\"message\":\"Hi\"},\"callbackUrl\":\"http://localhost/callback\"}";
+    private static final String MISSING_MESSAGE = "{\"eventType\":\"PUSH\",\"payload\":{\"type\":\"PUSH\",\"deviceId\":\"d-1\"},\"callbackUrl\":\"http://localhost/callback\"}";
+    private static final String MISMATCHED = "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"SMS\",\"phoneNumber\":\"+1234567890\",\"message\":\"Hi\"},\"callbackUrl\":\"http://localhost/callback\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testJsonArrayReportsEachItem() throws Exception {
+        mockMvc.perform(post("/api/events/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + EMAIL + "," + MISSING_MESSAGE + "," + MISMATCHED + "," + SMS + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[0].status").value(200))
+                .andExpect(jsonPath("$.results[0].eventId").exists())
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].fieldErrors['payload.message']").value("Message is required"))
+                .andExpect(jsonPath("$.results[2].status").value(400))
+                .andExpect(jsonPath("$.results[2].message").value("Payload does not match event type: EMAIL"))
+                .andExpect(jsonPath("$.results[3].index").value(3))
+                .andExpect(jsonPath("$.results[3].eventId").exists());
+    }
+
+    @Test
+    public void testBodyThatIsNotAnArrayIsRejected() throws Exception {
+        mockMvc.perform(post("/api/events/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(EMAIL))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Batch body must be a JSON array"));
+    }
+
+    @Test
+    public void testNdjsonStreamsOneResultPerLineAndStopsAtMalformedLine() throws Exception {
+        String body = EMAIL + "\n" + MISSING_MESSAGE + "\n" + SMS + "\n{\"eventType\":\"FAX\"}\n" + EMAIL + "\n";
+
+        String response = mockMvc.perform(post("/api/events/batch")
+                .contentType(EventController.APPLICATION_NDJSON_VALUE)
+                .accept(EventController.APPLICATION_NDJSON_VALUE)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EventController.APPLICATION_NDJSON_VALUE))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].contains("\"status\":200"));
+        assertTrue(lines[1].contains("\"status\":400"));
+        assertTrue(lines[2].contains("\"status\":200"));
+        assertTrue(lines[3].contains("\"index\":3") && lines[3].contains("Malformed event"));
+    }
+
+    @Test
+    public void testNullArrayElementIsRejectedOnItsOwn() throws Exception {
+        mockMvc.perform(post("/api/events/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + EMAIL + ",null," + SMS + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[1].status").value(400))
+                .andExpect(jsonPath("$.results[1].message").value("Event must not be null"))
+                .andExpect(jsonPath("$.results[2].status").value(200));
+    }
+
+    @Test
+    public void testNullNdjsonLineIsRejectedOnItsOwn() throws Exception {
+        String response = mockMvc.perform(post("/api/events/batch")
+                .contentType(EventController.APPLICATION_NDJSON_VALUE)
+                .accept(EventController.APPLICATION_NDJSON_VALUE)
+                .content(EMAIL + "\nnull\n" + SMS + "\n"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].contains("\"status\":400") && lines[1].contains("Event must not be null"));
+        assertTrue(lines[2].contains("\"status\":200"));
+    }
+}
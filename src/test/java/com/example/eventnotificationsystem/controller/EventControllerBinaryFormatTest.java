@@ -0,0 +1,85 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class)
+@AutoConfigureMockMvc
+public class EventControllerBinaryFormatTest {
+    private static final String EMAIL = "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"a@example.com\",\"message\":\"Hi\"},\"callbackUrl\":\"http://localhost/callback\"}";
+    private static final String MISSING_MESSAGE = "{\"eventType\":\"PUSH\",\"payload\":{\"type\":\"PUSH\",\"deviceId\":\"d-1\"},\"callbackUrl\":\"http://localhost/callback\"}";
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testSmileRequestGetsSmileResponse() throws Exception {
+        byte[] body = smileMapper.writeValueAsBytes(jsonMapper.readTree(EMAIL));
+        assertTrue(body.length < EMAIL.length());
+
+        MvcResult result = mockMvc.perform(post("/api/events")
+                .contentType(EventController.APPLICATION_SMILE_VALUE)
+                .accept(EventController.APPLICATION_SMILE_VALUE)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(EventController.APPLICATION_SMILE_VALUE))
+                .andReturn();
+        JsonNode response = smileMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertTrue(response.path("eventId").isTextual());
+
+        // Without an Accept header the response stays JSON
+        mockMvc.perform(post("/api/events")
+                .contentType(EventController.APPLICATION_SMILE_VALUE)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.eventId").exists());
+    }
+
+    @Test
+    public void testCborRequestIsValidatedLikeJson() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(jsonMapper.readTree(MISSING_MESSAGE))))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+        JsonNode response = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Validation Failed", response.path("error").asText());
+        assertEquals("Message is required", response.path("fieldErrors").path("payload.message").asText());
+    }
+
+    @Test
+    public void testCborBatchReportsEachItem() throws Exception {
+        byte[] body = cborMapper.writeValueAsBytes(jsonMapper.readTree("[" + EMAIL + "," + MISSING_MESSAGE + "]"));
+
+        MvcResult result = mockMvc.perform(post("/api/events/batch")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode response = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+        assertEquals(1, response.path("accepted").asInt());
+        assertEquals(1, response.path("rejected").asInt());
+        assertTrue(response.path("results").get(0).path("eventId").isTextual());
+        assertEquals("Message is required", response.path("results").get(1).path("fieldErrors").path("payload.message").asText());
+    }
+}
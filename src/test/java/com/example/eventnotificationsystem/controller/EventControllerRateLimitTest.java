@@ -0,0 +1,58 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class,
+        properties = {"events.ratelimit.sms.recipient-rate=0.01", "events.ratelimit.sms.recipient-burst=3"})
+@AutoConfigureMockMvc
+public class EventControllerRateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testRecipientOverLimitIsRejectedWith429() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/events")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(smsTo("+15550003333")))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(smsTo("+15550003333")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("recipient rate limit")));
+
+        // Other recipients are unaffected
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(smsTo("+15550004444")))
+                .andExpect(status().isOk());
+    }
+
+    private String smsTo(String phoneNumber) throws Exception {
+        EventRequest request = new EventRequest();
+        request.setEventType(EventType.SMS);
+        SmsPayload payload = new SmsPayload();
+        payload.setPhoneNumber(phoneNumber);
+        payload.setMessage("Rate limited");
+        request.setPayload(payload);
+        request.setCallbackUrl("http://localhost/callback");
+        return objectMapper.writeValueAsString(request);
+    }
+}
@@ -10,7 +10,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.oneOf;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class)
@@ -67,4 +75,170 @@ public class EventControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testSubmittedEventStatusCanBeLookedUp() throws Exception {
+        EventRequest request = new EventRequest();
+        request.setEventType(EventType.PUSH);
+        PushPayload payload = new PushPayload();
+        payload.setDeviceId("device-1");
+        payload.setMessage("Test message");
+        request.setPayload(payload);
+        request.setCallbackUrl("http://localhost/callback");
+
+        String response = mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andReturn().getResponse().getContentAsString();
+        String eventId = objectMapper.readTree(response).get("eventId").asText();
+
+        mockMvc.perform(get("/api/events/" + eventId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventId").value(eventId))
+                .andExpect(jsonPath("$.eventType").value("PUSH"))
+                .andExpect(jsonPath("$.status").value(oneOf("QUEUED", "PROCESSING")))
+                .andExpect(jsonPath("$.callbackStatus").value("PENDING"))
+                .andExpect(jsonPath("$.queuedAt").exists());
+    }
+
+    @Test
+    public void testUnknownEventStatusIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/events/3f1c0a52-7d4e-4a8b-9c6f-0e2d1b5a7c93"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testRepeatedIdempotencyKeyReturnsOriginalEvent() throws Exception {
+        EventRequest request = new EventRequest();
+        request.setEventType(EventType.SMS);
+        SmsPayload payload = new SmsPayload();
+        payload.setPhoneNumber("+15550001111");
+        payload.setMessage("Your code is 1234");
+        request.setPayload(payload);
+        request.setCallbackUrl("http://localhost/callback");
+        String body = objectMapper.writeValueAsString(request);
+
+        String response = mockMvc.perform(post("/api/events")
+                .header("Idempotency-Key", "otp-7f3a9c")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn().getResponse().getContentAsString();
+        String eventId = objectMapper.readTree(response).get("eventId").asText();
+
+        mockMvc.perform(post("/api/events")
+                .header("Idempotency-Key", "otp-7f3a9c")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.eventId").value(eventId))
+                .andExpect(jsonPath("$.message").value("Event accepted for processing."))
+                .andExpect(jsonPath("$.replayed").doesNotExist());
+    }
+
+    @Test
+    public void testOversizedIdempotencyKeyIsRejected() throws Exception {
+        EventRequest request = new EventRequest();
+        request.setEventType(EventType.EMAIL);
+        EmailPayload payload = new EmailPayload();
+        payload.setRecipient("test@example.com");
+        payload.setMessage("Test message");
+        request.setPayload(payload);
+        request.setCallbackUrl("http://localhost/callback");
+
+        mockMvc.perform(post("/api/events")
+                .header("Idempotency-Key", "k".repeat(256))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testScheduledEventWaitsAndCanBeCancelled() throws Exception {
+        EventRequest request = new EventRequest();
+        request.setEventType(EventType.EMAIL);
+        EmailPayload payload = new EmailPayload();
+        payload.setRecipient("reminder@example.com");
+        payload.setMessage("Your appointment is tomorrow");
+        request.setPayload(payload);
+        request.setCallbackUrl("http://localhost/callback");
+        request.setDelaySeconds(3600L);
+
+        String response = mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(startsWith("Event scheduled for ")))
+                .andReturn().getResponse().getContentAsString();
+        String eventId = objectMapper.readTree(response).get("eventId").asText();
+
+        mockMvc.perform(get("/api/events/" + eventId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("SCHEDULED"));
+        mockMvc.perform(delete("/api/events/" + eventId))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/events/" + eventId))
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+        mockMvc.perform(delete("/api/events/" + eventId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testSendAtAndDelayTogetherAreRejected() throws Exception {
+        EventRequest request = new EventRequest();
+        request.setEventType(EventType.EMAIL);
+        EmailPayload payload = new EmailPayload();
+        payload.setRecipient("reminder@example.com");
+        payload.setMessage("Your appointment is tomorrow");
+        request.setPayload(payload);
+        request.setCallbackUrl("http://localhost/callback");
+        request.setSendAt(Instant.now().plusSeconds(60));
+        request.setDelaySeconds(60L);
+
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testTemplatedEventIsBoundAtSubmission() throws Exception {
+        mockMvc.perform(put("/api/templates/order-shipped")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"Hi {{name}}, order {{orderId}} has shipped.\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.variables[0]").value("name"))
+                .andExpect(jsonPath("$.variables[1]").value("orderId"));
+
+        EventRequest request = new EventRequest();
+        request.setEventType(EventType.EMAIL);
+        EmailPayload payload = new EmailPayload();
+        payload.setRecipient("test@example.com");
+        request.setPayload(payload);
+        request.setCallbackUrl("http://localhost/callback");
+        request.setTemplateId("order-shipped");
+        request.setTemplateParams(Map.of("name", "Ada", "orderId", "A-17"));
+
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventId").exists());
+
+        request.setTemplateParams(Map.of("name", "Ada"));
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Missing template parameters: orderId"));
+
+        request.setTemplateId("no-such-template");
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown template: no-such-template"));
+    }
+}
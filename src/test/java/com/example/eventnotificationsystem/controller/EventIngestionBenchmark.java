@@ -0,0 +1,116 @@
+package com.example.eventnotificationsystem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Measures end-to-end ingestion rate over real HTTP: one request per event against
+ * {@code POST /api/events}, JSON arrays of {@value #BATCH_SIZE} and a single NDJSON
+ * stream against {@code POST /api/events/batch}. Each mode uses {@value #CLIENTS}
+ * concurrent clients.
+ *
+ * <p>Run with {@code mvn test -Dtest=EventIngestionBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"events.queue.email.capacity=10000000", "events.processor.email.delay-ms=600000"})
+public class EventIngestionBenchmark {
+    private static final String EVENT = "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"a@example.com\",\"message\":\"Hi\"},\"callbackUrl\":\"http://localhost/callback\"}";
+    private static final int EVENTS = 200_000;
+    private static final int SINGLE_EVENTS = 20_000;
+    private static final int BATCH_SIZE = 1000;
+    private static final int CLIENTS = 8;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @Test
+    public void singleVersusBatch() throws Exception {
+        // Warm up every path before measuring
+        single(2000);
+        array(20_000);
+        ndjson(20_000);
+
+        double single = single(SINGLE_EVENTS);
+        double array = array(EVENTS);
+        double ndjson = ndjson(EVENTS);
+        System.out.printf("%-30s %12.0f ev/s%n", "POST /api/events", single);
+        System.out.printf("%-30s %12.0f ev/s (%.1fx)%n", "batch, JSON array of " + BATCH_SIZE, array, array / single);
+        System.out.printf("%-30s %12.0f ev/s (%.1fx)%n", "batch, NDJSON stream", ndjson, ndjson / single);
+    }
+
+    private double single(int events) throws Exception {
+        return run(events, events / CLIENTS, count -> {
+            for (int i = 0; i < count; i++) {
+                send("/api/events", "application/json", EVENT);
+            }
+        });
+    }
+
+    private double array(int events) throws Exception {
+        String body = "[" + String.join(",", Collections.nCopies(BATCH_SIZE, EVENT)) + "]";
+        return run(events, events / CLIENTS, count -> {
+            for (int i = 0; i < count; i += BATCH_SIZE) {
+                send("/api/events/batch", "application/json", body);
+            }
+        });
+    }
+
+    private double ndjson(int events) throws Exception {
+        return run(events, events / CLIENTS, count -> {
+            StringBuilder body = new StringBuilder(count * (EVENT.length() + 1));
+            for (int i = 0; i < count; i++) {
+                body.append(EVENT).append('\n');
+            }
+            send("/api/events/batch", EventController.APPLICATION_NDJSON_VALUE, body.toString());
+        });
+    }
+
+    private void send(String path, String contentType, String body) throws Exception {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        assertEquals(200, response.statusCode());
+    }
+
+    private interface Client {
+        void run(int count) throws Exception;
+    }
+
+    private static double run(int events, int perClient, Client client) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            futures.add(executor.submit(() -> {
+                client.run(perClient);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        executor.shutdown();
+        return events / seconds;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.eventnotificationsystem.controller;
+
+import com.example.eventnotificationsystem.model.*;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventRequestReaderTest {
+    private static final String CALLBACK = "\"callbackUrl\":\"http://localhost/callback\"";
+
+    // Configured like Spring Boot's mapper
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final EventRequestReader reader = new EventRequestReader(objectMapper.getFactory(), validator, null, false);
+
+    @Test
+    public void readsEachEventTypeLikeTheGeneralPath() throws Exception {
+        String[] bodies = {
+                "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"user@example.com\","
+                        + "\"message\":\"Hi\"}," + CALLBACK + ",\"priority\":\"HIGH\"}",
+                "{\"payload\":{\"message\":\"Hi\",\"phoneNumber\":\"+12345678901\",\"type\":\"SMS\"},"
+                        + "\"eventType\":\"SMS\"," + CALLBACK + ",\"sendAt\":\"2030-01-01T00:00:00Z\"}",
+                "{\"eventType\":\"PUSH\",\"payload\":{\"type\":\"PUSH\",\"deviceId\":\"device-123\",\"message\":\"Hi\"},"
+                        + CALLBACK + ",\"extra\":[1,{\"a\":2}]}"
+        };
+        for (String body : bodies) {
+            Event event = reader.read(bytes(body));
+            Event expected = new EventController().validateAndConvertEvent(objectMapper.readValue(body, EventRequest.class));
+            assertNotNull(event, body);
+            assertEquals(expected.getClass(), event.getClass());
+            assertEquals(expected.getEventType(), event.getEventType());
+            assertEquals(expected.getMessage(), event.getMessage());
+            assertEquals(expected.getCallbackUrl(), event.getCallbackUrl());
+            assertEquals(expected.getPriority(), event.getPriority());
+            assertEquals(expected.getSendAt(), event.getSendAt());
+        }
+        assertEquals("user@example.com", ((EmailEvent) reader.read(bytes(bodies[0]))).getRecipient());
+        assertEquals("+12345678901", ((SmsEvent) reader.read(bytes(bodies[1]))).getPhoneNumber());
+        assertEquals("device-123", ((PushEvent) reader.read(bytes(bodies[2]))).getDeviceId());
+    }
+
+    @Test
+    public void reportsTheSameFieldErrorsAsBeanValidation() throws Exception {
+        String[] bodies = {
+                "{}",
+                "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"not-an-email\"},"
+                        + "\"callbackUrl\":\" \",\"delaySeconds\":-5}",
+                "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"\",\"message\":\"Hi\"}," + CALLBACK + "}",
+                "{\"eventType\":\"SMS\",\"payload\":{\"type\":\"SMS\",\"phoneNumber\":\"12-34\",\"message\":\" \"}," + CALLBACK + "}",
+                "{\"eventType\":\"PUSH\",\"payload\":{\"type\":\"PUSH\",\"deviceId\":\"dev\",\"message\":\"Hi\"}," + CALLBACK + "}",
+                "{\"eventType\":\"PUSH\",\"payload\":{\"type\":\"PUSH\",\"message\":\"Hi\"}," + CALLBACK + "}"
+        };
+        for (String body : bodies) {
+            RequestValidationException e = assertThrows(RequestValidationException.class, () -> reader.read(bytes(body)), body);
+            assertEquals(beanValidationErrors(body), e.getFieldErrors(), body);
+        }
+    }
+
+    @Test
+    public void acceptsValuesTheFastChecksDoNotCover() throws Exception {
+        String body = "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"\\\"quoted local\\\"@example.com\","
+                + "\"message\":\"Hi\"}," + CALLBACK + "}";
+        assertTrue(beanValidationErrors(body).isEmpty());
+        assertEquals("\"quoted local\"@example.com", ((EmailEvent) reader.read(bytes(body))).getRecipient());
+    }
+
+    @Test
+    public void rejectsMismatchedPayloadLikeTheGeneralPath() {
+        String body = "{\"eventType\":\"SMS\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"user@example.com\","
+                + "\"message\":\"Hi\"}," + CALLBACK + "}";
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> reader.read(bytes(body)));
+        assertEquals("Payload does not match event type: SMS", e.getMessage());
+    }
+
+    @Test
+    public void leavesRequestsJacksonWouldBindDifferentlyToIt() throws Exception {
+        String[] bodies = {
+                "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"user@example.com\"",
+                "[]",
+                "{\"eventType\":\"FAX\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"user@example.com\"}}",
+                "{\"eventType\":\"EMAIL\",\"payload\":{\"recipient\":\"user@example.com\"}}",
+                "{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":42,\"message\":\"Hi\"}," + CALLBACK + "}",
+                "{\"eventType\":\"SMS\",\"payload\":{\"type\":\"SMS\",\"phoneNumber\":\"+12345678901\",\"message\":\"Hi\"},"
+                        + CALLBACK + ",\"sendAt\":\"2030-01-01T01:00:00+01:00\"}",
+                "{\"eventType\":\"SMS\",\"payload\":{\"type\":\"SMS\",\"phoneNumber\":\"+12345678901\",\"message\":\"Hi\"},"
+                        + CALLBACK + ",\"delaySeconds\":1.5}"
+        };
+        for (String body : bodies) {
+            assertNull(reader.read(bytes(body)), body);
+        }
+
+        EventRequestReader strict = new EventRequestReader(objectMapper.getFactory(), validator, null, true);
+        assertNull(strict.read(bytes("{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"user@example.com\","
+                + "\"phoneNumber\":\"+12345678901\",\"message\":\"Hi\"}," + CALLBACK + "}")));
+    }
+
+    @Test
+    public void fastChecksMatchTheirConstraints() {
+        assertTrue(EventRequestReader.isEmail("first.last+tag@mail.example-domain.com"));
+        assertFalse(EventRequestReader.isEmail("first..last@example.com"));
+        assertFalse(EventRequestReader.isEmail("user@-example.com"));
+        assertFalse(EventRequestReader.isEmail("user@example..com"));
+        assertFalse(EventRequestReader.isEmail("@example.com"));
+        assertTrue(EventRequestReader.isPhoneNumber("+123456789012345"));
+        assertFalse(EventRequestReader.isPhoneNumber("+1234567890123456"));
+        assertFalse(EventRequestReader.isPhoneNumber("+"));
+        assertTrue(EventRequestReader.isDeviceId("abc-DE"));
+        assertFalse(EventRequestReader.isDeviceId("abc_de"));
+    }
+
+    private Map<String, String> beanValidationErrors(String body) throws Exception {
+        Map<String, String> fieldErrors = new HashMap<>();
+        for (ConstraintViolation<EventRequest> violation : validator.validate(objectMapper.readValue(body, EventRequest.class))) {
+            fieldErrors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return fieldErrors;
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.eventnotificationsystem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void testPrometheusEndpointExposesPipelineMetrics() throws Exception {
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"eventType\":\"EMAIL\",\"payload\":{\"type\":\"EMAIL\",\"recipient\":\"a@example.com\",\"message\":\"Hi\"},\"callbackUrl\":\"http://localhost/callback\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("events_enqueued_total{type=\"EMAIL\",} 1.0")))
+                .andExpect(content().string(containsString("events_queue_depth{priority=\"HIGH\",type=\"SMS\",}")))
+                .andExpect(content().string(containsString("events_end_to_end_latency_seconds{type=\"PUSH\",quantile=\"0.99\",}")))
+                .andExpect(content().string(containsString("events_callback_latency_seconds_count")));
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.eventnotificationsystem.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP endpoint for the callbacks of generated events, answering 200 like
+ * {@code EventController.receiveCallback} but without printing them. Each event's
+ * callback URL carries its sequence number as {@code ?seq=N}. The sink hands the
+ * number, the event ID and the status of each callback to a {@link Listener}. A batched
+ * callback holds several events under one URL, so each one is passed on with a
+ * sequence number of -1.
+ */
+public class CallbackSink {
+    private static final String PATH = "/callback";
+
+    public interface Listener {
+        void onCallback(long seq, String eventId, String status);
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Listener listener;
+    private final String host;
+
+    /**
+     * @param host name the target reaches this machine by
+     * @param port port to listen on, or 0 for any free port
+     */
+    public CallbackSink(String host, int port, Listener listener) throws IOException {
+        this.host = host;
+        this.listener = listener;
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        executor = Executors.newFixedThreadPool(8);
+        server.setExecutor(executor);
+        server.createContext(PATH, this::handle);
+        server.start();
+    }
+
+    public String callbackUrl(long seq) {
+        return "http://" + host + ":" + server.getAddress().getPort() + PATH + "?seq=" + seq;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            long seq = parseSeq(exchange.getRequestURI().getQuery());
+            JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+            if (body.isArray()) {
+                for (JsonNode callback : body) {
+                    listener.onCallback(-1, callback.path("eventId").asText(null), callback.path("status").asText(null));
+                }
+            } else {
+                listener.onCallback(seq, body.path("eventId").asText(null), body.path("status").asText(null));
+            }
+            exchange.sendResponseHeaders(200, -1);
+        } catch (IOException | RuntimeException e) {
+            exchange.sendResponseHeaders(400, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static long parseSeq(String query) {
+        if (query == null || !query.startsWith("seq=")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(query.substring(4));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
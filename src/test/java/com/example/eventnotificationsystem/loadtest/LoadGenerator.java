@@ -0,0 +1,317 @@
+package com.example.eventnotificationsystem.loadtest;
+
+import com.example.eventnotificationsystem.metrics.LatencyHistogram;
+import com.example.eventnotificationsystem.model.EventType;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Drives {@code POST /api/events} at a fixed open-loop rate. Requests go out on
+ * schedule whether or not earlier ones have been answered, so a slow server shows up as
+ * latency instead of as a lower send rate. Each event's callback is sent to a
+ * {@link CallbackSink} and correlated with the request by sequence number. The event
+ * ID in the callback is checked against the one the server returned.
+ *
+ * <p>At most {@code connections} requests are outstanding at once, since each needs its
+ * own HTTP/1.1 connection. Requests beyond that wait on the client in order. Latencies
+ * are measured from when a request was due to be sent, so that waiting counts:
+ * <ul>
+ *     <li>accept: until the response to the submission</li>
+ *     <li>callback: until the event's callback reached the sink</li>
+ * </ul>
+ *
+ * <p>A line is printed per report interval, then a summary. Accepted events whose
+ * callback has not arrived by the end of the drain period count as dropped.
+ */
+public class LoadGenerator implements CallbackSink.Listener {
+    private static final Pattern EVENT_ID = Pattern.compile("\"eventId\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final String eventsUrl;
+    private final double rate;
+    private final EventType[] schedule;
+    private final HttpClient httpClient;
+    private final Semaphore connections;
+    // Requests that are due but waiting for a connection
+    private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+    private CallbackSink sink;
+
+    // Submitted events awaiting their callback, by sequence number
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong callbacks = new AtomicLong();
+    private final AtomicLong failedCallbacks = new AtomicLong();
+    private final AtomicLong unmatched = new AtomicLong();
+    private final AtomicLong mismatched = new AtomicLong();
+    private final AtomicLong awaitingResponse = new AtomicLong();
+    private final AtomicReference<String> firstError = new AtomicReference<>();
+    private final LatencyHistogram acceptLatency = new LatencyHistogram();
+    private final LatencyHistogram callbackLatency = new LatencyHistogram();
+    private volatile LatencyHistogram intervalLatency = new LatencyHistogram();
+
+    /**
+     * @param baseUrl target instance, such as {@code http://localhost:8080}
+     * @param rate    events per second
+     * @param mix         relative share of each event type, such as {@code EMAIL:2,SMS:1,PUSH:1}
+     * @param connections most requests outstanding at once
+     */
+    public LoadGenerator(String baseUrl, double rate, String mix, int connections) {
+        if (rate <= 0 || connections <= 0) {
+            throw new IllegalArgumentException("Rate and connections must be positive");
+        }
+        this.connections = new Semaphore(connections);
+        this.eventsUrl = baseUrl.replaceAll("/+$", "") + "/api/events";
+        this.rate = rate;
+        this.schedule = parseMix(mix);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Starts the callback sink; must be called before {@link #run}.
+     */
+    public void listen(String callbackHost, int callbackPort) throws IOException {
+        sink = new CallbackSink(callbackHost, callbackPort, this);
+    }
+
+    public Report run(Duration duration, Duration drain, Duration reportInterval, PrintStream out) {
+        long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long nextReport = start + reportInterval.toNanos();
+        out.printf("%8s %9s %9s %9s %7s %10s %9s %9s %9s %9s %9s%n", "time(s)", "sent/s", "accept/s", "429/s",
+                "errors", "callback/s", "p50(ms)", "p99(ms)", "max(ms)", "waiting", "pending");
+        long[] last = new long[4];
+        long seq = 0;
+        while (true) {
+            long now = System.nanoTime();
+            if (now >= nextReport) {
+                report(out, (now - start) / 1e9, reportInterval, last);
+                nextReport += reportInterval.toNanos();
+            }
+            long due = start + seq * periodNanos;
+            if (due >= end) {
+                break;
+            }
+            if (due > now) {
+                LockSupport.parkNanos(Math.min(due, nextReport) - now);
+                continue;
+            }
+            send(seq++, due);
+        }
+        // Wait for the callbacks of whatever was accepted
+        long drainEnd = System.nanoTime() + drain.toNanos();
+        while ((!pending.isEmpty() || awaitingResponse.get() > 0) && System.nanoTime() < drainEnd) {
+            if (System.nanoTime() >= nextReport) {
+                report(out, (System.nanoTime() - start) / 1e9, reportInterval, last);
+                nextReport += reportInterval.toNanos();
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Report report = new Report(seconds);
+        report.print(out);
+        return report;
+    }
+
+    public void stop() {
+        if (sink != null) {
+            sink.stop();
+        }
+    }
+
+    private void send(long seq, long dueNanos) {
+        Pending entry = new Pending(dueNanos);
+        pending.put(seq, entry);
+        sent.incrementAndGet();
+        awaitingResponse.incrementAndGet();
+        waiting.add(() -> dispatch(seq, entry));
+        dispatchWaiting();
+    }
+
+    private void dispatchWaiting() {
+        while (!waiting.isEmpty() && connections.tryAcquire()) {
+            Runnable next = waiting.poll();
+            if (next == null) {
+                connections.release();
+            } else {
+                next.run();
+            }
+        }
+    }
+
+    private void dispatch(long seq, Pending entry) {
+        EventType eventType = schedule[(int) (seq % schedule.length)];
+        HttpRequest request = HttpRequest.newBuilder(URI.create(eventsUrl))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body(eventType, seq)))
+                .build();
+        long dueNanos = entry.dueNanos;
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, failure) -> {
+            connections.release();
+            acceptLatency.record(micros(System.nanoTime() - dueNanos));
+            if (failure == null && response.statusCode() == 200) {
+                Matcher matcher = EVENT_ID.matcher(response.body());
+                entry.eventId = matcher.find() ? matcher.group(1) : null;
+                accepted.incrementAndGet();
+            } else {
+                // Nothing to wait for: the event was never queued
+                pending.remove(seq);
+                if (failure == null && response.statusCode() == 429) {
+                    rejected.incrementAndGet();
+                } else {
+                    errors.incrementAndGet();
+                    firstError.compareAndSet(null, failure != null ? failure.toString()
+                            : "HTTP " + response.statusCode() + ": " + response.body());
+                }
+            }
+            awaitingResponse.decrementAndGet();
+            dispatchWaiting();
+        });
+    }
+
+    private String body(EventType eventType, long seq) {
+        String destination;
+        switch (eventType) {
+            case EMAIL: destination = "\"recipient\":\"user" + seq % 10000 + "@example.com\""; break;
+            case SMS: destination = "\"phoneNumber\":\"+1555" + String.format("%07d", seq % 10000000) + "\""; break;
+            case PUSH: destination = "\"deviceId\":\"device-" + seq % 10000 + "\""; break;
+            default: throw new IllegalArgumentException("Invalid event type: " + eventType);
+        }
+        return "{\"eventType\":\"" + eventType + "\",\"payload\":{\"type\":\"" + eventType + "\"," + destination
+                + ",\"message\":\"Load test event " + seq + "\"},\"callbackUrl\":\"" + sink.callbackUrl(seq) + "\"}";
+    }
+
+    @Override
+    public void onCallback(long seq, String eventId, String status) {
+        Pending entry = seq < 0 ? null : pending.remove(seq);
+        if (entry == null) {
+            // A duplicate delivery, or one that cannot be traced back to its request
+            unmatched.incrementAndGet();
+            return;
+        }
+        if (entry.eventId != null && !entry.eventId.equals(eventId)) {
+            mismatched.incrementAndGet();
+        }
+        long latency = micros(System.nanoTime() - entry.dueNanos);
+        callbackLatency.record(latency);
+        intervalLatency.record(latency);
+        callbacks.incrementAndGet();
+        if ("FAILED".equals(status)) {
+            failedCallbacks.incrementAndGet();
+        }
+    }
+
+    private void report(PrintStream out, double elapsedSeconds, Duration interval, long[] last) {
+        LatencyHistogram latency = intervalLatency;
+        intervalLatency = new LatencyHistogram();
+        long[] now = {sent.get(), accepted.get(), rejected.get(), callbacks.get()};
+        double seconds = interval.toMillis() / 1000.0;
+        out.printf("%8.0f %9.0f %9.0f %9.0f %7d %10.0f %9.1f %9.1f %9.1f %9d %9d%n", elapsedSeconds,
+                (now[0] - last[0]) / seconds, (now[1] - last[1]) / seconds, (now[2] - last[2]) / seconds, errors.get(),
+                (now[3] - last[3]) / seconds, latency.getPercentile(50) / 1000.0, latency.getPercentile(99) / 1000.0,
+                latency.getMax() / 1000.0, waiting.size(), pending.size());
+        System.arraycopy(now, 0, last, 0, now.length);
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    // Weighted round robin: each type appears in the schedule as often as its share
+    private static EventType[] parseMix(String mix) {
+        List<EventType> schedule = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] typeAndWeight = part.trim().split(":");
+            EventType eventType = EventType.valueOf(typeAndWeight[0].trim().toUpperCase());
+            int weight = typeAndWeight.length > 1 ? Integer.parseInt(typeAndWeight[1].trim()) : 1;
+            if (weight < 0 || weight > 1000) {
+                throw new IllegalArgumentException("Mix weights must be between 0 and 1000: " + part);
+            }
+            for (int i = 0; i < weight; i++) {
+                schedule.add(eventType);
+            }
+        }
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("Mix must give at least one event type a weight: " + mix);
+        }
+        return schedule.toArray(new EventType[0]);
+    }
+
+    private static final class Pending {
+        private final long dueNanos;
+        private volatile String eventId;
+
+        private Pending(long dueNanos) {
+            this.dueNanos = dueNanos;
+        }
+    }
+
+    /**
+     * Totals for a whole run.
+     */
+    public final class Report {
+        private final double seconds;
+        private final long dropped;
+
+        private Report(double seconds) {
+            this.seconds = seconds;
+            this.dropped = pending.size();
+        }
+
+        public long getSent() { return sent.get(); }
+        public long getAccepted() { return accepted.get(); }
+        public long getRejected() { return rejected.get(); }
+        public long getErrors() { return errors.get(); }
+        public long getCallbacks() { return callbacks.get(); }
+        public long getFailedCallbacks() { return failedCallbacks.get(); }
+        public long getDropped() { return dropped; }
+        public long getUnmatched() { return unmatched.get(); }
+        public long getMismatched() { return mismatched.get(); }
+        public LatencyHistogram getAcceptLatency() { return acceptLatency; }
+        public LatencyHistogram getCallbackLatency() { return callbackLatency; }
+
+        void print(PrintStream out) {
+            out.printf("%nsent %d in %.1f s (%.0f/s): accepted %d, rejected (429) %d, errors %d%n",
+                    getSent(), seconds, getSent() / seconds, getAccepted(), getRejected(), getErrors());
+            if (firstError.get() != null) {
+                out.println("first error: " + firstError.get());
+            }
+            out.printf("callbacks %d (%.0f/s), of which failed %d; dropped %d, unmatched %d, wrong event ID %d%n",
+                    getCallbacks(), getCallbacks() / seconds, getFailedCallbacks(), getDropped(), getUnmatched(), getMismatched());
+            out.printf("%-10s %9s %9s %9s %9s %9s%n", "latency", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+            printLatency(out, "accept", acceptLatency);
+            printLatency(out, "callback", callbackLatency);
+        }
+
+        private void printLatency(PrintStream out, String label, LatencyHistogram histogram) {
+            out.printf("%-10s %9.1f %9.1f %9.1f %9.1f %9.1f%n", label, histogram.getPercentile(50) / 1000.0,
+                    histogram.getPercentile(90) / 1000.0, histogram.getPercentile(99) / 1000.0,
+                    histogram.getPercentile(99.9) / 1000.0, histogram.getMax() / 1000.0);
+        }
+    }
+}
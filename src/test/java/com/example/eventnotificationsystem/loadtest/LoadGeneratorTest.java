@@ -0,0 +1,46 @@
+package com.example.eventnotificationsystem.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = com.example.eventnotificationsystem.EventNotificationSystemApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "events.processor.email.delay-ms=1", "events.processor.sms.delay-ms=1", "events.processor.push.delay-ms=1",
+                "events.processor.email.workers=4", "events.processor.sms.workers=4", "events.processor.push.workers=4"
+        })
+public class LoadGeneratorTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    public void testEveryAcceptedEventIsCorrelatedWithItsCallback() throws Exception {
+        LoadGenerator generator = new LoadGenerator("http://localhost:" + port, 100, "EMAIL:2,SMS:1,PUSH:1", 16);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        LoadGenerator.Report report;
+        try {
+            generator.listen("localhost", 0);
+            report = generator.run(Duration.ofSeconds(2), Duration.ofSeconds(20), Duration.ofSeconds(1),
+                    new PrintStream(output, true));
+        } finally {
+            generator.stop();
+        }
+
+        assertEquals(200, report.getSent(), output.toString());
+        assertEquals(report.getSent(), report.getAccepted(), output.toString());
+        assertEquals(report.getAccepted(), report.getCallbacks());
+        assertEquals(0, report.getDropped());
+        assertEquals(0, report.getUnmatched());
+        assertEquals(0, report.getMismatched());
+        assertEquals(report.getCallbacks(), report.getCallbackLatency().getCount());
+        assertTrue(output.toString().contains("callbacks 200"), output.toString());
+    }
+}
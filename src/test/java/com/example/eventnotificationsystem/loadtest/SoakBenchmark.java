@@ -0,0 +1,82 @@
+package com.example.eventnotificationsystem.loadtest;
+
+import com.example.eventnotificationsystem.EventNotificationSystemApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end soak run: a {@link LoadGenerator} drives {@code POST /api/events} at an
+ * open-loop rate and reports throughput, rejections, drops and latency to callback
+ * every few seconds. By default it starts an instance of the application on a free port
+ * with processing delays of 10 ms, so it runs with no external services. Any
+ * {@code events.*} property given with {@code -D} overrides these defaults. Set
+ * {@code soak.target} to load an instance that is already running instead. Its
+ * callbacks must then be able to reach this machine as {@code soak.callback-host}.
+ * <ul>
+ *     <li>{@code soak.rate}: events per second (default 500)</li>
+ *     <li>{@code soak.seconds}: how long to send (default 30)</li>
+ *     <li>{@code soak.mix}: relative share of each event type (default {@code EMAIL:1,SMS:1,PUSH:1})</li>
+ *     <li>{@code soak.connections}: most submissions outstanding at once (default 64)</li>
+ *     <li>{@code soak.drain-seconds}: how long to wait for outstanding callbacks (default 30)</li>
+ *     <li>{@code soak.report-seconds}: report interval (default 5)</li>
+ *     <li>{@code soak.callback-host}, {@code soak.callback-port}: where the callback sink listens
+ *     (default localhost on a free port)</li>
+ * </ul>
+ *
+ * <p>Run with {@code mvn test -Dtest=SoakBenchmark -Dbenchmark=true -Dsoak.rate=2000 -Dsoak.seconds=60}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class SoakBenchmark {
+
+    @Test
+    public void soak() throws Exception {
+        String target = System.getProperty("soak.target");
+        ConfigurableApplicationContext context = null;
+        if (target == null) {
+            context = startLocalInstance();
+            target = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        double rate = Double.parseDouble(System.getProperty("soak.rate", "500"));
+        LoadGenerator generator = new LoadGenerator(target, rate, System.getProperty("soak.mix", "EMAIL:1,SMS:1,PUSH:1"),
+                Integer.getInteger("soak.connections", 64));
+        try {
+            generator.listen(System.getProperty("soak.callback-host", "localhost"),
+                    Integer.getInteger("soak.callback-port", 0));
+            System.out.printf("Loading %s at %.0f events/s%n", target, rate);
+            generator.run(Duration.ofSeconds(Long.getLong("soak.seconds", 30)),
+                    Duration.ofSeconds(Long.getLong("soak.drain-seconds", 30)),
+                    Duration.ofSeconds(Long.getLong("soak.report-seconds", 5)), System.out);
+        } finally {
+            generator.stop();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    static ConfigurableApplicationContext startLocalInstance() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("server.port", "0");
+        for (String type : new String[]{"email", "sms", "push"}) {
+            defaults.put("events.processor." + type + ".delay-ms", "10");
+            defaults.put("events.processor." + type + ".workers", "16");
+        }
+        // Command-line arguments outrank application.properties; -D settings are left to win
+        List<String> args = new ArrayList<>();
+        defaults.forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                args.add("--" + key + "=" + value);
+            }
+        });
+        return SpringApplication.run(EventNotificationSystemApplication.class, args.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.eventnotificationsystem.metrics;
+
+import com.example.eventnotificationsystem.model.EventType;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventMetricsTest {
+
+    private static EventMetrics metrics(PrometheusMeterRegistry registry) {
+        EventMetrics metrics = new EventMetrics();
+        ReflectionTestUtils.setField(metrics, "meterRegistry", registry);
+        metrics.init();
+        return metrics;
+    }
+
+    private static void recordHotPath(EventMetrics metrics, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            long now = System.nanoTime();
+            metrics.recordEnqueued(EventType.EMAIL);
+            metrics.recordDequeued(EventType.EMAIL, now - 2_000_000, now);
+            metrics.recordProcessed(EventType.EMAIL, (i & 7) == 0, now, now + 5_000_000);
+        }
+    }
+
+    @Test
+    public void testHotPathRecordingDoesNotAllocate() {
+        EventMetrics metrics = metrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        recordHotPath(metrics, 200_000); // warm-up so everything is compiled
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        recordHotPath(metrics, 100_000);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // A few hundred bytes of slack for the allocation counter itself
+        assertTrue(allocated < 1024, "Recording 100k events allocated " + allocated + " bytes");
+    }
+
+    @Test
+    public void testPercentilesAreExportedInPrometheusFormat() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        EventMetrics metrics = metrics(registry);
+        for (int i = 1; i <= 1000; i++) {
+            metrics.recordDequeued(EventType.SMS, 1, 1 + i * 1_000_000L);
+        }
+        metrics.recordEnqueued(EventType.SMS);
+
+        String scrape = registry.scrape();
+        assertTrue(scrape.contains("events_enqueued_total{type=\"SMS\",} 1.0"), scrape);
+        assertTrue(scrape.contains("events_dequeued_total{type=\"SMS\",} 1000.0"));
+        assertTrue(scrape.contains("events_queue_time_seconds{type=\"SMS\",quantile=\"0.999\",}"));
+        assertTrue(scrape.contains("events_queue_time_seconds_bucket{type=\"SMS\","));
+    }
+}
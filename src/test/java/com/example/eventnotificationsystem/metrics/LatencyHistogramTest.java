@@ -0,0 +1,31 @@
+package com.example.eventnotificationsystem.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testPercentilesAreWithinBucketPrecisionAndNeverLow() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+        for (long micros = 1; micros <= 100_000; micros++) {
+            histogram.record(micros);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(100_000, histogram.getPercentile(100));
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            long exact = (long) (100_000 * percentile / 100);
+            long reported = histogram.getPercentile(percentile);
+            assertTrue(reported >= exact && reported <= exact * 1.07, percentile + "th percentile was " + reported);
+        }
+
+        LatencyHistogram small = new LatencyHistogram();
+        small.record(10);
+        small.record(11);
+        assertEquals(10, small.getPercentile(50));
+        assertEquals(11, small.getPercentile(99));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.BroadcastConfig;
+import com.example.eventnotificationsystem.config.QueueConfig;
+import com.example.eventnotificationsystem.model.BroadcastStatus;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.model.PushEvent;
+import com.example.eventnotificationsystem.service.broadcast.RecipientList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Broadcasts one push message to {@value #RECIPIENTS} devices through a single worker
+ * with no simulated send delay. Reports the heap the recipient list takes, the live heap
+ * sampled while the broadcast runs and the delivery rate, against the heap the same
+ * recipients take as individually queued events.
+ *
+ * <p>Run with {@code mvn test -Dtest=BroadcastFanOutBenchmark -Dbenchmark=true -DargLine=-Xmx2g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class BroadcastFanOutBenchmark {
+    private static final int RECIPIENTS = 1_000_000;
+    private static final String MESSAGE = "Scheduled maintenance tonight from 01:00 to 03:00 UTC";
+
+    @Test
+    public void broadcast() throws Exception {
+        long heapBefore = usedHeapAfterGc();
+        PushEvent[] individual = new PushEvent[RECIPIENTS];
+        for (int i = 0; i < RECIPIENTS; i++) {
+            individual[i] = new PushEvent();
+            individual[i].setEventId("01JA8Z5K3M" + (10_000_000_000_000_000L + i));
+            individual[i].setDeviceId(deviceId(i));
+            individual[i].setMessage(MESSAGE);
+            individual[i].setCallbackUrl("http://localhost/callback");
+        }
+        long heapIndividual = usedHeapAfterGc() - heapBefore;
+        individual = null;
+
+        heapBefore = usedHeapAfterGc();
+        RecipientList recipients = new RecipientList();
+        for (int i = 0; i < RECIPIENTS; i++) {
+            recipients.add(deviceId(i));
+        }
+        recipients.trim();
+        long heapList = usedHeapAfterGc() - heapBefore;
+
+        QueueConfig queueConfig = ServiceFixtures.queueConfig(100_000);
+        ReflectionTestUtils.setField(queueConfig, "processorMode", "dedicated");
+        ReflectionTestUtils.setField(queueConfig, "emailWorkers", 1);
+        ReflectionTestUtils.setField(queueConfig, "smsWorkers", 1);
+        ReflectionTestUtils.setField(queueConfig, "pushWorkers", 1);
+        EventService eventService = ServiceFixtures.eventService(queueConfig, 1);
+        CountDownLatch finished = new CountDownLatch(1);
+        CallbackService callbackService = new CallbackService() {
+            @Override
+            public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+                finished.countDown();
+            }
+        };
+        BroadcastService broadcastService = ServiceFixtures.broadcastService(new BroadcastConfig(), eventService, callbackService);
+        EventProcessor eventProcessor = ServiceFixtures.eventProcessor(eventService, callbackService, broadcastService);
+        eventProcessor.startProcessing();
+
+        PushEvent prototype = new PushEvent();
+        prototype.setMessage(MESSAGE);
+        long heapIdle = usedHeapAfterGc();
+        long start = System.nanoTime();
+        String broadcastId = broadcastService.submit(prototype, "http://localhost/callback", recipients).getBroadcastId();
+        recipients = null;
+        long maxLive = 0;
+        // A few forced collections while it runs show what the broadcast keeps live
+        for (int i = 0; i < 5 && !finished.await(200, TimeUnit.MILLISECONDS); i++) {
+            maxLive = Math.max(maxLive, usedHeapAfterGc() - heapIdle);
+        }
+        finished.await(10, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        BroadcastStatus status = broadcastService.getStatus(broadcastId);
+        eventProcessor.shutdown();
+        broadcastService.shutdown();
+
+        System.out.printf("recipients=%d delivered=%d failed=%d invalid=%d%n", status.getRecipients(),
+                status.getDelivered(), status.getFailed(), status.getInvalid());
+        System.out.printf("as queued events: %.1f MB (%.0f bytes each)%n", heapIndividual / 1e6, heapIndividual / (double) RECIPIENTS);
+        System.out.printf("as a recipient list: %.1f MB (%.0f bytes each)%n", heapList / 1e6, heapList / (double) RECIPIENTS);
+        System.out.printf("live heap during the broadcast beyond the recipient list: max %.1f MB%n", maxLive / 1e6);
+        System.out.printf("fan-out: %.2f s, %.0f recipients/s%n", seconds, RECIPIENTS / seconds);
+    }
+
+    private static String deviceId(int i) {
+        return "device-" + (100_000_000 + i);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
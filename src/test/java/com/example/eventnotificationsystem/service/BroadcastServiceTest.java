@@ -0,0 +1,125 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.BroadcastConfig;
+import com.example.eventnotificationsystem.model.BroadcastStatus;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.model.EventStatus;
+import com.example.eventnotificationsystem.model.PushEvent;
+import com.example.eventnotificationsystem.service.broadcast.RecipientList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Nothing processes the queues, so tests take recipient events by hand and report their
+ * outcomes as a worker would.
+ */
+public class BroadcastServiceTest {
+    private static final int WINDOW = 100;
+
+    private final List<CallbackRequest> callbacks = new CopyOnWriteArrayList<>();
+    private final EventService eventService = ServiceFixtures.eventService(ServiceFixtures.queueConfig(10_000), 1);
+    private final BroadcastService broadcastService;
+
+    public BroadcastServiceTest() {
+        BroadcastConfig broadcastConfig = new BroadcastConfig();
+        ReflectionTestUtils.setField(broadcastConfig, "window", WINDOW);
+        broadcastService = ServiceFixtures.broadcastService(broadcastConfig, eventService, new CallbackService() {
+            @Override
+            public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+                callbacks.add(callbackRequest);
+            }
+        });
+    }
+
+    @AfterEach
+    public void shutdown() {
+        broadcastService.shutdown();
+    }
+
+    @Test
+    public void testRecipientsAreExpandedWithinTheWindowAndSummarised() throws Exception {
+        List<String> recipients = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            recipients.add(i == 1234 ? "bad id" : "device-" + i);
+        }
+        RecipientList packed = broadcastService.pack(recipients);
+        assertEquals("device-4999", packed.get(4999));
+        String broadcastId = broadcastService.submit(prototype(), "http://localhost/callback", packed).getBroadcastId();
+
+        int taken = 0;
+        int maxQueued = 0;
+        while (callbacks.isEmpty()) {
+            maxQueued = Math.max(maxQueued, eventService.getPushQueue().size());
+            PushEvent event = eventService.getPushQueue().poll(5, TimeUnit.SECONDS);
+            if (event == null) {
+                break;
+            }
+            assertEquals(broadcastId, event.getBroadcastId());
+            assertEquals("System maintenance tonight", event.getMessage());
+            broadcastService.recipientFinished(event, taken++ % 10 == 0);
+            eventService.acknowledge(event);
+        }
+
+        assertEquals(4_999, taken);
+        assertTrue(maxQueued <= WINDOW, "queued " + maxQueued);
+        waitForCallback();
+        CallbackRequest summary = callbacks.get(0);
+        assertEquals(broadcastId, summary.getEventId());
+        assertEquals("COMPLETED", summary.getStatus());
+        assertEquals("500 of 5000 recipients failed, 1 were invalid", summary.getErrorMessage());
+        BroadcastStatus status = broadcastService.getStatus(broadcastId);
+        assertEquals(EventStatus.COMPLETED, status.getStatus());
+        assertEquals(4_499, status.getDelivered());
+        assertEquals(500, status.getFailed());
+        assertEquals(1, status.getInvalid());
+        assertEquals(0, status.getInFlight());
+    }
+
+    @Test
+    public void testCancelledBroadcastFinishesWhatIsQueued() throws Exception {
+        List<String> recipients = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            recipients.add("device-" + i);
+        }
+        String broadcastId = broadcastService.submit(prototype(), "http://localhost/callback",
+                broadcastService.pack(recipients)).getBroadcastId();
+        PushEvent first = eventService.getPushQueue().poll(5, TimeUnit.SECONDS);
+        assertTrue(broadcastService.cancel(broadcastId));
+        broadcastService.recipientFinished(first, false);
+        int taken = 1;
+        PushEvent event;
+        while ((event = eventService.getPushQueue().poll(200, TimeUnit.MILLISECONDS)) != null) {
+            broadcastService.recipientFinished(event, false);
+            taken++;
+        }
+
+        waitForCallback();
+        assertEquals("CANCELLED", callbacks.get(0).getStatus());
+        BroadcastStatus status = broadcastService.getStatus(broadcastId);
+        assertEquals(EventStatus.CANCELLED, status.getStatus());
+        assertEquals(taken, status.getDelivered());
+        assertTrue(taken <= WINDOW, "delivered " + taken + " after cancelling");
+        assertFalse(broadcastService.cancel(broadcastId));
+    }
+
+    private static PushEvent prototype() {
+        PushEvent prototype = new PushEvent();
+        prototype.setMessage("System maintenance tonight");
+        return prototype;
+    }
+
+    private void waitForCallback() throws InterruptedException {
+        for (int i = 0; i < 100 && callbacks.isEmpty(); i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(1, callbacks.size());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.CallbackConfig;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers {@value #CALLBACKS} callbacks to a local sink one POST per callback and with
+ * batching enabled, and reports HTTP requests issued and callbacks per second.
+ *
+ * <p>Run with {@code mvn test -Dtest=CallbackBatchingBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class CallbackBatchingBenchmark {
+    private static final int CALLBACKS = 20_000;
+
+    @Test
+    public void singleVersusBatched() throws Exception {
+        AtomicLong requests = new AtomicLong();
+        HttpServer sink = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        sink.setExecutor(Executors.newFixedThreadPool(16));
+        sink.createContext("/", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        sink.start();
+        String url = "http://localhost:" + sink.getAddress().getPort() + "/callback";
+        try {
+            run(url, 1); // warm-up
+            System.out.printf("%-12s %12s %14s%n", "mode", "requests", "callbacks/s");
+            for (int batchSize : new int[]{1, 100, 1000}) {
+                requests.set(0);
+                double rate = run(url, batchSize);
+                System.out.printf("%-12s %12d %14.0f%n", batchSize == 1 ? "single" : "batch " + batchSize, requests.get(), rate);
+            }
+        } finally {
+            sink.stop(0);
+        }
+    }
+
+    private double run(String url, int batchSize) throws Exception {
+        CallbackConfig callbackConfig = new CallbackConfig();
+        ReflectionTestUtils.setField(callbackConfig, "maxInFlight", 256);
+        ReflectionTestUtils.setField(callbackConfig, "maxInFlightPerHost", 64);
+        ReflectionTestUtils.setField(callbackConfig, "maxPending", CALLBACKS);
+        ReflectionTestUtils.setField(callbackConfig, "connectTimeoutMillis", 2000L);
+        ReflectionTestUtils.setField(callbackConfig, "requestTimeoutMillis", 30000L);
+        ReflectionTestUtils.setField(callbackConfig, "retryMaxAttempts", 1);
+        ReflectionTestUtils.setField(callbackConfig, "deadLetterMaxSize", CALLBACKS);
+        ReflectionTestUtils.setField(callbackConfig, "batchUrlPrefixes", batchSize > 1 ? url : "");
+        ReflectionTestUtils.setField(callbackConfig, "batchMaxSize", batchSize);
+        ReflectionTestUtils.setField(callbackConfig, "batchWindowMillis", 50L);
+        CallbackService callbackService = ServiceFixtures.callbackService(callbackConfig);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < CALLBACKS; i++) {
+            callbackService.sendCallback(url, new CallbackRequest("evt-" + i, "COMPLETED", "EMAIL", null, "2024-01-01T12:00:00Z"));
+        }
+        long expectedRequests = (CALLBACKS + batchSize - 1) / batchSize;
+        while (callbackService.getStats().getCompleted() + callbackService.getStats().getDeadLettered() < expectedRequests) {
+            Thread.sleep(5);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        callbackService.shutdown();
+        return CALLBACKS / seconds;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.CallbackConfig;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.model.CircuitStatus;
+import com.example.eventnotificationsystem.model.DeadLetter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.integration.ClientAndServer;
+import org.mockserver.matchers.MatchType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.mockserver.model.JsonBody.json;
+import static org.mockserver.verify.VerificationTimes.exactly;
+
+public class CallbackServiceTest {
+
+    private ClientAndServer mockServer;
+    private CallbackService callbackService;
+
+    @BeforeEach
+    public void setup() {
+        mockServer = ClientAndServer.startClientAndServer();
+        CallbackConfig callbackConfig = new CallbackConfig();
+        ReflectionTestUtils.setField(callbackConfig, "maxInFlight", 16);
+        ReflectionTestUtils.setField(callbackConfig, "maxInFlightPerHost", 4);
+        ReflectionTestUtils.setField(callbackConfig, "maxPending", 10_000);
+        ReflectionTestUtils.setField(callbackConfig, "connectTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(callbackConfig, "requestTimeoutMillis", 2000L);
+        ReflectionTestUtils.setField(callbackConfig, "retryMaxAttempts", 3);
+        ReflectionTestUtils.setField(callbackConfig, "retryInitialBackoffMillis", 50L);
+        ReflectionTestUtils.setField(callbackConfig, "retryMaxBackoffMillis", 200L);
+        ReflectionTestUtils.setField(callbackConfig, "retryMultiplier", 2.0);
+        ReflectionTestUtils.setField(callbackConfig, "deadLetterMaxSize", 100);
+        ReflectionTestUtils.setField(callbackConfig, "batchUrlPrefixes", url("/batched"));
+        ReflectionTestUtils.setField(callbackConfig, "batchMaxSize", 50);
+        ReflectionTestUtils.setField(callbackConfig, "batchWindowMillis", 100L);
+        ReflectionTestUtils.setField(callbackConfig, "circuitWindowSize", 10);
+        ReflectionTestUtils.setField(callbackConfig, "circuitMinimumCalls", 5);
+        ReflectionTestUtils.setField(callbackConfig, "circuitOpenMillis", 60_000L);
+        callbackService = ServiceFixtures.callbackService(callbackConfig);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        callbackService.shutdown();
+        mockServer.stop();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + mockServer.getPort() + path;
+    }
+
+    private static CallbackRequest callback(String eventId) {
+        return new CallbackRequest(eventId, "COMPLETED", "SMS", null, "2024-01-01T12:00:00Z");
+    }
+
+    private List<DeadLetter> awaitDeadLetters(int expected) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            List<DeadLetter> deadLetters = callbackService.getDeadLetters(10);
+            if (deadLetters.size() >= expected) {
+                return deadLetters;
+            }
+            Thread.sleep(100);
+        }
+        return callbackService.getDeadLetters(10);
+    }
+
+    @Test
+    public void testServerErrorsAreRetriedThenDeadLettered() throws Exception {
+        mockServer.when(request().withPath("/flaky")).respond(response().withStatusCode(503));
+
+        callbackService.sendCallback(url("/flaky"), callback("evt-1"));
+
+        List<DeadLetter> deadLetters = awaitDeadLetters(1);
+        assertEquals(1, deadLetters.size());
+        assertEquals("evt-1", deadLetters.get(0).getEventId());
+        assertEquals(3, deadLetters.get(0).getAttempts());
+        assertEquals("HTTP 503", deadLetters.get(0).getLastError());
+        mockServer.verify(request().withPath("/flaky"), exactly(3));
+    }
+
+    @Test
+    public void testClientErrorIsDeadLetteredWithoutRetryAndCanBeReplayed() throws Exception {
+        mockServer.when(request().withPath("/gone")).respond(response().withStatusCode(404));
+
+        callbackService.sendCallback(url("/gone"), callback("evt-2"));
+        assertEquals(1, awaitDeadLetters(1).get(0).getAttempts());
+
+        mockServer.reset();
+        mockServer.when(request().withPath("/gone")).respond(response().withStatusCode(200));
+        assertTrue(callbackService.replayDeadLetter("evt-2"));
+        assertFalse(callbackService.replayDeadLetter("evt-2"));
+
+        for (int i = 0; i < 50 && callbackService.getStats().getCompleted() == 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(1, callbackService.getStats().getCompleted());
+        assertEquals(0, callbackService.getDeadLetters(10).size());
+    }
+
+    @Test
+    public void testOptedInUrlReceivesBatchesWhileOthersStaySingle() throws Exception {
+        mockServer.when(request().withPath("/batched")).respond(response().withStatusCode(200));
+        mockServer.when(request().withPath("/single")).respond(response().withStatusCode(200));
+
+        for (int i = 0; i < 120; i++) {
+            callbackService.sendCallback(url("/batched"), callback("evt-b" + i));
+        }
+        callbackService.sendCallback(url("/single"), callback("evt-s"));
+
+        for (int i = 0; i < 50 && callbackService.getStats().getCompleted() < 4; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(4, callbackService.getStats().getCompleted());
+        assertEquals(3, callbackService.getStats().getBatchesSent());
+        mockServer.verify(request().withPath("/batched"), exactly(3));
+        mockServer.verify(request().withPath("/batched").withBody(json("[{\"eventId\":\"evt-b0\"}]", MatchType.ONLY_MATCHING_FIELDS)), exactly(1));
+        mockServer.verify(request().withPath("/single").withBody(json("{\"eventId\":\"evt-s\"}", MatchType.ONLY_MATCHING_FIELDS)), exactly(1));
+    }
+
+    @Test
+    public void testFailedBatchIsDeadLetteredPerEvent() throws Exception {
+        mockServer.when(request().withPath("/batched")).respond(response().withStatusCode(400));
+
+        callbackService.sendCallback(url("/batched"), callback("evt-1"));
+        callbackService.sendCallback(url("/batched"), callback("evt-2"));
+
+        List<DeadLetter> deadLetters = awaitDeadLetters(2);
+        assertEquals(2, deadLetters.size());
+        assertEquals("evt-1", deadLetters.get(0).getEventId());
+        assertEquals("evt-2", deadLetters.get(1).getEventId());
+        mockServer.verify(request().withPath("/batched"), exactly(1));
+    }
+
+    @Test
+    public void testFailingHostOpensItsCircuitWithoutAffectingOthers() throws Exception {
+        mockServer.when(request().withPath("/down")).respond(response().withStatusCode(503));
+        mockServer.when(request().withPath("/up")).respond(response().withStatusCode(200));
+        // Same stub server under two host names, so each gets its own breaker
+        String downUrl = "http://127.0.0.1:" + mockServer.getPort() + "/down";
+
+        for (int i = 0; i < 20; i++) {
+            callbackService.sendCallback(downUrl, callback("evt-down" + i));
+            callbackService.sendCallback(url("/up"), callback("evt-up" + i));
+        }
+
+        for (int i = 0; i < 50 && callbackService.getStats().getCompleted() < 20; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(20, callbackService.getStats().getCompleted());
+        assertEquals(1, callbackService.getStats().getOpenCircuits());
+        assertTrue(callbackService.getStats().getShortCircuited() > 0);
+
+        CircuitStatus down = callbackService.getCircuits().stream()
+                .filter(circuit -> circuit.getHost().startsWith("127.0.0.1:")).findFirst().orElseThrow();
+        assertEquals("OPEN", down.getState());
+        // Once open, the remaining first attempts and every retry stay off the wire
+        Thread.sleep(500);
+        int downRequests = mockServer.retrieveRecordedRequests(request().withPath("/down")).length;
+        assertTrue(downRequests < 20, "requests to failing host: " + downRequests);
+    }
+
+    @Test
+    public void testBacklogBehindAnOpenCircuitDrainsWithoutLeakingSlots() throws Exception {
+        mockServer.when(request().withPath("/slow")).respond(response().withStatusCode(503).withDelay(TimeUnit.MILLISECONDS, 300));
+
+        // The first few hold the host's slots until they fail and open the circuit; the rest
+        // wait behind them and are then short-circuited one after another
+        for (int i = 0; i < 5000; i++) {
+            callbackService.sendCallback(url("/slow"), callback("evt-" + i));
+        }
+
+        for (int i = 0; i < 100 && callbackService.getStats().getPending() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(1, callbackService.getStats().getOpenCircuits());
+        assertEquals(0, callbackService.getStats().getPending());
+        assertEquals(0, callbackService.getStats().getInFlight());
+        assertTrue(callbackService.getStats().getShortCircuited() > 4900);
+    }
+}
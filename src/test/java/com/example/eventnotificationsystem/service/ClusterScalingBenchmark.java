@@ -0,0 +1,91 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.QueueConfig;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.service.cluster.LocalClusterTransport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures end-to-end throughput of a cluster of 1 to 8 nodes in one JVM, connected by a
+ * {@link LocalClusterTransport}. Every node runs the same fixed worker pool with provider
+ * delays scaled down 250x from the defaults, and submissions arrive round-robin at all
+ * nodes, so most are forwarded to the owner of their recipient. Throughput is bound by
+ * provider delay rather than CPU, so it should grow close to linearly with nodes.
+ *
+ * <p>Run with {@code mvn test -Dtest=ClusterScalingBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ClusterScalingBenchmark {
+    private static final int EVENTS = 2000;
+    private static final int WORKERS_PER_NODE = 4;
+
+    @Test
+    public void throughputByNodeCount() throws Exception {
+        System.out.printf("%-10s %15s %15s%n", "nodes", "events/s", "speedup");
+        double single = 0;
+        for (int nodes : new int[]{1, 2, 4, 8}) {
+            double throughput = run(nodes);
+            if (nodes == 1) {
+                single = throughput;
+            }
+            System.out.printf("%-10d %15.0f %14.2fx%n", nodes, throughput, throughput / single);
+        }
+    }
+
+    private double run(int nodeCount) throws Exception {
+        LocalClusterTransport transport = new LocalClusterTransport();
+        List<String> ids = new ArrayList<>();
+        for (int n = 0; n < nodeCount; n++) {
+            ids.add("node-" + n);
+        }
+        CountDownLatch done = new CountDownLatch(EVENTS);
+        List<ClusterService> nodes = new ArrayList<>();
+        List<EventProcessor> processors = new ArrayList<>();
+        for (int n = 0; n < nodeCount; n++) {
+            QueueConfig queueConfig = ServiceFixtures.queueConfig(3 * EVENTS);
+            ReflectionTestUtils.setField(queueConfig, "processorMode", "dedicated");
+            ReflectionTestUtils.setField(queueConfig, "emailWorkers", WORKERS_PER_NODE);
+            ReflectionTestUtils.setField(queueConfig, "emailDelayMillis", 20L);
+            EventService eventService = ServiceFixtures.eventService(queueConfig, n);
+
+            ClusterService clusterService = ServiceFixtures.clusterService(ids.get(n), ids, eventService);
+            clusterService.setTransport(transport);
+            transport.register(ids.get(n), clusterService);
+            nodes.add(clusterService);
+
+            EventProcessor eventProcessor = ServiceFixtures.eventProcessor(eventService, new CallbackService() {
+                @Override
+                public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+                    done.countDown();
+                }
+            });
+            processors.add(eventProcessor);
+        }
+
+        long start = System.nanoTime();
+        for (EventProcessor eventProcessor : processors) {
+            eventProcessor.startProcessing();
+        }
+        for (int i = 0; i < EVENTS; i++) {
+            EmailEvent event = new EmailEvent();
+            event.setRecipient("user" + i + "@example.com");
+            event.setMessage("Newsletter");
+            event.setCallbackUrl("http://localhost/callback");
+            nodes.get(i % nodeCount).submitEvent(event, null);
+        }
+        done.await(5, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        for (EventProcessor eventProcessor : processors) {
+            eventProcessor.shutdown();
+        }
+        return EVENTS / seconds;
+    }
+}
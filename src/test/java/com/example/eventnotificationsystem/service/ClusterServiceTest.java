@@ -0,0 +1,166 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventResponse;
+import com.example.eventnotificationsystem.service.cluster.LocalClusterTransport;
+import com.example.eventnotificationsystem.service.cluster.PartitionTable;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs several cluster nodes in one JVM over a {@link LocalClusterTransport}. Nothing
+ * processes the queues, so tests take and acknowledge events by hand.
+ */
+public class ClusterServiceTest {
+    private static final int PARTITIONS = 271;
+    private static final int VIRTUAL_NODES = 128;
+
+    private final LocalClusterTransport transport = new LocalClusterTransport();
+
+    @Test
+    public void testEventsAreQueuedOnTheOwnerOfTheirRecipient() {
+        Map<String, ClusterService> nodes = startNodes("a", "b", "c");
+        PartitionTable table = new PartitionTable(nodes.keySet(), PARTITIONS, VIRTUAL_NODES);
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 300; i++) {
+            String recipient = "user" + i + "@example.com";
+            // Submissions land on whichever node the client happened to reach
+            nodes.get(List.of("a", "b", "c").get(i % 3)).submitEvent(email(recipient), null);
+            expected.merge(table.ownerOf(table.partitionOf(recipient)), 1, Integer::sum);
+        }
+        for (Map.Entry<String, ClusterService> node : nodes.entrySet()) {
+            EventService eventService = eventServiceOf(node.getValue());
+            assertEquals(expected.getOrDefault(node.getKey(), 0), eventService.getEmailQueue().size(), node.getKey());
+            EmailEvent queued = eventService.getEmailQueue().peek();
+            assertEquals(node.getKey(), table.ownerOf(table.partitionOf(queued.getRecipient())));
+        }
+        assertEquals(300, nodes.get("a").getStatus().getOutstanding()
+                + nodes.get("b").getStatus().getOutstanding() + nodes.get("c").getStatus().getOutstanding());
+    }
+
+    @Test
+    public void testIdempotencyKeyIsHonoredWhicheverNodeIsReached() {
+        Map<String, ClusterService> nodes = startNodes("a", "b", "c");
+        EventResponse first = nodes.get("a").submitEvent(email("retry@example.com"), "order-42");
+        EventResponse retry = nodes.get("b").submitEvent(email("retry@example.com"), "order-42");
+
+        assertFalse(first.isReplayed());
+        assertTrue(retry.isReplayed());
+        assertEquals(first.getEventId(), retry.getEventId());
+    }
+
+    @Test
+    public void testNewOwnerWaitsUntilPreviousOwnerHasDrainedThePartition() throws Exception {
+        Map<String, ClusterService> nodes = startNodes("a", "b");
+        PartitionTable before = new PartitionTable(List.of("a", "b"), PARTITIONS, VIRTUAL_NODES);
+        PartitionTable after = new PartitionTable(List.of("a", "b", "c"), PARTITIONS, VIRTUAL_NODES);
+        String recipient = null;
+        for (int i = 0; recipient == null; i++) {
+            int partition = before.partitionOf("moving" + i + "@example.com");
+            if (before.ownerOf(partition).equals("a") && after.ownerOf(partition).equals("c")) {
+                recipient = "moving" + i + "@example.com";
+            }
+        }
+        nodes.get("a").submitEvent(email(recipient), null);
+
+        // A joining node starts with the current view and is then added to everyone's
+        nodes.put("c", startNode("c", "a", "b"));
+        Map<String, String> members = new LinkedHashMap<>();
+        for (String id : List.of("a", "b", "c")) {
+            members.put(id, null);
+        }
+        for (ClusterService node : nodes.values()) {
+            node.updateMembers(members);
+        }
+        assertEquals(1, nodes.get("a").getStatus().getDrainingPartitions());
+
+        String movingRecipient = recipient;
+        CompletableFuture<EventResponse> second = CompletableFuture.supplyAsync(
+                () -> nodes.get("b").submitEvent(email(movingRecipient), null));
+        assertThrows(TimeoutException.class, () -> second.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, eventServiceOf(nodes.get("c")).getEmailQueue().size());
+
+        EventService previousOwner = eventServiceOf(nodes.get("a"));
+        previousOwner.acknowledge(previousOwner.getEmailQueue().poll());
+
+        assertNotNull(second.get(5, TimeUnit.SECONDS).getEventId());
+        assertEquals(1, eventServiceOf(nodes.get("c")).getEmailQueue().size());
+        assertEquals(0, nodes.get("a").getStatus().getDrainingPartitions());
+        assertEquals(0, nodes.get("c").getStatus().getAwaitingHandoffPartitions());
+    }
+
+    @Test
+    public void testPartitionsOfADepartedMemberAreTakenOverAtOnce() {
+        Map<String, ClusterService> nodes = startNodes("a", "b", "c");
+        transport.unregister("c");
+        nodes.remove("c");
+        Map<String, String> members = new LinkedHashMap<>();
+        members.put("a", null);
+        members.put("b", null);
+        for (ClusterService node : nodes.values()) {
+            node.updateMembers(members);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            nodes.get("a").submitEvent(email("user" + i + "@example.com"), null);
+        }
+        assertEquals(100, eventServiceOf(nodes.get("a")).getEmailQueue().size()
+                + eventServiceOf(nodes.get("b")).getEmailQueue().size());
+        assertEquals(0, nodes.get("a").getStatus().getAwaitingHandoffPartitions());
+        assertThrows(IllegalArgumentException.class, () -> nodes.get("a").updateMembers(Map.of()));
+    }
+
+    @Test
+    public void testUnreachableOwnerAndUnsettledMembershipAreUnavailable() {
+        Map<String, ClusterService> nodes = startNodes("a", "b", "c");
+        PartitionTable table = new PartitionTable(nodes.keySet(), PARTITIONS, VIRTUAL_NODES);
+        String recipient = "user0@example.com";
+        for (int i = 1; !table.ownerOf(table.partitionOf(recipient)).equals("c"); i++) {
+            recipient = "user" + i + "@example.com";
+        }
+        transport.unregister("c");
+        Event ownedByC = email(recipient);
+
+        assertThrows(ServiceUnavailableException.class, () -> nodes.get("a").submitEvent(ownedByC, null));
+        assertThrows(ServiceUnavailableException.class,
+                () -> nodes.get("a").receive(email("user0@example.com"), null, ClusterService.MAX_HOPS + 1));
+    }
+
+    private Map<String, ClusterService> startNodes(String... ids) {
+        Map<String, ClusterService> nodes = new LinkedHashMap<>();
+        for (String id : ids) {
+            nodes.put(id, startNode(id, ids));
+        }
+        return nodes;
+    }
+
+    private ClusterService startNode(String id, String... members) {
+        EventService eventService = ServiceFixtures.eventService(ServiceFixtures.queueConfig(1000), id.charAt(0) - 'a');
+        ClusterService clusterService = ServiceFixtures.clusterService(id, List.of(members), eventService);
+        clusterService.setTransport(transport);
+        transport.register(id, clusterService);
+        return clusterService;
+    }
+
+    private static EventService eventServiceOf(ClusterService clusterService) {
+        return (EventService) ReflectionTestUtils.getField(clusterService, "eventService");
+    }
+
+    private static Event email(String recipient) {
+        EmailEvent event = new EmailEvent();
+        event.setRecipient(recipient);
+        event.setMessage("Hello");
+        event.setCallbackUrl("http://localhost/callback");
+        return event;
+    }
+}
@@ -1,12 +1,20 @@
 package com.example.eventnotificationsystem.service;
 
+import com.example.eventnotificationsystem.config.QueueConfig;
+import com.example.eventnotificationsystem.model.CallbackRequest;
 import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.EventStatus;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockserver.model.HttpRequest.request;
@@ -64,4 +72,88 @@ public class EventProcessorTest {
     );
         assertTrue(callbackReceived, "Callback was not received within 10 seconds");
     }
-} 
\ No newline at end of file
+
+    @Test
+    public void testAdaptiveWorkersAreStartedAsTheLimitRises() throws Exception {
+        QueueConfig queueConfig = ServiceFixtures.queueConfig(3000);
+        ReflectionTestUtils.setField(queueConfig, "processorMode", "dedicated");
+        ReflectionTestUtils.setField(queueConfig, "emailWorkers", 2);
+        ReflectionTestUtils.setField(queueConfig, "smsWorkers", 2);
+        ReflectionTestUtils.setField(queueConfig, "pushWorkers", 2);
+        ReflectionTestUtils.setField(queueConfig, "emailDelayMillis", 20L);
+        ReflectionTestUtils.setField(queueConfig, "adaptiveEnabled", true);
+        ReflectionTestUtils.setField(queueConfig, "adaptiveIntervalMillis", 100L);
+        EventService localEventService = ServiceFixtures.eventService(queueConfig);
+        EventProcessor eventProcessor = ServiceFixtures.eventProcessor(localEventService, new CallbackService() {
+            @Override
+            public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+            }
+        });
+        eventProcessor.startProcessing();
+        ThreadPoolExecutor workers = (ThreadPoolExecutor) ReflectionTestUtils.getField(eventProcessor, "executorService");
+        try {
+            // Only the initial limits, not adaptive.max-workers per channel
+            assertEquals(6, workers.getPoolSize());
+
+            for (int i = 0; i < 1000; i++) {
+                EmailEvent event = new EmailEvent();
+                event.setRecipient("user" + i + "@example.com");
+                event.setMessage("Backlog");
+                event.setCallbackUrl("http://localhost/callback");
+                localEventService.submitEvent(event);
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (workers.getPoolSize() < 9 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(workers.getPoolSize() >= 9, "Workers did not grow with the limit: " + workers.getPoolSize());
+        } finally {
+            // Interrupts the workers still working off the backlog instead of waiting for them
+            workers.shutdownNow();
+            eventProcessor.shutdown();
+        }
+    }
+
+    @Test
+    public void testWorkerSurvivesAnEventThatThrows() throws Exception {
+        QueueConfig queueConfig = ServiceFixtures.queueConfig(30);
+        ReflectionTestUtils.setField(queueConfig, "processorMode", "dedicated");
+        ReflectionTestUtils.setField(queueConfig, "emailWorkers", 1);
+        EventService localEventService = ServiceFixtures.eventService(queueConfig);
+        List<String> acknowledged = new CopyOnWriteArrayList<>();
+        localEventService.setAcknowledgeListener(event -> acknowledged.add(event.getEventId()));
+        List<CallbackRequest> callbacks = new CopyOnWriteArrayList<>();
+        EventProcessor eventProcessor = ServiceFixtures.eventProcessor(localEventService, new CallbackService() {
+            @Override
+            public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+                if (callbacks.isEmpty()) {
+                    callbacks.add(callbackRequest);
+                    throw new IllegalStateException("Callback queue is broken");
+                }
+                callbacks.add(callbackRequest);
+            }
+        });
+        eventProcessor.startProcessing();
+        try {
+            String[] eventIds = new String[2];
+            for (int i = 0; i < eventIds.length; i++) {
+                EmailEvent event = new EmailEvent();
+                event.setRecipient("user" + i + "@example.com");
+                event.setMessage("Test message");
+                event.setCallbackUrl("http://localhost/callback");
+                eventIds[i] = localEventService.submitEvent(event).getEventId();
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (acknowledged.size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(List.of(eventIds[0], eventIds[1]), acknowledged);
+            assertEquals(2, callbacks.size());
+            assertEquals(EventStatus.FAILED,
+                    ServiceFixtures.eventStatusServiceOf(localEventService).getStatus(eventIds[0]).getStatus());
+        } finally {
+            eventProcessor.shutdown();
+        }
+    }
+}
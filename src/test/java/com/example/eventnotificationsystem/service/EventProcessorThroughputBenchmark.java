@@ -0,0 +1,85 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.QueueConfig;
+import com.example.eventnotificationsystem.model.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dedicated per-channel pools with the shared work-stealing pool when draining
+ * an EMAIL-heavy backlog (70% EMAIL, 15% SMS, 15% PUSH) at increasing worker counts.
+ * Provider delays are scaled down 250x from the defaults so a run takes seconds.
+ *
+ * <p>Run with {@code mvn test -Dtest=EventProcessorThroughputBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EventProcessorThroughputBenchmark {
+    private static final int EVENTS = 1500;
+
+    @Test
+    public void dedicatedVersusWorkStealing() throws Exception {
+        System.out.printf("%-10s %20s %20s%n", "workers", "dedicated ev/s", "work-stealing ev/s");
+        for (int workers : new int[]{3, 6, 12, 24, 48}) {
+            System.out.printf("%-10d %20.0f %20.0f%n", workers, run(workers, false), run(workers, true));
+        }
+    }
+
+    private double run(int workers, boolean workStealing) throws Exception {
+        QueueConfig queueConfig = ServiceFixtures.queueConfig(3 * EVENTS);
+        ReflectionTestUtils.setField(queueConfig, "processorMode", workStealing ? "work-stealing" : "dedicated");
+        ReflectionTestUtils.setField(queueConfig, "sharedWorkers", workers);
+        ReflectionTestUtils.setField(queueConfig, "emailWorkers", workers / 3);
+        ReflectionTestUtils.setField(queueConfig, "smsWorkers", workers / 3);
+        ReflectionTestUtils.setField(queueConfig, "pushWorkers", workers / 3);
+        ReflectionTestUtils.setField(queueConfig, "emailDelayMillis", 20L);
+        ReflectionTestUtils.setField(queueConfig, "smsDelayMillis", 12L);
+        ReflectionTestUtils.setField(queueConfig, "pushDelayMillis", 8L);
+        EventService eventService = ServiceFixtures.eventService(queueConfig);
+        for (int i = 0; i < EVENTS; i++) {
+            eventService.submitEvent(event(i));
+        }
+
+        CountDownLatch done = new CountDownLatch(EVENTS);
+        CallbackService callbackService = new CallbackService() {
+            @Override
+            public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+                done.countDown();
+            }
+        };
+        EventProcessor eventProcessor = ServiceFixtures.eventProcessor(eventService, callbackService);
+
+        long start = System.nanoTime();
+        eventProcessor.startProcessing();
+        done.await(5, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        eventProcessor.shutdown();
+        return EVENTS / seconds;
+    }
+
+    private static Event event(int i) {
+        int bucket = i % 20;
+        Event event;
+        if (bucket < 14) {
+            EmailEvent email = new EmailEvent();
+            email.setRecipient("user" + i + "@example.com");
+            email.setMessage("Newsletter");
+            event = email;
+        } else if (bucket < 17) {
+            SmsEvent sms = new SmsEvent();
+            sms.setPhoneNumber("+1234567890");
+            sms.setMessage("Code 123456");
+            event = sms;
+        } else {
+            PushEvent push = new PushEvent();
+            push.setDeviceId("device-" + i);
+            push.setMessage("Ping");
+            event = push;
+        }
+        event.setCallbackUrl("http://localhost/callback");
+        return event;
+    }
+}
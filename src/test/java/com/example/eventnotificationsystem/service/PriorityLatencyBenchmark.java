@@ -0,0 +1,90 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.QueueConfig;
+import com.example.eventnotificationsystem.metrics.LatencyHistogram;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.EventPriority;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures submit-to-callback latency of a trickle of urgent EMAIL events (one every
+ * 20 ms) while a saturating LOW-priority backlog of {@value #BACKLOG} events is being
+ * drained, once with the urgent events marked HIGH and once with them sharing the LOW
+ * lane, which is what a single FIFO per channel gives.
+ *
+ * <p>Run with {@code mvn test -Dtest=PriorityLatencyBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class PriorityLatencyBenchmark {
+    private static final int BACKLOG = 20_000;
+    private static final int URGENT = 150;
+    private static final int WORKERS = 4;
+    private static final long DELAY_MILLIS = 2;
+
+    @Test
+    public void urgentLatencyUnderLowPriorityBacklog() throws Exception {
+        System.out.printf("%-16s %10s %10s %10s%n", "urgent lane", "p50 ms", "p99 ms", "max ms");
+        for (EventPriority urgentPriority : new EventPriority[]{EventPriority.HIGH, EventPriority.LOW}) {
+            LatencyHistogram latency = run(urgentPriority);
+            System.out.printf("%-16s %10.1f %10.1f %10.1f%n", urgentPriority,
+                    latency.getPercentile(50) / 1e6, latency.getPercentile(99) / 1e6, latency.getMax() / 1e6);
+        }
+    }
+
+    private LatencyHistogram run(EventPriority urgentPriority) throws Exception {
+        QueueConfig queueConfig = ServiceFixtures.queueConfig(10);
+        ReflectionTestUtils.setField(queueConfig, "processorMode", "dedicated");
+        ReflectionTestUtils.setField(queueConfig, "emailWorkers", WORKERS);
+        ReflectionTestUtils.setField(queueConfig, "smsWorkers", 1);
+        ReflectionTestUtils.setField(queueConfig, "pushWorkers", 1);
+        ReflectionTestUtils.setField(queueConfig, "emailCapacity", (BACKLOG + URGENT) * 3);
+        ReflectionTestUtils.setField(queueConfig, "emailDelayMillis", DELAY_MILLIS);
+        EventService eventService = ServiceFixtures.eventService(queueConfig);
+
+        Map<String, Long> submittedAt = new ConcurrentHashMap<>();
+        LatencyHistogram latency = new LatencyHistogram();
+        CallbackService callbackService = new CallbackService() {
+            @Override
+            public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+                Long start = submittedAt.remove(callbackRequest.getEventId());
+                if (start != null) {
+                    latency.record(System.nanoTime() - start);
+                }
+            }
+        };
+        EventProcessor eventProcessor = ServiceFixtures.eventProcessor(eventService, callbackService);
+
+        for (int i = 0; i < BACKLOG; i++) {
+            eventService.submitEvent(event(EventPriority.LOW, "bulk"));
+        }
+        eventProcessor.startProcessing();
+        for (int i = 0; i < URGENT; i++) {
+            EmailEvent urgent = event(urgentPriority, "urgent");
+            long start = System.nanoTime();
+            eventService.submitEvent(urgent);
+            submittedAt.put(urgent.getEventId(), start);
+            Thread.sleep(20);
+        }
+        // With a shared lane the last urgent events sit behind the whole backlog
+        while (latency.getCount() < URGENT) {
+            Thread.sleep(10);
+        }
+        eventProcessor.shutdown();
+        return latency;
+    }
+
+    private static EmailEvent event(EventPriority priority, String message) {
+        EmailEvent event = new EmailEvent();
+        event.setRecipient("user@example.com");
+        event.setMessage(message);
+        event.setCallbackUrl("http://localhost/callback");
+        event.setPriority(priority);
+        return event;
+    }
+}
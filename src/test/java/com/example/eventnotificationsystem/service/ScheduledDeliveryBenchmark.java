@@ -0,0 +1,108 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.ScheduleConfig;
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.service.id.UlidGenerator;
+import com.example.eventnotificationsystem.service.timer.HierarchicalTimingWheel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Schedules {@value #EVENTS} events and reports what the timing wheel costs in heap on
+ * top of the events themselves, how fast timers are scheduled and cancelled, and how
+ * late events reach their queue relative to {@code sendAt} when released by
+ * {@link ScheduledEventService} at the default 10 ms tick.
+ *
+ * <p>Run with {@code mvn test -Dtest=ScheduledDeliveryBenchmark -Dbenchmark=true -DargLine=-Xmx2g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class ScheduledDeliveryBenchmark {
+    private static final int EVENTS = 1_000_000;
+
+    @Test
+    public void memory() {
+        UlidGenerator generator = new UlidGenerator(1);
+        long now = System.currentTimeMillis();
+        long heapBefore = usedHeapAfterGc();
+        EmailEvent[] events = new EmailEvent[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = email(i, now + 1 + (i * 7919L) % 86_400_000L);
+            events[i].setEventId(generator.nextId());
+        }
+        long heapEvents = usedHeapAfterGc();
+
+        HierarchicalTimingWheel<Event> wheel = new HierarchicalTimingWheel<>(10, EVENTS, Event::getEventId, now);
+        long start = System.nanoTime();
+        for (EmailEvent event : events) {
+            wheel.schedule(event, event.getSendAt());
+        }
+        double scheduleNanos = (System.nanoTime() - start) / (double) EVENTS;
+        long heapScheduled = usedHeapAfterGc();
+
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i += 10) {
+            wheel.cancel(events[i].getEventId());
+        }
+        double cancelNanos = (System.nanoTime() - start) / (EVENTS / 10.0);
+
+        System.out.printf("scheduled=%d remaining=%d%n", EVENTS, wheel.size());
+        System.out.printf("heap per event: %.1f bytes, of which the wheel %.1f bytes%n",
+                (heapScheduled - heapBefore) / (double) EVENTS, (heapScheduled - heapEvents) / (double) EVENTS);
+        System.out.printf("schedule %.0f ns, cancel %.0f ns%n", scheduleNanos, cancelNanos);
+    }
+
+    @Test
+    public void accuracy() throws Exception {
+        int spreadMillis = 10_000;
+        long[] lateness = new long[EVENTS];
+        AtomicInteger released = new AtomicInteger();
+        EventService eventService = ServiceFixtures.wire(new EventService() {
+            @Override
+            public void releaseScheduled(Event event) {
+                lateness[released.getAndIncrement()] = System.currentTimeMillis() - event.getSendAt();
+                super.releaseScheduled(event);
+            }
+        }, ServiceFixtures.queueConfig(3 * EVENTS), 1);
+        ScheduledEventService scheduler = ServiceFixtures.scheduledEventService(new ScheduleConfig(), eventService,
+                new CallbackService());
+
+        // Everything is scheduled well before the first event falls due
+        long firstDue = System.currentTimeMillis() + 20_000;
+        for (int i = 0; i < EVENTS; i++) {
+            eventService.submitEvent(email(i, firstDue + (long) i * spreadMillis / EVENTS));
+        }
+        long deadline = firstDue + spreadMillis + 30_000;
+        while (released.get() < EVENTS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        scheduler.shutdown();
+
+        int count = released.get();
+        long[] sorted = Arrays.copyOf(lateness, count);
+        Arrays.sort(sorted);
+        System.out.printf("released=%d early=%d%n", count, Arrays.stream(sorted).filter(late -> late < 0).count());
+        System.out.printf("lateness ms: p50=%d p99=%d p999=%d max=%d%n", sorted[count / 2],
+                sorted[(int) (count * 0.99)], sorted[(int) (count * 0.999)], sorted[count - 1]);
+    }
+
+    private static EmailEvent email(int i, long sendAt) {
+        EmailEvent event = new EmailEvent();
+        event.setRecipient("user" + i + "@example.com");
+        event.setMessage("Your appointment is tomorrow at 10:00");
+        event.setCallbackUrl("http://localhost/callback");
+        event.setSendAt(sendAt);
+        return event;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
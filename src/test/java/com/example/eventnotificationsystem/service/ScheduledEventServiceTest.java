@@ -0,0 +1,97 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.ScheduleConfig;
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.Event;
+import com.example.eventnotificationsystem.model.EventStatus;
+import com.example.eventnotificationsystem.model.EventStatusResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduledEventServiceTest {
+    private final List<CallbackRequest> callbacks = new CopyOnWriteArrayList<>();
+    private ScheduledEventService scheduler;
+
+    @AfterEach
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testDueEventThatCannotBeQueuedOrHeldAgainFails() throws Exception {
+        ScheduleConfig scheduleConfig = new ScheduleConfig();
+        ReflectionTestUtils.setField(scheduleConfig, "maxPending", 1);
+        EventService eventService = ServiceFixtures.wire(new EventService() {
+            @Override
+            public void releaseScheduled(Event event) {
+                // Another event takes the only scheduling slot before the full queue is reported
+                submitEvent(email("later@example.com", System.currentTimeMillis() + 3_600_000));
+                throw new QueueFullException(event.getEventType(), 1);
+            }
+        }, ServiceFixtures.queueConfig(3), 1);
+        scheduler = ServiceFixtures.scheduledEventService(scheduleConfig, eventService, new CallbackService() {
+            @Override
+            public void sendCallback(String callbackUrl, CallbackRequest callbackRequest) {
+                callbacks.add(callbackRequest);
+            }
+        });
+
+        String eventId = eventService.submitEvent(email("soon@example.com", System.currentTimeMillis() + 50)).getEventId();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (callbacks.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, callbacks.size());
+        assertEquals(eventId, callbacks.get(0).getEventId());
+        assertEquals("FAILED", callbacks.get(0).getStatus());
+        assertEquals(EventStatus.FAILED, ServiceFixtures.eventStatusServiceOf(eventService).getStatus(eventId).getStatus());
+        assertEquals(1, scheduler.getPending());
+    }
+
+    @Test
+    public void testReleasedEventKeepsItsStatusEntry() throws Exception {
+        EventService eventService = ServiceFixtures.eventService(ServiceFixtures.queueConfig(3));
+        scheduler = ServiceFixtures.scheduledEventService(new ScheduleConfig(), eventService, new CallbackService());
+        EventStatusService eventStatusService = ServiceFixtures.eventStatusServiceOf(eventService);
+
+        String eventId = eventService.submitEvent(email("soon@example.com", System.currentTimeMillis() + 50)).getEventId();
+        EventStatusResponse scheduled = eventStatusService.getStatus(eventId);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (eventService.getEmailQueue().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        EventStatusResponse released = eventStatusService.getStatus(eventId);
+        assertEquals(EventStatus.SCHEDULED, scheduled.getStatus());
+        assertEquals(EventStatus.QUEUED, released.getStatus());
+        assertEquals(scheduled.getQueuedAt(), released.getQueuedAt());
+    }
+
+    @Test
+    public void testSendAtBeyondStatusRetentionIsRejected() {
+        EventService eventService = ServiceFixtures.eventService(ServiceFixtures.queueConfig(3));
+        scheduler = ServiceFixtures.scheduledEventService(new ScheduleConfig(), eventService, new CallbackService());
+        long maxAgeMillis = ServiceFixtures.eventStatusServiceOf(eventService).getMaxAgeMillis();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> eventService.submitEvent(email("later@example.com", System.currentTimeMillis() + maxAgeMillis + 60_000)));
+        assertEquals(0, scheduler.getPending());
+    }
+
+    private static EmailEvent email(String recipient, long sendAt) {
+        EmailEvent event = new EmailEvent();
+        event.setRecipient(recipient);
+        event.setMessage("Your appointment is tomorrow at 10:00");
+        event.setCallbackUrl("http://localhost/callback");
+        event.setSendAt(sendAt);
+        return event;
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.eventnotificationsystem.service;
+
+import com.example.eventnotificationsystem.config.BroadcastConfig;
+import com.example.eventnotificationsystem.config.CallbackConfig;
+import com.example.eventnotificationsystem.config.ClusterConfig;
+import com.example.eventnotificationsystem.config.IdConfig;
+import com.example.eventnotificationsystem.config.IdempotencyConfig;
+import com.example.eventnotificationsystem.config.QueueConfig;
+import com.example.eventnotificationsystem.config.RateLimitConfig;
+import com.example.eventnotificationsystem.config.ScheduleConfig;
+import com.example.eventnotificationsystem.config.StatusConfig;
+import com.example.eventnotificationsystem.metrics.EventMetrics;
+import com.example.eventnotificationsystem.model.EventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+/**
+ * Wires the services by hand for tests and benchmarks that run without a Spring context.
+ * A service's collaborators are set here only, so a new dependency is added once.
+ */
+public final class ServiceFixtures {
+    private ServiceFixtures() {
+    }
+
+    public static QueueConfig queueConfig(int capacity) {
+        QueueConfig queueConfig = new QueueConfig();
+        for (EventType eventType : EventType.values()) {
+            ReflectionTestUtils.setField(queueConfig, eventType.name().toLowerCase() + "Capacity", capacity);
+        }
+        ReflectionTestUtils.setField(queueConfig, "maxRetryAfterSeconds", 60L);
+        ReflectionTestUtils.setField(queueConfig, "highPriorityWeight", 16);
+        ReflectionTestUtils.setField(queueConfig, "normalPriorityWeight", 4);
+        ReflectionTestUtils.setField(queueConfig, "lowPriorityWeight", 1);
+        return queueConfig;
+    }
+
+    public static EventMetrics eventMetrics() {
+        EventMetrics eventMetrics = new EventMetrics();
+        ReflectionTestUtils.setField(eventMetrics, "meterRegistry", new SimpleMeterRegistry());
+        eventMetrics.init();
+        return eventMetrics;
+    }
+
+    public static EventStatusService eventStatusService(int maxEntries) {
+        StatusConfig statusConfig = new StatusConfig();
+        ReflectionTestUtils.setField(statusConfig, "maxEntries", maxEntries);
+        ReflectionTestUtils.setField(statusConfig, "maxAgeMillis", 3_600_000L);
+        ReflectionTestUtils.setField(statusConfig, "shards", 64);
+        EventStatusService eventStatusService = new EventStatusService();
+        ReflectionTestUtils.setField(eventStatusService, "statusConfig", statusConfig);
+        eventStatusService.init();
+        return eventStatusService;
+    }
+
+    public static EventIdService eventIdService(int nodeId) {
+        IdConfig idConfig = new IdConfig();
+        ReflectionTestUtils.setField(idConfig, "nodeId", nodeId);
+        EventIdService eventIdService = new EventIdService();
+        ReflectionTestUtils.setField(eventIdService, "idConfig", idConfig);
+        eventIdService.init();
+        return eventIdService;
+    }
+
+    public static RateLimitService rateLimitService(RateLimitConfig rateLimitConfig) {
+        RateLimitService rateLimitService = new RateLimitService();
+        ReflectionTestUtils.setField(rateLimitService, "rateLimitConfig", rateLimitConfig);
+        rateLimitService.init();
+        return rateLimitService;
+    }
+
+    public static IdempotencyService idempotencyService() {
+        IdempotencyConfig idempotencyConfig = new IdempotencyConfig();
+        ReflectionTestUtils.setField(idempotencyConfig, "maxEntries", 1000);
+        ReflectionTestUtils.setField(idempotencyConfig, "ttlMillis", 60_000L);
+        ReflectionTestUtils.setField(idempotencyConfig, "shards", 4);
+        IdempotencyService idempotencyService = new IdempotencyService();
+        ReflectionTestUtils.setField(idempotencyService, "idempotencyConfig", idempotencyConfig);
+        idempotencyService.init();
+        return idempotencyService;
+    }
+
+    public static EventService eventService(QueueConfig queueConfig) {
+        return eventService(queueConfig, 0);
+    }
+
+    public static EventService eventService(QueueConfig queueConfig, int idNode) {
+        return wire(new EventService(), queueConfig, idNode);
+    }
+
+    public static EventService eventService(QueueConfig queueConfig, EventStatusService eventStatusService,
+                                            EventMetrics eventMetrics) {
+        return wire(new EventService(), queueConfig, eventStatusService, eventMetrics, 0);
+    }
+
+    /**
+     * Wires a subclass of {@link EventService}, such as one that records what it is handed.
+     */
+    public static <S extends EventService> S wire(S eventService, QueueConfig queueConfig, int idNode) {
+        return wire(eventService, queueConfig, eventStatusService(100_000), eventMetrics(), idNode);
+    }
+
+    private static <S extends EventService> S wire(S eventService, QueueConfig queueConfig,
+                                                   EventStatusService eventStatusService, EventMetrics eventMetrics,
+                                                   int idNode) {
+        ReflectionTestUtils.setField(eventService, "queueConfig", queueConfig);
+        ReflectionTestUtils.setField(eventService, "eventStatusService", eventStatusService);
+        ReflectionTestUtils.setField(eventService, "eventMetrics", eventMetrics);
+        ReflectionTestUtils.setField(eventService, "eventIdService", eventIdService(idNode));
+        ReflectionTestUtils.setField(eventService, "rateLimitService", rateLimitService(new RateLimitConfig()));
+        ReflectionTestUtils.setField(eventService, "idempotencyService", idempotencyService());
+        eventService.initQueues();
+        return eventService;
+    }
+
+    /**
+     * An event processor for {@code eventService}'s queues, sharing its status, metrics
+     * and queue settings. It is not started.
+     */
+    public static EventProcessor eventProcessor(EventService eventService, CallbackService callbackService) {
+        return eventProcessor(eventService, callbackService, null);
+    }
+
+    public static EventProcessor eventProcessor(EventService eventService, CallbackService callbackService,
+                                                BroadcastService broadcastService) {
+        EventProcessor eventProcessor = new EventProcessor();
+        ReflectionTestUtils.setField(eventProcessor, "eventService", eventService);
+        ReflectionTestUtils.setField(eventProcessor, "callbackService", callbackService);
+        ReflectionTestUtils.setField(eventProcessor, "eventStatusService", eventStatusServiceOf(eventService));
+        ReflectionTestUtils.setField(eventProcessor, "eventMetrics", eventMetricsOf(eventService));
+        ReflectionTestUtils.setField(eventProcessor, "queueConfig", ReflectionTestUtils.getField(eventService, "queueConfig"));
+        ReflectionTestUtils.setField(eventProcessor, "broadcastService", broadcastService);
+        return eventProcessor;
+    }
+
+    public static CallbackService callbackService(CallbackConfig callbackConfig) {
+        CallbackService callbackService = new CallbackService();
+        ReflectionTestUtils.setField(callbackService, "callbackConfig", callbackConfig);
+        ReflectionTestUtils.setField(callbackService, "eventStatusService", eventStatusService(10_000));
+        ReflectionTestUtils.setField(callbackService, "eventMetrics", eventMetrics());
+        callbackService.init();
+        return callbackService;
+    }
+
+    public static BroadcastService broadcastService(BroadcastConfig broadcastConfig, EventService eventService,
+                                                    CallbackService callbackService) {
+        BroadcastService broadcastService = new BroadcastService();
+        ReflectionTestUtils.setField(broadcastService, "broadcastConfig", broadcastConfig);
+        ReflectionTestUtils.setField(broadcastService, "eventService", eventService);
+        ReflectionTestUtils.setField(broadcastService, "eventIdService", ReflectionTestUtils.getField(eventService, "eventIdService"));
+        ReflectionTestUtils.setField(broadcastService, "callbackService", callbackService);
+        broadcastService.init();
+        return broadcastService;
+    }
+
+    public static ScheduledEventService scheduledEventService(ScheduleConfig scheduleConfig, EventService eventService,
+                                                              CallbackService callbackService) {
+        ScheduledEventService scheduledEventService = new ScheduledEventService();
+        ReflectionTestUtils.setField(scheduledEventService, "scheduleConfig", scheduleConfig);
+        ReflectionTestUtils.setField(scheduledEventService, "eventService", eventService);
+        ReflectionTestUtils.setField(scheduledEventService, "eventMetrics", eventMetricsOf(eventService));
+        ReflectionTestUtils.setField(scheduledEventService, "eventStatusService", eventStatusServiceOf(eventService));
+        ReflectionTestUtils.setField(scheduledEventService, "callbackService", callbackService);
+        scheduledEventService.init();
+        return scheduledEventService;
+    }
+
+    /**
+     * A cluster node that owns {@code eventService}; its transport is still to be set.
+     */
+    public static ClusterService clusterService(String nodeId, List<String> members, EventService eventService) {
+        ClusterConfig clusterConfig = new ClusterConfig();
+        ReflectionTestUtils.setField(clusterConfig, "enabled", true);
+        ReflectionTestUtils.setField(clusterConfig, "nodeId", nodeId);
+        ReflectionTestUtils.setField(clusterConfig, "members", String.join(",", members));
+        ReflectionTestUtils.setField(clusterConfig, "secret", "test-secret");
+        ClusterService clusterService = new ClusterService();
+        ReflectionTestUtils.setField(clusterService, "clusterConfig", clusterConfig);
+        ReflectionTestUtils.setField(clusterService, "eventService", eventService);
+        clusterService.init();
+        return clusterService;
+    }
+
+    public static EventStatusService eventStatusServiceOf(EventService eventService) {
+        return (EventStatusService) ReflectionTestUtils.getField(eventService, "eventStatusService");
+    }
+
+    public static EventMetrics eventMetricsOf(EventService eventService) {
+        return (EventMetrics) ReflectionTestUtils.getField(eventService, "eventMetrics");
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.example.eventnotificationsystem.service.timer.TimingWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallbackBatcherTest {
+
+    private final TimingWheel timer = new TimingWheel("test-batch-timer", 10, TimeUnit.MILLISECONDS, 64);
+    private final Map<String, List<List<CallbackRequest>>> sent = new ConcurrentHashMap<>();
+
+    @AfterEach
+    public void tearDown() {
+        timer.close();
+    }
+
+    private CallbackBatcher batcher(int maxBatchSize, long windowMillis) {
+        return new CallbackBatcher(maxBatchSize, windowMillis, timer,
+                (url, callbacks) -> sent.computeIfAbsent(url, u -> new CopyOnWriteArrayList<>()).add(callbacks));
+    }
+
+    private static CallbackRequest callback(String eventId) {
+        return new CallbackRequest(eventId, "COMPLETED", "EMAIL", null, "2024-01-01T12:00:00Z");
+    }
+
+    @Test
+    public void testFullBatchIsSentImmediately() {
+        CallbackBatcher batcher = batcher(3, 60_000);
+        for (int i = 0; i < 7; i++) {
+            batcher.add("http://a/callback", callback("evt-" + i));
+        }
+
+        List<List<CallbackRequest>> batches = sent.get("http://a/callback");
+        assertEquals(2, batches.size());
+        assertEquals("evt-0", batches.get(0).get(0).getEventId());
+        assertEquals("evt-5", batches.get(1).get(2).getEventId());
+        assertEquals(1, batcher.getBuffered());
+    }
+
+    @Test
+    public void testPartialBatchIsSentWhenWindowCloses() throws Exception {
+        CallbackBatcher batcher = batcher(100, 50);
+        batcher.add("http://a/callback", callback("evt-1"));
+        batcher.add("http://b/callback", callback("evt-2"));
+        batcher.add("http://a/callback", callback("evt-3"));
+        assertTrue(sent.isEmpty());
+
+        for (int i = 0; i < 100 && sent.size() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, sent.get("http://a/callback").get(0).size());
+        assertEquals(1, sent.get("http://b/callback").get(0).size());
+        assertEquals(0, batcher.getBuffered());
+    }
+
+    @Test
+    public void testConcurrentProducersLoseNothing() throws Exception {
+        CallbackBatcher batcher = batcher(50, 20);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger ids = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    batcher.add("http://host" + (i % 4) + "/callback", callback("evt-" + ids.incrementAndGet()));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        batcher.flushAll();
+
+        int delivered = sent.values().stream().flatMap(List::stream).mapToInt(List::size).sum();
+        assertEquals(40_000, delivered);
+        assertTrue(sent.values().stream().flatMap(List::stream).allMatch(batch -> batch.size() <= 50));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallbackDispatcherTest {
+
+    private final List<CompletableFuture<Void>> started = new ArrayList<>();
+
+    private boolean submit(CallbackDispatcher dispatcher, String host) {
+        return dispatcher.submit(host, () -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            started.add(future);
+            return future;
+        });
+    }
+
+    @Test
+    public void testPerHostLimitDoesNotBlockOtherHosts() {
+        CallbackDispatcher dispatcher = new CallbackDispatcher(10, 2, 100);
+        for (int i = 0; i < 5; i++) {
+            submit(dispatcher, "slow:80");
+        }
+        submit(dispatcher, "fast:80");
+
+        assertEquals(3, dispatcher.getInFlight());
+        assertEquals(3, dispatcher.getPending());
+
+        started.get(0).complete(null);
+        assertEquals(4, started.size());
+        assertEquals(3, dispatcher.getInFlight());
+        assertEquals(2, dispatcher.getPending());
+    }
+
+    @Test
+    public void testGlobalLimitAndRejectionWhenBacklogIsFull() {
+        CallbackDispatcher dispatcher = new CallbackDispatcher(2, 2, 1);
+        assertTrue(submit(dispatcher, "a:80"));
+        assertTrue(submit(dispatcher, "b:80"));
+        assertTrue(submit(dispatcher, "c:80"));
+        assertFalse(submit(dispatcher, "d:80"));
+
+        assertEquals(2, dispatcher.getInFlight());
+        assertEquals(1, dispatcher.getPending());
+
+        started.get(1).completeExceptionally(new RuntimeException("connect timed out"));
+        assertEquals(3, started.size());
+        assertEquals(0, dispatcher.getPending());
+
+        started.forEach(future -> future.complete(null));
+        assertEquals(0, dispatcher.getInFlight());
+        assertEquals(0, dispatcher.getActiveHosts());
+    }
+
+    @Test
+    public void testDeliveriesThatCompleteAtOnceDoNotRecurseThroughTheBacklog() {
+        CallbackDispatcher dispatcher = new CallbackDispatcher(4, 1, 100_000);
+        submit(dispatcher, "a:80");
+        int[] run = new int[1];
+        for (int i = 0; i < 50_000; i++) {
+            dispatcher.submit("a:80", () -> {
+                run[0]++;
+                return CompletableFuture.completedFuture(null);
+            });
+        }
+        assertEquals(50_000, dispatcher.getPending());
+
+        started.get(0).complete(null);
+        assertEquals(50_000, run[0]);
+        assertEquals(0, dispatcher.getInFlight());
+        assertEquals(0, dispatcher.getPending());
+        assertEquals(0, dispatcher.getActiveHosts());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import com.example.eventnotificationsystem.model.CallbackRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallbackSerializerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CallbackSerializer serializer = new CallbackSerializer();
+
+    @Test
+    public void testSingleCallbackMatchesObjectMapper() throws Exception {
+        CallbackRequest completed = new CallbackRequest("01JA8Z5K3M0007XQ4V9R2T6B1C", "COMPLETED", "EMAIL", null,
+                "2024-01-01T12:00:00.123Z");
+        CallbackRequest unusual = new CallbackRequest("id \"quoted\"", "RETRYING", null, "Line\nbreak é ☃",
+                null);
+        for (CallbackRequest callbackRequest : List.of(completed, unusual)) {
+            CallbackDelivery delivery = new CallbackDelivery("http://localhost/callback", callbackRequest);
+            assertArrayEquals(objectMapper.writeValueAsBytes(delivery.getBody()), serializer.serialize(delivery),
+                    new String(serializer.serialize(delivery), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testBatchMatchesObjectMapper() throws Exception {
+        List<CallbackRequest> callbacks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            callbacks.add(new CallbackRequest("event-" + i, i % 3 == 0 ? "FAILED" : "COMPLETED", "SMS",
+                    i % 3 == 0 ? "Simulated processing failure" : null, "2024-01-01T12:00:00Z"));
+        }
+        CallbackDelivery delivery = new CallbackDelivery("http://localhost/callback", callbacks);
+        assertArrayEquals(objectMapper.writeValueAsBytes(delivery.getBody()), serializer.serialize(delivery));
+    }
+
+    @Test
+    public void testBuffersAreReusedWithoutLeakingPreviousBodies() throws Exception {
+        CallbackRequest large = new CallbackRequest("big", "FAILED", "PUSH", "x".repeat(10_000), "2024-01-01T12:00:00Z");
+        CallbackRequest small = new CallbackRequest("small", "COMPLETED", "PUSH", null, "2024-01-01T12:00:00Z");
+        serializer.serialize(new CallbackDelivery("http://localhost/callback", large));
+        CallbackDelivery delivery = new CallbackDelivery("http://localhost/callback", small);
+        assertEquals("{\"eventId\":\"small\",\"status\":\"COMPLETED\",\"eventType\":\"PUSH\",\"errorMessage\":null,"
+                + "\"processedAt\":\"2024-01-01T12:00:00Z\"}", new String(serializer.serialize(delivery), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.eventnotificationsystem.service.callback;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void testOpensAtFailureRateOnceMinimumCallsRecorded() {
+        CircuitBreaker breaker = new CircuitBreaker("host:80", 10, 4, 50, 30 * SECOND, 2);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, breaker.tryAcquire(0));
+            breaker.onFailure(0);
+        }
+        // Three failures out of three, but below the minimum number of calls
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(75.0, breaker.getFailureRate());
+
+        breaker.onFailure(SECOND);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(30 * SECOND, breaker.tryAcquire(SECOND));
+        assertEquals(20 * SECOND, breaker.tryAcquire(11 * SECOND));
+    }
+
+    @Test
+    public void testWindowForgetsOldOutcomes() {
+        CircuitBreaker breaker = new CircuitBreaker("host:80", 4, 4, 50, SECOND, 1);
+        breaker.onFailure(0);
+        for (int i = 0; i < 10; i++) {
+            breaker.onSuccess();
+        }
+        breaker.onFailure(0);
+        assertEquals(25.0, breaker.getFailureRate());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testHalfOpenTrialsCloseOrReopen() {
+        CircuitBreaker breaker = new CircuitBreaker("host:80", 2, 2, 100, SECOND, 2);
+        breaker.onFailure(0);
+        breaker.onFailure(0);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        // Open period over: exactly two trials go through
+        assertEquals(0, breaker.tryAcquire(SECOND));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(0, breaker.tryAcquire(SECOND));
+        assertTrue(breaker.tryAcquire(SECOND) > 0);
+        breaker.onSuccess();
+        breaker.onFailure(2 * SECOND);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(SECOND, breaker.tryAcquire(2 * SECOND));
+
+        assertEquals(0, breaker.tryAcquire(3 * SECOND));
+        assertEquals(0, breaker.tryAcquire(3 * SECOND));
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getRecorded());
+        // Closing starts a fresh window, so one failure is below the minimum again
+        breaker.onFailure(3 * SECOND);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testInvalidSettingsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakers(10, 20, 50, SECOND, 1, 100));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakers(10, 5, 50, SECOND, 0, 100));
+    }
+
+    @Test
+    public void testIdleClosedBreakersAreEvictedAtTheHostLimit() {
+        CircuitBreakers breakers = new CircuitBreakers(4, 2, 50, SECOND, 1, 2);
+        breakers.forHost("idle:80", 0).tryAcquire(0);
+        CircuitBreaker failing = breakers.forHost("failing:80", 0);
+        failing.tryAcquire(0);
+        failing.onFailure(0);
+        failing.onFailure(0);
+        assertEquals(CircuitBreaker.State.OPEN, failing.getState());
+
+        // Full, and nothing idle yet
+        assertNull(breakers.forHost("new:80", SECOND / 2));
+        // No second sweep within the idle period, even though one breaker is now idle
+        assertNull(breakers.forHost("new:80", SECOND));
+
+        // The open breaker is kept; the idle closed one makes room
+        assertNotNull(breakers.forHost("new:80", 3 * SECOND / 2));
+        assertSame(failing, breakers.forHost("failing:80", 3 * SECOND / 2));
+        assertEquals(2, breakers.size());
+        assertEquals(1, breakers.getOpenCount());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.eventnotificationsystem.service.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionTableTest {
+
+    @Test
+    public void testPartitionsAreSpreadEvenlyOverMembers() {
+        PartitionTable table = new PartitionTable(List.of("a", "b", "c", "d"), 271, 128);
+        int total = 0;
+        for (String member : table.getMembers()) {
+            int owned = table.countOwnedBy(member);
+            // 67.75 each on average
+            assertTrue(owned > 45 && owned < 90, member + " owns " + owned);
+            total += owned;
+        }
+        assertEquals(271, total);
+    }
+
+    @Test
+    public void testAddingAMemberOnlyMovesPartitionsToIt() {
+        PartitionTable before = new PartitionTable(List.of("a", "b", "c"), 271, 128);
+        PartitionTable after = new PartitionTable(List.of("a", "b", "c", "d"), 271, 128);
+        int moved = 0;
+        for (int p = 0; p < 271; p++) {
+            if (!before.ownerOf(p).equals(after.ownerOf(p))) {
+                assertEquals("d", after.ownerOf(p));
+                moved++;
+            }
+        }
+        assertEquals(after.countOwnedBy("d"), moved);
+        assertTrue(moved > 45 && moved < 90, "moved " + moved);
+    }
+
+    @Test
+    public void testTableDependsOnlyOnTheMemberSet() {
+        PartitionTable first = new PartitionTable(List.of("a", "b", "c"), 271, 128);
+        PartitionTable second = new PartitionTable(List.of("c", "a", "b"), 271, 128);
+        for (int p = 0; p < 271; p++) {
+            assertEquals(first.ownerOf(p), second.ownerOf(p));
+        }
+        assertEquals(first.partitionOf("user@example.com"), second.partitionOf("user@example.com"));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionTable(List.of(), 271, 128));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.eventnotificationsystem.service.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives an {@link AdaptiveLimit} against a simulated provider in virtual time. The
+ * provider answers in {@code latency} ms while it has at most {@code capacity} requests
+ * in flight and shares its capacity among them beyond that. So its throughput tops out
+ * at capacity / latency, and any more concurrency only adds latency.
+ */
+public class AdaptiveLimitTest {
+    private static final int STEP_MILLIS = 10;
+    private static final int INTERVAL_STEPS = 100;
+
+    @Test
+    public void testLimitFollowsProviderLatencyAndCapacity() {
+        Simulation simulation = new Simulation(new AdaptiveLimit(1, 1, 64, 1.5));
+
+        // Fast provider, 20 requests at a time at 100 ms: up to 200 events/s
+        simulation.provider(100, 20);
+        simulation.run(60, true);
+        double fastThroughput = simulation.run(30, true);
+        assertTrue(fastThroughput >= 0.9 * 200, "Throughput " + fastThroughput + "/s");
+        assertTrue(simulation.limit.getLimit() >= 20 && simulation.limit.getLimit() <= 40,
+                "Limit " + simulation.limit.getLimit());
+
+        // The provider slows down mid-run: 8 requests at a time at 250 ms, up to 32 events/s
+        simulation.provider(250, 8);
+        simulation.run(60, true);
+        double slowThroughput = simulation.run(30, true);
+        assertTrue(slowThroughput >= 0.9 * 32, "Throughput " + slowThroughput + "/s");
+        assertTrue(simulation.limit.getLimit() >= 8 && simulation.limit.getLimit() <= 16,
+                "Limit " + simulation.limit.getLimit());
+        assertEquals(250, TimeUnit.NANOSECONDS.toMillis(simulation.limit.getBaselineNanos()), 30);
+
+        // Load drops to 10 events/s, which needs about 2.5 workers
+        simulation.run(60, false);
+        assertTrue(simulation.limit.getLimit() <= 6, "Limit " + simulation.limit.getLimit());
+    }
+
+    @Test
+    public void testWorkersBeyondTheLimitWaitUntilItGrows() throws InterruptedException {
+        AdaptiveLimit limit = new AdaptiveLimit(1, 1, 4, 1.5);
+        assertTrue(limit.awaitActive(0, 10));
+        assertFalse(limit.awaitActive(1, 10));
+
+        Thread waiter = new Thread(() -> {
+            try {
+                limit.awaitActive(1, TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+        limit.started();
+        limit.finished(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(2, limit.update(100));
+        waiter.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(waiter.isAlive());
+        assertTrue(limit.awaitActive(1, 10));
+
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 0, 4, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveLimit(1, 1, 4, 0.5));
+    }
+
+    private static final class Simulation {
+        private final AdaptiveLimit limit;
+        private final List<long[]> inFlight = new ArrayList<>();
+        private long latencyMillis;
+        private int capacity;
+        private long nowMillis;
+
+        Simulation(AdaptiveLimit limit) {
+            this.limit = limit;
+        }
+
+        void provider(long latencyMillis, int capacity) {
+            this.latencyMillis = latencyMillis;
+            this.capacity = capacity;
+        }
+
+        /**
+         * @param saturated whether events are always waiting, or arrive at 10 per second
+         * @return events completed per second
+         */
+        double run(int seconds, boolean saturated) {
+            int backlog = 0;
+            long completed = 0;
+            int steps = (int) TimeUnit.SECONDS.toMillis(seconds) / STEP_MILLIS;
+            for (int step = 1; step <= steps; step++) {
+                if (!saturated && step % 10 == 0) {
+                    backlog++;
+                }
+                while (inFlight.size() < limit.getLimit() && (saturated || backlog > 0)) {
+                    // Work left in ms at full speed, and when the request started
+                    inFlight.add(new long[]{latencyMillis * 1000, nowMillis});
+                    limit.started();
+                    backlog = saturated ? 0 : backlog - 1;
+                }
+                nowMillis += STEP_MILLIS;
+                long progress = STEP_MILLIS * 1000L * Math.min(capacity, inFlight.size()) / Math.max(1, inFlight.size());
+                for (Iterator<long[]> it = inFlight.iterator(); it.hasNext(); ) {
+                    long[] request = it.next();
+                    request[0] -= progress;
+                    if (request[0] <= 0) {
+                        it.remove();
+                        limit.finished(TimeUnit.MILLISECONDS.toNanos(nowMillis - request[1]));
+                        completed++;
+                    }
+                }
+                if (step % INTERVAL_STEPS == 0) {
+                    limit.update(saturated ? Integer.MAX_VALUE : backlog);
+                }
+            }
+            return completed / (double) seconds;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.eventnotificationsystem.service.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UlidGeneratorTest {
+
+    @Test
+    public void testIdsAreUniqueAndIncreasingAcrossThreads() throws Exception {
+        UlidGenerator generator = new UlidGenerator(7);
+        int threads = 8;
+        int perThread = 100_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet(threads * perThread);
+        AtomicReference<String> outOfOrder = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                String previous = "";
+                for (int i = 0; i < perThread; i++) {
+                    String id = generator.nextId();
+                    if (id.compareTo(previous) <= 0) {
+                        outOfOrder.set(previous + " then " + id);
+                    }
+                    ids.add(id);
+                    previous = id;
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+        assertNull(outOfOrder.get());
+    }
+
+    @Test
+    public void testIdsCarryTimestampAndNode() {
+        long before = System.currentTimeMillis();
+        String id = new UlidGenerator(0xBEEF).nextId();
+        long after = System.currentTimeMillis();
+
+        assertEquals(Ulid.LENGTH, id.length());
+        long timestamp = UlidGenerator.timestampOf(id);
+        // The sequence may carry a millisecond ahead, never behind
+        assertTrue(timestamp >= before && timestamp <= after + 1, id);
+        assertEquals(0xBEEF, (int) (Ulid.parse(id).getLeastSignificantBits() >>> 48));
+    }
+
+    @Test
+    public void testLaterIdsSortAfterEarlierOnesFromOtherNodes() throws Exception {
+        String first = new UlidGenerator(2).nextId();
+        Thread.sleep(2);
+        String second = new UlidGenerator(1).nextId();
+        assertTrue(first.compareTo(second) < 0);
+    }
+
+    @Test
+    public void testFormatAndParseRoundTrip() {
+        UUID bits = new UUID(0x0123456789ABCDEFL, 0xFEDCBA9876543210L);
+        String text = Ulid.format(bits.getMostSignificantBits(), bits.getLeastSignificantBits());
+        assertEquals(bits, Ulid.parse(text));
+        assertEquals(bits, Ulid.parse(text.toLowerCase()));
+        assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", Ulid.format(-1L, -1L));
+        assertEquals(new UUID(-1L, -1L), Ulid.parse("7ZZZZZZZZZZZZZZZZZZZZZZZZZ"));
+    }
+
+    @Test
+    public void testMalformedIdsAreRejected() {
+        assertNull(Ulid.parse(null));
+        assertNull(Ulid.parse("01ARZ3NDEKTSV4RRFFQ69G5FA"));
+        assertNull(Ulid.parse("8ZZZZZZZZZZZZZZZZZZZZZZZZZ"));
+        assertNull(Ulid.parse("01ARZ3NDEKTSV4RRFFQ69G5FAU"));
+        assertThrows(IllegalArgumentException.class, () -> new UlidGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new UlidGenerator(UlidGenerator.MAX_NODE_ID + 1));
+        assertThrows(IllegalArgumentException.class, () -> EventIdGenerator.forName("snowflake", 0));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.eventnotificationsystem.service.idempotency;
+
+import com.example.eventnotificationsystem.service.id.UlidGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Fills a store with {@value #ENTRIES} completed keys (plus 10% that get evicted) and
+ * reports retained heap per key and the cost of a first claim and of a replayed one.
+ *
+ * <p>Run with {@code mvn test -Dtest=IdempotencyStoreBenchmark -Dbenchmark=true -DargLine=-Xmx2g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class IdempotencyStoreBenchmark {
+    private static final int ENTRIES = 10_000_000;
+
+    @Test
+    public void memoryAndLatency() {
+        UlidGenerator generator = new UlidGenerator(1);
+        String eventId = generator.nextId();
+        long heapBefore = usedHeapAfterGc();
+        IdempotencyStore store = new IdempotencyStore(ENTRIES, 3_600_000, 64);
+        long now = System.currentTimeMillis();
+        String[] sample = new String[1 << 16];
+
+        long start = System.nanoTime();
+        int total = ENTRIES + ENTRIES / 10;
+        for (int i = 0; i < total; i++) {
+            String key = "checkout-" + i + "-attempt";
+            store.claim(key, now);
+            store.complete(key, eventId);
+            sample[i & (sample.length - 1)] = key;
+        }
+        double firstNanos = (System.nanoTime() - start) / (double) total;
+
+        start = System.nanoTime();
+        int replayed = 0;
+        for (int round = 0; round < 50; round++) {
+            for (String key : sample) {
+                if (store.claim(key, now) != null) {
+                    replayed++;
+                }
+            }
+        }
+        double replayNanos = (System.nanoTime() - start) / (50.0 * sample.length);
+
+        long heapAfter = usedHeapAfterGc();
+        System.out.printf("keys=%d replayed=%d%n", store.size(), replayed);
+        System.out.printf("heap per key: %.1f bytes%n", (heapAfter - heapBefore) / (double) store.size());
+        System.out.printf("claim+complete %.0f ns, replay %.0f ns%n", firstNanos, replayNanos);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.eventnotificationsystem.service.idempotency;
+
+import com.example.eventnotificationsystem.service.id.UlidGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyStoreTest {
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    public void testClaimThenCompleteReplaysEventId() {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000, 4);
+        String ulid = new UlidGenerator(1).nextId();
+        String uuid = UUID.randomUUID().toString();
+
+        assertNull(store.claim("order-1", NOW));
+        assertSame(IdempotencyStore.IN_PROGRESS, store.claim("order-1", NOW + 1));
+        store.complete("order-1", ulid);
+        assertEquals(ulid, store.claim("order-1", NOW + 2));
+
+        assertNull(store.claim("order-2", NOW));
+        store.complete("order-2", uuid);
+        assertEquals(uuid, store.claim("order-2", NOW + 2));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    public void testReleasedKeyCanBeClaimedAgain() {
+        IdempotencyStore store = new IdempotencyStore(100, 60_000, 4);
+        assertNull(store.claim("retry-me", NOW));
+        store.release("retry-me");
+        assertNull(store.claim("retry-me", NOW + 1));
+
+        // An ID that cannot be stored compactly releases the key rather than replaying garbage
+        store.complete("retry-me", "not-an-event-id");
+        assertNull(store.claim("retry-me", NOW + 2));
+    }
+
+    @Test
+    public void testKeysExpireAfterTtl() {
+        IdempotencyStore store = new IdempotencyStore(100, 1_000, 1);
+        String id = new UlidGenerator(1).nextId();
+        assertNull(store.claim("a", NOW));
+        store.complete("a", id);
+        assertEquals(id, store.claim("a", NOW + 1_000));
+        assertNull(store.claim("a", NOW + 1_001));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testOldestKeysAreEvictedWhenFull() {
+        IdempotencyStore store = new IdempotencyStore(1_000, 60_000, 1);
+        UlidGenerator generator = new UlidGenerator(1);
+        String[] ids = new String[1_500];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = generator.nextId();
+            assertNull(store.claim("key-" + i, NOW));
+            store.complete("key-" + i, ids[i]);
+        }
+        assertEquals(1_000, store.size());
+        for (int i = 500; i < ids.length; i++) {
+            assertEquals(ids[i], store.claim("key-" + i, NOW), "key-" + i);
+        }
+        assertNull(store.claim("key-0", NOW));
+    }
+
+    @Test
+    public void testSimilarKeysStayDistinct() {
+        IdempotencyStore store = new IdempotencyStore(200_000, 60_000, 16);
+        for (int i = 0; i < 100_000; i++) {
+            assertNull(store.claim("k" + i, NOW), "k" + i);
+        }
+        assertNull(store.claim("", NOW));
+        assertNull(store.claim("\u0000", NOW));
+        assertEquals(100_002, store.size());
+    }
+
+    @Test
+    public void testConcurrentDuplicatesClaimOnce() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(100_000, 60_000, 16);
+        int threads = 8;
+        int keys = 5_000;
+        AtomicInteger winners = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < keys; i++) {
+                    if (store.claim("dup-" + i, NOW) == null) {
+                        winners.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertEquals(keys, winners.get());
+        assertEquals(keys, store.size());
+    }
+}
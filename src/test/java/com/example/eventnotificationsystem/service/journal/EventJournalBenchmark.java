@@ -0,0 +1,72 @@
+package com.example.eventnotificationsystem.service.journal;
+
+import com.example.eventnotificationsystem.model.SmsEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures appends/sec through {@link JournalQueue} at several group-commit intervals,
+ * with 200 producer threads (Tomcat's default pool) either waiting for their commit or
+ * returning as soon as the record is in the mapped pages. Interval 0 forces on every
+ * append and serves as the per-event fsync baseline.
+ *
+ * <p>Run with {@code mvn test -Dtest=EventJournalBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EventJournalBenchmark {
+    private static final int PRODUCERS = 200;
+    private static final long DURATION_MILLIS = 3000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void appendsPerSecondByCommitInterval() throws Exception {
+        System.out.printf("%-20s %20s %20s%n", "commit-interval-ms", "await-commit/sec", "no-await/sec");
+        for (long interval : new long[]{0, 1, 2, 5, 10, 50}) {
+            System.out.printf("%-20d %20.0f %20.0f%n", interval, run(interval, true), run(interval, false));
+        }
+    }
+
+    private double run(long commitIntervalMillis, boolean awaitCommit) throws Exception {
+        Path runDirectory = directory.resolve("interval-" + commitIntervalMillis + "-" + awaitCommit);
+        ObjectMapper objectMapper = new ObjectMapper();
+        AtomicLong appended = new AtomicLong();
+        try (EventJournal journal = new EventJournal(runDirectory, 64 << 20, commitIntervalMillis)) {
+            JournalQueue<SmsEvent> queue = new JournalQueue<>(journal, SmsEvent.class, objectMapper, awaitCommit);
+            ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+            CountDownLatch start = new CountDownLatch(1);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+            for (int p = 0; p < PRODUCERS; p++) {
+                producers.submit(() -> {
+                    start.await();
+                    SmsEvent event = new SmsEvent();
+                    event.setEventId("benchmark");
+                    event.setPhoneNumber("+1234567890");
+                    event.setMessage("Your verification code is 123456");
+                    event.setCallbackUrl("http://localhost:8080/callback");
+                    while (System.nanoTime() < deadline) {
+                        queue.offer(event);
+                        appended.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+            long began = System.nanoTime();
+            start.countDown();
+            producers.shutdown();
+            producers.awaitTermination(DURATION_MILLIS * 2, TimeUnit.MILLISECONDS);
+            double seconds = (System.nanoTime() - began) / 1e9;
+            return appended.get() / seconds;
+        }
+    }
+}
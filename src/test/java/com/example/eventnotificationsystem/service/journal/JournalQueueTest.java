@@ -0,0 +1,157 @@
+package com.example.eventnotificationsystem.service.journal;
+
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JournalQueueTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static EmailEvent event(String id) {
+        EmailEvent event = new EmailEvent();
+        event.setEventId(id);
+        event.setRecipient("test@example.com");
+        event.setMessage("Message " + id);
+        event.setCallbackUrl("http://localhost/callback");
+        return event;
+    }
+
+    @Test
+    public void testUnacknowledgedEventsAreReplayedAfterRestart() throws Exception {
+        try (EventJournal journal = new EventJournal(directory, 1 << 16, 5)) {
+            JournalQueue<EmailEvent> queue = new JournalQueue<>(journal, EmailEvent.class, objectMapper, true);
+            queue.offer(event("1"));
+            queue.offer(event("2"));
+            queue.offer(event("3"));
+
+            EmailEvent first = queue.take();
+            queue.acknowledge(first);
+            queue.take(); // taken but never acknowledged
+            journal.commit();
+        }
+
+        try (EventJournal journal = new EventJournal(directory, 1 << 16, 5)) {
+            JournalQueue<EmailEvent> queue = new JournalQueue<>(journal, EmailEvent.class, objectMapper, true);
+            assertEquals(2, queue.size());
+            assertEquals("2", queue.take().getEventId());
+            EmailEvent third = queue.poll(1, TimeUnit.SECONDS);
+            assertNotNull(third);
+            assertEquals("3", third.getEventId());
+            assertEquals("Message 3", third.getMessage());
+            assertNull(queue.poll());
+        }
+    }
+
+    @Test
+    public void testOutOfOrderAcknowledgementHoldsConsumerOffset() throws Exception {
+        try (EventJournal journal = new EventJournal(directory, 1 << 16, 5)) {
+            JournalQueue<EmailEvent> queue = new JournalQueue<>(journal, EmailEvent.class, objectMapper, false);
+            queue.offer(event("1"));
+            queue.offer(event("2"));
+            EmailEvent first = queue.take();
+            EmailEvent second = queue.take();
+
+            queue.acknowledge(second);
+            journal.commit();
+            assertEquals(first.getJournalOffset(), journal.getConsumerOffset());
+
+            queue.acknowledge(first);
+            journal.commit();
+            assertEquals(journal.getWritePosition(), journal.getConsumerOffset());
+        }
+    }
+
+    @Test
+    public void testSegmentsRollOverAndConsumedSegmentsAreDeleted() throws Exception {
+        try (EventJournal journal = new EventJournal(directory, 1024, 5)) {
+            JournalQueue<EmailEvent> queue = new JournalQueue<>(journal, EmailEvent.class, objectMapper, false);
+            for (int i = 0; i < 100; i++) {
+                queue.offer(event(String.valueOf(i)));
+            }
+            assertTrue(journal.getSegmentCount() > 1);
+
+            for (int i = 0; i < 100; i++) {
+                EmailEvent event = queue.take();
+                assertEquals(String.valueOf(i), event.getEventId());
+                queue.acknowledge(event);
+            }
+            journal.commit();
+            assertEquals(1, journal.getSegmentCount());
+        }
+    }
+
+    @Test
+    public void testTornTailIsDiscardedOnRecovery() throws Exception {
+        long validEnd;
+        try (EventJournal journal = new EventJournal(directory, 1 << 16, 5)) {
+            validEnd = journal.append("{\"eventId\":\"ok\"}".getBytes());
+        }
+        try (JournalSegment segment = JournalSegment.open(directory, 0, 1 << 16)) {
+            // Header of a record whose payload never reached the page cache
+            segment.putInt((int) validEnd, 42);
+            segment.putInt((int) validEnd + 4, 12345);
+        }
+        try (EventJournal journal = new EventJournal(directory, 1 << 16, 5)) {
+            assertEquals(validEnd, journal.getWritePosition());
+            assertNotNull(journal.read(0));
+            assertNull(journal.read(validEnd));
+        }
+    }
+
+    @Test
+    public void testConcurrentProducersDoNotExceedCapacity() throws Exception {
+        try (EventJournal journal = new EventJournal(directory, 1 << 20, 5)) {
+            JournalQueue<EmailEvent> queue = new JournalQueue<>(journal, EmailEvent.class, objectMapper, false, 100);
+            AtomicInteger accepted = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            Thread[] producers = new Thread[8];
+            for (int t = 0; t < producers.length; t++) {
+                int producer = t;
+                producers[t] = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 50; i++) {
+                        if (queue.offer(event(producer + "-" + i))) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                });
+                producers[t].start();
+            }
+            start.countDown();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            assertEquals(100, accepted.get());
+            assertEquals(100, queue.size());
+        }
+    }
+
+    @Test
+    public void testInterruptWhileAwaitingCommitStillReportsTheQueuedEvent() throws Exception {
+        try (EventJournal journal = new EventJournal(directory, 1 << 16, 1000)) {
+            JournalQueue<EmailEvent> queue = new JournalQueue<>(journal, EmailEvent.class, objectMapper, true);
+            Thread.currentThread().interrupt();
+            // A worker will deliver it, so reporting it as rejected would invite a duplicate
+            assertTrue(queue.offer(event("1")));
+            assertTrue(Thread.interrupted());
+            assertEquals(1, queue.size());
+            assertEquals("1", queue.poll().getEventId());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.eventnotificationsystem.service.priority;
+
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.EventPriority;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityLaneQueueTest {
+
+    private static PriorityLaneQueue<EmailEvent> queue(int laneCapacity) {
+        Map<EventPriority, BlockingQueue<EmailEvent>> lanes = new EnumMap<>(EventPriority.class);
+        Map<EventPriority, Integer> weights = new EnumMap<>(EventPriority.class);
+        for (EventPriority priority : EventPriority.values()) {
+            lanes.put(priority, new LinkedBlockingQueue<>(laneCapacity));
+        }
+        weights.put(EventPriority.HIGH, 16);
+        weights.put(EventPriority.NORMAL, 4);
+        weights.put(EventPriority.LOW, 1);
+        return new PriorityLaneQueue<>(lanes, weights);
+    }
+
+    private static EmailEvent event(EventPriority priority) {
+        EmailEvent event = new EmailEvent();
+        event.setPriority(priority);
+        return event;
+    }
+
+    @Test
+    public void testBackloggedLanesAreDrainedByWeight() {
+        PriorityLaneQueue<EmailEvent> queue = queue(10_000);
+        for (int i = 0; i < 5000; i++) {
+            for (EventPriority priority : EventPriority.values()) {
+                queue.offer(event(priority));
+            }
+        }
+
+        Map<EventPriority, Integer> taken = new EnumMap<>(EventPriority.class);
+        for (int i = 0; i < 2100; i++) {
+            taken.merge(queue.poll().getPriority(), 1, Integer::sum);
+        }
+        assertEquals(1600, taken.get(EventPriority.HIGH));
+        assertEquals(400, taken.get(EventPriority.NORMAL));
+        assertEquals(100, taken.get(EventPriority.LOW));
+    }
+
+    @Test
+    public void testLowPriorityIsNeverStarved() {
+        PriorityLaneQueue<EmailEvent> queue = queue(10_000);
+        queue.offer(event(EventPriority.LOW));
+        int takesUntilLow = 0;
+        EmailEvent event;
+        do {
+            // Keep the higher lanes permanently backlogged
+            queue.offer(event(EventPriority.HIGH));
+            queue.offer(event(EventPriority.NORMAL));
+            event = queue.poll();
+            takesUntilLow++;
+        } while (event.getPriority() != EventPriority.LOW);
+        assertTrue(takesUntilLow <= 21, "LOW waited " + takesUntilLow + " takes");
+    }
+
+    @Test
+    public void testHighPriorityIsAdmittedWhileLowLaneIsFull() {
+        PriorityLaneQueue<EmailEvent> queue = queue(100);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer(event(EventPriority.LOW)));
+        }
+        assertFalse(queue.offer(event(EventPriority.LOW)));
+        assertTrue(queue.offer(event(EventPriority.HIGH)));
+        assertEquals(101, queue.size());
+        assertEquals(EventPriority.HIGH, queue.poll().getPriority());
+    }
+
+    @Test
+    public void testTakeWakesUpOnOffer() throws Exception {
+        PriorityLaneQueue<EmailEvent> queue = queue(10);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            queue.offer(event(EventPriority.NORMAL));
+        });
+        producer.start();
+        assertNotNull(queue.poll(5, TimeUnit.SECONDS));
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        producer.join();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.eventnotificationsystem.service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Tracks {@value #RECIPIENTS} recipients and reports retained heap per recipient, the cost
+ * of an acquire from one thread and the throughput of 8 threads hitting random recipients.
+ *
+ * <p>Run with {@code mvn test -Dtest=RecipientRateLimiterBenchmark -Dbenchmark=true -DargLine=-Xmx2g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class RecipientRateLimiterBenchmark {
+    private static final int RECIPIENTS = 10_000_000;
+    private static final int THREADS = 8;
+    private static final int ACQUIRES_PER_THREAD = 2_000_000;
+
+    @Test
+    public void memoryAndThroughput() throws Exception {
+        String[] keys = new String[1 << 20];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "+1555" + (1_000_000 + i);
+        }
+        long heapBefore = usedHeapAfterGc();
+        RecipientRateLimiter limiter = new RecipientRateLimiter(1, 10, RECIPIENTS, 64);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RECIPIENTS; i++) {
+            limiter.tryAcquire("+1555" + i, start);
+        }
+        double insertNanos = (System.nanoTime() - start) / (double) RECIPIENTS;
+        long heapAfter = usedHeapAfterGc();
+
+        List<Thread> workers = new ArrayList<>();
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch go = new CountDownLatch(1);
+        for (int t = 0; t < THREADS; t++) {
+            int seed = t;
+            Thread worker = new Thread(() -> {
+                ready.countDown();
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                int index = seed * 7919;
+                for (int i = 0; i < ACQUIRES_PER_THREAD; i++) {
+                    index = (index + 104_729) & (keys.length - 1);
+                    limiter.tryAcquire(keys[index], System.nanoTime());
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        ready.await();
+        start = System.nanoTime();
+        go.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("recipients=%d untracked=%d%n", limiter.size(), limiter.getUntracked());
+        System.out.printf("heap per recipient: %.1f bytes%n", (heapAfter - heapBefore) / (double) limiter.size());
+        System.out.printf("insert %.0f ns, %d threads: %.1fM acquires/s%n", insertNanos, THREADS,
+                THREADS * (double) ACQUIRES_PER_THREAD / seconds / 1e6);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
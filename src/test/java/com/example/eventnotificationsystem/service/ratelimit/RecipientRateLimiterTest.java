@@ -0,0 +1,115 @@
+package com.example.eventnotificationsystem.service.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RecipientRateLimiterTest {
+    private static final long SECOND = 1_000_000_000L;
+    private static final long NOW = 5_000 * SECOND;
+
+    @Test
+    public void testBurstThenSustainedRate() {
+        RecipientRateLimiter limiter = new RecipientRateLimiter(2, 3, 100, 4);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("+15550001111", NOW));
+        }
+        // At 2 per second the next token is half a second away
+        assertEquals(SECOND / 2, limiter.tryAcquire("+15550001111", NOW));
+        assertEquals(SECOND / 4, limiter.tryAcquire("+15550001111", NOW + SECOND / 4));
+        assertEquals(0, limiter.tryAcquire("+15550001111", NOW + SECOND / 2));
+        assertTrue(limiter.tryAcquire("+15550001111", NOW + SECOND / 2) > 0);
+
+        // Other recipients have their own buckets
+        assertEquals(0, limiter.tryAcquire("+15550002222", NOW));
+        // An idle recipient's bucket refills to the burst, not beyond
+        long later = NOW + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("+15550001111", later));
+        }
+        assertTrue(limiter.tryAcquire("+15550001111", later) > 0);
+    }
+
+    @Test
+    public void testRefundReturnsToken() {
+        RecipientRateLimiter limiter = new RecipientRateLimiter(1, 1, 100, 1);
+        assertEquals(0, limiter.tryAcquire("device-1", NOW));
+        assertTrue(limiter.tryAcquire("device-1", NOW) > 0);
+        limiter.refund("device-1");
+        assertEquals(0, limiter.tryAcquire("device-1", NOW));
+    }
+
+    @Test
+    public void testIdleRecipientsAreEvictedWhenFull() {
+        RecipientRateLimiter limiter = new RecipientRateLimiter(10, 1, 1_000, 1);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(0, limiter.tryAcquire("user" + i + "@example.com", NOW));
+        }
+        assertEquals(1_000, limiter.size());
+
+        // Still limited: the shard is full of active buckets, so a newcomer goes untracked
+        assertEquals(0, limiter.tryAcquire("new@example.com", NOW));
+        assertEquals(1, limiter.getUntracked());
+        assertTrue(limiter.tryAcquire("user0@example.com", NOW) > 0);
+
+        // A tenth of a second later every bucket is full again and the sweep clears them
+        long later = NOW + SECOND / 10;
+        assertEquals(0, limiter.tryAcquire("new@example.com", later));
+        assertEquals(1, limiter.size());
+        assertEquals(1, limiter.getUntracked());
+        assertTrue(limiter.tryAcquire("new@example.com", later) > 0);
+    }
+
+    @Test
+    public void testConcurrentAcquiresNeverExceedBurst() throws Exception {
+        RecipientRateLimiter limiter = new RecipientRateLimiter(0.001, 50, 10_000, 16);
+        int threads = 8;
+        int recipients = 200;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < 20; round++) {
+                    for (int r = 0; r < recipients; r++) {
+                        if (limiter.tryAcquire("recipient-" + r, NOW) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertEquals(recipients * 50, admitted.get());
+        assertEquals(recipients, limiter.size());
+    }
+
+    @Test
+    public void testChannelBucket() {
+        TokenBucket bucket = new TokenBucket(1000, 100, NOW);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, bucket.tryAcquire(NOW));
+        }
+        assertEquals(SECOND / 1000, bucket.tryAcquire(NOW));
+        assertEquals(0, bucket.tryAcquire(NOW + SECOND / 1000));
+        bucket.refund();
+        assertEquals(0, bucket.tryAcquire(NOW + SECOND / 1000));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, NOW));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0, NOW));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.eventnotificationsystem.service.ring;
+
+import com.example.eventnotificationsystem.model.EmailEvent;
+import com.example.eventnotificationsystem.model.EventPriority;
+import com.example.eventnotificationsystem.service.priority.PriorityLaneQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer contention on a channel queue as {@code EventService.submitEvent} sees it:
+ * 1 to 64 producer threads offering into a {@link PriorityLaneQueue} drained by one worker
+ * calling {@code take()}, with linked lanes (the default) against ring lanes under each
+ * wait strategy. Busy-spin is left out since it needs a spare core per worker to mean
+ * anything.
+ *
+ * <p>Run with {@code mvn test -Dtest=RingBufferContentionBenchmark -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class RingBufferContentionBenchmark {
+    private static final int EVENTS = 2_000_000;
+    private static final int CAPACITY = 1 << 16;
+    private static final String[] VARIANTS = {"linked/blocking", "ring/blocking", "ring/sleeping", "ring/yielding"};
+
+    @Test
+    public void producersVersusQueueImplementation() throws Exception {
+        for (String variant : VARIANTS) {
+            run(variant, 4);
+        }
+        System.out.printf("%-10s", "producers");
+        for (String variant : VARIANTS) {
+            System.out.printf(" %18s", variant + " ev/s");
+        }
+        System.out.println();
+        for (int producers : new int[]{1, 2, 4, 8, 16, 32, 64}) {
+            System.out.printf("%-10d", producers);
+            for (String variant : VARIANTS) {
+                System.out.printf(" %18.0f", run(variant, producers));
+            }
+            System.out.println();
+        }
+    }
+
+    private double run(String variant, int producers) throws Exception {
+        String[] parts = variant.split("/");
+        Map<EventPriority, BlockingQueue<EmailEvent>> lanes = new EnumMap<>(EventPriority.class);
+        Map<EventPriority, Integer> weights = new EnumMap<>(EventPriority.class);
+        for (EventPriority priority : EventPriority.values()) {
+            lanes.put(priority, "ring".equals(parts[0]) ? new RingBufferQueue<>(CAPACITY) : new LinkedBlockingQueue<>(CAPACITY));
+            weights.put(priority, 1);
+        }
+        PriorityLaneQueue<EmailEvent> queue = new PriorityLaneQueue<>(lanes, weights, WaitStrategy.forName(parts[1]));
+        EmailEvent event = new EmailEvent();
+        event.setPriority(EventPriority.NORMAL);
+
+        int perProducer = EVENTS / producers;
+        int total = perProducer * producers;
+        CountDownLatch done = new CountDownLatch(1);
+        Thread worker = new Thread(() -> {
+            try {
+                for (int i = 0; i < total; i++) {
+                    queue.take();
+                }
+                done.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        worker.start();
+
+        // Stamped by the barrier itself: on few cores the producers can finish before the main thread runs again
+        long[] begin = new long[1];
+        CyclicBarrier start = new CyclicBarrier(producers + 1, () -> begin[0] = System.nanoTime());
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            Thread producer = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.put(event);
+                    }
+                } catch (Exception e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producer.start();
+            threads.add(producer);
+        }
+        start.await();
+        done.await(5, TimeUnit.MINUTES);
+        double seconds = (System.nanoTime() - begin[0]) / 1e9;
+        for (Thread producer : threads) {
+            producer.join();
+        }
+        worker.join();
+        return total / seconds;
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.eventnotificationsystem.service.ring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferQueueTest {
+
+    @Test
+    public void testFifoAcrossManyLaps() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(4);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(queue.offer(i));
+            assertTrue(queue.offer(i + 1000));
+            assertEquals(2, queue.size());
+            assertEquals(i, queue.peek());
+            assertEquals(i, queue.poll());
+            assertEquals(i + 1000, queue.poll());
+            assertTrue(queue.isEmpty());
+        }
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testConfiguredCapacityIsEnforcedAlthoughTheRingIsLarger() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(5);
+        assertEquals(5, queue.capacity());
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(5));
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals(List.of(0, 1, 2, 3, 4), new ArrayList<>(queue));
+
+        // Wrapping around the 8-slot ring must keep the limit at 5
+        for (int i = 5; i < 20; i++) {
+            queue.poll();
+            assertTrue(queue.offer(i));
+            assertFalse(queue.offer(-1));
+        }
+        assertEquals(5, queue.size());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumersLoseNothing() throws Exception {
+        int producers = 8;
+        int perProducer = 20_000;
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(1024, new YieldingWaitStrategy());
+        BitSet seen = new BitSet(producers * perProducer);
+        AtomicReference<String> duplicate = new AtomicReference<>();
+        CountDownLatch consumed = new CountDownLatch(producers * perProducer);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads.add(new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++) {
+                        queue.put(base + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (int c = 0; c < 2; c++) {
+            Thread consumer = new Thread(() -> {
+                try {
+                    while (true) {
+                        int value = queue.take();
+                        synchronized (seen) {
+                            if (seen.get(value)) {
+                                duplicate.set("Taken twice: " + value);
+                            }
+                            seen.set(value);
+                        }
+                        consumed.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            consumer.setDaemon(true);
+            threads.add(consumer);
+        }
+        threads.forEach(Thread::start);
+
+        assertTrue(consumed.await(30, TimeUnit.SECONDS));
+        assertNull(duplicate.get());
+        assertEquals(producers * perProducer, seen.cardinality());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testEveryWaitStrategyWakesAndTimesOut() throws Exception {
+        for (String name : new String[]{"blocking", "sleeping", "yielding", "busy-spin"}) {
+            RingBufferQueue<String> queue = new RingBufferQueue<>(16, WaitStrategy.forName(name));
+            long start = System.nanoTime();
+            assertNull(queue.poll(20, TimeUnit.MILLISECONDS), name);
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20), name);
+
+            Thread producer = new Thread(() -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                queue.offer("event");
+            });
+            producer.start();
+            assertEquals("event", queue.poll(5, TimeUnit.SECONDS), name);
+            producer.join();
+        }
+    }
+
+    @Test
+    public void testTakeIsInterruptible() throws Exception {
+        RingBufferQueue<String> queue = new RingBufferQueue<>(16, new SleepingWaitStrategy());
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        consumer.start();
+        Thread.sleep(50);
+        consumer.interrupt();
+        consumer.join(5000);
+        assertInstanceOf(InterruptedException.class, thrown.get());
+    }
+
+    @Test
+    public void testUnknownWaitStrategyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> WaitStrategy.forName("lazy"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.eventnotificationsystem.service.status;
+
+import com.example.eventnotificationsystem.model.EventStatus;
+import com.example.eventnotificationsystem.model.EventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.UUID;
+
+/**
+ * Fills a store with {@value #ENTRIES} entries (plus 10% that get evicted) and reports
+ * retained heap per entry and the cost of inserts, updates and lookups.
+ *
+ * <p>Run with {@code mvn test -Dtest=EventStatusStoreBenchmark -Dbenchmark=true -DargLine=-Xmx2g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class EventStatusStoreBenchmark {
+    private static final int ENTRIES = 20_000_000;
+
+    @Test
+    public void memoryAndLatency() {
+        long heapBefore = usedHeapAfterGc();
+        EventStatusStore store = new EventStatusStore(ENTRIES, 3_600_000, 64);
+        long now = System.currentTimeMillis();
+        String[] sample = new String[1 << 16];
+
+        long start = System.nanoTime();
+        int total = ENTRIES + ENTRIES / 10;
+        for (int i = 0; i < total; i++) {
+            String id = new UUID(i * 0x9E3779B97F4A7C15L, i).toString();
+            store.recordQueued(id, EventType.EMAIL, now);
+            sample[i & (sample.length - 1)] = id;
+        }
+        double insertNanos = (System.nanoTime() - start) / (double) total;
+
+        start = System.nanoTime();
+        for (int round = 0; round < 50; round++) {
+            for (String id : sample) {
+                store.recordStatus(id, EventStatus.COMPLETED, now);
+            }
+        }
+        double updateNanos = (System.nanoTime() - start) / (50.0 * sample.length);
+
+        start = System.nanoTime();
+        int found = 0;
+        for (int round = 0; round < 50; round++) {
+            for (String id : sample) {
+                if (store.get(id, now) != null) {
+                    found++;
+                }
+            }
+        }
+        double lookupNanos = (System.nanoTime() - start) / (50.0 * sample.length);
+
+        long heapAfter = usedHeapAfterGc();
+        System.out.printf("entries=%d evicted=%d found=%d%n", store.size(), store.getEvicted(), found);
+        System.out.printf("heap per entry: %.1f bytes%n", (heapAfter - heapBefore) / (double) store.size());
+        System.out.printf("insert %.0f ns, update %.0f ns, lookup %.0f ns%n", insertNanos, updateNanos, lookupNanos);
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.eventnotificationsystem.service.status;
+
+import com.example.eventnotificationsystem.model.CallbackStatus;
+import com.example.eventnotificationsystem.model.EventStatus;
+import com.example.eventnotificationsystem.model.EventStatusResponse;
+import com.example.eventnotificationsystem.model.EventType;
+import com.example.eventnotificationsystem.service.id.UlidGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventStatusStoreTest {
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    public void testTracksLifecycleWithTimestamps() {
+        EventStatusStore store = new EventStatusStore(100, 60_000, 4);
+        String id = UUID.randomUUID().toString();
+
+        store.recordQueued(id, EventType.SMS, NOW);
+        assertEquals(EventStatus.QUEUED, store.get(id, NOW).getStatus());
+        assertNull(store.get(id, NOW).getProcessingAt());
+
+        store.recordStatus(id, EventStatus.PROCESSING, NOW + 10);
+        store.recordStatus(id, EventStatus.FAILED, NOW + 3010);
+        store.recordCallback(id, CallbackStatus.DELIVERED, NOW + 3050);
+
+        EventStatusResponse status = store.get(id, NOW + 4000);
+        assertEquals(id, status.getEventId());
+        assertEquals(EventType.SMS, status.getEventType());
+        assertEquals(EventStatus.FAILED, status.getStatus());
+        assertEquals(CallbackStatus.DELIVERED, status.getCallbackStatus());
+        assertEquals("2023-11-14T22:13:20Z", status.getQueuedAt());
+        assertEquals("2023-11-14T22:13:20.010Z", status.getProcessingAt());
+        assertEquals("2023-11-14T22:13:23.010Z", status.getFinishedAt());
+        assertEquals("2023-11-14T22:13:23.050Z", status.getCallbackAt());
+    }
+
+    @Test
+    public void testUlidAndUuidIdsAreBothIndexed() {
+        EventStatusStore store = new EventStatusStore(100, 60_000, 4);
+        String ulid = new UlidGenerator(3).nextId();
+        String uuid = UUID.randomUUID().toString();
+        store.recordQueued(ulid, EventType.EMAIL, NOW);
+        store.recordQueued(uuid, EventType.PUSH, NOW);
+        store.recordStatus(ulid, EventStatus.COMPLETED, NOW + 5);
+
+        assertEquals(EventStatus.COMPLETED, store.get(ulid, NOW + 10).getStatus());
+        assertEquals(ulid, store.get(ulid, NOW + 10).getEventId());
+        assertEquals(EventStatus.QUEUED, store.get(uuid, NOW + 10).getStatus());
+        assertEquals(EventStatus.COMPLETED, store.get(ulid.toLowerCase(), NOW + 10).getStatus());
+    }
+
+    @Test
+    public void testUnknownAndMalformedIdsAreNotFound() {
+        EventStatusStore store = new EventStatusStore(100, 60_000, 4);
+        assertNull(store.get(UUID.randomUUID().toString(), NOW));
+        assertNull(store.get("not-an-id", NOW));
+        store.recordStatus(UUID.randomUUID().toString(), EventStatus.COMPLETED, NOW);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void testOldestEntriesAreEvictedWhenFull() {
+        EventStatusStore store = new EventStatusStore(1000, 60_000, 1);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            store.recordQueued(id, EventType.EMAIL, NOW + i);
+        }
+
+        assertEquals(1000, store.size());
+        assertEquals(4000, store.getEvicted());
+        for (int i = 0; i < 4000; i++) {
+            assertNull(store.get(ids.get(i), NOW + 5000), "evicted entry " + i);
+        }
+        for (int i = 4000; i < 5000; i++) {
+            assertNotNull(store.get(ids.get(i), NOW + 5000), "retained entry " + i);
+        }
+    }
+
+    @Test
+    public void testEntriesExpireByAge() {
+        EventStatusStore store = new EventStatusStore(1000, 1000, 1);
+        String old = UUID.randomUUID().toString();
+        store.recordQueued(old, EventType.PUSH, NOW);
+        assertNotNull(store.get(old, NOW + 999));
+        assertNull(store.get(old, NOW + 1001));
+
+        store.recordQueued(UUID.randomUUID().toString(), EventType.PUSH, NOW + 1001);
+        assertEquals(1, store.size());
+        assertEquals(1, store.getEvicted());
+    }
+
+    @Test
+    public void testRemovedEntriesKeepOtherKeysReachable() {
+        EventStatusStore store = new EventStatusStore(2000, 60_000, 1);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            store.recordQueued(id, EventType.EMAIL, NOW);
+        }
+        for (int i = 0; i < ids.size(); i += 2) {
+            store.remove(ids.get(i));
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i % 2 == 1, store.get(ids.get(i), NOW) != null, "entry " + i);
+        }
+    }
+
+    @Test
+    public void testConcurrentWritersAndReaders() throws Exception {
+        EventStatusStore store = new EventStatusStore(100_000, 60_000, 16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String id = UUID.randomUUID().toString();
+                    store.recordQueued(id, EventType.EMAIL, NOW);
+                    store.recordStatus(id, EventStatus.PROCESSING, NOW + 1);
+                    store.recordStatus(id, EventStatus.COMPLETED, NOW + 2);
+                    EventStatusResponse status = store.get(id, NOW + 3);
+                    assertNotNull(status);
+                    assertEquals(EventStatus.COMPLETED, status.getStatus());
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertEquals(80_000, store.size());
+    }
+}
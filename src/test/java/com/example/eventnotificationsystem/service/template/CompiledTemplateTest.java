@@ -0,0 +1,56 @@
+package com.example.eventnotificationsystem.service.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompiledTemplateTest {
+
+    @Test
+    public void testRendersBoundValuesIntoEveryPlaceholder() {
+        CompiledTemplate template = CompiledTemplate.compile("Hi {{ name }}, order {{order.id}} ships {{date}}. Thanks, {{name}}!");
+        assertEquals(List.of("name", "order.id", "date"), template.getVariables());
+
+        String[] values = template.bind(Map.of("name", "Ada", "order.id", "A-17", "date", "today", "unused", "x"));
+        assertArrayEquals(new String[]{"Ada", "A-17", "today"}, values);
+        assertEquals("Hi Ada, order A-17 ships today. Thanks, Ada!", template.render(values));
+
+        CompiledTemplate plain = CompiledTemplate.compile("No placeholders");
+        assertEquals("No placeholders", plain.render(plain.bind(null)));
+    }
+
+    @Test
+    public void testRejectsMalformedTemplatesAndMissingParameters() {
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hi {{name"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hi {{first name}}"));
+        assertThrows(IllegalArgumentException.class, () -> CompiledTemplate.compile("Hi {{}}"));
+
+        CompiledTemplate template = CompiledTemplate.compile("{{a}} and {{b}}");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> template.bind(Map.of("a", "1")));
+        assertEquals("Missing template parameters: b", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> template.render(new String[]{"1"}));
+        assertNotEquals(template.getVersion(), CompiledTemplate.compile("{{a}} or {{b}}").getVersion());
+        // Same String.hashCode, different content
+        assertEquals("{{Aa}} {{BB}}".hashCode(), "{{BB}} {{Aa}}".hashCode());
+        assertNotEquals(CompiledTemplate.compile("{{Aa}} {{BB}}").getVersion(), CompiledTemplate.compile("{{BB}} {{Aa}}").getVersion());
+        assertEquals(template.getVersion(), CompiledTemplate.compile("{{a}} and {{b}}").getVersion());
+    }
+
+    @Test
+    public void testCacheEvictsLeastRecentlyUsed() {
+        CompiledTemplateCache cache = new CompiledTemplateCache(2, 1);
+        CompiledTemplate template = CompiledTemplate.compile("{{x}}");
+        cache.put("a", template);
+        cache.put("b", template);
+        assertSame(template, cache.get("a"));
+        cache.put("c", template);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.eventnotificationsystem.service.template;
+
+import com.example.eventnotificationsystem.model.EmailEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Map;
+
+/**
+ * Measures how fast a typical order-confirmation email renders from its compiled form,
+ * against recompiling it every time. Then it holds {@value #EVENTS} queued email events
+ * and compares the heap they take pre-rendered with the heap they take as template
+ * parameters.
+ *
+ * <p>Run with {@code mvn test -Dtest=TemplateRenderingBenchmark -Dbenchmark=true -DargLine=-Xmx2g}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TemplateRenderingBenchmark {
+    private static final int EVENTS = 200_000;
+    private static final int RENDERS = 5_000_000;
+    private static final String SOURCE = "Hi {{name}},\n\n"
+            + "Thanks for shopping with us. Your order {{orderId}} has been packed and handed to the carrier, "
+            + "and should reach you by {{deliveryDate}}. You can follow it at any time with tracking number "
+            + "{{trackingNumber}} on the carrier's website.\n\n"
+            + "If anything is missing or damaged, reply to this email within 30 days and we will put it right. "
+            + "Returns are free for all orders, and refunds are made to the original payment method within "
+            + "five working days of the parcel reaching our warehouse.\n\n"
+            + "Thanks again, {{name}}, and we hope to see you soon.\n\nThe Example Store team";
+
+    @Test
+    public void render() {
+        CompiledTemplate template = CompiledTemplate.compile(SOURCE);
+        String[][] values = new String[1024][];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = template.bind(params(i));
+        }
+        long checksum = 0;
+        for (int i = 0; i < RENDERS / 10; i++) {
+            checksum += template.render(values[i & 1023]).length();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < RENDERS; i++) {
+            checksum += template.render(values[i & 1023]).length();
+        }
+        double compiledNanos = (System.nanoTime() - start) / (double) RENDERS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < RENDERS; i++) {
+            checksum += CompiledTemplate.compile(SOURCE).render(values[i & 1023]).length();
+        }
+        double recompiledNanos = (System.nanoTime() - start) / (double) RENDERS;
+
+        System.out.printf("template of %d chars, rendered ~%d chars (checksum %d)%n", SOURCE.length(),
+                template.render(values[0]).length(), checksum);
+        System.out.printf("compiled: %.0f ns/render (%.2f M/s), recompiled each time: %.0f ns/render (%.2f M/s)%n",
+                compiledNanos, 1_000 / compiledNanos, recompiledNanos, 1_000 / recompiledNanos);
+    }
+
+    @Test
+    public void memory() {
+        CompiledTemplate template = CompiledTemplate.compile(SOURCE);
+        long heapBefore = usedHeapAfterGc();
+        EmailEvent[] rendered = new EmailEvent[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            rendered[i] = email(i);
+            rendered[i].setMessage(template.render(template.bind(params(i))));
+        }
+        long heapRendered = usedHeapAfterGc() - heapBefore;
+        rendered = null;
+
+        heapBefore = usedHeapAfterGc();
+        EmailEvent[] templated = new EmailEvent[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            templated[i] = email(i);
+            templated[i].setTemplateId("order-shipped");
+            templated[i].setTemplateVersion(template.getVersion());
+            templated[i].setTemplateValues(template.bind(params(i)));
+        }
+        long heapTemplated = usedHeapAfterGc() - heapBefore;
+
+        System.out.printf("queued events=%d (%d held)%n", EVENTS, templated.length);
+        System.out.printf("heap per event: pre-rendered %.0f bytes, templated %.0f bytes, saved %.0f bytes (%.0f%%)%n",
+                heapRendered / (double) EVENTS, heapTemplated / (double) EVENTS,
+                (heapRendered - heapTemplated) / (double) EVENTS, 100.0 * (heapRendered - heapTemplated) / heapRendered);
+    }
+
+    private static Map<String, String> params(int i) {
+        return Map.of("name", "Customer " + i, "orderId", "ORD-" + (1_000_000 + i),
+                "deliveryDate", "Friday 14 March", "trackingNumber", "1Z999AA1" + (10_000_000 + i));
+    }
+
+    private static EmailEvent email(int i) {
+        EmailEvent event = new EmailEvent();
+        event.setEventId("evt-" + i);
+        event.setRecipient("user" + i + "@example.com");
+        event.setCallbackUrl("http://localhost/callback");
+        return event;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.eventnotificationsystem.service.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedClockTest {
+
+    @Test
+    public void testFormatsIsoInstantsInUtc() {
+        assertEquals("2024-01-01T12:00:00Z", CachedClock.iso(1_704_110_400_000L));
+        assertEquals("2024-01-01T12:00:00.123Z", CachedClock.iso(1_704_110_400_123L));
+    }
+
+    @Test
+    public void testSameMillisecondReusesTheFormattedString() {
+        String first = CachedClock.iso(1_704_110_400_500L);
+        assertSame(first, CachedClock.iso(1_704_110_400_500L));
+        assertNotEquals(first, CachedClock.iso(1_704_110_400_501L));
+    }
+
+    @Test
+    public void testNowTracksTheWallClock() {
+        long before = System.currentTimeMillis();
+        long now = Instant.parse(CachedClock.isoNow()).toEpochMilli();
+        assertTrue(now >= before && now <= System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.eventnotificationsystem.service.timer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HierarchicalTimingWheelTest {
+    private static final long START = 1_700_000_000_000L;
+    private static final long TICK = 10;
+
+    @Test
+    public void testTimersOnEveryLevelFireInTheirTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 100, key -> key, START);
+        // 7 ms, 3 s, 20 min, 3 h and 10 days ahead: one per level and the far end of the top one
+        long[] delays = {7, 3_000, 1_200_005, 10_800_003, 864_000_000};
+        for (long delay : delays) {
+            assertTrue(wheel.schedule("in-" + delay, START + delay));
+        }
+        for (long delay : delays) {
+            long due = START + delay;
+            long firesAt = START + (delay + TICK - 1) / TICK * TICK;
+            assertEquals(List.of(), wheel.advance(due - 1), "early at " + delay);
+            assertEquals(List.of("in-" + delay), wheel.advance(firesAt), "late at " + delay);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testRandomTimersFireOnceInOrderAndCancelledOnesNever() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 200_000, key -> key, START);
+        Random random = new Random(42);
+        int timers = 100_000;
+        long[] due = new long[timers];
+        for (int i = 0; i < timers; i++) {
+            due[i] = START + (long) (random.nextDouble() * 86_400_000L);
+            assertTrue(wheel.schedule("timer-" + i, due[i]));
+        }
+        Set<String> cancelled = new HashSet<>();
+        for (int i = 0; i < timers; i += 7) {
+            assertEquals("timer-" + i, wheel.cancel("timer-" + i));
+            cancelled.add("timer-" + i);
+        }
+        assertNull(wheel.cancel("timer-0"));
+
+        List<String> fired = new ArrayList<>();
+        long now = START;
+        while (now < START + 86_400_000L + TICK) {
+            long previousNow = now;
+            now += 1 + random.nextInt(120_000);
+            long previousTick = Long.MIN_VALUE;
+            for (String key : wheel.advance(now)) {
+                long keyDue = due[Integer.parseInt(key.substring(6))];
+                long keyTick = Math.floorDiv(keyDue - START + TICK - 1, TICK);
+                assertTrue(keyDue <= now, key + " fired early");
+                assertTrue(keyDue > previousNow - TICK, key + " fired late");
+                assertTrue(keyTick >= previousTick, key + " fired out of order");
+                previousTick = keyTick;
+                fired.add(key);
+            }
+        }
+        assertEquals(timers - cancelled.size(), fired.size());
+        assertEquals(fired.size(), new HashSet<>(fired).size());
+        for (String key : fired) {
+            assertFalse(cancelled.contains(key), key + " fired after being cancelled");
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testLimitsAreEnforced() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 2, key -> key, START);
+        assertTrue(wheel.schedule("a", START + 1_000));
+        assertTrue(wheel.schedule("b", START - 1_000));
+        assertFalse(wheel.schedule("c", START + 1_000));
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule("d", START + wheel.getHorizonMillis() + TICK));
+
+        // Overdue timers come back from the next tick
+        assertEquals(List.of("b"), wheel.advance(START + TICK));
+        assertTrue(wheel.schedule("c", START + 1_000));
+        assertEquals(2, wheel.size());
+    }
+}
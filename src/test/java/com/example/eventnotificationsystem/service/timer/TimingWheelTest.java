@@ -0,0 +1,55 @@
+package com.example.eventnotificationsystem.service.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimingWheelTest {
+
+    private final TimingWheel timingWheel = new TimingWheel("test-timer", 10, TimeUnit.MILLISECONDS, 64);
+
+    @AfterEach
+    public void stop() {
+        timingWheel.close();
+    }
+
+    @Test
+    public void testManyTimersFireAndNeverEarly() throws Exception {
+        int timers = 200_000;
+        CountDownLatch fired = new CountDownLatch(timers);
+        AtomicInteger early = new AtomicInteger();
+        for (int i = 0; i < timers; i++) {
+            // Spans several wheel rotations (64 ticks x 10 ms)
+            long delayMillis = ThreadLocalRandom.current().nextLong(1500);
+            long due = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            timingWheel.schedule(() -> {
+                if (System.nanoTime() < due) {
+                    early.incrementAndGet();
+                }
+                fired.countDown();
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(fired.await(10, TimeUnit.SECONDS), "Not all timers fired");
+        assertEquals(0, early.get());
+        assertEquals(0, timingWheel.getPending());
+    }
+
+    @Test
+    public void testCancelledTimerDoesNotFire() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        TimingWheel.Timeout cancelled = timingWheel.schedule(runs::incrementAndGet, 100, TimeUnit.MILLISECONDS);
+        CountDownLatch later = new CountDownLatch(1);
+        timingWheel.schedule(later::countDown, 200, TimeUnit.MILLISECONDS);
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+    }
+}